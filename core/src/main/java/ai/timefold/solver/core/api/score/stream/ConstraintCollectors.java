@@ -615,6 +615,198 @@ public final class ConstraintCollectors {
         return InnerQuadConstraintCollectors.max(groupValueMapping, comparableFunction);
     }
 
+    // ************************************************************************
+    // order statistics
+    // ************************************************************************
+
+    /**
+     * Returns a collector that finds the median of a group of {@link Comparable} elements.
+     * For an even number of elements, this is the lower of the two middle elements,
+     * so that the result is always one of the collected elements.
+     * <p>
+     * Important: The {@link Comparable}'s {@link Comparable#compareTo(Object)} must be <i>consistent with equals</i>.
+     * <p>
+     * For example, {@code [Ann(age = 20), Beth(age = 25), Cathy(age = 30), David(age = 30)]} with
+     * {@code .groupBy(median(Person::getAge))} returns {@code 25}.
+     * <p>
+     * Adding, removing and changing an element each take O(log n) time.
+     * The default result of the collector (e.g. when never called) is {@code null}.
+     *
+     * @param <A> type of the matched fact
+     * @param <Mapped> type of the result
+     * @param groupValueMapping maps facts from the matched type to the result type
+     */
+    public static <A, Mapped extends Comparable<? super Mapped>> @NonNull UniConstraintCollector<A, ?, Mapped> median(
+            @NonNull Function<A, Mapped> groupValueMapping) {
+        return percentile(groupValueMapping, 50.0);
+    }
+
+    /**
+     * Returns a collector that finds a percentile of a group of {@link Comparable} elements,
+     * using the nearest-rank method:
+     * the result is the smallest element such that at least the given percentage of elements is less than or equal to it.
+     * Percentile 0 returns the minimum, 50 the (lower) median and 100 the maximum.
+     * <p>
+     * Important: The {@link Comparable}'s {@link Comparable#compareTo(Object)} must be <i>consistent with equals</i>.
+     * <p>
+     * For example, {@code [Ann(age = 20), Beth(age = 25), Cathy(age = 30), David(age = 30)]} with
+     * {@code .groupBy(percentile(Person::getAge, 75))} returns {@code 30}.
+     * <p>
+     * Adding, removing and changing an element each take O(log n) time.
+     * The default result of the collector (e.g. when never called) is {@code null}.
+     *
+     * @param <A> type of the matched fact
+     * @param <Mapped> type of the result
+     * @param groupValueMapping maps facts from the matched type to the result type
+     * @param percentile between 0 and 100, inclusive
+     */
+    public static <A, Mapped extends Comparable<? super Mapped>> @NonNull UniConstraintCollector<A, ?, Mapped> percentile(
+            @NonNull Function<A, Mapped> groupValueMapping, double percentile) {
+        return InnerUniConstraintCollectors.percentile(groupValueMapping, percentile);
+    }
+
+    /**
+     * Returns a collector that finds the k-th smallest element of a group of {@link Comparable} elements.
+     * Duplicate elements each count, so {@code kthSmallest(mapping, 2)} of {@code [1, 1, 2]} returns {@code 1}.
+     * <p>
+     * Important: The {@link Comparable}'s {@link Comparable#compareTo(Object)} must be <i>consistent with equals</i>.
+     * <p>
+     * For example, {@code [Ann(age = 20), Beth(age = 25), Cathy(age = 30), David(age = 30)]} with
+     * {@code .groupBy(kthSmallest(Person::getAge, 2))} returns {@code 25}.
+     * <p>
+     * Adding, removing and changing an element each take O(log n) time.
+     * The result is {@code null} while the group has fewer than k elements.
+     *
+     * @param <A> type of the matched fact
+     * @param <Mapped> type of the result
+     * @param groupValueMapping maps facts from the matched type to the result type
+     * @param k one-based, so that 1 returns the minimum
+     */
+    public static <A, Mapped extends Comparable<? super Mapped>> @NonNull UniConstraintCollector<A, ?, Mapped> kthSmallest(
+            @NonNull Function<A, Mapped> groupValueMapping, int k) {
+        return InnerUniConstraintCollectors.kthSmallest(groupValueMapping, k);
+    }
+
+    /**
+     * Returns a collector that finds the k largest elements of a group of {@link Comparable} elements,
+     * in descending order.
+     * Duplicate elements each count.
+     * <p>
+     * Important: The {@link Comparable}'s {@link Comparable#compareTo(Object)} must be <i>consistent with equals</i>.
+     * <p>
+     * For example, {@code [Ann(age = 20), Beth(age = 25), Cathy(age = 30), David(age = 30)]} with
+     * {@code .groupBy(topK(Person::getAge, 3))} returns {@code [30, 30, 25]}.
+     * <p>
+     * Adding, removing and changing an element each take O(log n) time;
+     * building the result takes O(k + log n) time.
+     * The default result of the collector (e.g. when never called) is an empty list.
+     *
+     * @param <A> type of the matched fact
+     * @param <Mapped> type of the result elements
+     * @param groupValueMapping maps facts from the matched type to the result type
+     * @param k the maximum number of elements in the result, at least 1
+     */
+    public static <A, Mapped extends Comparable<? super Mapped>> @NonNull UniConstraintCollector<A, ?, List<Mapped>> topK(
+            @NonNull Function<A, Mapped> groupValueMapping, int k) {
+        return InnerUniConstraintCollectors.topK(groupValueMapping, k);
+    }
+
+    /**
+     * As defined by {@link #median(Function)}.
+     */
+    public static <A, B, Mapped extends Comparable<? super Mapped>> @NonNull BiConstraintCollector<A, B, ?, Mapped>
+            median(@NonNull BiFunction<A, B, Mapped> groupValueMapping) {
+        return percentile(groupValueMapping, 50.0);
+    }
+
+    /**
+     * As defined by {@link #percentile(Function, double)}.
+     */
+    public static <A, B, Mapped extends Comparable<? super Mapped>> @NonNull BiConstraintCollector<A, B, ?, Mapped>
+            percentile(@NonNull BiFunction<A, B, Mapped> groupValueMapping, double percentile) {
+        return InnerBiConstraintCollectors.percentile(groupValueMapping, percentile);
+    }
+
+    /**
+     * As defined by {@link #kthSmallest(Function, int)}.
+     */
+    public static <A, B, Mapped extends Comparable<? super Mapped>> @NonNull BiConstraintCollector<A, B, ?, Mapped>
+            kthSmallest(@NonNull BiFunction<A, B, Mapped> groupValueMapping, int k) {
+        return InnerBiConstraintCollectors.kthSmallest(groupValueMapping, k);
+    }
+
+    /**
+     * As defined by {@link #topK(Function, int)}.
+     */
+    public static <A, B, Mapped extends Comparable<? super Mapped>> @NonNull BiConstraintCollector<A, B, ?, List<Mapped>>
+            topK(@NonNull BiFunction<A, B, Mapped> groupValueMapping, int k) {
+        return InnerBiConstraintCollectors.topK(groupValueMapping, k);
+    }
+
+    /**
+     * As defined by {@link #median(Function)}.
+     */
+    public static <A, B, C, Mapped extends Comparable<? super Mapped>> @NonNull TriConstraintCollector<A, B, C, ?, Mapped>
+            median(@NonNull TriFunction<A, B, C, Mapped> groupValueMapping) {
+        return percentile(groupValueMapping, 50.0);
+    }
+
+    /**
+     * As defined by {@link #percentile(Function, double)}.
+     */
+    public static <A, B, C, Mapped extends Comparable<? super Mapped>> @NonNull TriConstraintCollector<A, B, C, ?, Mapped>
+            percentile(@NonNull TriFunction<A, B, C, Mapped> groupValueMapping, double percentile) {
+        return InnerTriConstraintCollectors.percentile(groupValueMapping, percentile);
+    }
+
+    /**
+     * As defined by {@link #kthSmallest(Function, int)}.
+     */
+    public static <A, B, C, Mapped extends Comparable<? super Mapped>> @NonNull TriConstraintCollector<A, B, C, ?, Mapped>
+            kthSmallest(@NonNull TriFunction<A, B, C, Mapped> groupValueMapping, int k) {
+        return InnerTriConstraintCollectors.kthSmallest(groupValueMapping, k);
+    }
+
+    /**
+     * As defined by {@link #topK(Function, int)}.
+     */
+    public static <A, B, C, Mapped extends Comparable<? super Mapped>> @NonNull TriConstraintCollector<A, B, C, ?, List<Mapped>>
+            topK(@NonNull TriFunction<A, B, C, Mapped> groupValueMapping, int k) {
+        return InnerTriConstraintCollectors.topK(groupValueMapping, k);
+    }
+
+    /**
+     * As defined by {@link #median(Function)}.
+     */
+    public static <A, B, C, D, Mapped extends Comparable<? super Mapped>> @NonNull QuadConstraintCollector<A, B, C, D, ?, Mapped>
+            median(@NonNull QuadFunction<A, B, C, D, Mapped> groupValueMapping) {
+        return percentile(groupValueMapping, 50.0);
+    }
+
+    /**
+     * As defined by {@link #percentile(Function, double)}.
+     */
+    public static <A, B, C, D, Mapped extends Comparable<? super Mapped>> @NonNull QuadConstraintCollector<A, B, C, D, ?, Mapped>
+            percentile(@NonNull QuadFunction<A, B, C, D, Mapped> groupValueMapping, double percentile) {
+        return InnerQuadConstraintCollectors.percentile(groupValueMapping, percentile);
+    }
+
+    /**
+     * As defined by {@link #kthSmallest(Function, int)}.
+     */
+    public static <A, B, C, D, Mapped extends Comparable<? super Mapped>> @NonNull QuadConstraintCollector<A, B, C, D, ?, Mapped>
+            kthSmallest(@NonNull QuadFunction<A, B, C, D, Mapped> groupValueMapping, int k) {
+        return InnerQuadConstraintCollectors.kthSmallest(groupValueMapping, k);
+    }
+
+    /**
+     * As defined by {@link #topK(Function, int)}.
+     */
+    public static <A, B, C, D, Mapped extends Comparable<? super Mapped>> @NonNull QuadConstraintCollector<A, B, C, D, ?, List<Mapped>>
+            topK(@NonNull QuadFunction<A, B, C, D, Mapped> groupValueMapping, int k) {
+        return InnerQuadConstraintCollectors.topK(groupValueMapping, k);
+    }
+
     // ************************************************************************
     // average
     // ************************************************************************
@@ -1,5 +1,6 @@
 package ai.timefold.solver.core.api.solver.change;
 
+import java.util.Collection;
 import java.util.function.Consumer;
 
 import ai.timefold.solver.core.api.domain.common.Lookup;
@@ -90,6 +91,58 @@ public interface ProblemChangeDirector
     <EntityOrProblemFact> void changeProblemProperty(EntityOrProblemFact problemFactOrEntity,
             Consumer<EntityOrProblemFact> problemFactOrEntityConsumer);
 
+    /**
+     * Add new problem facts into the {@link PlanningSolution working solution}.
+     * Has the same effect as calling {@link #addProblemFact(Object, Consumer)} for each of them,
+     * but is considerably faster for large numbers of problem facts,
+     * especially when the collection holds the problem facts of each class together.
+     *
+     * @param problemFactCollection the problem fact instances
+     * @param problemFactConsumer adds a problem fact to the {@link PlanningSolution working solution};
+     *        called once for every problem fact
+     * @param <ProblemFact> the problem fact object type
+     */
+    default <ProblemFact> void addProblemFacts(Collection<ProblemFact> problemFactCollection,
+            Consumer<ProblemFact> problemFactConsumer) {
+        for (var problemFact : problemFactCollection) {
+            addProblemFact(problemFact, problemFactConsumer);
+        }
+    }
+
+    /**
+     * Remove existing problem facts from the {@link PlanningSolution working solution}.
+     * Has the same effect as calling {@link #removeProblemFact(Object, Consumer)} for each of them,
+     * but is considerably faster for large numbers of problem facts.
+     *
+     * @param problemFactCollection the problem fact instances
+     * @param problemFactConsumer removes a working problem fact from the {@link PlanningSolution working solution};
+     *        called once for every problem fact
+     * @param <ProblemFact> the problem fact object type
+     */
+    default <ProblemFact> void removeProblemFacts(Collection<ProblemFact> problemFactCollection,
+            Consumer<ProblemFact> problemFactConsumer) {
+        for (var problemFact : problemFactCollection) {
+            removeProblemFact(problemFact, problemFactConsumer);
+        }
+    }
+
+    /**
+     * Change a property of several {@link PlanningEntity planning entities} or problem facts.
+     * Has the same effect as calling {@link #changeProblemProperty(Object, Consumer)} for each of them,
+     * but is considerably faster for large numbers of objects.
+     *
+     * @param problemFactOrEntityCollection the {@link PlanningEntity} or problem fact instances
+     * @param problemFactOrEntityConsumer updates the property of a working {@link PlanningEntity}
+     *        or problem fact; called once for every object
+     * @param <EntityOrProblemFact> the planning entity or problem fact object type
+     */
+    default <EntityOrProblemFact> void changeProblemProperties(Collection<EntityOrProblemFact> problemFactOrEntityCollection,
+            Consumer<EntityOrProblemFact> problemFactOrEntityConsumer) {
+        for (var problemFactOrEntity : problemFactOrEntityCollection) {
+            changeProblemProperty(problemFactOrEntity, problemFactOrEntityConsumer);
+        }
+    }
+
     /**
      * Updates shadow variables based on the changes submitted so far.
      *
@@ -50,6 +50,15 @@ public enum ConstructionHeuristicType {
      * A specific form of {@link #ALLOCATE_FROM_POOL}.
      */
     CHEAPEST_INSERTION,
+    /**
+     * Only for a planning list variable.
+     * Put all unassigned values in a pool and remember the best insertion of every value into every entity.
+     * Assign the value with the largest regret (the score difference between its best and second best entity)
+     * to its best insertion.
+     * Only the insertions into the entity which changed are evaluated again.
+     * Repeat until all values are assigned.
+     */
+    REGRET_INSERTION,
     /**
      * Put all entity-value combinations in a pool.
      * Assign the best entity to best value.
@@ -61,7 +70,8 @@ public enum ConstructionHeuristicType {
         return switch (this) {
             case FIRST_FIT, WEAKEST_FIT, STRONGEST_FIT -> EntitySorterManner.NONE;
             case FIRST_FIT_DECREASING, WEAKEST_FIT_DECREASING, STRONGEST_FIT_DECREASING -> EntitySorterManner.DESCENDING;
-            case ALLOCATE_ENTITY_FROM_QUEUE, ALLOCATE_TO_VALUE_FROM_QUEUE, CHEAPEST_INSERTION, ALLOCATE_FROM_POOL ->
+            case ALLOCATE_ENTITY_FROM_QUEUE, ALLOCATE_TO_VALUE_FROM_QUEUE, CHEAPEST_INSERTION, REGRET_INSERTION,
+                    ALLOCATE_FROM_POOL ->
                 EntitySorterManner.DESCENDING_IF_AVAILABLE;
         };
     }
@@ -71,7 +81,8 @@ public enum ConstructionHeuristicType {
             case FIRST_FIT, FIRST_FIT_DECREASING -> ValueSorterManner.NONE;
             case WEAKEST_FIT, WEAKEST_FIT_DECREASING -> ValueSorterManner.ASCENDING;
             case STRONGEST_FIT, STRONGEST_FIT_DECREASING -> ValueSorterManner.DESCENDING;
-            case ALLOCATE_ENTITY_FROM_QUEUE, ALLOCATE_TO_VALUE_FROM_QUEUE, CHEAPEST_INSERTION, ALLOCATE_FROM_POOL ->
+            case ALLOCATE_ENTITY_FROM_QUEUE, ALLOCATE_TO_VALUE_FROM_QUEUE, CHEAPEST_INSERTION, REGRET_INSERTION,
+                    ALLOCATE_FROM_POOL ->
                 ValueSorterManner.ASCENDING_IF_AVAILABLE;
         };
     }
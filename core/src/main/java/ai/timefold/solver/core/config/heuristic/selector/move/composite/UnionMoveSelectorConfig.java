@@ -36,7 +36,8 @@ import org.jspecify.annotations.Nullable;
 
 @XmlType(propOrder = {
         "moveSelectorConfigList",
-        "selectorProbabilityWeightFactoryClass"
+        "selectorProbabilityWeightFactoryClass",
+        "adaptiveSelection"
 })
 public final class UnionMoveSelectorConfig
         extends MoveSelectorConfig<UnionMoveSelectorConfig>
@@ -73,6 +74,8 @@ public final class UnionMoveSelectorConfig
 
     private String selectorProbabilityWeightFactoryClass = null;
 
+    private Boolean adaptiveSelection = null;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -102,6 +105,14 @@ public final class UnionMoveSelectorConfig
                 : selectorProbabilityWeightFactoryClass.getName();
     }
 
+    public @Nullable Boolean getAdaptiveSelection() {
+        return adaptiveSelection;
+    }
+
+    public void setAdaptiveSelection(@Nullable Boolean adaptiveSelection) {
+        this.adaptiveSelection = adaptiveSelection;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -123,6 +134,11 @@ public final class UnionMoveSelectorConfig
         return this;
     }
 
+    public @NonNull UnionMoveSelectorConfig withAdaptiveSelection(@NonNull Boolean adaptiveSelection) {
+        this.adaptiveSelection = adaptiveSelection;
+        return this;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -141,6 +157,8 @@ public final class UnionMoveSelectorConfig
                 ConfigUtils.inheritMergeableListConfig(moveSelectorConfigList, inheritedConfig.getMoveSelectorList());
         selectorProbabilityWeightFactoryClass = ConfigUtils.inheritOverwritableProperty(
                 selectorProbabilityWeightFactoryClass, inheritedConfig.selectorProbabilityWeightFactoryClass);
+        adaptiveSelection = ConfigUtils.inheritOverwritableProperty(adaptiveSelection,
+                inheritedConfig.getAdaptiveSelection());
         return this;
     }
 
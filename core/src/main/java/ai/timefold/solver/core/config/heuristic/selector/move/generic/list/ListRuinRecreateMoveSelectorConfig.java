@@ -14,7 +14,9 @@ import org.jspecify.annotations.Nullable;
         "minimumRuinedCount",
         "maximumRuinedCount",
         "minimumRuinedPercentage",
-        "maximumRuinedPercentage"
+        "maximumRuinedPercentage",
+        "recreateInRuinedEntitiesOnly",
+        "maximumRecreateMoveEvaluationCount"
 })
 public final class ListRuinRecreateMoveSelectorConfig extends MoveSelectorConfig<ListRuinRecreateMoveSelectorConfig> {
 
@@ -30,6 +32,9 @@ public final class ListRuinRecreateMoveSelectorConfig extends MoveSelectorConfig
     private Double minimumRuinedPercentage = null;
     private Double maximumRuinedPercentage = null;
 
+    private Boolean recreateInRuinedEntitiesOnly = null;
+    private Integer maximumRecreateMoveEvaluationCount = null;
+
     // **************************
     // Getters/Setters
     // **************************
@@ -86,6 +91,48 @@ public final class ListRuinRecreateMoveSelectorConfig extends MoveSelectorConfig
         return this;
     }
 
+    /**
+     * If true, the ruined values are only recreated into the entities they were ruined from,
+     * instead of into any entity.
+     * This makes every move a lot cheaper on large datasets,
+     * at the cost of no longer moving values between far away entities.
+     *
+     * @return null if not set, which means false
+     */
+    public @Nullable Boolean getRecreateInRuinedEntitiesOnly() {
+        return recreateInRuinedEntitiesOnly;
+    }
+
+    public void setRecreateInRuinedEntitiesOnly(@Nullable Boolean recreateInRuinedEntitiesOnly) {
+        this.recreateInRuinedEntitiesOnly = recreateInRuinedEntitiesOnly;
+    }
+
+    public @NonNull ListRuinRecreateMoveSelectorConfig
+            withRecreateInRuinedEntitiesOnly(@NonNull Boolean recreateInRuinedEntitiesOnly) {
+        this.recreateInRuinedEntitiesOnly = recreateInRuinedEntitiesOnly;
+        return this;
+    }
+
+    /**
+     * The most insertions to evaluate while recreating the ruined values of a single move.
+     * Once it is reached, every remaining ruined value is inserted at the first position evaluated for it.
+     *
+     * @return null if not set, which means no limit
+     */
+    public @Nullable Integer getMaximumRecreateMoveEvaluationCount() {
+        return maximumRecreateMoveEvaluationCount;
+    }
+
+    public void setMaximumRecreateMoveEvaluationCount(@Nullable Integer maximumRecreateMoveEvaluationCount) {
+        this.maximumRecreateMoveEvaluationCount = maximumRecreateMoveEvaluationCount;
+    }
+
+    public @NonNull ListRuinRecreateMoveSelectorConfig
+            withMaximumRecreateMoveEvaluationCount(@NonNull Integer maximumRecreateMoveEvaluationCount) {
+        this.maximumRecreateMoveEvaluationCount = maximumRecreateMoveEvaluationCount;
+        return this;
+    }
+
     // **************************
     // Interface methods
     // **************************
@@ -111,6 +158,10 @@ public final class ListRuinRecreateMoveSelectorConfig extends MoveSelectorConfig
                 ConfigUtils.inheritOverwritableProperty(minimumRuinedPercentage, inheritedConfig.getMinimumRuinedPercentage());
         maximumRuinedPercentage =
                 ConfigUtils.inheritOverwritableProperty(maximumRuinedPercentage, inheritedConfig.getMaximumRuinedPercentage());
+        recreateInRuinedEntitiesOnly = ConfigUtils.inheritOverwritableProperty(recreateInRuinedEntitiesOnly,
+                inheritedConfig.getRecreateInRuinedEntitiesOnly());
+        maximumRecreateMoveEvaluationCount = ConfigUtils.inheritOverwritableProperty(maximumRecreateMoveEvaluationCount,
+                inheritedConfig.getMaximumRecreateMoveEvaluationCount());
         return this;
     }
 
@@ -14,7 +14,8 @@ import org.jspecify.annotations.Nullable;
         "pickEarlyType",
         "acceptedCountLimit",
         "finalistPodiumType",
-        "breakTieRandomly"
+        "breakTieRandomly",
+        "dontLookPatience"
 })
 public final class LocalSearchForagerConfig extends AbstractConfig<LocalSearchForagerConfig> {
 
@@ -22,6 +23,7 @@ public final class LocalSearchForagerConfig extends AbstractConfig<LocalSearchFo
     private Integer acceptedCountLimit = null;
     private FinalistPodiumType finalistPodiumType = null;
     private Boolean breakTieRandomly = null;
+    private Integer dontLookPatience = null;
 
     public @Nullable LocalSearchPickEarlyType getPickEarlyType() {
         return pickEarlyType;
@@ -55,6 +57,14 @@ public final class LocalSearchForagerConfig extends AbstractConfig<LocalSearchFo
         this.breakTieRandomly = breakTieRandomly;
     }
 
+    public @Nullable Integer getDontLookPatience() {
+        return dontLookPatience;
+    }
+
+    public void setDontLookPatience(@Nullable Integer dontLookPatience) {
+        this.dontLookPatience = dontLookPatience;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -79,6 +89,11 @@ public final class LocalSearchForagerConfig extends AbstractConfig<LocalSearchFo
         return this;
     }
 
+    public @NonNull LocalSearchForagerConfig withDontLookPatience(int dontLookPatience) {
+        this.dontLookPatience = dontLookPatience;
+        return this;
+    }
+
     @Override
     public @NonNull LocalSearchForagerConfig inherit(@NonNull LocalSearchForagerConfig inheritedConfig) {
         pickEarlyType = ConfigUtils.inheritOverwritableProperty(pickEarlyType,
@@ -89,6 +104,8 @@ public final class LocalSearchForagerConfig extends AbstractConfig<LocalSearchFo
                 inheritedConfig.getFinalistPodiumType());
         breakTieRandomly = ConfigUtils.inheritOverwritableProperty(breakTieRandomly,
                 inheritedConfig.getBreakTieRandomly());
+        dontLookPatience = ConfigUtils.inheritOverwritableProperty(dontLookPatience,
+                inheritedConfig.getDontLookPatience());
         return this;
     }
 
@@ -24,6 +24,8 @@ import org.jspecify.annotations.Nullable;
         "constraintProviderCustomProperties",
         "constraintStreamAutomaticNodeSharing",
         "constraintStreamProfilingEnabled",
+        "constraintStreamParallelPropagationEnabled",
+        "constraintStreamNodeSpecializationEnabled",
         "incrementalScoreCalculatorClass",
         "incrementalScoreCalculatorCustomProperties",
         "initializingScoreTrend",
@@ -43,6 +45,10 @@ public final class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirect
     @Nullable
     private Boolean constraintStreamAutomaticNodeSharing;
     private Boolean constraintStreamProfilingEnabled;
+    @Nullable
+    private Boolean constraintStreamParallelPropagationEnabled;
+    @Nullable
+    private Boolean constraintStreamNodeSpecializationEnabled;
 
     private String incrementalScoreCalculatorClass = null;
 
@@ -110,6 +116,41 @@ public final class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirect
         this.constraintStreamProfilingEnabled = constraintStreamProfilingEnabled;
     }
 
+    /**
+     * Whether nodes of the same layer of the constraint stream network
+     * may propagate their changes concurrently, on the common fork-join pool.
+     * Only pays off for large networks with wide layers, such as many constraints over the same facts.
+     * Requires all constraint stream lambdas (filters, mappers, collectors, ...) to be thread-safe.
+     * Defaults to false.
+     *
+     * @return null if not configured
+     */
+    public @Nullable Boolean getConstraintStreamParallelPropagationEnabled() {
+        return constraintStreamParallelPropagationEnabled;
+    }
+
+    public void setConstraintStreamParallelPropagationEnabled(@Nullable Boolean constraintStreamParallelPropagationEnabled) {
+        this.constraintStreamParallelPropagationEnabled = constraintStreamParallelPropagationEnabled;
+    }
+
+    /**
+     * Whether every filter of the constraint stream network gets its own copy of the filtering code,
+     * so that the JIT compiler can inline each filter's predicate instead of dispatching to it.
+     * Only pays off for large networks with many filters.
+     * Has no effect when {@link #getConstraintStreamProfilingEnabled() profiling} is enabled,
+     * or in environments which do not support hidden classes, such as native images.
+     * Defaults to false.
+     *
+     * @return null if not configured
+     */
+    public @Nullable Boolean getConstraintStreamNodeSpecializationEnabled() {
+        return constraintStreamNodeSpecializationEnabled;
+    }
+
+    public void setConstraintStreamNodeSpecializationEnabled(@Nullable Boolean constraintStreamNodeSpecializationEnabled) {
+        this.constraintStreamNodeSpecializationEnabled = constraintStreamNodeSpecializationEnabled;
+    }
+
     public @Nullable Class<? extends IncrementalScoreCalculator> getIncrementalScoreCalculatorClass() {
         return ConfigUtils.resolveClass(incrementalScoreCalculatorClass, "incrementalScoreCalculatorClass", this);
     }
@@ -187,6 +228,18 @@ public final class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirect
         return this;
     }
 
+    public @NonNull ScoreDirectorFactoryConfig
+            withConstraintStreamParallelPropagationEnabled(@NonNull Boolean constraintStreamParallelPropagationEnabled) {
+        this.constraintStreamParallelPropagationEnabled = constraintStreamParallelPropagationEnabled;
+        return this;
+    }
+
+    public @NonNull ScoreDirectorFactoryConfig
+            withConstraintStreamNodeSpecializationEnabled(@NonNull Boolean constraintStreamNodeSpecializationEnabled) {
+        this.constraintStreamNodeSpecializationEnabled = constraintStreamNodeSpecializationEnabled;
+        return this;
+    }
+
     public @NonNull ScoreDirectorFactoryConfig
             withIncrementalScoreCalculatorClass(
                     @NonNull Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass) {
@@ -226,6 +279,10 @@ public final class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirect
                 inheritedConfig.getConstraintStreamAutomaticNodeSharing());
         constraintStreamProfilingEnabled = ConfigUtils.inheritOverwritableProperty(constraintStreamProfilingEnabled,
                 inheritedConfig.getConstraintStreamProfilingEnabled());
+        constraintStreamParallelPropagationEnabled = ConfigUtils.inheritOverwritableProperty(
+                constraintStreamParallelPropagationEnabled, inheritedConfig.getConstraintStreamParallelPropagationEnabled());
+        constraintStreamNodeSpecializationEnabled = ConfigUtils.inheritOverwritableProperty(
+                constraintStreamNodeSpecializationEnabled, inheritedConfig.getConstraintStreamNodeSpecializationEnabled());
         incrementalScoreCalculatorClass = ConfigUtils.inheritOverwritableProperty(
                 incrementalScoreCalculatorClass, inheritedConfig.incrementalScoreCalculatorClass);
         incrementalScoreCalculatorCustomProperties = ConfigUtils.inheritMergeableMapProperty(
@@ -26,6 +26,7 @@ import jakarta.xml.bind.annotation.XmlElements;
 import jakarta.xml.bind.annotation.XmlRootElement;
 import jakarta.xml.bind.annotation.XmlTransient;
 import jakarta.xml.bind.annotation.XmlType;
+import jakarta.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
 import ai.timefold.solver.core.api.domain.solution.cloner.SolutionCloner;
 import ai.timefold.solver.core.api.score.calculator.EasyScoreCalculator;
@@ -46,6 +47,7 @@ import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
 import ai.timefold.solver.core.config.util.ConfigUtils;
 import ai.timefold.solver.core.impl.domain.common.accessor.MemberAccessor;
 import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import ai.timefold.solver.core.impl.io.jaxb.JaxbDurationAdapter;
 import ai.timefold.solver.core.impl.io.jaxb.SolverConfigIO;
 import ai.timefold.solver.core.impl.io.jaxb.TimefoldXmlSerializationException;
 import ai.timefold.solver.core.impl.phase.PhaseFactory;
@@ -66,6 +68,8 @@ import org.jspecify.annotations.Nullable;
         "moveThreadCount",
         "moveThreadBufferSize",
         "threadFactoryClass",
+        "islandCount",
+        "islandMigrationInterval",
         "monitoringConfig",
         "solutionClass",
         "entityClassList",
@@ -217,6 +221,9 @@ public final class SolverConfig extends AbstractConfig<SolverConfig> {
     private String moveThreadCount = null;
     private Integer moveThreadBufferSize = null;
     private String threadFactoryClass = null;
+    private Integer islandCount = null;
+    @XmlJavaTypeAdapter(JaxbDurationAdapter.class)
+    private Duration islandMigrationInterval = null;
 
     private String solutionClass = null;
 
@@ -372,6 +379,22 @@ public final class SolverConfig extends AbstractConfig<SolverConfig> {
         this.threadFactoryClass = threadFactoryClass == null ? null : threadFactoryClass.getName();
     }
 
+    public @Nullable Integer getIslandCount() {
+        return islandCount;
+    }
+
+    public void setIslandCount(@Nullable Integer islandCount) {
+        this.islandCount = islandCount;
+    }
+
+    public @Nullable Duration getIslandMigrationInterval() {
+        return islandMigrationInterval;
+    }
+
+    public void setIslandMigrationInterval(@Nullable Duration islandMigrationInterval) {
+        this.islandMigrationInterval = islandMigrationInterval;
+    }
+
     public @Nullable Class<?> getSolutionClass() {
         return ConfigUtils.resolveClass(solutionClass, "solutionClass", this);
     }
@@ -487,6 +510,16 @@ public final class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public @NonNull SolverConfig withIslandCount(@NonNull Integer islandCount) {
+        this.islandCount = islandCount;
+        return this;
+    }
+
+    public @NonNull SolverConfig withIslandMigrationInterval(@NonNull Duration islandMigrationInterval) {
+        this.islandMigrationInterval = islandMigrationInterval;
+        return this;
+    }
+
     public @NonNull SolverConfig withSolutionClass(@NonNull Class<?> solutionClass) {
         this.solutionClass = solutionClass.getName();
         return this;
@@ -662,6 +695,9 @@ public final class SolverConfig extends AbstractConfig<SolverConfig> {
                 inheritedConfig.getMoveThreadBufferSize());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.threadFactoryClass);
+        islandCount = ConfigUtils.inheritOverwritableProperty(islandCount, inheritedConfig.getIslandCount());
+        islandMigrationInterval = ConfigUtils.inheritOverwritableProperty(islandMigrationInterval,
+                inheritedConfig.getIslandMigrationInterval());
         solutionClass = ConfigUtils.inheritOverwritableProperty(solutionClass, inheritedConfig.solutionClass);
         entityClassList = ConfigUtils.inheritMergeableListProperty(entityClassList,
                 inheritedConfig.entityClassList);
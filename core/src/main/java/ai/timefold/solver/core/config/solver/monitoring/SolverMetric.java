@@ -7,7 +7,9 @@ import jakarta.xml.bind.annotation.XmlEnum;
 import ai.timefold.solver.core.api.solver.Solver;
 import ai.timefold.solver.core.impl.solver.monitoring.statistic.BestScoreStatistic;
 import ai.timefold.solver.core.impl.solver.monitoring.statistic.BestSolutionMutationCountStatistic;
+import ai.timefold.solver.core.impl.solver.monitoring.statistic.ConstraintNodeCostStatistic;
 import ai.timefold.solver.core.impl.solver.monitoring.statistic.MemoryUseStatistic;
+import ai.timefold.solver.core.impl.solver.monitoring.statistic.MoveCountPerSelectorStatistic;
 import ai.timefold.solver.core.impl.solver.monitoring.statistic.MoveCountPerTypeStatistic;
 import ai.timefold.solver.core.impl.solver.monitoring.statistic.PickedMoveBestScoreDiffStatistic;
 import ai.timefold.solver.core.impl.solver.monitoring.statistic.PickedMoveStepScoreDiffStatistic;
@@ -52,7 +54,9 @@ public enum SolverMetric {
     PICKED_MOVE_TYPE_BEST_SCORE_DIFF("timefold.solver.move.type.best.score.diff", new PickedMoveBestScoreDiffStatistic<>(),
             true),
     PICKED_MOVE_TYPE_STEP_SCORE_DIFF("timefold.solver.move.type.step.score.diff", new PickedMoveStepScoreDiffStatistic<>(),
-            false);
+            false),
+    CONSTRAINT_NODE_COST("timefold.solver.constraint.node", new ConstraintNodeCostStatistic<>(), false),
+    MOVE_COUNT_PER_SELECTOR("timefold.solver.move.selector.count", new MoveCountPerSelectorStatistic<>(), false);
 
     private final String meterId;
     @SuppressWarnings("rawtypes")
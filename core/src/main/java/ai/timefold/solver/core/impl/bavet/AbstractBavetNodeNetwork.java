@@ -12,10 +12,12 @@ import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import ai.timefold.solver.core.impl.bavet.common.AbstractJoinNode;
 import ai.timefold.solver.core.impl.bavet.common.AbstractNode;
 import ai.timefold.solver.core.impl.bavet.common.AbstractRootNode;
 import ai.timefold.solver.core.impl.bavet.common.AbstractTwoInputNode;
 import ai.timefold.solver.core.impl.bavet.common.DeferredSettleAware;
+import ai.timefold.solver.core.impl.bavet.common.JoinStatistics;
 import ai.timefold.solver.core.impl.bavet.common.Propagator;
 import ai.timefold.solver.core.impl.bavet.common.tuple.ActivitySupport;
 
@@ -44,6 +46,11 @@ public abstract class AbstractBavetNodeNetwork {
 
     private final AbstractNode[][] layeredNodes;
     private final Function<AbstractNode, Propagator> propagatorFunction;
+    /**
+     * Null unless parallel propagation was enabled,
+     * in which case it settles every layer with more than one active node.
+     */
+    private final @Nullable ParallelLayerSettler parallelLayerSettler;
     /**
      * A subset of {@code layeredNodes}.
      * Once non-null, only contains propagators of nodes which are active.
@@ -60,6 +67,18 @@ public abstract class AbstractBavetNodeNetwork {
      * so the common case pays nothing beyond an empty-array iteration in {@link #settleLayer}.
      */
     private DeferredSettleAware @Nullable [][] layeredActiveDeferredNodes;
+    /**
+     * Nodes which {@link #settleSubset()} settles; empty if the network has no such subset.
+     * Contains all ancestors of its nodes.
+     */
+    private final Set<AbstractNode> subsetNodeSet;
+    /**
+     * Like {@link #layeredActivePropagators} and {@link #layeredActiveDeferredNodes} (same layer indices),
+     * but only for the active nodes in {@link #subsetNodeSet}; layers without any are empty.
+     * Null until the first {@link #settle()}, and if there is no subset.
+     */
+    private Propagator @Nullable [][] layeredActiveSubsetPropagators;
+    private DeferredSettleAware @Nullable [][] layeredActiveSubsetDeferredNodes;
     /**
      * For testing only:
      * the set of nodes that remained active after {@link #settle()};
@@ -75,9 +94,39 @@ public abstract class AbstractBavetNodeNetwork {
      */
     protected AbstractBavetNodeNetwork(Map<Class<?>, List<AbstractRootNode<?>>> declaredClassToNodeMap,
             AbstractNode[][] layeredNodes, Function<AbstractNode, Propagator> propagatorFunction) {
+        this(declaredClassToNodeMap, layeredNodes, propagatorFunction, null);
+    }
+
+    /**
+     * @param declaredClassToNodeMap starting nodes, one for each class used in the constraints;
+     *        root nodes, layer index 0.
+     * @param layeredNodes nodes grouped first by their layer, then by their index within the layer;
+     *        propagation needs to happen in this order.
+     * @param parallelLayerSettler null if layers are to be propagated sequentially
+     */
+    protected AbstractBavetNodeNetwork(Map<Class<?>, List<AbstractRootNode<?>>> declaredClassToNodeMap,
+            AbstractNode[][] layeredNodes, Function<AbstractNode, Propagator> propagatorFunction,
+            @Nullable ParallelLayerSettler parallelLayerSettler) {
+        this(declaredClassToNodeMap, layeredNodes, propagatorFunction, parallelLayerSettler, Collections.emptySet());
+    }
+
+    /**
+     * @param declaredClassToNodeMap starting nodes, one for each class used in the constraints;
+     *        root nodes, layer index 0.
+     * @param layeredNodes nodes grouped first by their layer, then by their index within the layer;
+     *        propagation needs to happen in this order.
+     * @param parallelLayerSettler null if layers are to be propagated sequentially
+     * @param subsetNodeSet the nodes settled by {@link #settleSubset()}, including all of their ancestors;
+     *        empty if that method is not used
+     */
+    protected AbstractBavetNodeNetwork(Map<Class<?>, List<AbstractRootNode<?>>> declaredClassToNodeMap,
+            AbstractNode[][] layeredNodes, Function<AbstractNode, Propagator> propagatorFunction,
+            @Nullable ParallelLayerSettler parallelLayerSettler, Set<AbstractNode> subsetNodeSet) {
         this.declaredClassToNodeMap = declaredClassToNodeMap;
         this.layeredNodes = layeredNodes;
         this.propagatorFunction = propagatorFunction;
+        this.parallelLayerSettler = parallelLayerSettler;
+        this.subsetNodeSet = subsetNodeSet;
     }
 
     public int forEachNodeCount() {
@@ -137,12 +186,69 @@ public abstract class AbstractBavetNodeNetwork {
                             .map(DeferredSettleAware.class::cast)
                             .toArray(DeferredSettleAware[]::new))
                     .toArray(DeferredSettleAware[][]::new);
+            if (parallelLayerSettler != null) {
+                parallelLayerSettler.initialize(layeredActiveNodes, layeredActivePropagators);
+            }
+            if (!subsetNodeSet.isEmpty()) {
+                // Reuse the propagators, as the function may register a new profile for every call.
+                var nodeToPropagatorMap = new IdentityHashMap<AbstractNode, Propagator>(activeNodes.size());
+                for (var i = 0; i < layeredActiveNodes.length; i++) {
+                    for (var j = 0; j < layeredActiveNodes[i].length; j++) {
+                        nodeToPropagatorMap.put(layeredActiveNodes[i][j], layeredActivePropagators[i][j]);
+                    }
+                }
+                var layeredActiveSubsetNodes = Arrays.stream(layeredActiveNodes)
+                        .map(layer -> Arrays.stream(layer)
+                                .filter(subsetNodeSet::contains)
+                                .toArray(AbstractNode[]::new))
+                        .toArray(AbstractNode[][]::new);
+                layeredActiveSubsetPropagators = Arrays.stream(layeredActiveSubsetNodes)
+                        .map(layer -> Arrays.stream(layer).map(nodeToPropagatorMap::get).toArray(Propagator[]::new))
+                        .toArray(Propagator[][]::new);
+                layeredActiveSubsetDeferredNodes = Arrays.stream(layeredActiveSubsetNodes)
+                        .map(layer -> Arrays.stream(layer)
+                                .filter(s -> s instanceof DeferredSettleAware deferredSettleAware
+                                        && deferredSettleAware.canDeferWork())
+                                .map(DeferredSettleAware.class::cast)
+                                .toArray(DeferredSettleAware[]::new))
+                        .toArray(DeferredSettleAware[][]::new);
+            }
         }
         for (var i = 0; i < layeredActivePropagators.length; i++) {
             settleLayer(i);
         }
     }
 
+    /**
+     * @return true if {@link #settleSubset()} settles less than {@link #settle()} would
+     */
+    public boolean hasSubset() {
+        return !subsetNodeSet.isEmpty();
+    }
+
+    /**
+     * Settles only the subset of nodes given at construction.
+     * The other nodes keep their pending changes,
+     * exactly as if those changes had happened after this call,
+     * and propagate them on the next {@link #settle()}.
+     * Before the first {@link #settle()}, or if there is no subset, this settles the entire network.
+     * <p>
+     * Always settles sequentially, even if parallel propagation is enabled,
+     * as the subset's layers are typically too small to benefit from it.
+     */
+    public void settleSubset() {
+        if (layeredActiveSubsetPropagators == null) {
+            settle();
+            return;
+        }
+        for (var i = 0; i < layeredActiveSubsetPropagators.length; i++) {
+            for (var node : layeredActiveSubsetDeferredNodes[i]) {
+                node.prepareForSettle();
+            }
+            settleLayerSequentially(layeredActiveSubsetPropagators[i]);
+        }
+    }
+
     private void settleLayer(int layerId) {
         for (var node : layeredActiveDeferredNodes[layerId]) {
             node.prepareForSettle();
@@ -150,19 +256,33 @@ public abstract class AbstractBavetNodeNetwork {
         var nodesInLayer = layeredActivePropagators[layerId];
         if (nodesInLayer.length == 1) { // Avoid iteration.
             nodesInLayer[0].propagateEverything();
+        } else if (parallelLayerSettler != null) {
+            parallelLayerSettler.settleLayer(layerId, nodesInLayer);
         } else {
-            for (var node : nodesInLayer) {
-                node.propagateRetracts();
-            }
-            for (var node : nodesInLayer) {
-                node.propagateUpdates();
-            }
-            for (var node : nodesInLayer) {
-                node.propagateInserts();
-            }
+            settleLayerSequentially(nodesInLayer);
         }
     }
 
+    static void settleLayerSequentially(Propagator[] nodesInLayer) {
+        if (nodesInLayer.length == 1) { // Avoid iteration.
+            nodesInLayer[0].propagateEverything();
+            return;
+        }
+        for (var node : nodesInLayer) {
+            node.propagateRetracts();
+        }
+        for (var node : nodesInLayer) {
+            node.propagateUpdates();
+        }
+        for (var node : nodesInLayer) {
+            node.propagateInserts();
+        }
+    }
+
+    public @Nullable ParallelLayerSettler getParallelLayerSettler() {
+        return parallelLayerSettler;
+    }
+
     Set<AbstractNode> getActiveNodes() {
         if (activeNodeSet == null) {
             throw new IllegalStateException("Impossible state: getActiveNodes() called before settle().");
@@ -170,6 +290,19 @@ public abstract class AbstractBavetNodeNetwork {
         return activeNodeSet;
     }
 
+    /**
+     * @return the statistics of every active join node, in layer order
+     * @throws IllegalStateException if called before {@link #settle()}
+     */
+    public List<JoinStatistics> getJoinStatisticsList() {
+        var activeNodes = getActiveNodes();
+        return Arrays.stream(layeredNodes)
+                .flatMap(Arrays::stream)
+                .filter(node -> node instanceof AbstractJoinNode<?, ?, ?> && activeNodes.contains(node))
+                .map(node -> ((AbstractJoinNode<?, ?, ?>) node).getStatistics())
+                .toList();
+    }
+
     /**
      * For testing only. All nodes in the network, regardless of activity.
      */
@@ -1,6 +1,7 @@
 package ai.timefold.solver.core.impl.bavet;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -65,6 +66,73 @@ public abstract class AbstractSession<Network_ extends AbstractBavetNodeNetwork>
         }
     }
 
+    /**
+     * As defined by {@link #insert(Object)}, for every fact of the collection, in its iteration order.
+     * Consecutive facts of the same class share a single lookup of their root nodes,
+     * and those nodes are prepared to receive the whole run of facts at once.
+     * Facts grouped by class are therefore cheaper to insert this way than one at a time.
+     *
+     * @param factCollection never null, may be empty
+     */
+    public final void insertAll(Collection<?> factCollection) {
+        applyAll(factCollection, AbstractRootNode.LifecycleOperation.INSERT);
+    }
+
+    /**
+     * As defined by {@link #insertAll(Collection)}, for {@link #update(Object)}.
+     *
+     * @param factCollection never null, may be empty
+     */
+    public final void updateAll(Collection<?> factCollection) {
+        applyAll(factCollection, AbstractRootNode.LifecycleOperation.UPDATE);
+    }
+
+    /**
+     * As defined by {@link #insertAll(Collection)}, for {@link #retract(Object)}.
+     *
+     * @param factCollection never null, may be empty
+     */
+    public final void retractAll(Collection<?> factCollection) {
+        applyAll(factCollection, AbstractRootNode.LifecycleOperation.RETRACT);
+    }
+
+    private void applyAll(Collection<?> factCollection, LifecycleOperation lifecycleOperation) {
+        if (factCollection.isEmpty()) {
+            return;
+        }
+        settled = false;
+        var factArray = factCollection.toArray();
+        var runStart = 0;
+        while (runStart < factArray.length) {
+            var factClass = factArray[runStart].getClass();
+            var runEnd = runStart + 1;
+            while (runEnd < factArray.length && factArray[runEnd].getClass() == factClass) {
+                runEnd++;
+            }
+            for (var node : findNodes(factClass, lifecycleOperation)) {
+                node.ensureCapacity(lifecycleOperation, runEnd - runStart);
+                switch (lifecycleOperation) {
+                    case INSERT -> {
+                        for (var i = runStart; i < runEnd; i++) {
+                            node.insert(factArray[i]);
+                        }
+                    }
+                    case UPDATE -> {
+                        for (var i = runStart; i < runEnd; i++) {
+                            node.update(factArray[i]);
+                        }
+                    }
+                    case RETRACT -> {
+                        for (var i = runStart; i < runEnd; i++) {
+                            node.retract(factArray[i]);
+                        }
+                    }
+                }
+            }
+            runStart = runEnd;
+        }
+    }
+
     public final void settle() {
         if (settled) {
             return;
@@ -79,6 +147,22 @@ public abstract class AbstractSession<Network_ extends AbstractBavetNodeNetwork>
         settled = true;
     }
 
+    /**
+     * Settles only the subset of the node network which {@link AbstractBavetNodeNetwork#settleSubset()} settles;
+     * the rest of the network is settled by the next {@link #settle()}.
+     * Settles everything if the session was never settled before.
+     */
+    public final void settleSubset() {
+        if (settled) {
+            return;
+        }
+        if (!initialized) {
+            settle();
+            return;
+        }
+        nodeNetwork.settleSubset();
+    }
+
     private void removeInactiveRootNodes(Map<Class<?>, AbstractRootNode<Object>[]> effectiveClassToNodeArrayMap) {
         // Use getActiveNodes() for this, to not rerun the activity checking logic again.
         effectiveClassToNodeArrayMap.replaceAll((k, v) -> Arrays.stream(v)
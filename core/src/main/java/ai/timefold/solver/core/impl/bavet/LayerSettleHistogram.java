@@ -0,0 +1,116 @@
+package ai.timefold.solver.core.impl.bavet;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Records how long each layer of an {@link AbstractBavetNodeNetwork} took to settle,
+ * separately for sequential and parallel propagation,
+ * so that it can be seen whether fanning a layer out actually pays off.
+ * <p>
+ * Durations are bucketed by powers of two of nanoseconds,
+ * which keeps recording allocation-free and constant-time on the hot path.
+ * Percentiles are therefore only accurate to within a factor of two.
+ * <p>
+ * Not thread-safe; only ever called from the thread that settles the network.
+ */
+@NullMarked
+public final class LayerSettleHistogram {
+
+    private static final int BUCKET_COUNT = Long.SIZE;
+
+    private final long[][] sequentialBucketCounts;
+    private final long[][] parallelBucketCounts;
+    private final long[] sequentialNanos;
+    private final long[] parallelNanos;
+
+    LayerSettleHistogram(int layerCount) {
+        this.sequentialBucketCounts = new long[layerCount][BUCKET_COUNT];
+        this.parallelBucketCounts = new long[layerCount][BUCKET_COUNT];
+        this.sequentialNanos = new long[layerCount];
+        this.parallelNanos = new long[layerCount];
+    }
+
+    void record(int layerId, boolean parallel, long nanos) {
+        var bucket = BUCKET_COUNT - Long.numberOfLeadingZeros(Math.max(nanos, 1L)) - 1;
+        if (parallel) {
+            parallelBucketCounts[layerId][bucket]++;
+            parallelNanos[layerId] += nanos;
+        } else {
+            sequentialBucketCounts[layerId][bucket]++;
+            sequentialNanos[layerId] += nanos;
+        }
+    }
+
+    public int getLayerCount() {
+        return sequentialNanos.length;
+    }
+
+    public long getSettleCount(int layerId, boolean parallel) {
+        var count = 0L;
+        for (var bucketCount : (parallel ? parallelBucketCounts : sequentialBucketCounts)[layerId]) {
+            count += bucketCount;
+        }
+        return count;
+    }
+
+    public long getTotalNanos(int layerId, boolean parallel) {
+        return (parallel ? parallelNanos : sequentialNanos)[layerId];
+    }
+
+    /**
+     * @param layerId at least 0
+     * @param parallel whether to read the parallel or the sequential histogram
+     * @param percentile between 0 and 100, inclusive
+     * @return the upper bound of the bucket which contains the given percentile; 0 if nothing was recorded
+     */
+    public long getPercentileNanos(int layerId, boolean parallel, double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile (%s) must be between 0 and 100.".formatted(percentile));
+        }
+        var settleCount = getSettleCount(layerId, parallel);
+        if (settleCount == 0L) {
+            return 0L;
+        }
+        var threshold = (long) Math.ceil(settleCount * percentile / 100.0);
+        var bucketCounts = (parallel ? parallelBucketCounts : sequentialBucketCounts)[layerId];
+        var cumulativeCount = 0L;
+        for (var bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            cumulativeCount += bucketCounts[bucket];
+            if (cumulativeCount >= Math.max(threshold, 1L)) {
+                return bucket == BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << (bucket + 1)) - 1;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * @return a table with one row per layer that was settled at least once
+     */
+    public String summarize() {
+        var summary = new StringBuilder("| Layer | Sequential | Mean (µs) | p99 (µs) | Parallel | Mean (µs) | p99 (µs) |");
+        for (var layerId = 0; layerId < getLayerCount(); layerId++) {
+            var sequentialCount = getSettleCount(layerId, false);
+            var parallelCount = getSettleCount(layerId, true);
+            if (sequentialCount == 0L && parallelCount == 0L) {
+                continue;
+            }
+            summary.append(System.lineSeparator())
+                    .append("| %5d | %10d | %9.1f | %8d | %8d | %9.1f | %8d |".formatted(layerId,
+                            sequentialCount, meanMicros(layerId, false), percentileMicros(layerId, false),
+                            parallelCount, meanMicros(layerId, true), percentileMicros(layerId, true)));
+        }
+        return summary.toString();
+    }
+
+    private double meanMicros(int layerId, boolean parallel) {
+        var settleCount = getSettleCount(layerId, parallel);
+        return settleCount == 0L ? 0.0 : getTotalNanos(layerId, parallel) / (settleCount * 1_000.0);
+    }
+
+    private long percentileMicros(int layerId, boolean parallel) {
+        return TimeUnit.NANOSECONDS.toMicros(getPercentileNanos(layerId, parallel, 99.0));
+    }
+
+}
@@ -0,0 +1,212 @@
+package ai.timefold.solver.core.impl.bavet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import ai.timefold.solver.core.impl.bavet.common.AbstractNode;
+import ai.timefold.solver.core.impl.bavet.common.Propagator;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Fans the propagation of a single layer of an {@link AbstractBavetNodeNetwork} out to a {@link ForkJoinPool}.
+ * <p>
+ * Nodes in the same layer never read each other's state,
+ * but they do write into shared state:
+ * the propagation queues and indexes of their child nodes,
+ * and the score inliner shared by all scorers.
+ * Therefore, at the first settle, the active nodes of every layer are partitioned into clusters:
+ * two nodes end up in the same cluster if they (transitively) share any propagation target.
+ * Clusters share nothing and can safely propagate concurrently,
+ * each of them in the retract-update-insert order required by {@link Propagator}.
+ * Within a cluster, propagation stays sequential.
+ * <p>
+ * Forking has a fixed overhead, so only layers with at least two clusters
+ * and a minimum number of {@link Propagator#pendingCount() pending items}
+ * are propagated in parallel; other layers are propagated sequentially on the calling thread.
+ * Either way, the time taken is recorded in a {@link LayerSettleHistogram}.
+ */
+@NullMarked
+public final class ParallelLayerSettler {
+
+    /**
+     * Selected so that the forking overhead (in the order of microseconds)
+     * is small in comparison to the work being forked.
+     */
+    public static final int DEFAULT_MINIMUM_LAYER_COST = 512;
+
+    private final Map<AbstractNode, Set<Object>> nodeToPropagationTargetSetMap;
+    private final ForkJoinPool pool;
+    private final int minimumLayerCost;
+
+    private LayerPropagationTask[] layerTasks = new LayerPropagationTask[0];
+    private LayerSettleHistogram histogram = new LayerSettleHistogram(0);
+
+    /**
+     * @param nodeToPropagationTargetSetMap for every node, the set of objects that its propagation writes into;
+     *        see {@link ai.timefold.solver.core.impl.bavet.common.AbstractNodeBuildHelper#buildNodeToPropagationTargetSetMap(List)}
+     */
+    public ParallelLayerSettler(Map<AbstractNode, Set<Object>> nodeToPropagationTargetSetMap) {
+        this(nodeToPropagationTargetSetMap, ForkJoinPool.commonPool(), DEFAULT_MINIMUM_LAYER_COST);
+    }
+
+    ParallelLayerSettler(Map<AbstractNode, Set<Object>> nodeToPropagationTargetSetMap, ForkJoinPool pool,
+            int minimumLayerCost) {
+        if (minimumLayerCost < 0) {
+            throw new IllegalArgumentException("The minimumLayerCost (%d) must not be negative."
+                    .formatted(minimumLayerCost));
+        }
+        this.nodeToPropagationTargetSetMap = nodeToPropagationTargetSetMap;
+        this.pool = pool;
+        this.minimumLayerCost = minimumLayerCost;
+    }
+
+    /**
+     * Called once, when the active nodes of the network are known.
+     *
+     * @param layeredActiveNodes active nodes, by layer
+     * @param layeredActivePropagators their propagators, aligned 1:1 with layeredActiveNodes
+     */
+    void initialize(AbstractNode[][] layeredActiveNodes, Propagator[][] layeredActivePropagators) {
+        var layerCount = layeredActiveNodes.length;
+        layerTasks = new LayerPropagationTask[layerCount];
+        for (var layerId = 0; layerId < layerCount; layerId++) {
+            var clusterTasks = Arrays.stream(clusterLayer(layeredActiveNodes[layerId], layeredActivePropagators[layerId]))
+                    .map(ClusterPropagationTask::new)
+                    .toArray(ClusterPropagationTask[]::new);
+            layerTasks[layerId] = new LayerPropagationTask(clusterTasks);
+        }
+        histogram = new LayerSettleHistogram(layerCount);
+    }
+
+    private Propagator[][] clusterLayer(AbstractNode[] nodesInLayer, Propagator[] propagatorsInLayer) {
+        // Union-find over node indices; nodes sharing a propagation target are merged.
+        var nodeCount = nodesInLayer.length;
+        var parentIndices = new int[nodeCount];
+        var targetToNodeIndexMap = new IdentityHashMap<Object, Integer>();
+        for (var i = 0; i < nodeCount; i++) {
+            parentIndices[i] = i;
+            for (var target : nodeToPropagationTargetSetMap.getOrDefault(nodesInLayer[i], Set.of())) {
+                var otherIndex = targetToNodeIndexMap.putIfAbsent(target, i);
+                if (otherIndex != null) {
+                    union(parentIndices, i, otherIndex);
+                }
+            }
+        }
+        // Keep the order of the layer, both among and within clusters, to keep propagation reproducible.
+        var clusterList = new ArrayList<List<Propagator>>();
+        var rootToClusterIndexArray = new int[nodeCount];
+        Arrays.fill(rootToClusterIndexArray, -1);
+        for (var i = 0; i < nodeCount; i++) {
+            var root = find(parentIndices, i);
+            var clusterIndex = rootToClusterIndexArray[root];
+            if (clusterIndex < 0) {
+                clusterIndex = clusterList.size();
+                rootToClusterIndexArray[root] = clusterIndex;
+                clusterList.add(new ArrayList<>());
+            }
+            clusterList.get(clusterIndex).add(propagatorsInLayer[i]);
+        }
+        return clusterList.stream()
+                .map(cluster -> cluster.toArray(Propagator[]::new))
+                .toArray(Propagator[][]::new);
+    }
+
+    private static int find(int[] parentIndices, int index) {
+        while (parentIndices[index] != index) {
+            parentIndices[index] = parentIndices[parentIndices[index]]; // Path halving.
+            index = parentIndices[index];
+        }
+        return index;
+    }
+
+    private static void union(int[] parentIndices, int left, int right) {
+        var leftRoot = find(parentIndices, left);
+        var rightRoot = find(parentIndices, right);
+        if (leftRoot != rightRoot) {
+            parentIndices[Math.max(leftRoot, rightRoot)] = Math.min(leftRoot, rightRoot);
+        }
+    }
+
+    /**
+     * @param layerId at least 0
+     * @param nodesInLayer all active propagators in the layer, in layer order
+     */
+    void settleLayer(int layerId, Propagator[] nodesInLayer) {
+        var layerTask = layerTasks[layerId];
+        var parallel = layerTask.clusterTasks.length > 1 && pool.getParallelism() > 1
+                && computeLayerCost(nodesInLayer) >= minimumLayerCost;
+        var start = System.nanoTime();
+        if (parallel) {
+            layerTask.reinitialize();
+            pool.invoke(layerTask);
+        } else {
+            AbstractBavetNodeNetwork.settleLayerSequentially(nodesInLayer);
+        }
+        histogram.record(layerId, parallel, System.nanoTime() - start);
+    }
+
+    private int computeLayerCost(Propagator[] nodesInLayer) {
+        var cost = 0;
+        for (var node : nodesInLayer) {
+            cost += node.pendingCount();
+            if (cost >= minimumLayerCost) { // No need to count any further.
+                return cost;
+            }
+        }
+        return cost;
+    }
+
+    int getClusterCount(int layerId) {
+        return layerTasks[layerId].clusterTasks.length;
+    }
+
+    public LayerSettleHistogram getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * Reused across settles through {@link ForkJoinTask#reinitialize()},
+     * so that parallel propagation does not allocate any tasks per settle.
+     */
+    private static final class LayerPropagationTask extends RecursiveAction {
+
+        private final ClusterPropagationTask[] clusterTasks;
+
+        private LayerPropagationTask(ClusterPropagationTask[] clusterTasks) {
+            this.clusterTasks = clusterTasks;
+        }
+
+        @Override
+        protected void compute() {
+            for (var clusterTask : clusterTasks) {
+                clusterTask.reinitialize();
+            }
+            invokeAll(clusterTasks);
+        }
+
+    }
+
+    private static final class ClusterPropagationTask extends RecursiveAction {
+
+        private final Propagator[] cluster;
+
+        private ClusterPropagationTask(Propagator[] cluster) {
+            this.cluster = cluster;
+        }
+
+        @Override
+        protected void compute() {
+            AbstractBavetNodeNetwork.settleLayerSequentially(cluster);
+        }
+
+    }
+
+}
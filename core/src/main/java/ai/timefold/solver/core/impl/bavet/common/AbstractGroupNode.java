@@ -1,7 +1,5 @@
 package ai.timefold.solver.core.impl.bavet.common;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.IntSupplier;
@@ -11,6 +9,7 @@ import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.impl.bavet.common.tuple.Tuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleState;
+import ai.timefold.solver.core.impl.util.AdaptiveKeyMap;
 
 public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extends Tuple, GroupKey_, ResultContainer_, Result_>
         extends AbstractSingleInputNode<InTuple_> {
@@ -40,8 +39,9 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
     private final boolean hasCollector;
     /**
      * Used when {@link #hasGroupKeyFunction} is true, otherwise {@link #singletonGroup} is used.
+     * Specializes itself for enum and integral group keys, which are by far the most common.
      */
-    private final Map<Object, Group<OutTuple_, ResultContainer_>> groupMap;
+    private final AdaptiveKeyMap<Group<OutTuple_, ResultContainer_>> groupMap;
     /**
      * Used when {@link #hasGroupKeyFunction} is false, otherwise {@link #groupMap} is used.
      *
@@ -68,7 +68,7 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
          * The number of groups can be very small, and that situation is not unlikely.
          * Therefore, the size of these collections is kept default.
          */
-        this.groupMap = hasGroupKeyFunction ? new HashMap<>() : null;
+        this.groupMap = hasGroupKeyFunction ? new AdaptiveKeyMap<>() : null;
         this.propagationQueue = hasCollector ? new DynamicPropagationQueue<>(nextNodesTupleLifecycle,
                 group -> {
                     var outTuple = group.getTuple();
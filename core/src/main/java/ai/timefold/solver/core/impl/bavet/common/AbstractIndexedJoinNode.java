@@ -60,6 +60,8 @@ public abstract class AbstractIndexedJoinNode<LeftTuple_ extends Tuple, Right_,
     // True only for an equal+suffix unified index: a changed-key update whose equal prefix is unchanged can reuse the
     // cached bucket. Pure-equal nodes are false, so the dominant path never even evaluates isSameBucket.
     private final boolean reuseBucketEligible;
+    private int leftTupleCount = 0;
+    private int rightTupleCount = 0;
 
     protected AbstractIndexedJoinNode(KeysExtractor<LeftTuple_> keysExtractorLeft, IndexerFactory<Right_> indexerFactory,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, boolean isFiltering,
@@ -89,6 +91,7 @@ public abstract class AbstractIndexedJoinNode<LeftTuple_ extends Tuple, Right_,
         }
         var compositeKey = keysExtractorLeft.apply(leftTuple);
         leftTuple.setStore(inputStoreIndexLeftOutTupleList, leftOutTupleListBuilder.get());
+        leftTupleCount++;
         indexAndPropagateLeft(leftTuple, compositeKey, false);
     }
 
@@ -173,6 +176,7 @@ public abstract class AbstractIndexedJoinNode<LeftTuple_ extends Tuple, Right_,
             // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
             return;
         }
+        leftTupleCount--;
         TupleList<OutTuple_> outTupleListLeft = leftTuple.removeStore(inputStoreIndexLeftOutTupleList);
         ListEntry<LeftTuple_> entry = leftTuple.removeStore(inputStoreIndexLeftEntry);
         if (useFusedEqualIndex) {
@@ -194,6 +198,7 @@ public abstract class AbstractIndexedJoinNode<LeftTuple_ extends Tuple, Right_,
         }
         var compositeKey = keysExtractorRight.apply(rightTuple);
         rightTuple.setStore(inputStoreIndexRightOutTupleList, rightOutTupleListBuilder.get());
+        rightTupleCount++;
         indexAndPropagateRight(rightTuple, compositeKey, false);
     }
 
@@ -271,6 +276,7 @@ public abstract class AbstractIndexedJoinNode<LeftTuple_ extends Tuple, Right_,
             // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
             return;
         }
+        rightTupleCount--;
         TupleList<OutTuple_> outTupleListRight = rightTuple.removeStore(inputStoreIndexRightOutTupleList);
         ListEntry<UniTuple<Right_>> entry = rightTuple.removeStore(inputStoreIndexRightEntry);
         if (useFusedEqualIndex) {
@@ -324,4 +330,11 @@ public abstract class AbstractIndexedJoinNode<LeftTuple_ extends Tuple, Right_,
         innerUpdateRight(rightTuple, consumer -> forEachLeftMatch(rightTuple, compositeKey, consumer));
     }
 
+    @Override
+    public final JoinStatistics getStatistics() {
+        // The number of distinct keys is only known when the equal joiners have an index of their own.
+        var equalKeyCount = useFusedEqualIndex ? fusedEqualIndex.bucketCount() : 0;
+        return new JoinStatistics(this, leftTupleCount, rightTupleCount, getOutTupleCount(), equalKeyCount);
+    }
+
 }
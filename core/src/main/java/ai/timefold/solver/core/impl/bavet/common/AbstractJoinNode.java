@@ -34,6 +34,7 @@ public abstract class AbstractJoinNode<LeftTuple_ extends Tuple, Right_, OutTupl
     protected final OutTupleStorePositionTracker outputStoreSizeTracker;
     private final StaticPropagationQueue<OutTuple_> propagationQueue;
     private long markVersion = 0;
+    private int outTupleCount = 0;
 
     protected final Supplier<TupleList<OutTuple_>> leftOutTupleListBuilder;
     protected final Supplier<TupleList<OutTuple_>> rightOutTupleListBuilder;
@@ -215,6 +216,7 @@ public abstract class AbstractJoinNode<LeftTuple_ extends Tuple, Right_, OutTupl
         TupleList<OutTuple_> outTupleListRight = rightTuple.getStore(inputStoreIndexRightOutTupleList);
         outTupleListRight.add(outTuple);
         outTuple.setStore(outputStoreIndexRightOutTupleList, outTupleListRight);
+        outTupleCount++;
         propagationQueue.insert(outTuple);
     }
 
@@ -306,6 +308,7 @@ public abstract class AbstractJoinNode<LeftTuple_ extends Tuple, Right_, OutTupl
             throw new IllegalStateException("Impossible state: The tuple (%s) in node (%s) is in an unexpected state (%s)."
                     .formatted(outTuple, this, state));
         }
+        outTupleCount--;
         propagationQueue.retract(outTuple, state == TupleState.CREATING ? TupleState.ABORTING : TupleState.DYING);
     }
 
@@ -367,6 +370,20 @@ public abstract class AbstractJoinNode<LeftTuple_ extends Tuple, Right_, OutTupl
         propagateRetract(outTuple);
     }
 
+    /**
+     * Only used for diagnostics, never on the propagation path.
+     *
+     * @return the current sizes of this node
+     */
+    public abstract JoinStatistics getStatistics();
+
+    /**
+     * @return the number of out tuples which have been inserted and not yet retracted
+     */
+    protected final int getOutTupleCount() {
+        return outTupleCount;
+    }
+
     @Override
     protected boolean canProduceTuples() {
         return leftCanProduceTuples && rightCanProduceTuples;
@@ -3,6 +3,7 @@ package ai.timefold.solver.core.impl.bavet.common;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -199,25 +200,64 @@ public abstract class AbstractNodeBuildHelper<Stream_ extends BavetStream> {
      * @param buildHelper never null
      * @return at least 0
      */
-    @SuppressWarnings("unchecked")
     private static <Stream_ extends BavetStream> long determineLayerIndex(AbstractNode node,
             AbstractNodeBuildHelper<Stream_> buildHelper) {
+        var layerIndex = -1L; // Root nodes, and only they, have no parents and are therefore in layer 0.
+        for (var parentNode : buildHelper.findParentNodes(node)) {
+            layerIndex = Math.max(layerIndex, parentNode.getLayerIndex());
+        }
+        return layerIndex + 1;
+    }
+
+    /**
+     * Reverse-engineers the nodes which propagate into the given node.
+     * Two-input nodes, such as {@link AbstractJoinNode} and {@link AbstractIfExistsNode}, have two parents;
+     * root nodes have none; every other node has exactly one.
+     *
+     * @param node never null
+     * @return never null, empty for root nodes
+     */
+    @SuppressWarnings("unchecked")
+    public List<AbstractNode> findParentNodes(AbstractNode node) {
         return switch (node) {
-            case AbstractRootNode<?> ignored -> 0L; // Root nodes, and only they, are in layer 0.
-            case AbstractTwoInputNode<?, ?> twoInputNode -> { // Two-input nodes must sit above both inputs.
-                var nodeCreator = (BavetStreamBinaryOperation<?>) buildHelper.getNodeCreatingStream(twoInputNode);
-                var leftParent = (Stream_) nodeCreator.getLeftParent();
-                var rightParent = (Stream_) nodeCreator.getRightParent();
-                var leftParentNode = buildHelper.findParentNode(leftParent);
-                var rightParentNode = buildHelper.findParentNode(rightParent);
-                yield Math.max(leftParentNode.getLayerIndex(), rightParentNode.getLayerIndex()) + 1;
+            case AbstractRootNode<?> ignored -> Collections.emptyList();
+            case AbstractTwoInputNode<?, ?> twoInputNode -> {
+                var nodeCreator = (BavetStreamBinaryOperation<?>) getNodeCreatingStream(twoInputNode);
+                var leftParentNode = findParentNode((Stream_) nodeCreator.getLeftParent());
+                var rightParentNode = findParentNode((Stream_) nodeCreator.getRightParent());
+                yield List.of(leftParentNode, rightParentNode);
             }
-            default -> { // Every other node sits above its parent.
-                var nodeCreator = buildHelper.getNodeCreatingStream(node);
-                var parentNode = buildHelper.findParentNode(nodeCreator.getParent());
-                yield parentNode.getLayerIndex() + 1;
+            default -> {
+                var nodeCreator = getNodeCreatingStream(node);
+                yield List.of(findParentNode(nodeCreator.getParent()));
             }
         };
     }
 
+    /**
+     * Determines, for every node, the set of objects that its propagation writes into.
+     * Two nodes whose sets intersect must not propagate concurrently.
+     * Every node propagates into its child nodes;
+     * subclasses add any other state shared between nodes, such as the score inliner.
+     *
+     * @param nodeList never null, as returned by {@link #buildNodeList(Set, AbstractNodeBuildHelper, BiConsumer, Consumer)}
+     * @return never null
+     */
+    public Map<AbstractNode, Set<Object>> buildNodeToPropagationTargetSetMap(List<AbstractNode> nodeList) {
+        var nodeToPropagationTargetSetMap = new IdentityHashMap<AbstractNode, Set<Object>>(nodeList.size());
+        for (var node : nodeList) {
+            nodeToPropagationTargetSetMap.put(node, Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+        for (var node : nodeList) {
+            if (node instanceof AbstractPrecomputeNode<?>) {
+                // Precomputed streams replay their own internal node networks, which may share static data.
+                nodeToPropagationTargetSetMap.get(node).add(AbstractPrecomputeNode.class);
+            }
+            for (var parentNode : findParentNodes(node)) {
+                nodeToPropagationTargetSetMap.get(parentNode).add(node);
+            }
+        }
+        return nodeToPropagationTargetSetMap;
+    }
+
 }
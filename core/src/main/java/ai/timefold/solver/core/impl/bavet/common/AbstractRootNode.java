@@ -29,6 +29,18 @@ public abstract non-sealed class AbstractRootNode<A>
      */
     public abstract boolean supports(LifecycleOperation lifecycleOperation);
 
+    /**
+     * Called before a batch of facts is passed to this node through the given lifecycle operation,
+     * allowing the node to size its internal structures for the whole batch at once.
+     * Does nothing by default.
+     *
+     * @param lifecycleOperation the lifecycle operation about to be performed
+     * @param factCount the number of facts in the batch
+     */
+    public void ensureCapacity(LifecycleOperation lifecycleOperation, int factCount) {
+        // Most nodes have nothing to prepare.
+    }
+
     /**
      * Represents the various lifecycle operations that can be performed
      * on tuples within a node in Bavet.
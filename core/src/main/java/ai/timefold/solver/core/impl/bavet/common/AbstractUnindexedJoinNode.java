@@ -138,4 +138,10 @@ public abstract class AbstractUnindexedJoinNode<LeftTuple_ extends Tuple, Right_
         innerUpdateRight(rightTuple, leftTupleList::forEach);
     }
 
+    @Override
+    public final JoinStatistics getStatistics() {
+        // Without joiners, every left tuple shares the same (implicit) key with every right tuple.
+        return new JoinStatistics(this, leftTupleList.size(), rightTupleList.size(), getOutTupleCount(), 1);
+    }
+
 }
@@ -0,0 +1,148 @@
+package ai.timefold.solver.core.impl.bavet.common;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintRef;
+
+import org.jspecify.annotations.NullMarked;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the time spent in each node of the node network, and how many times each node was invoked.
+ * For tuple lifecycles, the invocation count is the number of tuples propagated into the node;
+ * for node propagators, it is the number of propagation rounds.
+ * <p>
+ * Time is measured exclusively:
+ * a measurement which triggers nested measurements (such as a propagator inserting into downstream lifecycles)
+ * only records the time not already recorded by those nested measurements.
+ * Therefore the sum of all node times equals the total time spent in the node network.
+ * <p>
+ * A node shared by several {@link ConstraintNodeLocation locations} attributes its full cost to each of them,
+ * so the location costs do not necessarily add up to the total.
+ * <p>
+ * Not thread-safe; a profiler must only be used by the session of a single score director.
+ * Profile IDs are stable across rebuilt sessions, so the costs accumulate when the working solution is reset.
+ */
+@NullMarked
+public final class DefaultConstraintProfiler implements InnerConstraintProfiler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultConstraintProfiler.class);
+    private static final int SUMMARY_NODE_LIMIT = 10;
+
+    private final Map<ConstraintNodeProfileId, CostAccumulator> costAccumulatorMap = new HashMap<>();
+    private long nestedNanos = 0L;
+
+    @Override
+    public void register(ConstraintNodeProfileId profileId) {
+        costAccumulatorMap.computeIfAbsent(profileId, CostAccumulator::new);
+    }
+
+    @Override
+    public <Solution_, Stream_ extends BavetStream> void registerNodeGraph(Solution_ solution, List<AbstractNode> nodeList,
+            Set<Constraint> constraintSet, Function<AbstractNode, Stream_> nodeToStreamFunction,
+            Function<Stream_, AbstractNode> streamToParentNodeFunction) {
+        // The cost is only reported per node and per location; the graph is not needed.
+    }
+
+    @Override
+    public void registerConstraint(ConstraintRef constraintRef, Set<ConstraintNodeProfileId> profileIdSet) {
+        // The cost is only reported per node and per location; the constraints are not needed.
+    }
+
+    @Override
+    public void measure(ConstraintNodeProfileId profileId, Operation operation, Runnable measurable) {
+        var costAccumulator = costAccumulatorMap.get(profileId);
+        if (costAccumulator == null) {
+            throw new IllegalStateException("Impossible state: the profileId (%s) was not registered."
+                    .formatted(profileId));
+        }
+        var outerNestedNanos = nestedNanos;
+        nestedNanos = 0L;
+        var start = System.nanoTime();
+        try {
+            measurable.run();
+        } finally {
+            var elapsedNanos = System.nanoTime() - start;
+            costAccumulator.timeNanos += elapsedNanos - nestedNanos;
+            costAccumulator.count++;
+            nestedNanos = outerNestedNanos + elapsedNanos;
+        }
+    }
+
+    /**
+     * @return never null, ordered by profile ID
+     */
+    public Map<ConstraintNodeProfileId, Cost> getNodeCostMap() {
+        var nodeCostMap = new TreeMap<ConstraintNodeProfileId, Cost>();
+        for (var costAccumulator : costAccumulatorMap.values()) {
+            nodeCostMap.put(costAccumulator.profileId, costAccumulator.toCost());
+        }
+        return nodeCostMap;
+    }
+
+    /**
+     * @return never null, ordered by location
+     */
+    public Map<ConstraintNodeLocation, Cost> getLocationCostMap() {
+        var locationCostMap = new TreeMap<ConstraintNodeLocation, Cost>();
+        for (var costAccumulator : costAccumulatorMap.values()) {
+            var cost = costAccumulator.toCost();
+            for (var location : costAccumulator.profileId.locationSet()) {
+                locationCostMap.merge(location, cost, Cost::add);
+            }
+        }
+        return locationCostMap;
+    }
+
+    @Override
+    public void summarize() {
+        if (!LOGGER.isDebugEnabled() || costAccumulatorMap.isEmpty()) {
+            return;
+        }
+        var summary = new StringBuilder("Most expensive constraint nodes:");
+        costAccumulatorMap.values().stream()
+                .sorted(Comparator.comparingLong((CostAccumulator accumulator) -> accumulator.timeNanos).reversed())
+                .limit(SUMMARY_NODE_LIMIT)
+                .forEach(accumulator -> summary.append("%n  %s: %d ms in %d invocations."
+                        .formatted(accumulator.profileId.toVerboseString(), accumulator.timeNanos / 1_000_000L,
+                                accumulator.count)));
+        LOGGER.debug(summary.toString());
+    }
+
+    /**
+     * @param timeNanos time spent in the node, excluding time spent in nested measurements
+     * @param count number of invocations of the node
+     */
+    public record Cost(long timeNanos, long count) {
+
+        public Cost add(Cost other) {
+            return new Cost(timeNanos + other.timeNanos, count + other.count);
+        }
+
+    }
+
+    private static final class CostAccumulator {
+
+        private final ConstraintNodeProfileId profileId;
+        private long timeNanos = 0L;
+        private long count = 0L;
+
+        private CostAccumulator(ConstraintNodeProfileId profileId) {
+            this.profileId = profileId;
+        }
+
+        private Cost toCost() {
+            return new Cost(timeNanos, count);
+        }
+
+    }
+
+}
@@ -206,4 +206,9 @@ final class DynamicPropagationQueue<Tuple_ extends Tuple, Carrier_ extends Abstr
         dirtyList.clear();
     }
 
+    @Override
+    public int pendingCount() {
+        return dirtyList.size();
+    }
+
 }
@@ -0,0 +1,68 @@
+package ai.timefold.solver.core.impl.bavet.common;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * A snapshot of the sizes of a join node,
+ * used to detect joins which degenerate into a (nearly) cartesian product.
+ * Such joins do work proportional to the product of their input sizes on every change,
+ * which usually means the join is missing a selective {@code equal} joiner.
+ *
+ * @param node never null
+ * @param leftTupleCount the number of tuples in the left index
+ * @param rightTupleCount the number of tuples in the right index
+ * @param outTupleCount the number of pairs which passed all joiners and filters
+ * @param equalKeyCount the number of distinct keys of the equal joiners;
+ *        1 for a join without joiners, as every pair then shares the same key;
+ *        0 if unknown, such as for a join indexed only by comparison joiners
+ */
+@NullMarked
+public record JoinStatistics(AbstractNode node, int leftTupleCount, int rightTupleCount, int outTupleCount,
+        int equalKeyCount) {
+
+    /**
+     * Joins with fewer possible pairs are cheap regardless of their selectivity.
+     */
+    static final long MIN_PAIR_COUNT = 10_000L;
+    /**
+     * Joins which need to consider at least this share of all possible pairs are reported.
+     */
+    static final double NEAR_CARTESIAN_RATIO = 0.5;
+
+    /**
+     * @return the number of pairs in the cartesian product of both sides
+     */
+    public long pairCount() {
+        return (long) leftTupleCount * rightTupleCount;
+    }
+
+    /**
+     * Estimates the share of all possible pairs which the join needs to look at.
+     * A pair which made it through the join was necessarily looked at.
+     * Pairs which share an equal key are looked at even if a filter later rejects them;
+     * assuming the keys are evenly spread, they are {@code 1 / equalKeyCount} of all pairs.
+     *
+     * @return between 0 and 1; 0 if either side is empty
+     */
+    public double candidateRatio() {
+        var pairCount = pairCount();
+        if (pairCount == 0L) {
+            return 0.0;
+        }
+        var outRatio = outTupleCount / (double) pairCount;
+        var indexRatio = equalKeyCount == 0 ? 0.0 : 1.0 / equalKeyCount;
+        return Math.max(outRatio, indexRatio);
+    }
+
+    public boolean isNearCartesian() {
+        return pairCount() >= MIN_PAIR_COUNT && candidateRatio() >= NEAR_CARTESIAN_RATIO;
+    }
+
+    @Override
+    public String toString() {
+        return "%s (left: %d, right: %d, out: %d, equal keys: %s, candidate ratio: %.2f)"
+                .formatted(node, leftTupleCount, rightTupleCount, outTupleCount,
+                        equalKeyCount == 0 ? "unknown" : equalKeyCount, candidateRatio());
+    }
+
+}
@@ -23,4 +23,9 @@ public record ProfilingPropagator(InnerConstraintProfiler profiler, ConstraintNo
                 InnerConstraintProfiler.Operation.INSERT,
                 delegate::propagateInserts);
     }
+
+    @Override
+    public int pendingCount() {
+        return delegate.pendingCount();
+    }
 }
@@ -68,4 +68,13 @@ public sealed interface Propagator
         propagateInserts();
     }
 
+    /**
+     * A cheap estimate of the work waiting to be propagated,
+     * used to decide whether a layer is worth propagating in parallel.
+     * Must only be called between two propagation events, never during one.
+     *
+     * @return at least 0; the number of items queued for propagation
+     */
+    int pendingCount();
+
 }
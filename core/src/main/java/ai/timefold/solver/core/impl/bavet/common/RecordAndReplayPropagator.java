@@ -185,6 +185,11 @@ public final class RecordAndReplayPropagator<Tuple_ extends Tuple>
         propagationQueue.propagateInserts();
     }
 
+    @Override
+    public int pendingCount() {
+        return retractQueue.size() + insertQueue.size() + propagationQueue.pendingCount();
+    }
+
     private void insertIfAbsent(Tuple_ tuple) {
         var state = tuple.getState();
         if (state != TupleState.CREATING) {
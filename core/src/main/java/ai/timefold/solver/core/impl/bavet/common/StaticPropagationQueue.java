@@ -19,16 +19,23 @@ import ai.timefold.solver.core.impl.bavet.common.tuple.TupleState;
 public final class StaticPropagationQueue<Tuple_ extends Tuple>
         implements PropagationQueue<Tuple_> {
 
-    private final Deque<Tuple_> retractQueue;
-    private final Deque<Tuple_> updateQueue;
-    private final Deque<Tuple_> insertQueue;
+    private Deque<Tuple_> retractQueue;
+    private Deque<Tuple_> updateQueue;
+    private Deque<Tuple_> insertQueue;
+    // ArrayDeque does not expose its capacity; these are lower bounds of it.
+    private int retractQueueCapacity;
+    private int updateQueueCapacity;
+    private int insertQueueCapacity;
     private final TupleLifecycle<Tuple_> nextNodesTupleLifecycle;
 
     public StaticPropagationQueue(TupleLifecycle<Tuple_> nextNodesTupleLifecycle, int size) {
         // Guesstimate that updates are dominant.
-        this.retractQueue = new ArrayDeque<>(size / 20);
-        this.updateQueue = new ArrayDeque<>((size / 20) * 18);
-        this.insertQueue = new ArrayDeque<>(size / 20);
+        this.retractQueueCapacity = size / 20;
+        this.updateQueueCapacity = (size / 20) * 18;
+        this.insertQueueCapacity = size / 20;
+        this.retractQueue = new ArrayDeque<>(retractQueueCapacity);
+        this.updateQueue = new ArrayDeque<>(updateQueueCapacity);
+        this.insertQueue = new ArrayDeque<>(insertQueueCapacity);
         this.nextNodesTupleLifecycle = nextNodesTupleLifecycle;
     }
 
@@ -122,4 +129,47 @@ public final class StaticPropagationQueue<Tuple_ extends Tuple>
         }
     }
 
+    /**
+     * Prepares the retract queue to receive the given number of tuples at once,
+     * instead of growing it step by step as the tuples arrive.
+     * Only has an effect while the queue is empty, which is always the case between propagations.
+     *
+     * @param tupleCount the number of tuples about to be retracted
+     */
+    public void ensureRetractCapacity(int tupleCount) {
+        if (tupleCount > retractQueueCapacity && retractQueue.isEmpty()) {
+            retractQueue = new ArrayDeque<>(tupleCount);
+            retractQueueCapacity = tupleCount;
+        }
+    }
+
+    /**
+     * As defined by {@link #ensureRetractCapacity(int)}, for the update queue.
+     *
+     * @param tupleCount the number of tuples about to be updated
+     */
+    public void ensureUpdateCapacity(int tupleCount) {
+        if (tupleCount > updateQueueCapacity && updateQueue.isEmpty()) {
+            updateQueue = new ArrayDeque<>(tupleCount);
+            updateQueueCapacity = tupleCount;
+        }
+    }
+
+    /**
+     * As defined by {@link #ensureRetractCapacity(int)}, for the insert queue.
+     *
+     * @param tupleCount the number of tuples about to be inserted
+     */
+    public void ensureInsertCapacity(int tupleCount) {
+        if (tupleCount > insertQueueCapacity && insertQueue.isEmpty()) {
+            insertQueue = new ArrayDeque<>(tupleCount);
+            insertQueueCapacity = tupleCount;
+        }
+    }
+
+    @Override
+    public int pendingCount() {
+        return retractQueue.size() + updateQueue.size() + insertQueue.size();
+    }
+
 }
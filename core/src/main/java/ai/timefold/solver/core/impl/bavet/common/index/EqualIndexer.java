@@ -1,14 +1,13 @@
 package ai.timefold.solver.core.impl.bavet.common.index;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.random.RandomGenerator;
 
+import ai.timefold.solver.core.impl.util.AdaptiveKeyMap;
 import ai.timefold.solver.core.impl.util.ListEntry;
 
 import org.jspecify.annotations.NullMarked;
@@ -19,8 +18,10 @@ final class EqualIndexer<T, Key_> implements Indexer<T> {
     private final KeyUnpacker<Key_> keyUnpacker;
     private final Supplier<Indexer<T>> downstreamIndexerSupplier;
     /**
-     * The number 16 is chosen as that is the default initial capacity of a HashMap
-     * and we have no good way of estimating the number of keys up-front.
+     * Enum and integral keys, which are very common in equal joiners, avoid the {@link java.util.HashMap} altogether;
+     * see {@link AdaptiveKeyMap}.
+     * For all other keys, the map falls back to a {@link java.util.HashMap} with the default initial capacity of 16,
+     * as we have no good way of estimating the number of keys up-front.
      * Any reasonable problem will quickly resize the map, and by a lot.
      * Since the solver is typically a long-running process,
      * this initial overhead is negligible in the grand scheme of things.
@@ -33,7 +34,7 @@ final class EqualIndexer<T, Key_> implements Indexer<T> {
      * This trade-off may change with future versions of the JDK,
      * and should be re-evaluated occasionally.
      */
-    private final Map<Key_, Indexer<T>> downstreamIndexerMap = new HashMap<>(16, 0.5f);
+    private final AdaptiveKeyMap<Indexer<T>> downstreamIndexerMap = new AdaptiveKeyMap<>(0.5f);
 
     /**
      * @param keyUnpacker determines if it immediately goes to a {@link LeafIndexer} or if it uses a {@link CompositeKey}.
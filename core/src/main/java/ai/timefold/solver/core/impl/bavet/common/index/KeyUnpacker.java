@@ -3,6 +3,8 @@ package ai.timefold.solver.core.impl.bavet.common.index;
 import java.util.Map;
 import java.util.function.Function;
 
+import ai.timefold.solver.core.impl.util.AdaptiveKeyMap;
+
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -41,4 +43,16 @@ interface KeyUnpacker<Key_> extends Function<Object, Key_> {
         return downstreamIndexerMap.get(indexKey);
     }
 
+    /**
+     * As defined by {@link #findDownstream(Map, Object)}.
+     */
+    default <T> @Nullable Indexer<T> findDownstream(AdaptiveKeyMap<Indexer<T>> downstreamIndexerMap,
+            Object queryCompositeKey) {
+        if (downstreamIndexerMap.isEmpty()) {
+            return null;
+        }
+        var indexKey = apply(queryCompositeKey);
+        return downstreamIndexerMap.get(indexKey);
+    }
+
 }
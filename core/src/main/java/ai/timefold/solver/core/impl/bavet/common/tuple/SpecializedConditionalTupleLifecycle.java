@@ -0,0 +1,117 @@
+package ai.timefold.solver.core.impl.bavet.common.tuple;
+
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import ai.timefold.solver.core.api.function.QuadPredicate;
+import ai.timefold.solver.core.api.function.TriPredicate;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Behaves like {@link ConditionalTupleLifecycle},
+ * but calls the user predicate directly instead of through a tuple-unwrapping lambda.
+ * <p>
+ * This class is never instantiated directly.
+ * {@link TupleLifecycleSpecializer} defines a separate hidden copy of it for every filter,
+ * so that the JIT collects a separate type profile for every copy.
+ * The call sites to the predicate and to the downstream lifecycle then each see a single receiver type,
+ * and can be inlined,
+ * whereas in the shared {@link ConditionalTupleLifecycle} they see every filter of the network.
+ * For that reason, this class must not reference any nested or anonymous classes of its own,
+ * and must not be referenced by type outside of {@link TupleLifecycleSpecializer}.
+ *
+ * @param <Tuple_>
+ */
+@NullMarked
+final class SpecializedConditionalTupleLifecycle<Tuple_ extends Tuple>
+        implements TupleLifecycle<Tuple_> {
+
+    private final TupleLifecycle<Tuple_> downstreamLifecycle;
+    private final Object predicate;
+    private final int cardinality;
+    private boolean isActive;
+
+    SpecializedConditionalTupleLifecycle(TupleLifecycle<Tuple_> downstreamLifecycle, Object predicate, int cardinality) {
+        this.downstreamLifecycle = Objects.requireNonNull(downstreamLifecycle);
+        this.predicate = Objects.requireNonNull(predicate);
+        this.cardinality = cardinality;
+    }
+
+    @Override
+    public void afterAllFactsInserted(boolean upstreamCanProduceTuples) {
+        // See ConditionalTupleLifecycle.
+        this.isActive = upstreamCanProduceTuples;
+        downstreamLifecycle.afterAllFactsInserted(upstreamCanProduceTuples);
+    }
+
+    @Override
+    public boolean isActive() {
+        return isActive && downstreamLifecycle.isActive();
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean test(Tuple_ tuple) {
+        // Only one branch is ever taken by a given copy of this class.
+        return switch (cardinality) {
+            case 1 -> ((Predicate<Object>) predicate).test(((UniTuple<Object>) tuple).getA());
+            case 2 -> {
+                var biTuple = (BiTuple<Object, Object>) tuple;
+                yield ((BiPredicate<Object, Object>) predicate).test(biTuple.getA(), biTuple.getB());
+            }
+            case 3 -> {
+                var triTuple = (TriTuple<Object, Object, Object>) tuple;
+                yield ((TriPredicate<Object, Object, Object>) predicate).test(triTuple.getA(), triTuple.getB(),
+                        triTuple.getC());
+            }
+            case 4 -> {
+                var quadTuple = (QuadTuple<Object, Object, Object, Object>) tuple;
+                yield ((QuadPredicate<Object, Object, Object, Object>) predicate).test(quadTuple.getA(), quadTuple.getB(),
+                        quadTuple.getC(), quadTuple.getD());
+            }
+            default -> throw new IllegalStateException("Impossible state: the cardinality (%d) is not supported."
+                    .formatted(cardinality));
+        };
+    }
+
+    @Override
+    public void insert(Tuple_ tuple) {
+        if (test(tuple)) {
+            downstreamLifecycle.insert(tuple);
+        }
+    }
+
+    @Override
+    public void update(Tuple_ tuple) {
+        if (test(tuple)) {
+            downstreamLifecycle.update(tuple);
+        } else {
+            downstreamLifecycle.retract(tuple);
+        }
+    }
+
+    @Override
+    public void retract(Tuple_ tuple) {
+        downstreamLifecycle.retract(tuple);
+    }
+
+    @Override
+    public String toString() {
+        return "Specialized conditional %s".formatted(downstreamLifecycle);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        // Within a hidden copy, this type refers to that copy.
+        return obj instanceof SpecializedConditionalTupleLifecycle<?> other
+                && Objects.equals(this.downstreamLifecycle, other.downstreamLifecycle)
+                && Objects.equals(this.predicate, other.predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(downstreamLifecycle, predicate);
+    }
+
+}
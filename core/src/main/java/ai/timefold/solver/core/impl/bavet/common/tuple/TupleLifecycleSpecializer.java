@@ -0,0 +1,133 @@
+package ai.timefold.solver.core.impl.bavet.common.tuple;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import ai.timefold.solver.core.api.function.QuadPredicate;
+import ai.timefold.solver.core.api.function.TriPredicate;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates filtering tuple lifecycles whose call sites are not shared with the other filters of the node network.
+ * <p>
+ * A large node network has many filters,
+ * and in the shared {@link ConditionalTupleLifecycle} the calls to the predicate and to the downstream lifecycle
+ * see all of them; those call sites go megamorphic and the JIT stops inlining through them.
+ * This class instead defines a hidden copy of {@link SpecializedConditionalTupleLifecycle} for every predicate,
+ * giving every filter its own type profile.
+ * The copies are identical in bytecode; no code is generated.
+ * <p>
+ * Copies are cached per predicate,
+ * so that sessions rebuilt from the same constraints reuse the copies which the JIT has already optimized.
+ * Environments which can not define hidden classes, such as native images,
+ * fall back to a single shared class, which behaves the same but is not specialized.
+ * <p>
+ * Generating classes per node chain with Gizmo, as the member accessors and solution cloners do, was not done.
+ * The predicates stay behind their functional interfaces either way,
+ * so a generated class only helps because it gives the call site its own type profile,
+ * which an identical hidden copy already does.
+ * Generating at Quarkus build time would not reach native images either:
+ * the node network depends on the constraint weights and on which constraints are enabled,
+ * which are only known once the solver is configured at runtime,
+ * whereas the accessors and cloners depend only on the domain classes.
+ * <p>
+ * This class is thread-safe.
+ */
+@NullMarked
+public final class TupleLifecycleSpecializer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TupleLifecycleSpecializer.class);
+    private static final MethodType CONSTRUCTOR_TYPE =
+            MethodType.methodType(void.class, TupleLifecycle.class, Object.class, int.class);
+
+    private final Map<Object, MethodHandle> predicateToConstructorMap = new ConcurrentHashMap<>();
+    private final byte @Nullable [] bytecode;
+
+    public TupleLifecycleSpecializer() {
+        this.bytecode = readBytecode();
+    }
+
+    private static byte @Nullable [] readBytecode() {
+        var className = SpecializedConditionalTupleLifecycle.class.getSimpleName() + ".class";
+        try (InputStream inputStream = SpecializedConditionalTupleLifecycle.class.getResourceAsStream(className)) {
+            if (inputStream == null) {
+                LOGGER.debug("The bytecode of ({}) is not available, tuple lifecycles will not be specialized.",
+                        className);
+                return null;
+            }
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed reading the bytecode of (%s).".formatted(className), e);
+        }
+    }
+
+    public <A> TupleLifecycle<UniTuple<A>> conditionally(TupleLifecycle<UniTuple<A>> tupleLifecycle,
+            Predicate<A> predicate) {
+        return specialize(tupleLifecycle, predicate, 1);
+    }
+
+    public <A, B> TupleLifecycle<BiTuple<A, B>> conditionally(TupleLifecycle<BiTuple<A, B>> tupleLifecycle,
+            BiPredicate<A, B> predicate) {
+        return specialize(tupleLifecycle, predicate, 2);
+    }
+
+    public <A, B, C> TupleLifecycle<TriTuple<A, B, C>> conditionally(TupleLifecycle<TriTuple<A, B, C>> tupleLifecycle,
+            TriPredicate<A, B, C> predicate) {
+        return specialize(tupleLifecycle, predicate, 3);
+    }
+
+    public <A, B, C, D> TupleLifecycle<QuadTuple<A, B, C, D>>
+            conditionally(TupleLifecycle<QuadTuple<A, B, C, D>> tupleLifecycle, QuadPredicate<A, B, C, D> predicate) {
+        return specialize(tupleLifecycle, predicate, 4);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <Tuple_ extends Tuple> TupleLifecycle<Tuple_> specialize(TupleLifecycle<Tuple_> tupleLifecycle,
+            Object predicate, int cardinality) {
+        if (bytecode == null) {
+            return new SpecializedConditionalTupleLifecycle<>(tupleLifecycle, predicate, cardinality);
+        }
+        var constructor = predicateToConstructorMap.computeIfAbsent(predicate, this::defineCopy);
+        try {
+            return (TupleLifecycle<Tuple_>) constructor.invoke(tupleLifecycle, predicate, cardinality);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Impossible state: the specialized tuple lifecycle for predicate (%s) failed."
+                    .formatted(predicate), e);
+        }
+    }
+
+    private MethodHandle defineCopy(Object predicate) {
+        try {
+            var lookup = MethodHandles.lookup().defineHiddenClass(bytecode, true);
+            return lookup.findConstructor(lookup.lookupClass(), CONSTRUCTOR_TYPE);
+        } catch (IllegalAccessException | NoSuchMethodException e) {
+            throw new IllegalStateException("Impossible state: failed defining a specialized tuple lifecycle (%s)."
+                    .formatted(SpecializedConditionalTupleLifecycle.class.getSimpleName()), e);
+        } catch (UnsupportedOperationException | LinkageError e) {
+            LOGGER.trace("Hidden classes are not supported, the filter for predicate ({}) will not be specialized.",
+                    predicate, e);
+            try {
+                return MethodHandles.lookup().findConstructor(SpecializedConditionalTupleLifecycle.class,
+                        CONSTRUCTOR_TYPE);
+            } catch (IllegalAccessException | NoSuchMethodException e2) {
+                throw new IllegalStateException("Impossible state: the constructor of (%s) is not accessible."
+                        .formatted(SpecializedConditionalTupleLifecycle.class.getSimpleName()), e2);
+            }
+        }
+    }
+
+}
@@ -105,6 +105,15 @@ public abstract sealed class AbstractForEachUniNode<A>
         }
     }
 
+    @Override
+    public void ensureCapacity(AbstractRootNode.LifecycleOperation lifecycleOperation, int factCount) {
+        switch (lifecycleOperation) {
+            case INSERT -> propagationQueue.ensureInsertCapacity(factCount);
+            case UPDATE -> propagationQueue.ensureUpdateCapacity(factCount);
+            case RETRACT -> propagationQueue.ensureRetractCapacity(factCount);
+        }
+    }
+
     @Override
     public Propagator getPropagator() {
         return propagationQueue;
@@ -28,6 +28,7 @@ import ai.timefold.solver.core.impl.constructionheuristic.placer.EntityPlacerFac
 import ai.timefold.solver.core.impl.constructionheuristic.placer.PooledEntityPlacerFactory;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.QueuedEntityPlacerFactory;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.QueuedValuePlacerFactory;
+import ai.timefold.solver.core.impl.constructionheuristic.placer.RegretInsertionValuePlacerFactory;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
@@ -60,11 +61,24 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
                 .build();
         var entityPlacerConfig_ = getValidEntityPlacerConfig()
                 .orElseGet(() -> buildDefaultEntityPlacerConfig(phaseConfigPolicy, constructionHeuristicType_));
-        var entityPlacer = EntityPlacerFactory.<Solution_> create(entityPlacerConfig_)
-                .buildEntityPlacer(phaseConfigPolicy);
+        var entityPlacerFactory = constructionHeuristicType_ == ConstructionHeuristicType.REGRET_INSERTION
+                ? buildRegretInsertionEntityPlacerFactory(entityPlacerConfig_)
+                : EntityPlacerFactory.<Solution_> create(entityPlacerConfig_);
+        var entityPlacer = entityPlacerFactory.buildEntityPlacer(phaseConfigPolicy);
         return createBuilder(phaseConfigPolicy, solverTermination, phaseIndex, lastInitializingPhase, entityPlacer);
     }
 
+    private EntityPlacerFactory<Solution_> buildRegretInsertionEntityPlacerFactory(EntityPlacerConfig<?> entityPlacerConfig) {
+        if (entityPlacerConfig instanceof QueuedValuePlacerConfig queuedValuePlacerConfig) {
+            return new RegretInsertionValuePlacerFactory<>(queuedValuePlacerConfig);
+        }
+        throw new IllegalArgumentException("""
+                The constructionHeuristicType (%s) does not support the entityPlacerConfig (%s).
+                Maybe use a %s instead."""
+                .formatted(ConstructionHeuristicType.REGRET_INSERTION, entityPlacerConfig,
+                        QueuedValuePlacerConfig.class.getSimpleName()));
+    }
+
     protected DefaultConstructionHeuristicPhaseBuilder<Solution_> createBuilder(
             HeuristicConfigPolicy<Solution_> phaseConfigPolicy, SolverTermination<Solution_> solverTermination, int phaseIndex,
             boolean lastInitializingPhase, EntityPlacer<Solution_> entityPlacer) {
@@ -191,6 +205,10 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
                 }
                 yield new QueuedValuePlacerConfig();
             }
+            case REGRET_INSERTION -> throw new IllegalArgumentException("""
+                    The constructionHeuristicType (%s) requires a planning list variable.
+                    Maybe use the constructionHeuristicType (%s) instead."""
+                    .formatted(constructionHeuristicType, ConstructionHeuristicType.CHEAPEST_INSERTION));
             case CHEAPEST_INSERTION, ALLOCATE_FROM_POOL -> {
                 if (!ConfigUtils.isEmptyCollection(phaseConfig.getMoveSelectorConfigList())) {
                     yield PooledEntityPlacerFactory.unfoldNew(phaseConfigPolicy, checkSingleMoveSelectorConfig());
@@ -90,6 +90,9 @@ public class ConstructionHeuristicDecider<Solution_> {
         var terminatedPrematurely = false;
         while (moveIterator.hasNext()) {
             var move = moveIterator.next();
+            if (isMoveSkipped(move)) {
+                continue;
+            }
             var allowedNonDoableMove = isAllowedNonDoableMove(move);
             if (!allowedNonDoableMove) {
                 var moveDirector = stepScope.getMoveDirector();
@@ -110,7 +113,7 @@ public class ConstructionHeuristicDecider<Solution_> {
             var moveScope = new ConstructionHeuristicMoveScope<>(stepScope, moveIndex, move);
             moveIndex++;
             doMove(moveScope);
-            if (forager.isQuitEarly()) {
+            if (forager.isQuitEarly() || isStepQuitEarly()) {
                 break;
             }
             stepScope.getPhaseScope().getSolverScope().checkYielding();
@@ -130,6 +133,27 @@ public class ConstructionHeuristicDecider<Solution_> {
         }
     }
 
+    /**
+     * Overridable by a subclass to not even evaluate some of the moves of a step.
+     *
+     * @param move never null
+     * @return true if the move should not be evaluated
+     */
+    protected boolean isMoveSkipped(Move<Solution_> move) {
+        return false;
+    }
+
+    /**
+     * Overridable by a subclass to pick the best of the moves evaluated so far,
+     * instead of evaluating the remaining moves of the step.
+     * Only called after a move was evaluated, so a step never ends up without any evaluated move.
+     *
+     * @return true if no more moves should be evaluated in this step
+     */
+    protected boolean isStepQuitEarly() {
+        return false;
+    }
+
     private static <Solution_> boolean isAllowedNonDoableMove(Move<Solution_> move) {
         return MoveAdapters.testWhenLegacyMove(move, legacyMove -> legacyMove instanceof SelectorBasedNoChangeMove<Solution_>
                 || legacyMove instanceof SelectorBasedChangeMove<Solution_>);
@@ -56,7 +56,12 @@ public class QueuedValuePlacerFactory<Solution_>
                             ValueRangeProvider.class.getSimpleName()));
 
         }
-        return new QueuedValuePlacer<>(this, configPolicy, iterableValueSelector, moveSelector);
+        return buildEntityPlacer(configPolicy, iterableValueSelector, moveSelector);
+    }
+
+    protected QueuedValuePlacer<Solution_> buildEntityPlacer(HeuristicConfigPolicy<Solution_> configPolicy,
+            IterableValueSelector<Solution_> valueSelector, MoveSelector<Solution_> moveSelector) {
+        return new QueuedValuePlacer<>(this, configPolicy, valueSelector, moveSelector);
     }
 
     private ValueSelectorConfig buildValueSelectorConfig(HeuristicConfigPolicy<Solution_> configPolicy,
@@ -0,0 +1,316 @@
+package ai.timefold.solver.core.impl.constructionheuristic.placer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicType;
+import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
+import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.SelectorBasedListAssignMove;
+import ai.timefold.solver.core.impl.heuristic.selector.value.IterableValueSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.value.decorator.FilteringValueSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.value.decorator.IterableFilteringValueSelector;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.preview.api.move.Move;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Implements {@link ConstructionHeuristicType#REGRET_INSERTION} for a list variable.
+ * <p>
+ * For every unassigned value, it caches the best insertion into every entity,
+ * as the score difference that insertion makes.
+ * Every step, it places the value with the largest regret:
+ * the score difference between its best insertion and its best insertion into any other entity.
+ * A value which fits into a single entity has the largest regret of all.
+ * Ties are broken by the best insertion, and then by the order of the value selector.
+ * <p>
+ * After a step, only the insertions into the entity which the step changed are evaluated again,
+ * as selected by the move selector.
+ * The cached insertions into the other entities keep their score difference,
+ * which assumes that the score difference of an insertion only depends on the entity it inserts into.
+ * That holds for most routing constraints, such as travel time and capacity.
+ * The step itself is always evaluated again by the decider.
+ *
+ * @param <Solution_> the solution type, the class with the {@link ai.timefold.solver.core.api.domain.solution.PlanningSolution}
+ *        annotation
+ */
+public class RegretInsertionValuePlacer<Solution_> extends QueuedValuePlacer<Solution_> {
+
+    private @Nullable AbstractPhaseScope<Solution_> phaseScope = null;
+    private @Nullable Map<Object, ValueInsertions<Solution_>> valueInsertionsMap = null;
+    private final Set<Object> changedEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+    private @Nullable Object placedValue = null;
+
+    public RegretInsertionValuePlacer(EntityPlacerFactory<Solution_> factory, HeuristicConfigPolicy<Solution_> configPolicy,
+            IterableValueSelector<Solution_> valueSelector, MoveSelector<Solution_> moveSelector) {
+        super(factory, configPolicy, valueSelector, moveSelector);
+        if (!(valueSelector.getVariableDescriptor() instanceof ListVariableDescriptor<Solution_>)) {
+            throw new IllegalArgumentException("""
+                    The constructionHeuristicType (%s) requires a planning list variable, but the variable (%s) is not one.
+                    Maybe use the constructionHeuristicType (%s) instead."""
+                    .formatted(ConstructionHeuristicType.REGRET_INSERTION, valueSelector.getVariableDescriptor(),
+                            ConstructionHeuristicType.CHEAPEST_INSERTION));
+        }
+    }
+
+    @Override
+    public Iterator<Placement<Solution_>> iterator() {
+        return new RegretInsertionPlacingIterator();
+    }
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        this.phaseScope = phaseScope;
+        valueInsertionsMap = null;
+        changedEntitySet.clear();
+        placedValue = null;
+    }
+
+    @Override
+    public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        if (valueInsertionsMap != null && placedValue != null) {
+            // Even if the step left the value unassigned, it is not offered again.
+            valueInsertionsMap.remove(placedValue);
+        }
+        placedValue = null;
+        if (stepScope instanceof ConstructionHeuristicStepScope<Solution_> constructionHeuristicStepScope) {
+            changedEntitySet.addAll(constructionHeuristicStepScope.getStep().getPlanningEntities());
+        }
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        this.phaseScope = null;
+        valueInsertionsMap = null;
+        changedEntitySet.clear();
+        placedValue = null;
+    }
+
+    private class RegretInsertionPlacingIterator extends UpcomingSelectionIterator<Placement<Solution_>> {
+
+        @Override
+        protected Placement<Solution_> createUpcomingSelection() {
+            if (valueInsertionsMap == null) {
+                valueInsertionsMap = evaluateAllInsertions();
+            } else if (!changedEntitySet.isEmpty()) {
+                evaluateChangedEntityInsertions(valueInsertionsMap);
+            }
+            var pickedValueInsertions = pickValueInsertions(valueInsertionsMap);
+            if (pickedValueInsertions == null) {
+                return noUpcomingSelection();
+            }
+            placedValue = pickedValueInsertions.value;
+            return new Placement<>(pickedValueInsertions.buildMoveList().iterator());
+        }
+
+    }
+
+    private Map<Object, ValueInsertions<Solution_>> evaluateAllInsertions() {
+        var scoreBefore = getPhaseScope().getScoreDirector().calculateScore().raw();
+        var newValueInsertionsMap = new LinkedHashMap<Object, ValueInsertions<Solution_>>();
+        // The move selector replays the value which the value selector recorded last.
+        var valueIterator = valueSelector.iterator();
+        while (valueIterator.hasNext()) {
+            var value = valueIterator.next();
+            var valueInsertions = new ValueInsertions<Solution_>(value);
+            for (var move : moveSelector) {
+                if (move instanceof SelectorBasedListAssignMove<Solution_> assignMove) {
+                    valueInsertions.offer(assignMove.getDestinationEntity(), move, evaluate(move, scoreBefore));
+                } else { // For example, the move which leaves the value unassigned.
+                    valueInsertions.otherMoveList.add(move);
+                }
+            }
+            newValueInsertionsMap.put(value, valueInsertions);
+        }
+        return newValueInsertionsMap;
+    }
+
+    private void evaluateChangedEntityInsertions(Map<Object, ValueInsertions<Solution_>> valueInsertionsMap) {
+        var scoreBefore = getPhaseScope().getScoreDirector().calculateScore().raw();
+        // The insertions come from the move selector, like in evaluateAllInsertions(),
+        // so that its filters, nearby selection and value ranges apply to them too.
+        // Only those into a changed entity are evaluated again.
+        var valueIterator = valueSelector.iterator();
+        while (valueIterator.hasNext()) {
+            var value = valueIterator.next();
+            var valueInsertions = valueInsertionsMap.get(value);
+            if (valueInsertions == null) {
+                continue;
+            }
+            var changedValueInsertions = new ValueInsertions<Solution_>(value);
+            for (var move : moveSelector) {
+                if (move instanceof SelectorBasedListAssignMove<Solution_> assignMove
+                        && changedEntitySet.contains(assignMove.getDestinationEntity())) {
+                    changedValueInsertions.offer(assignMove.getDestinationEntity(), move, evaluate(move, scoreBefore));
+                }
+            }
+            for (var entity : changedEntitySet) {
+                var insertion = changedValueInsertions.entityToInsertionMap.get(entity);
+                if (insertion == null) {
+                    // The move selector no longer offers any insertion into the entity.
+                    valueInsertions.entityToInsertionMap.remove(entity);
+                } else {
+                    valueInsertions.entityToInsertionMap.put(entity, insertion);
+                }
+            }
+        }
+        changedEntitySet.clear();
+    }
+
+    /**
+     * For testing purposes only.
+     *
+     * @return for every value which is not placed yet, the cached best insertion per entity
+     */
+    Map<Object, Map<Object, Insertion<Solution_>>> getCachedInsertions() {
+        return valueInsertionsMap == null ? Collections.emptyMap() : toInsertionMap(valueInsertionsMap);
+    }
+
+    /**
+     * For testing purposes only.
+     *
+     * @return for every value which is not placed yet, the best insertion per entity, evaluated from scratch
+     */
+    Map<Object, Map<Object, Insertion<Solution_>>> evaluateInsertionsFromScratch() {
+        return toInsertionMap(evaluateAllInsertions());
+    }
+
+    private static <Solution_> Map<Object, Map<Object, Insertion<Solution_>>>
+            toInsertionMap(Map<Object, ValueInsertions<Solution_>> valueInsertionsMap) {
+        var insertionMap = new LinkedHashMap<Object, Map<Object, Insertion<Solution_>>>();
+        valueInsertionsMap.forEach((value, valueInsertions) -> insertionMap.put(value,
+                new LinkedHashMap<>(valueInsertions.entityToInsertionMap)));
+        return insertionMap;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Score evaluate(Move<Solution_> move, Score scoreBefore) {
+        var phaseScope_ = getPhaseScope();
+        var score = (Score) phaseScope_.getScoreDirector().executeTemporaryMove(move, false).raw();
+        phaseScope_.addMoveEvaluationCount(move, 1L);
+        return score.subtract(scoreBefore);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static <Solution_> @Nullable ValueInsertions<Solution_>
+            pickValueInsertions(Map<Object, ValueInsertions<Solution_>> valueInsertionsMap) {
+        ValueInsertions<Solution_> pickedValueInsertions = null;
+        Score pickedRegret = null;
+        Score pickedBestScoreDifference = null;
+        for (var valueInsertions : valueInsertionsMap.values()) {
+            Score bestScoreDifference = null;
+            Score secondBestScoreDifference = null;
+            valueInsertions.bestInsertion = null;
+            for (var insertion : valueInsertions.entityToInsertionMap.values()) {
+                var scoreDifference = (Score) insertion.scoreDifference();
+                if (bestScoreDifference == null || scoreDifference.compareTo(bestScoreDifference) > 0) {
+                    secondBestScoreDifference = bestScoreDifference;
+                    bestScoreDifference = scoreDifference;
+                    valueInsertions.bestInsertion = insertion;
+                } else if (secondBestScoreDifference == null || scoreDifference.compareTo(secondBestScoreDifference) > 0) {
+                    secondBestScoreDifference = scoreDifference;
+                }
+            }
+            // Null means an infinite regret.
+            var regret = secondBestScoreDifference == null ? null : bestScoreDifference.subtract(secondBestScoreDifference);
+            if (pickedValueInsertions == null
+                    || isBetter(regret, bestScoreDifference, pickedRegret, pickedBestScoreDifference)) {
+                pickedValueInsertions = valueInsertions;
+                pickedRegret = regret;
+                pickedBestScoreDifference = bestScoreDifference;
+            }
+        }
+        return pickedValueInsertions;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static boolean isBetter(@Nullable Score regret, @Nullable Score bestScoreDifference,
+            @Nullable Score otherRegret, @Nullable Score otherBestScoreDifference) {
+        if (regret == null || otherRegret == null) {
+            if (regret != otherRegret) {
+                return regret == null;
+            }
+        } else {
+            var comparison = regret.compareTo(otherRegret);
+            if (comparison != 0) {
+                return comparison > 0;
+            }
+        }
+        if (bestScoreDifference == null || otherBestScoreDifference == null) {
+            // A value without any insertion is picked first, as its placement does not change any entity.
+            return bestScoreDifference == null && otherBestScoreDifference != null;
+        }
+        return bestScoreDifference.compareTo(otherBestScoreDifference) > 0;
+    }
+
+    private AbstractPhaseScope<Solution_> getPhaseScope() {
+        if (phaseScope == null) {
+            throw new IllegalStateException("Impossible state: the placer (%s) is used outside of a phase."
+                    .formatted(this));
+        }
+        return phaseScope;
+    }
+
+    @Override
+    public EntityPlacer<Solution_> rebuildWithFilter(SelectionFilter<Solution_, Object> filter) {
+        return new RegretInsertionValuePlacer<>(factory, configPolicy,
+                (IterableFilteringValueSelector<Solution_>) FilteringValueSelector.of(valueSelector, filter),
+                moveSelector);
+    }
+
+    private static final class ValueInsertions<Solution_> {
+
+        private final Object value;
+        private final Map<Object, Insertion<Solution_>> entityToInsertionMap = new LinkedHashMap<>();
+        private final List<Move<Solution_>> otherMoveList = new ArrayList<>();
+        private @Nullable Insertion<Solution_> bestInsertion = null;
+
+        private ValueInsertions(Object value) {
+            this.value = value;
+        }
+
+        private void offer(Object entity, Move<Solution_> move, Score<?> scoreDifference) {
+            var insertion = new Insertion<>(move, scoreDifference);
+            var oldInsertion = entityToInsertionMap.get(entity);
+            if (oldInsertion == null || insertion.isBetterThan(oldInsertion)) {
+                entityToInsertionMap.put(entity, insertion);
+            }
+        }
+
+        private List<Move<Solution_>> buildMoveList() {
+            var moveList = new ArrayList<Move<Solution_>>(otherMoveList.size() + 1);
+            if (bestInsertion != null) {
+                moveList.add(bestInsertion.move());
+            }
+            moveList.addAll(otherMoveList);
+            return moveList;
+        }
+
+    }
+
+    record Insertion<Solution_>(Move<Solution_> move, Score<?> scoreDifference) {
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        boolean isBetterThan(Insertion<Solution_> other) {
+            return ((Score) scoreDifference).compareTo(other.scoreDifference) > 0;
+        }
+
+    }
+
+}
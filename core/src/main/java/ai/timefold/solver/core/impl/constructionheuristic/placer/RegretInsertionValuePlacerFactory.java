@@ -0,0 +1,25 @@
+package ai.timefold.solver.core.impl.constructionheuristic.placer;
+
+import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicType;
+import ai.timefold.solver.core.config.constructionheuristic.placer.QueuedValuePlacerConfig;
+import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.value.IterableValueSelector;
+
+/**
+ * Builds a {@link RegretInsertionValuePlacer} for {@link ConstructionHeuristicType#REGRET_INSERTION}
+ * from the same config as a {@link QueuedValuePlacer}.
+ */
+public class RegretInsertionValuePlacerFactory<Solution_> extends QueuedValuePlacerFactory<Solution_> {
+
+    public RegretInsertionValuePlacerFactory(QueuedValuePlacerConfig placerConfig) {
+        super(placerConfig);
+    }
+
+    @Override
+    protected QueuedValuePlacer<Solution_> buildEntityPlacer(HeuristicConfigPolicy<Solution_> configPolicy,
+            IterableValueSelector<Solution_> valueSelector, MoveSelector<Solution_> moveSelector) {
+        return new RegretInsertionValuePlacer<>(this, configPolicy, valueSelector, moveSelector);
+    }
+
+}
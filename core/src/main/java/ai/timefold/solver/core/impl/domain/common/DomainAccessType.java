@@ -28,5 +28,17 @@ public enum DomainAccessType {
      * <p>
      * This is the default when the application is run inside a JVM and not a native image.
      */
-    FORCE_GIZMO
+    FORCE_GIZMO,
+
+    /**
+     * Use a hidden class per member, which holds the {@link java.lang.invoke.MethodHandle}s of that member
+     * in static final fields, so the JIT compiler can inline the access like it does for Gizmo generated bytecode.
+     * Unlike Gizmo, it generates no bytecode.
+     * <p>
+     * When used in a modulepath, the module must be open, like for {@link #FORCE_REFLECTION}.
+     * Not supported in GraalVM native images.
+     * <p>
+     * This is the default when the application is run inside a JVM where Gizmo is not supported.
+     */
+    FORCE_HIDDEN_CLASS
 }
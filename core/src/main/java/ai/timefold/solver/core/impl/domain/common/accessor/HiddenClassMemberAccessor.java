@@ -0,0 +1,219 @@
+package ai.timefold.solver.core.impl.domain.common.accessor;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link MemberAccessor} which accesses the member through a hidden class,
+ * that holds the {@link MethodHandle getter and setter} of the member in static final fields.
+ * Unlike the {@link MethodHandle}s held by the reflection-based accessors,
+ * the JIT compiler treats those as constants and inlines the member access, similar to Gizmo generated bytecode.
+ * <p>
+ * Needs neither Gizmo nor bytecode generation, since every hidden class is defined
+ * from the bytecode of {@link HiddenClassMemberAccessorTemplate}.
+ * Like reflection, it requires the domain to be open to this module when used in a modulepath.
+ * Native images do not support hidden classes; see {@link #isSupported()}.
+ */
+@NullMarked
+public final class HiddenClassMemberAccessor extends AbstractMemberAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * @param reflectiveMemberAccessor never null, provides the metadata and the {@link MethodHandle}s of the member
+     * @return the reflectiveMemberAccessor if its member can not be accessed through a hidden class,
+     *         such as a read method with a parameter
+     */
+    static MemberAccessor of(MemberAccessor reflectiveMemberAccessor) {
+        return switch (reflectiveMemberAccessor) {
+            case ReflectionFieldMemberAccessor fieldMemberAccessor -> new HiddenClassMemberAccessor(fieldMemberAccessor,
+                    fieldMemberAccessor.getFieldHandle().getter(),
+                    fieldMemberAccessor.supportSetter() ? fieldMemberAccessor.getFieldHandle().setter() : null);
+            case ReflectionBeanPropertyMemberAccessor beanPropertyMemberAccessor -> new HiddenClassMemberAccessor(
+                    beanPropertyMemberAccessor, beanPropertyMemberAccessor.getGetterMethodHandle(),
+                    beanPropertyMemberAccessor.getSetterMethodHandle());
+            case ReflectionMethodExtendedMemberAccessor methodExtendedMemberAccessor -> methodExtendedMemberAccessor;
+            case ReflectionMethodMemberAccessor methodMemberAccessor -> new HiddenClassMemberAccessor(methodMemberAccessor,
+                    methodMemberAccessor.getMethodHandle(), null);
+            default -> throw new IllegalStateException("Impossible state: the memberAccessor (%s) is not reflection-based."
+                    .formatted(reflectiveMemberAccessor));
+        };
+    }
+
+    /**
+     * @return true if hidden classes can be defined, which is not the case in a native image
+     */
+    public static boolean isSupported() {
+        return SupportHolder.SUPPORTED;
+    }
+
+    private static Invoker defineInvoker(MethodHandle getter, MethodHandle setter) {
+        try {
+            var hiddenClassLookup = MethodHandles.lookup()
+                    .defineHiddenClassWithClassData(TemplateHolder.BYTECODE, List.of(getter, setter), true);
+            return (Invoker) hiddenClassLookup
+                    .findConstructor(hiddenClassLookup.lookupClass(), MethodType.methodType(void.class))
+                    .invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Impossible state: the hidden class for the getter (%s) can not be defined."
+                    .formatted(getter), e);
+        }
+    }
+
+    private final MemberAccessor delegate;
+    private final Invoker invoker;
+    private final boolean supportSetter;
+
+    private HiddenClassMemberAccessor(MemberAccessor delegate, MethodHandle getter, @Nullable MethodHandle setter) {
+        this.delegate = delegate;
+        this.supportSetter = setter != null;
+        var adaptedSetter = setter == null ? MethodHandles.empty(SETTER_TYPE) : setter.asType(SETTER_TYPE);
+        this.invoker = defineInvoker(getter.asType(GETTER_TYPE), adaptedSetter);
+    }
+
+    @Override
+    public Class<?> getDeclaringClass() {
+        return delegate.getDeclaringClass();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Class<?> getType() {
+        return delegate.getType();
+    }
+
+    @Override
+    public Type getGenericType() {
+        return delegate.getGenericType();
+    }
+
+    @Override
+    public Object executeGetter(@Nullable Object bean) {
+        if (bean == null) {
+            throw new IllegalArgumentException("Requested member (%s) on a null bean."
+                    .formatted(delegate));
+        }
+        try {
+            return invoker.get(bean);
+        } catch (Throwable e) {
+            throw new IllegalStateException("The member (%s) on bean of class (%s) throws an exception."
+                    .formatted(delegate, bean.getClass()), e);
+        }
+    }
+
+    @Override
+    public boolean supportSetter() {
+        return supportSetter;
+    }
+
+    @Override
+    public void executeSetter(@Nullable Object bean, @Nullable Object value) {
+        if (bean == null) {
+            throw new IllegalArgumentException("Requested member (%s) setter on a null bean."
+                    .formatted(delegate));
+        }
+        if (!supportSetter) {
+            throw new UnsupportedOperationException("The member (%s) has no setter."
+                    .formatted(delegate));
+        }
+        try {
+            invoker.set(bean, value);
+        } catch (Throwable e) {
+            throw new IllegalStateException("The member (%s) setter on bean of class (%s) throws an exception."
+                    .formatted(delegate, bean.getClass()), e);
+        }
+    }
+
+    @Override
+    public String getSpeedNote() {
+        return "hidden class";
+    }
+
+    @Override
+    public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
+        return delegate.getAnnotation(annotationClass);
+    }
+
+    @Override
+    public <T extends Annotation> T[] getDeclaredAnnotationsByType(Class<T> annotationClass) {
+        return delegate.getDeclaredAnnotationsByType(annotationClass);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        return object instanceof HiddenClassMemberAccessor that && delegate.equals(that.delegate);
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+    /**
+     * Implemented by {@link HiddenClassMemberAccessorTemplate}.
+     */
+    interface Invoker {
+
+        Object get(Object bean) throws Throwable;
+
+        void set(Object bean, @Nullable Object value) throws Throwable;
+
+    }
+
+    private static final class TemplateHolder {
+
+        private static final byte[] BYTECODE = readBytecode();
+
+        private static byte[] readBytecode() {
+            var resourceName = HiddenClassMemberAccessorTemplate.class.getSimpleName() + ".class";
+            try (var inputStream = HiddenClassMemberAccessorTemplate.class.getResourceAsStream(resourceName)) {
+                if (inputStream == null) {
+                    throw new IllegalStateException("Impossible state: the resource (%s) does not exist."
+                            .formatted(resourceName));
+                }
+                return inputStream.readAllBytes();
+            } catch (IOException e) {
+                throw new IllegalStateException("Impossible state: the resource (%s) can not be read."
+                        .formatted(resourceName), e);
+            }
+        }
+
+    }
+
+    private static final class SupportHolder {
+
+        private static final boolean SUPPORTED = isHiddenClassSupported();
+
+        private static boolean isHiddenClassSupported() {
+            try {
+                var identity = MethodHandles.identity(Object.class);
+                var canary = new Object();
+                return defineInvoker(identity, MethodHandles.empty(SETTER_TYPE)).get(canary) == canary;
+            } catch (Throwable e) {
+                // Note: GraalVM throws a com.oracle.svm.core.jdk.UnsupportedFeatureError on defineHiddenClass,
+                //       and the bytecode of the template might not be available as a resource either.
+                return false;
+            }
+        }
+
+    }
+
+}
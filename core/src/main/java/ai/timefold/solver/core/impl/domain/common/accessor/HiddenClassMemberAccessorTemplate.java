@@ -0,0 +1,37 @@
+package ai.timefold.solver.core.impl.domain.common.accessor;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * Never loaded by itself; its bytecode is the template of every hidden class defined by {@link HiddenClassMemberAccessor}.
+ * Each of those hidden classes receives its own getter and setter {@link MethodHandle} as class data.
+ * Because they are held in static final fields, the JIT compiler can inline the member access.
+ */
+final class HiddenClassMemberAccessorTemplate implements HiddenClassMemberAccessor.Invoker {
+
+    private static final MethodHandle GETTER;
+    private static final MethodHandle SETTER;
+
+    static {
+        try {
+            var lookup = MethodHandles.lookup();
+            GETTER = MethodHandles.classDataAt(lookup, ConstantDescs.DEFAULT_NAME, MethodHandle.class, 0);
+            SETTER = MethodHandles.classDataAt(lookup, ConstantDescs.DEFAULT_NAME, MethodHandle.class, 1);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Override
+    public Object get(Object bean) throws Throwable {
+        return GETTER.invokeExact(bean);
+    }
+
+    @Override
+    public void set(Object bean, Object value) throws Throwable {
+        SETTER.invokeExact(bean, value);
+    }
+
+}
@@ -66,6 +66,8 @@ public final class MemberAccessorFactory {
                     AccessorInfo.of(memberAccessorType),
                     (GizmoClassLoader) Objects.requireNonNull(classLoader));
             case FORCE_REFLECTION -> buildReflectiveMemberAccessor(member, memberAccessorType, annotationClass);
+            case FORCE_HIDDEN_CLASS -> HiddenClassMemberAccessor
+                    .of(buildReflectiveMemberAccessor(member, memberAccessorType, annotationClass));
         };
     }
 
@@ -164,7 +166,7 @@ public final class MemberAccessorFactory {
 
     private final Map<String, MemberAccessor> memberAccessorCache;
     private final GizmoClassLoader gizmoClassLoader = new GizmoClassLoader();
-    private final boolean isGizmoSupported;
+    private final DomainAccessType autoDomainAccessType;
 
     public MemberAccessorFactory() {
         this(null);
@@ -182,10 +184,14 @@ public final class MemberAccessorFactory {
         this.memberAccessorCache =
                 memberAccessorMap == null ? new ConcurrentHashMap<>() : new ConcurrentHashMap<>(memberAccessorMap);
         // If the memberAccessorMap is not empty, we are in Quarkus using pregenerated member accessors
-        this.isGizmoSupported =
-                (memberAccessorMap != null && !memberAccessorMap.isEmpty()) || gizmoClassLoader.isGizmoSupported();
-        LOGGER.trace("Using domain access type {} for member accessors.",
-                isGizmoSupported ? DomainAccessType.FORCE_GIZMO : DomainAccessType.FORCE_REFLECTION);
+        if ((memberAccessorMap != null && !memberAccessorMap.isEmpty()) || gizmoClassLoader.isGizmoSupported()) {
+            this.autoDomainAccessType = DomainAccessType.FORCE_GIZMO;
+        } else if (HiddenClassMemberAccessor.isSupported()) {
+            this.autoDomainAccessType = DomainAccessType.FORCE_HIDDEN_CLASS;
+        } else {
+            this.autoDomainAccessType = DomainAccessType.FORCE_REFLECTION;
+        }
+        LOGGER.trace("Using domain access type {} for member accessors.", autoDomainAccessType);
     }
 
     /**
@@ -201,7 +207,7 @@ public final class MemberAccessorFactory {
             @Nullable Class<? extends Annotation> annotationClass, DomainAccessType domainAccessType) {
         String generatedClassName = GizmoMemberAccessorFactory.getGeneratedClassName(member);
         if (domainAccessType == DomainAccessType.AUTO) {
-            domainAccessType = isGizmoSupported ? DomainAccessType.FORCE_GIZMO : DomainAccessType.FORCE_REFLECTION;
+            domainAccessType = autoDomainAccessType;
         }
 
         var finalDomainAccessType = domainAccessType;
@@ -223,7 +229,7 @@ public final class MemberAccessorFactory {
             DomainAccessType domainAccessType) {
         String generatedClassName = GizmoMemberAccessorFactory.getGeneratedClassName(member);
         if (domainAccessType == DomainAccessType.AUTO) {
-            domainAccessType = isGizmoSupported ? DomainAccessType.FORCE_GIZMO : DomainAccessType.FORCE_REFLECTION;
+            domainAccessType = autoDomainAccessType;
         }
 
         var finalDomainAccessType = domainAccessType;
@@ -82,6 +82,17 @@ public final class ReflectionBeanPropertyMemberAccessor extends AbstractMemberAc
         return getterMethod.getGenericReturnType();
     }
 
+    MethodHandle getGetterMethodHandle() {
+        return getherMethodHandle;
+    }
+
+    /**
+     * @return null if the property has no setter
+     */
+    MethodHandle getSetterMethodHandle() {
+        return setterMethodHandle;
+    }
+
     @Override
     public Object executeGetter(Object bean) {
         if (bean == null) {
@@ -35,6 +35,10 @@ public final class ReflectionFieldMemberAccessor extends AbstractMemberAccessor
         return fieldHandle.field().getGenericType();
     }
 
+    FieldHandle getFieldHandle() {
+        return fieldHandle;
+    }
+
     @Override
     public Object executeGetter(Object bean) {
         var field = fieldHandle.field();
@@ -606,7 +606,7 @@ public final class SolutionDescriptor<Solution_> {
             solutionCloner = switch (descriptorPolicy.getDomainAccessType()) {
                 case FORCE_GIZMO -> GizmoSolutionClonerFactory.build(this, memberAccessorFactory.getGizmoClassLoader());
                 // AUTO means we are probably in plain Java, so we need to use reflection so we can clone final fields
-                case AUTO, FORCE_REFLECTION -> new FieldAccessingSolutionCloner<>(this);
+                case AUTO, FORCE_REFLECTION, FORCE_HIDDEN_CLASS -> new FieldAccessingSolutionCloner<>(this);
             };
         }
     }
@@ -1,7 +1,5 @@
 package ai.timefold.solver.core.impl.domain.variable;
 
-import java.util.Objects;
-
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 
 final class ExternalizedIndexVariableProcessor<Solution_> {
@@ -12,31 +10,36 @@ final class ExternalizedIndexVariableProcessor<Solution_> {
         this.shadowVariableDescriptor = shadowVariableDescriptor;
     }
 
-    public boolean addElement(InnerScoreDirector<Solution_, ?> scoreDirector, Object element, Integer index) {
-        return updateIndex(scoreDirector, element, index);
+    public boolean addElement(InnerScoreDirector<Solution_, ?> scoreDirector, Object element, int index) {
+        return changeElement(scoreDirector, element, index);
     }
 
     public boolean removeElement(InnerScoreDirector<Solution_, ?> scoreDirector, Object element) {
-        return updateIndex(scoreDirector, element, null);
+        if (getIndex(element) == null) {
+            return false;
+        }
+        setIndex(scoreDirector, element, null);
+        return true;
     }
 
     public boolean unassignElement(InnerScoreDirector<Solution_, ?> scoreDirector, Object element) {
         return removeElement(scoreDirector, element);
     }
 
-    public boolean changeElement(InnerScoreDirector<Solution_, ?> scoreDirector, Object element, Integer index) {
-        return updateIndex(scoreDirector, element, index);
-    }
-
-    private boolean updateIndex(InnerScoreDirector<Solution_, ?> scoreDirector, Object element, Integer index) {
+    public boolean changeElement(InnerScoreDirector<Solution_, ?> scoreDirector, Object element, int index) {
         var oldIndex = getIndex(element);
-        if (!Objects.equals(oldIndex, index)) {
-            scoreDirector.beforeVariableChanged(shadowVariableDescriptor, element);
-            shadowVariableDescriptor.setValue(element, index);
-            scoreDirector.afterVariableChanged(shadowVariableDescriptor, element);
-            return true;
+        // Compare unboxed, so that an unchanged index does not box the new one.
+        if (oldIndex != null && oldIndex == index) {
+            return false;
         }
-        return false;
+        setIndex(scoreDirector, element, index);
+        return true;
+    }
+
+    private void setIndex(InnerScoreDirector<Solution_, ?> scoreDirector, Object element, Integer index) {
+        scoreDirector.beforeVariableChanged(shadowVariableDescriptor, element);
+        shadowVariableDescriptor.setValue(element, index);
+        scoreDirector.afterVariableChanged(shadowVariableDescriptor, element);
     }
 
     public Integer getIndex(Object planningValue) {
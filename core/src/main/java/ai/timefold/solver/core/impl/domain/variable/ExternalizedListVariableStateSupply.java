@@ -100,10 +100,15 @@ final class ExternalizedListVariableStateSupply<Solution_>
         // Include the first element of the next part of the list, if any, for the previous element shadow var.
         // But only if the previous element shadow var is externalized; otherwise, there is nothing to update.
         var lastChangeIndex = previousExternalized ? Math.min(toIndex + 1, elementCount) : toIndex;
-        for (var index = firstChangeIndex; index < elementCount; index++) {
-            var positionsDiffer = listVariableState.changeElement(entity, assignedElements, index);
-            if (!positionsDiffer && index >= lastChangeIndex) {
-                // Position is unchanged and we are past the part of the list that changed.
+        for (var index = firstChangeIndex; index < lastChangeIndex; index++) {
+            listVariableState.changeElement(entity, assignedElements, index);
+        }
+        // Past the part of the list that changed, the elements and their neighbors only shifted together,
+        // so only their index can differ.
+        for (var index = lastChangeIndex; index < elementCount; index++) {
+            var positionsDiffer = listVariableState.shiftElement(entity, assignedElements.get(index), index);
+            if (!positionsDiffer) {
+                // Position is unchanged, so neither are the positions of the elements after it.
                 // We can terminate the loop prematurely.
                 return;
             }
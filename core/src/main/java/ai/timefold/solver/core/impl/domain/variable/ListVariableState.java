@@ -1,8 +1,7 @@
 package ai.timefold.solver.core.impl.domain.variable;
 
-import java.util.IdentityHashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Consumer;
 
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
@@ -11,6 +10,7 @@ import ai.timefold.solver.core.impl.domain.variable.nextprev.NextElementShadowVa
 import ai.timefold.solver.core.impl.domain.variable.nextprev.PreviousElementShadowVariableDescriptor;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.util.CollectionUtils;
+import ai.timefold.solver.core.impl.util.ObjectIntMap;
 import ai.timefold.solver.core.preview.api.domain.metamodel.ElementPosition;
 import ai.timefold.solver.core.preview.api.domain.metamodel.PositionInList;
 
@@ -27,7 +27,26 @@ final class ListVariableState<Solution_> {
     private boolean requiresPositionMap = true;
     private InnerScoreDirector<Solution_, ?> scoreDirector;
     private int unassignedCount = 0;
-    private Map<Object, MutablePosition> elementPositionMap;
+    /**
+     * Gives every assigned element a dense ordinal, which indexes the position arrays below.
+     * Only changes when an element is assigned or unassigned,
+     * so that list changes only write to the arrays instead of allocating a position object per element.
+     * The ordinal of an unassigned element is freed, to be reused by the next element that is assigned.
+     */
+    private ObjectIntMap elementOrdinalMap;
+    private int[] freeOrdinals;
+    private int freeOrdinalCount = 0;
+    private int nextOrdinal = 0;
+    /**
+     * Null if the ordinal is free.
+     */
+    private Object[] ordinalEntities;
+    private int[] ordinalIndexes;
+    /**
+     * Avoids creating a new {@link PositionInList} object every time a position is requested.
+     * Null until it is requested, and reset to null every time the element's entity or index changes.
+     */
+    private PositionInList[] ordinalPositions;
 
     public ListVariableState(ListVariableDescriptor<Solution_> sourceVariableDescriptor,
             Consumer<Object> notifier) {
@@ -60,13 +79,26 @@ final class ListVariableState<Solution_> {
         this.requiresPositionMap = externalizedIndexProcessor == null || externalizedInverseProcessor == null
                 || externalizedPreviousElementProcessor == null || externalizedNextElementProcessor == null;
         if (requiresPositionMap) {
-            if (elementPositionMap == null) {
-                elementPositionMap = new IdentityHashMap<>(unassignedCount);
-            } else {
-                elementPositionMap.clear();
+            if (elementOrdinalMap == null || ordinalEntities.length < unassignedCount) {
+                var capacity = Math.max(unassignedCount, 16);
+                elementOrdinalMap = new ObjectIntMap(true, capacity);
+                freeOrdinals = new int[capacity];
+                ordinalEntities = new Object[capacity];
+                ordinalIndexes = new int[capacity];
+                ordinalPositions = new PositionInList[capacity];
+            } else { // Reuse the arrays of the previous working solution.
+                elementOrdinalMap.clear();
+                Arrays.fill(ordinalEntities, 0, nextOrdinal, null);
+                Arrays.fill(ordinalPositions, 0, nextOrdinal, null);
             }
+            freeOrdinalCount = 0;
+            nextOrdinal = 0;
         } else {
-            elementPositionMap = null;
+            elementOrdinalMap = null;
+            freeOrdinals = null;
+            ordinalEntities = null;
+            ordinalIndexes = null;
+            ordinalPositions = null;
         }
 
         // If the elements have any shadows, set them to null if no entity has their values
@@ -118,12 +150,15 @@ final class ListVariableState<Solution_> {
 
     public void addElement(Object entity, List<Object> elements, Object element, int index) {
         if (requiresPositionMap) {
-            var oldPosition = elementPositionMap.put(element, new MutablePosition(entity, index));
-            if (oldPosition != null) {
+            var ordinal = getOrCreateOrdinal(element);
+            var oldEntity = ordinalEntities[ordinal];
+            if (oldEntity != null) {
                 throw new IllegalStateException(
                         "The supply for list variable (%s) is corrupted, because the element (%s) at index (%d) already exists (%s)."
-                                .formatted(sourceVariableDescriptor, element, index, oldPosition));
+                                .formatted(sourceVariableDescriptor, element, index,
+                                        oldEntity + "[" + ordinalIndexes[ordinal] + "]"));
             }
+            setPosition(ordinal, entity, index);
         }
         var elementUpdateSent = false;
         if (externalizedIndexProcessor != null) {
@@ -149,12 +184,15 @@ final class ListVariableState<Solution_> {
 
     public void unassignElement(Object element) {
         if (requiresPositionMap) {
-            var oldPosition = elementPositionMap.remove(element);
-            if (oldPosition == null) {
+            var ordinal = elementOrdinalMap.remove(element);
+            if (ordinal == ObjectIntMap.ABSENT) {
                 throw new IllegalStateException(
                         "The supply for list variable (%s) is corrupted, because the element (%s) did not exist before unassigning."
                                 .formatted(sourceVariableDescriptor, element));
             }
+            ordinalEntities[ordinal] = null;
+            ordinalPositions[ordinal] = null;
+            freeOrdinals[freeOrdinalCount++] = ordinal;
         }
         var elementUpdateSent = false;
         if (externalizedIndexProcessor != null) {
@@ -203,22 +241,42 @@ final class ListVariableState<Solution_> {
         return difference.anythingChanged;
     }
 
+    /**
+     * Like {@link #changeElement(Object, List, int)},
+     * but for an element after the changed part of its list.
+     * Such an element kept its entity and both of its neighbors, it only moved along with them,
+     * so its previous and next element shadow variables do not need to be read, let alone updated.
+     *
+     * @return true if the position of the element changed
+     */
+    public boolean shiftElement(Object entity, Object element, int index) {
+        var difference = processElementPosition(entity, element, index);
+        var elementUpdateSent = false;
+        if (difference.indexChanged && externalizedIndexProcessor != null) {
+            elementUpdateSent = externalizedIndexProcessor.changeElement(scoreDirector, element, index);
+        }
+        if (difference.entityChanged && externalizedInverseProcessor != null) {
+            elementUpdateSent = externalizedInverseProcessor.changeElement(scoreDirector, entity, element) || elementUpdateSent;
+        }
+        // Trigger notifier if none of the previous methods triggered a shadow var update for this element.
+        if (!elementUpdateSent) {
+            notifier.accept(element);
+        }
+        return difference.anythingChanged;
+    }
+
     private ChangeType processElementPosition(Object entity, Object element, int index) {
         if (requiresPositionMap) { // Update the position and figure out if it is different from previous.
-            var oldPosition = elementPositionMap.get(element);
-            if (oldPosition == null) {
-                elementPositionMap.put(element, new MutablePosition(entity, index));
+            var ordinal = getOrCreateOrdinal(element);
+            var oldEntity = ordinalEntities[ordinal];
+            if (oldEntity == null) {
+                setPosition(ordinal, entity, index);
                 unassignedCount--;
                 return ChangeType.BOTH;
             }
-            var changeType = comparePositions(entity, oldPosition.getEntity(), index, oldPosition.getIndex());
-            if (changeType.anythingChanged) { // Replace the map value in-place, to avoid a put() on the hot path.
-                if (changeType.entityChanged) {
-                    oldPosition.setEntity(entity);
-                }
-                if (changeType.indexChanged) {
-                    oldPosition.setIndex(index);
-                }
+            var changeType = comparePositions(entity, oldEntity, index, ordinalIndexes[ordinal]);
+            if (changeType.anythingChanged) { // Write to the arrays in-place, to avoid a put() on the hot path.
+                setPosition(ordinal, entity, index);
             }
             return changeType;
         } else { // Read the position and figure out if it is different from previous.
@@ -235,6 +293,42 @@ final class ListVariableState<Solution_> {
         }
     }
 
+    /**
+     * @return {@link ObjectIntMap#ABSENT} if the element is unassigned
+     */
+    private int getOrdinal(Object element) {
+        return elementOrdinalMap.get(element);
+    }
+
+    private int getOrCreateOrdinal(Object element) {
+        var ordinal = elementOrdinalMap.get(element);
+        if (ordinal != ObjectIntMap.ABSENT) {
+            return ordinal;
+        }
+        int newOrdinal;
+        if (freeOrdinalCount > 0) {
+            newOrdinal = freeOrdinals[--freeOrdinalCount];
+        } else {
+            newOrdinal = nextOrdinal++;
+            // Elements not counted in the value range, such as those added by a problem change, grow the arrays.
+            if (newOrdinal == ordinalEntities.length) {
+                var newCapacity = newOrdinal + (newOrdinal >> 1);
+                freeOrdinals = Arrays.copyOf(freeOrdinals, newCapacity);
+                ordinalEntities = Arrays.copyOf(ordinalEntities, newCapacity);
+                ordinalIndexes = Arrays.copyOf(ordinalIndexes, newCapacity);
+                ordinalPositions = Arrays.copyOf(ordinalPositions, newCapacity);
+            }
+        }
+        elementOrdinalMap.put(element, newOrdinal);
+        return newOrdinal;
+    }
+
+    private void setPosition(int ordinal, Object entity, int index) {
+        ordinalEntities[ordinal] = entity;
+        ordinalIndexes[ordinal] = index;
+        ordinalPositions[ordinal] = null;
+    }
+
     private static ChangeType comparePositions(Object entity, Object otherEntity, int index, int otherIndex) {
         if (entity != otherEntity) {
             return ChangeType.BOTH; // Entity changed, so index changed too.
@@ -247,11 +341,16 @@ final class ListVariableState<Solution_> {
 
     public ElementPosition getElementPosition(Object planningValue) {
         if (requiresPositionMap) {
-            var mutablePosition = elementPositionMap.get(planningValue);
-            if (mutablePosition == null) {
+            var ordinal = getOrdinal(planningValue);
+            if (ordinal < 0) {
                 return ElementPosition.unassigned();
             }
-            return mutablePosition.getPosition();
+            var position = ordinalPositions[ordinal];
+            if (position == null) {
+                position = ElementPosition.of(ordinalEntities[ordinal], ordinalIndexes[ordinal]);
+                ordinalPositions[ordinal] = position;
+            }
+            return position;
         } else { // At this point, both inverse and index are externalized.
             var inverse = externalizedInverseProcessor.getInverseSingleton(planningValue);
             if (inverse == null) {
@@ -263,11 +362,8 @@ final class ListVariableState<Solution_> {
 
     public int getIndex(Object planningValue) {
         if (externalizedIndexProcessor == null) {
-            var position = elementPositionMap.get(planningValue);
-            if (position == null) {
-                return -1;
-            }
-            return position.getIndex();
+            var ordinal = getOrdinal(planningValue);
+            return ordinal < 0 ? -1 : ordinalIndexes[ordinal];
         }
         var indexOrNull = externalizedIndexProcessor.getIndex(planningValue);
         return indexOrNull == null ? -1 : indexOrNull;
@@ -275,26 +371,23 @@ final class ListVariableState<Solution_> {
 
     public Object getInverseSingleton(Object planningValue) {
         if (externalizedInverseProcessor == null) {
-            var position = elementPositionMap.get(planningValue);
-            if (position == null) {
-                return null;
-            }
-            return position.getEntity();
+            var ordinal = getOrdinal(planningValue);
+            return ordinal < 0 ? null : ordinalEntities[ordinal];
         }
         return externalizedInverseProcessor.getInverseSingleton(planningValue);
     }
 
     public Object getPreviousElement(Object element) {
         if (externalizedPreviousElementProcessor == null) {
-            var mutablePosition = elementPositionMap.get(element);
-            if (mutablePosition == null) {
+            var ordinal = getOrdinal(element);
+            if (ordinal < 0) {
                 return null;
             }
-            var index = mutablePosition.getIndex();
+            var index = ordinalIndexes[ordinal];
             if (index == 0) {
                 return null;
             }
-            return sourceVariableDescriptor.getValue(mutablePosition.getEntity())
+            return sourceVariableDescriptor.getValue(ordinalEntities[ordinal])
                     .get(index - 1);
         }
         return externalizedPreviousElementProcessor.getElement(element);
@@ -302,12 +395,12 @@ final class ListVariableState<Solution_> {
 
     public Object getNextElement(Object element) {
         if (externalizedNextElementProcessor == null) {
-            var mutablePosition = elementPositionMap.get(element);
-            if (mutablePosition == null) {
+            var ordinal = getOrdinal(element);
+            if (ordinal < 0) {
                 return null;
             }
-            var list = sourceVariableDescriptor.getValue(mutablePosition.getEntity());
-            var index = mutablePosition.getIndex();
+            var list = sourceVariableDescriptor.getValue(ordinalEntities[ordinal]);
+            var index = ordinalIndexes[ordinal];
             if (index == list.size() - 1) {
                 return null;
             }
@@ -338,53 +431,4 @@ final class ListVariableState<Solution_> {
 
     }
 
-    /**
-     * This class is used to avoid creating a new {@link PositionInList} object every time we need to return a position.
-     * The actual value is held in a map and can be updated without doing a put() operation, which is more efficient.
-     * The {@link PositionInList} object is only created when it is actually requested,
-     * and stored until the next time the mutable state is updated and therefore the cache invalidated.
-     */
-    private static final class MutablePosition {
-
-        private Object entity;
-        private int index;
-        private PositionInList position;
-
-        public MutablePosition(Object entity, int index) {
-            this.entity = entity;
-            this.index = index;
-        }
-
-        public Object getEntity() {
-            return entity;
-        }
-
-        public void setEntity(Object entity) {
-            this.entity = entity;
-            this.position = null;
-        }
-
-        public int getIndex() {
-            return index;
-        }
-
-        public void setIndex(int index) {
-            this.index = index;
-            this.position = null;
-        }
-
-        public PositionInList getPosition() {
-            if (position == null) {
-                position = ElementPosition.of(entity, index);
-            }
-            return position;
-        }
-
-        @Override
-        public String toString() { // Mimics PositionInList's toString().
-            return entity + "[" + index + "]";
-        }
-
-    }
-
 }
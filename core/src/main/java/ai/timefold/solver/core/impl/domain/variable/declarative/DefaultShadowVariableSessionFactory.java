@@ -85,7 +85,7 @@ public class DefaultShadowVariableSessionFactory<Solution_> {
                 ChangedVariableNotifier<Solution_> changedVariableNotifier,
                 Object... entities) {
             this(new ConsistencyTracker<>(), solutionDescriptor, new VariableReferenceGraphBuilder<>(changedVariableNotifier),
-                    entities, DefaultTopologicalOrderGraph::new);
+                    entities, IncrementalTopologicalOrderGraph::new);
         }
 
         public GraphDescriptor<Solution_> withGraphCreator(IntFunction<TopologicalOrderGraph> graphCreator) {
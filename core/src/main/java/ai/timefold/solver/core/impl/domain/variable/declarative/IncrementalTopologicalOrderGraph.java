@@ -0,0 +1,469 @@
+package ai.timefold.solver.core.impl.domain.variable.declarative;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * A {@link TopologicalOrderGraph} which maintains its topological order incrementally,
+ * instead of recomputing it from scratch on every {@link #commitChanges(BitSet) commit}.
+ * <p>
+ * As long as the graph has no loops, an added edge which contradicts the current order
+ * only reorders the nodes between the orders of its endpoints,
+ * as described by Pearce and Kelly in "A dynamic topological sort algorithm for directed acyclic graphs".
+ * Removing an edge never invalidates the order of a graph without loops.
+ * Only when an added edge closes a loop, or when the graph already has loops,
+ * the strongly connected components and the order are recomputed for the entire graph using Tarjan's algorithm.
+ * <p>
+ * Edges are stored in primitive adjacency arrays.
+ * Edge additions and removals are queued and only applied to the graph on {@link #commitChanges(BitSet)};
+ * until then, {@link #nodeForwardEdges(int)} and {@link #forEachEdge(EdgeConsumer)} reflect the last commit.
+ * <p>
+ * This class is not thread-safe.
+ */
+@NullMarked
+public final class IncrementalTopologicalOrderGraph implements TopologicalOrderGraph {
+
+    private static final int[] EMPTY_EDGES = new int[0];
+
+    private final int size;
+    private final int[][] forwardEdges;
+    private final int[] forwardEdgeCounts;
+    private final int[][] backEdges;
+    private final int[] backEdgeCounts;
+
+    /**
+     * Unique per node, so the orders of a region can be handed out again when it is reordered.
+     */
+    private final int[] nodeIdToTopologicalOrderMap;
+    private final boolean[] isNodeInLoopedComponent;
+    /**
+     * Only accurate for nodes in a looped component.
+     */
+    private final int[] nodeIdToComponentMap;
+    private int loopedNodeCount = 0;
+
+    private int[] pendingFromNodes = new int[16];
+    private int[] pendingToNodes = new int[16];
+    private boolean[] pendingAdditions = new boolean[16];
+    private int pendingCount = 0;
+
+    // Work arrays, reused by every commit.
+    private final int[] visitedMarks;
+    private int visitedMark = 0;
+    private final int[] nodeStack;
+    private final int[] edgeIndexStack;
+    private final int[] forwardRegionNodes;
+    private final int[] backwardRegionNodes;
+    private final long[] sortKeys;
+    private final int[] regionOrders;
+    private final int[] tarjanIndexes;
+    private final int[] tarjanLowLinks;
+    private final boolean[] isOnTarjanStack;
+    private final int[] tarjanStack;
+    private final int[] componentNodes;
+    private final int[] componentEnds;
+
+    public IncrementalTopologicalOrderGraph(int size) {
+        this.size = size;
+        this.forwardEdges = new int[size][];
+        this.forwardEdgeCounts = new int[size];
+        this.backEdges = new int[size][];
+        this.backEdgeCounts = new int[size];
+        this.nodeIdToTopologicalOrderMap = new int[size];
+        this.isNodeInLoopedComponent = new boolean[size];
+        this.nodeIdToComponentMap = new int[size];
+        for (var node = 0; node < size; node++) {
+            forwardEdges[node] = EMPTY_EDGES;
+            backEdges[node] = EMPTY_EDGES;
+            nodeIdToTopologicalOrderMap[node] = node;
+            nodeIdToComponentMap[node] = node;
+        }
+        this.visitedMarks = new int[size];
+        this.nodeStack = new int[size];
+        this.edgeIndexStack = new int[size];
+        this.forwardRegionNodes = new int[size];
+        this.backwardRegionNodes = new int[size];
+        this.sortKeys = new long[size];
+        this.regionOrders = new int[size];
+        this.tarjanIndexes = new int[size];
+        this.tarjanLowLinks = new int[size];
+        this.isOnTarjanStack = new boolean[size];
+        this.tarjanStack = new int[size];
+        this.componentNodes = new int[size];
+        this.componentEnds = new int[size];
+    }
+
+    int size() {
+        return size;
+    }
+
+    List<Integer> getComponent(int node) {
+        if (!isNodeInLoopedComponent[node]) {
+            return List.of(node);
+        }
+        var component = nodeIdToComponentMap[node];
+        var out = new ArrayList<Integer>();
+        for (var other = 0; other < size; other++) {
+            if (isNodeInLoopedComponent[other] && nodeIdToComponentMap[other] == component) {
+                out.add(other);
+            }
+        }
+        return out;
+    }
+
+    @Override
+    public void addEdge(int fromNode, int toNode) {
+        queue(fromNode, toNode, true);
+    }
+
+    @Override
+    public void removeEdge(int fromNode, int toNode) {
+        queue(fromNode, toNode, false);
+    }
+
+    private void queue(int fromNode, int toNode, boolean addition) {
+        if (pendingCount == pendingFromNodes.length) {
+            var newCapacity = pendingCount * 2;
+            pendingFromNodes = Arrays.copyOf(pendingFromNodes, newCapacity);
+            pendingToNodes = Arrays.copyOf(pendingToNodes, newCapacity);
+            pendingAdditions = Arrays.copyOf(pendingAdditions, newCapacity);
+        }
+        pendingFromNodes[pendingCount] = fromNode;
+        pendingToNodes[pendingCount] = toNode;
+        pendingAdditions[pendingCount] = addition;
+        pendingCount++;
+    }
+
+    @Override
+    public void forEachEdge(EdgeConsumer edgeConsumer) {
+        for (var fromNode = 0; fromNode < size; fromNode++) {
+            var edges = forwardEdges[fromNode];
+            for (var i = 0; i < forwardEdgeCounts[fromNode]; i++) {
+                edgeConsumer.accept(fromNode, edges[i]);
+            }
+        }
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt nodeForwardEdges(int fromNode) {
+        return new EdgeIterator(forwardEdges[fromNode], forwardEdgeCounts[fromNode]);
+    }
+
+    @Override
+    public boolean isLooped(LoopedTracker loopedTracker, int node) {
+        if (loopedNodeCount == 0) {
+            return false;
+        }
+        return switch (loopedTracker.status(node)) {
+            case UNKNOWN -> {
+                if (isNodeInLoopedComponent[node]) {
+                    loopedTracker.mark(node, LoopedStatus.LOOPED);
+                    yield true;
+                }
+                var edges = backEdges[node];
+                for (var i = 0; i < backEdgeCounts[node]; i++) {
+                    if (isLooped(loopedTracker, edges[i])) {
+                        loopedTracker.mark(node, LoopedStatus.LOOPED);
+                        yield true;
+                    }
+                }
+                loopedTracker.mark(node, LoopedStatus.NOT_LOOPED);
+                yield false;
+            }
+            case NOT_LOOPED -> false;
+            case LOOPED -> true;
+        };
+    }
+
+    @Override
+    public int getTopologicalOrder(int node) {
+        return nodeIdToTopologicalOrderMap[node];
+    }
+
+    @Override
+    public void commitChanges(BitSet changed) {
+        if (pendingCount == 0) {
+            return;
+        }
+        // Reordering costs up to O(V+E) per added edge;
+        // for a batch of more changes than there are nodes (such as building the graph),
+        // a single recomputation is cheaper.
+        var isRecomputeRequired = loopedNodeCount > 0 || pendingCount > size;
+        for (var i = 0; i < pendingCount; i++) {
+            var fromNode = pendingFromNodes[i];
+            var toNode = pendingToNodes[i];
+            if (!pendingAdditions[i]) {
+                removeFromAdjacency(fromNode, toNode);
+            } else if (addToAdjacency(fromNode, toNode) && !isRecomputeRequired
+                    && nodeIdToTopologicalOrderMap[fromNode] > nodeIdToTopologicalOrderMap[toNode]) {
+                isRecomputeRequired = !reorder(fromNode, toNode);
+            }
+        }
+        pendingCount = 0;
+        if (isRecomputeRequired) {
+            recompute(changed);
+        }
+    }
+
+    private boolean addToAdjacency(int fromNode, int toNode) {
+        var edges = forwardEdges[fromNode];
+        var edgeCount = forwardEdgeCounts[fromNode];
+        for (var i = 0; i < edgeCount; i++) {
+            if (edges[i] == toNode) {
+                return false;
+            }
+        }
+        forwardEdges[fromNode] = append(edges, edgeCount, toNode);
+        forwardEdgeCounts[fromNode]++;
+        backEdges[toNode] = append(backEdges[toNode], backEdgeCounts[toNode], fromNode);
+        backEdgeCounts[toNode]++;
+        return true;
+    }
+
+    private static int[] append(int[] edges, int edgeCount, int node) {
+        var out = edges;
+        if (edgeCount == out.length) {
+            out = Arrays.copyOf(out, Math.max(4, edgeCount * 2));
+        }
+        out[edgeCount] = node;
+        return out;
+    }
+
+    private void removeFromAdjacency(int fromNode, int toNode) {
+        if (remove(forwardEdges[fromNode], forwardEdgeCounts[fromNode], toNode)) {
+            forwardEdgeCounts[fromNode]--;
+            remove(backEdges[toNode], backEdgeCounts[toNode], fromNode);
+            backEdgeCounts[toNode]--;
+        }
+    }
+
+    private static boolean remove(int[] edges, int edgeCount, int node) {
+        for (var i = 0; i < edgeCount; i++) {
+            if (edges[i] == node) {
+                edges[i] = edges[edgeCount - 1];
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Restores the order after the edge fromNode -> toNode was added,
+     * where fromNode is currently ordered after toNode.
+     * Only the nodes ordered between toNode and fromNode are visited.
+     *
+     * @return false if the edge closed a loop, in which case the order is left unchanged
+     */
+    private boolean reorder(int fromNode, int toNode) {
+        var lowerBound = nodeIdToTopologicalOrderMap[toNode];
+        var upperBound = nodeIdToTopologicalOrderMap[fromNode];
+        visitedMark++;
+        if (visitedMark == Integer.MAX_VALUE) {
+            Arrays.fill(visitedMarks, 0);
+            visitedMark = 1;
+        }
+        // Nodes reachable from toNode which are ordered before fromNode.
+        var forwardRegionSize = collectRegion(toNode, forwardEdges, forwardEdgeCounts, forwardRegionNodes, true,
+                fromNode, upperBound);
+        if (forwardRegionSize < 0) {
+            return false;
+        }
+        // Nodes which reach fromNode and are ordered after toNode.
+        // Cannot reach toNode, since that would have closed the loop above.
+        var backwardRegionSize = collectRegion(fromNode, backEdges, backEdgeCounts, backwardRegionNodes, false,
+                -1, lowerBound);
+        sortByTopologicalOrder(backwardRegionNodes, backwardRegionSize);
+        sortByTopologicalOrder(forwardRegionNodes, forwardRegionSize);
+        for (var i = 0; i < backwardRegionSize; i++) {
+            regionOrders[i] = nodeIdToTopologicalOrderMap[backwardRegionNodes[i]];
+        }
+        for (var i = 0; i < forwardRegionSize; i++) {
+            regionOrders[backwardRegionSize + i] = nodeIdToTopologicalOrderMap[forwardRegionNodes[i]];
+        }
+        Arrays.sort(regionOrders, 0, backwardRegionSize + forwardRegionSize);
+        // Reuse the orders of the region, placing the backward region before the forward region.
+        for (var i = 0; i < backwardRegionSize; i++) {
+            nodeIdToTopologicalOrderMap[backwardRegionNodes[i]] = regionOrders[i];
+        }
+        for (var i = 0; i < forwardRegionSize; i++) {
+            nodeIdToTopologicalOrderMap[forwardRegionNodes[i]] = regionOrders[backwardRegionSize + i];
+        }
+        return true;
+    }
+
+    /**
+     * Depth-first search from the start node, only visiting nodes ordered strictly within the bound.
+     *
+     * @param loopNode the node which closes a loop when reached, or -1 if none
+     * @return the number of nodes collected, or -1 if the loop node was reached
+     */
+    private int collectRegion(int startNode, int[][] edges, int[] edgeCounts, int[] regionNodes, boolean isForward,
+            int loopNode, int bound) {
+        var regionSize = 0;
+        var stackSize = 0;
+        nodeStack[stackSize++] = startNode;
+        visitedMarks[startNode] = visitedMark;
+        while (stackSize > 0) {
+            var node = nodeStack[--stackSize];
+            regionNodes[regionSize++] = node;
+            var nodeEdges = edges[node];
+            for (var i = 0; i < edgeCounts[node]; i++) {
+                var next = nodeEdges[i];
+                if (next == loopNode) {
+                    return -1;
+                }
+                var order = nodeIdToTopologicalOrderMap[next];
+                var isWithinBound = isForward ? order < bound : order > bound;
+                if (isWithinBound && visitedMarks[next] != visitedMark) {
+                    visitedMarks[next] = visitedMark;
+                    nodeStack[stackSize++] = next;
+                }
+            }
+        }
+        return regionSize;
+    }
+
+    private void sortByTopologicalOrder(int[] nodes, int nodeCount) {
+        for (var i = 0; i < nodeCount; i++) {
+            sortKeys[i] = ((long) nodeIdToTopologicalOrderMap[nodes[i]] << 32) | nodes[i];
+        }
+        Arrays.sort(sortKeys, 0, nodeCount);
+        for (var i = 0; i < nodeCount; i++) {
+            nodes[i] = (int) sortKeys[i];
+        }
+    }
+
+    /**
+     * Recomputes the strongly connected components and the order of the entire graph,
+     * using an iterative version of Tarjan's algorithm.
+     */
+    private void recompute(BitSet changed) {
+        Arrays.fill(tarjanIndexes, 0);
+        var index = 1;
+        var tarjanStackSize = 0;
+        var componentNodeCount = 0;
+        var componentCount = 0;
+        for (var rootNode = 0; rootNode < size; rootNode++) {
+            if (tarjanIndexes[rootNode] != 0) {
+                continue;
+            }
+            var callStackSize = 0;
+            nodeStack[callStackSize] = rootNode;
+            edgeIndexStack[callStackSize] = 0;
+            callStackSize++;
+            tarjanIndexes[rootNode] = index;
+            tarjanLowLinks[rootNode] = index;
+            index++;
+            tarjanStack[tarjanStackSize++] = rootNode;
+            isOnTarjanStack[rootNode] = true;
+            while (callStackSize > 0) {
+                var node = nodeStack[callStackSize - 1];
+                var edgeIndex = edgeIndexStack[callStackSize - 1];
+                if (edgeIndex < forwardEdgeCounts[node]) {
+                    edgeIndexStack[callStackSize - 1]++;
+                    var successor = forwardEdges[node][edgeIndex];
+                    if (tarjanIndexes[successor] == 0) {
+                        // Successor has not yet been visited; descend into it.
+                        tarjanIndexes[successor] = index;
+                        tarjanLowLinks[successor] = index;
+                        index++;
+                        tarjanStack[tarjanStackSize++] = successor;
+                        isOnTarjanStack[successor] = true;
+                        nodeStack[callStackSize] = successor;
+                        edgeIndexStack[callStackSize] = 0;
+                        callStackSize++;
+                    } else if (isOnTarjanStack[successor]) {
+                        // Deliberately the index of the successor and not its low link, as in the original paper.
+                        tarjanLowLinks[node] = Math.min(tarjanLowLinks[node], tarjanIndexes[successor]);
+                    }
+                    continue;
+                }
+                callStackSize--;
+                if (tarjanLowLinks[node] == tarjanIndexes[node]) {
+                    // Node is the root of a component; pop it from the stack.
+                    int current;
+                    do {
+                        current = tarjanStack[--tarjanStackSize];
+                        isOnTarjanStack[current] = false;
+                        componentNodes[componentNodeCount++] = current;
+                    } while (current != node);
+                    componentEnds[componentCount++] = componentNodeCount;
+                }
+                if (callStackSize > 0) {
+                    var parent = nodeStack[callStackSize - 1];
+                    tarjanLowLinks[parent] = Math.min(tarjanLowLinks[parent], tarjanLowLinks[node]);
+                }
+            }
+        }
+
+        // Tarjan's algorithm finds the components in reverse topological order.
+        loopedNodeCount = 0;
+        var order = 0;
+        for (var component = componentCount - 1; component >= 0; component--) {
+            var componentStart = component == 0 ? 0 : componentEnds[component - 1];
+            var componentEnd = componentEnds[component];
+            var isComponentLooped = componentEnd - componentStart > 1;
+            for (var i = componentStart; i < componentEnd; i++) {
+                var node = componentNodes[i];
+                nodeIdToTopologicalOrderMap[node] = order++;
+                nodeIdToComponentMap[node] = component;
+                if (isComponentLooped) {
+                    loopedNodeCount++;
+                }
+                if (isComponentLooped != isNodeInLoopedComponent[node]) {
+                    // It is enough to only mark nodes whose component status changed;
+                    // the updater will notify descendants since a looped status change force updates descendants.
+                    isNodeInLoopedComponent[node] = isComponentLooped;
+                    changed.set(node);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        var out = new StringBuilder();
+        out.append("IncrementalTopologicalOrderGraph{\n");
+        for (var node = 0; node < size; node++) {
+            var edges = Arrays.copyOf(forwardEdges[node], forwardEdgeCounts[node]);
+            Arrays.sort(edges);
+            out.append("    ").append(node).append("(").append(nodeIdToTopologicalOrderMap[node]).append(") -> ")
+                    .append(Arrays.toString(edges)).append("\n");
+        }
+        out.append("}");
+        return out.toString();
+    }
+
+    private static final class EdgeIterator implements PrimitiveIterator.OfInt {
+
+        private final int[] edges;
+        private final int edgeCount;
+        private int index = 0;
+
+        private EdgeIterator(int[] edges, int edgeCount) {
+            this.edges = edges;
+            this.edgeCount = edgeCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < edgeCount;
+        }
+
+        @Override
+        public int nextInt() {
+            if (index >= edgeCount) {
+                throw new NoSuchElementException();
+            }
+            return edges[index++];
+        }
+
+    }
+
+}
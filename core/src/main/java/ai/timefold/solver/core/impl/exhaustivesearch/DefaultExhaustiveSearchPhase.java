@@ -27,6 +27,8 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
 
     protected final Comparator<ExhaustiveSearchNode<Solution_>> nodeComparator;
     protected final AbstractExhaustiveSearchDecider<Solution_, ? extends Score<?>> decider;
+    protected final int expandableNodeLimit;
+    protected final Comparator<ExhaustiveSearchNode<Solution_>> fallbackNodeComparator;
 
     protected final boolean assertWorkingSolutionScoreFromScratch;
     protected final boolean assertExpectedWorkingSolutionScore;
@@ -35,6 +37,8 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
         super(builder);
         nodeComparator = builder.nodeComparator;
         decider = builder.decider;
+        expandableNodeLimit = builder.expandableNodeLimit;
+        fallbackNodeComparator = builder.fallbackNodeComparator;
 
         assertWorkingSolutionScoreFromScratch = builder.assertWorkingSolutionScoreFromScratch;
         assertExpectedWorkingSolutionScore = builder.assertExpectedWorkingSolutionScore;
@@ -56,14 +60,14 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
 
     @Override
     public void solve(SolverScope<Solution_> solverScope) {
-        var expandableNodeQueue = new TreeSet<>(nodeComparator);
         var phaseScope = new ExhaustiveSearchPhaseScope<>(solverScope, phaseIndex);
-        phaseScope.setExpandableNodeQueue(expandableNodeQueue);
+        phaseScope.setExpandableNodeQueue(new TreeSet<>(nodeComparator));
         phaseStarted(phaseScope);
 
-        while (!expandableNodeQueue.isEmpty() && !phaseTermination.isPhaseTerminated(phaseScope)) {
+        var fallenBack = false;
+        while (!phaseScope.getExpandableNodeQueue().isEmpty() && !phaseTermination.isPhaseTerminated(phaseScope)) {
             var stepScope = new ExhaustiveSearchStepScope<>(phaseScope);
-            var node = expandableNodeQueue.removeLast();
+            var node = phaseScope.getExpandableNodeQueue().removeLast();
             stepScope.setExpandingNode(node);
             stepStarted(stepScope);
             decider.restoreWorkingSolution(stepScope, assertWorkingSolutionScoreFromScratch,
@@ -71,10 +75,29 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
             decider.expandNode(stepScope);
             stepEnded(stepScope);
             phaseScope.setLastCompletedStepScope(stepScope);
+            if (!fallenBack && phaseScope.getExpandableNodeQueue().size() >= expandableNodeLimit) {
+                fallBackToDepthFirst(phaseScope);
+                fallenBack = true;
+            }
         }
         phaseEnded(phaseScope);
     }
 
+    /**
+     * Breadth first and its relatives keep many nodes waiting to be expanded,
+     * whereas depth first only keeps the siblings of the nodes on the path to the current node.
+     * Switching to depth first therefore stops the queue from growing much further,
+     * while the score bound keeps pruning it.
+     */
+    private void fallBackToDepthFirst(ExhaustiveSearchPhaseScope<Solution_> phaseScope) {
+        var oldExpandableNodeQueue = phaseScope.getExpandableNodeQueue();
+        var newExpandableNodeQueue = new TreeSet<>(fallbackNodeComparator);
+        newExpandableNodeQueue.addAll(oldExpandableNodeQueue);
+        phaseScope.setExpandableNodeQueue(newExpandableNodeQueue);
+        logger.debug("{}    ES expandable node queue size ({}) reached the expandableNodeLimit ({}), continuing depth first.",
+                logIndentation, newExpandableNodeQueue.size(), expandableNodeLimit);
+    }
+
     // ************************************************************************
     // Lifecycle methods
     // ************************************************************************
@@ -138,6 +161,9 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
         private final Comparator<ExhaustiveSearchNode<Solution_>> nodeComparator;
         private final AbstractExhaustiveSearchDecider<Solution_, ? extends Score<?>> decider;
 
+        private int expandableNodeLimit = Integer.MAX_VALUE;
+        private Comparator<ExhaustiveSearchNode<Solution_>> fallbackNodeComparator = null;
+
         private boolean assertWorkingSolutionScoreFromScratch = false;
         private boolean assertExpectedWorkingSolutionScore = false;
 
@@ -149,6 +175,17 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
             this.decider = decider;
         }
 
+        /**
+         * @param expandableNodeLimit at least 1
+         * @param fallbackNodeComparator replaces the nodeComparator once the expandableNodeLimit is reached
+         */
+        public Builder<Solution_> withExpandableNodeLimit(int expandableNodeLimit,
+                Comparator<ExhaustiveSearchNode<Solution_>> fallbackNodeComparator) {
+            this.expandableNodeLimit = expandableNodeLimit;
+            this.fallbackNodeComparator = fallbackNodeComparator;
+            return this;
+        }
+
         @Override
         public Builder<Solution_> enableAssertions(EnvironmentMode environmentMode) {
             super.enableAssertions(environmentMode);
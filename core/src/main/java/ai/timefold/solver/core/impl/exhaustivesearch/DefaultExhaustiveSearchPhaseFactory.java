@@ -93,9 +93,26 @@ public class DefaultExhaustiveSearchPhaseFactory<Solution_>
             decider = buildDecider(phaseConfigPolicy, entitySelector, bestSolutionRecaller, phaseTermination,
                     scoreBounderEnabled, isListVariable);
         }
-        return new DefaultExhaustiveSearchPhase.Builder<>(phaseIndex, solverConfigPolicy.getLogIndentation(), phaseTermination,
-                nodeExplorationType.buildNodeComparator(scoreBounderEnabled), decider)
-                .enableAssertions(phaseConfigPolicy.getEnvironmentMode()).build();
+        var builder = new DefaultExhaustiveSearchPhase.Builder<>(phaseIndex, solverConfigPolicy.getLogIndentation(),
+                phaseTermination, nodeExplorationType.<Solution_> buildNodeComparator(scoreBounderEnabled), decider);
+        var expandableNodeLimit = getExpandableNodeLimit(phaseConfig);
+        // Depth first already keeps the queue small, so there is nothing to fall back to.
+        if (expandableNodeLimit != null && nodeExplorationType != NodeExplorationType.DEPTH_FIRST
+                && nodeExplorationType != NodeExplorationType.ORIGINAL_ORDER) {
+            builder.withExpandableNodeLimit(expandableNodeLimit,
+                    NodeExplorationType.DEPTH_FIRST.buildNodeComparator(scoreBounderEnabled));
+        }
+        return builder.enableAssertions(phaseConfigPolicy.getEnvironmentMode()).build();
+    }
+
+    private static Integer getExpandableNodeLimit(ExhaustiveSearchPhaseConfig phaseConfig) {
+        var expandableNodeLimit = phaseConfig.getExpandableNodeLimit();
+        if (expandableNodeLimit != null && expandableNodeLimit < 1) {
+            throw new IllegalArgumentException(
+                    "The phaseConfig (%s) has an expandableNodeLimit (%d) which is lower than 1.%nMaybe remove the expandableNodeLimit to not limit the expandable nodes."
+                            .formatted(phaseConfig, expandableNodeLimit));
+        }
+        return expandableNodeLimit;
     }
 
     private static NodeExplorationType getNodeExplorationType(ExhaustiveSearchType exhaustiveSearchType,
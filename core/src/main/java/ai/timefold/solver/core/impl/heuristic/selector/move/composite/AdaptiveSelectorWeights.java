@@ -0,0 +1,122 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.composite;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.preview.api.move.Move;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Learns how productive each child selector of an adaptive {@link UnionMoveSelector} is,
+ * as the reward its moves earned per move it had to select.
+ * <p>
+ * When a step ends, the child which selected the step's move is rewarded:
+ * {@link #NEW_BEST_REWARD} if the step improved the best score,
+ * {@link #IMPROVING_REWARD} if it improved the last step score,
+ * and {@link #ACCEPTED_REWARD} otherwise.
+ * Both the rewards and the selected move counts decay by {@link #RETENTION} every step,
+ * so that the weights follow the search as it moves on.
+ * A prior of {@link #PRIOR_REWARD} per {@link #PRIOR_SELECTED_COUNT} keeps every weight positive;
+ * a child which stops being selected regains weight as its history decays, so it is tried again eventually.
+ * <p>
+ * Only local search steps are rewarded, as only they know their step's move.
+ *
+ * @param <Solution_>
+ */
+@NullMarked
+final class AdaptiveSelectorWeights<Solution_> {
+
+    static final double NEW_BEST_REWARD = 4.0;
+    static final double IMPROVING_REWARD = 2.0;
+    static final double ACCEPTED_REWARD = 1.0;
+    static final double RETENTION = 0.99;
+    static final double PRIOR_REWARD = 1.0;
+    static final double PRIOR_SELECTED_COUNT = 1.0;
+
+    private final double[] decayedRewards;
+    private final double[] decayedSelectedCounts;
+    private final long[] stepSelectedCounts;
+    private final Map<Move<Solution_>, Integer> moveToChildIndexMap = new IdentityHashMap<>();
+
+    AdaptiveSelectorWeights(int childCount) {
+        this.decayedRewards = new double[childCount];
+        this.decayedSelectedCounts = new double[childCount];
+        this.stepSelectedCounts = new long[childCount];
+    }
+
+    /**
+     * @param childIndex index of the child selector in the union
+     * @return always positive; relative to the weights of the other children
+     */
+    double getWeight(int childIndex) {
+        return (decayedRewards[childIndex] + PRIOR_REWARD)
+                / (decayedSelectedCounts[childIndex] + PRIOR_SELECTED_COUNT);
+    }
+
+    void moveSelected(Move<Solution_> move, int childIndex) {
+        stepSelectedCounts[childIndex]++;
+        moveToChildIndexMap.put(move, childIndex);
+    }
+
+    /**
+     * @param childIndex index of the child selector in the union
+     * @return the number of moves the child selected during the current step so far
+     */
+    long getStepSelectedCount(int childIndex) {
+        return stepSelectedCounts[childIndex];
+    }
+
+    void stepEnded(AbstractStepScope<Solution_> stepScope) {
+        var rewardedChildIndex = -1;
+        var reward = 0.0;
+        if (stepScope instanceof LocalSearchStepScope<Solution_> localSearchStepScope
+                && localSearchStepScope.getStep() != null) {
+            // Null if this union did not select the step itself, for example as the child of a cartesian product.
+            var childIndex = moveToChildIndexMap.get(localSearchStepScope.getStep());
+            if (childIndex != null) {
+                rewardedChildIndex = childIndex;
+                reward = computeReward(localSearchStepScope);
+            }
+        }
+        for (var childIndex = 0; childIndex < decayedRewards.length; childIndex++) {
+            decayedRewards[childIndex] = decayedRewards[childIndex] * RETENTION
+                    + (childIndex == rewardedChildIndex ? reward : 0.0);
+            decayedSelectedCounts[childIndex] = decayedSelectedCounts[childIndex] * RETENTION
+                    + stepSelectedCounts[childIndex];
+        }
+        Arrays.fill(stepSelectedCounts, 0L);
+        moveToChildIndexMap.clear();
+    }
+
+    private static <Solution_, Score_ extends Score<Score_>> double
+            computeReward(LocalSearchStepScope<Solution_> stepScope) {
+        if (stepScope.getBestScoreImproved()) {
+            return NEW_BEST_REWARD;
+        }
+        var lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().<Score_> getScore();
+        var stepScore = stepScope.<Score_> getScore();
+        return stepScore.compareTo(lastStepScore) > 0 ? IMPROVING_REWARD : ACCEPTED_REWARD;
+    }
+
+    void reset() {
+        Arrays.fill(decayedRewards, 0.0);
+        Arrays.fill(decayedSelectedCounts, 0.0);
+        Arrays.fill(stepSelectedCounts, 0L);
+        moveToChildIndexMap.clear();
+    }
+
+    @Override
+    public String toString() {
+        var weights = new double[decayedRewards.length];
+        for (var childIndex = 0; childIndex < weights.length; childIndex++) {
+            weights[childIndex] = getWeight(childIndex);
+        }
+        return Arrays.toString(weights);
+    }
+
+}
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.TreeMap;
+import java.util.function.ObjIntConsumer;
 import java.util.function.ToDoubleFunction;
 import java.util.random.RandomGenerator;
 
@@ -14,22 +15,37 @@ import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
 import ai.timefold.solver.core.impl.solver.random.RandomUtils;
 import ai.timefold.solver.core.preview.api.move.Move;
 
+import org.jspecify.annotations.Nullable;
+
 final class BiasedRandomUnionMoveIterator<Solution_> extends SelectionIterator<Move<Solution_>> {
 
     private final Map<Iterator<Move<Solution_>>, ProbabilityItem<Solution_>> probabilityItemMap;
-    private final NavigableMap<Double, Iterator<Move<Solution_>>> moveIteratorMap;
+    private final NavigableMap<Double, ProbabilityItem<Solution_>> moveIteratorMap;
     private final RandomGenerator workingRandom;
+    private final @Nullable ObjIntConsumer<Move<Solution_>> selectionListener;
     private double probabilityWeightTotal;
     private boolean stale;
 
     public BiasedRandomUnionMoveIterator(List<MoveSelector<Solution_>> childMoveSelectorList,
             ToDoubleFunction<MoveSelector<Solution_>> probabilityWeightFunction,
             RandomGenerator workingRandom) {
+        this(childMoveSelectorList, probabilityWeightFunction, workingRandom, null);
+    }
+
+    /**
+     * @param selectionListener if not null, receives every selected move with the index of the child selector
+     *        which selected it
+     */
+    public BiasedRandomUnionMoveIterator(List<MoveSelector<Solution_>> childMoveSelectorList,
+            ToDoubleFunction<MoveSelector<Solution_>> probabilityWeightFunction,
+            RandomGenerator workingRandom, @Nullable ObjIntConsumer<Move<Solution_>> selectionListener) {
         this.probabilityItemMap = new LinkedHashMap<>(childMoveSelectorList.size());
-        for (MoveSelector<Solution_> moveSelector : childMoveSelectorList) {
+        for (var i = 0; i < childMoveSelectorList.size(); i++) {
+            MoveSelector<Solution_> moveSelector = childMoveSelectorList.get(i);
             Iterator<Move<Solution_>> moveIterator = moveSelector.iterator();
             ProbabilityItem<Solution_> probabilityItem = new ProbabilityItem<>();
             probabilityItem.moveSelector = moveSelector;
+            probabilityItem.childIndex = i;
             probabilityItem.moveIterator = moveIterator;
             probabilityItem.probabilityWeight = probabilityWeightFunction.applyAsDouble(moveSelector);
             probabilityItemMap.put(moveIterator, probabilityItem);
@@ -37,6 +53,7 @@ final class BiasedRandomUnionMoveIterator<Solution_> extends SelectionIterator<M
         this.moveIteratorMap = new TreeMap<>();
         this.stale = true;
         this.workingRandom = workingRandom;
+        this.selectionListener = selectionListener;
     }
 
     @Override
@@ -49,13 +66,17 @@ final class BiasedRandomUnionMoveIterator<Solution_> extends SelectionIterator<M
     public Move<Solution_> next() {
         refreshMoveIteratorMap();
         double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-        Map.Entry<Double, Iterator<Move<Solution_>>> entry = moveIteratorMap.floorEntry(randomOffset);
+        Map.Entry<Double, ProbabilityItem<Solution_>> entry = moveIteratorMap.floorEntry(randomOffset);
         // The entry is never null because randomOffset < probabilityWeightTotal
-        Iterator<Move<Solution_>> moveIterator = entry.getValue();
+        ProbabilityItem<Solution_> probabilityItem = entry.getValue();
+        Iterator<Move<Solution_>> moveIterator = probabilityItem.moveIterator;
         Move<Solution_> next = moveIterator.next();
         if (!moveIterator.hasNext()) {
             stale = true;
         }
+        if (selectionListener != null) {
+            selectionListener.accept(next, probabilityItem.childIndex);
+        }
         return next;
     }
 
@@ -68,7 +89,7 @@ final class BiasedRandomUnionMoveIterator<Solution_> extends SelectionIterator<M
         for (ProbabilityItem<Solution_> probabilityItem : probabilityItemMap.values()) {
             if (probabilityItem.probabilityWeight != 0.0
                     && probabilityItem.moveIterator.hasNext()) {
-                moveIteratorMap.put(probabilityWeightOffset, probabilityItem.moveIterator);
+                moveIteratorMap.put(probabilityWeightOffset, probabilityItem);
                 probabilityWeightOffset += probabilityItem.probabilityWeight;
             }
         }
@@ -79,6 +100,7 @@ final class BiasedRandomUnionMoveIterator<Solution_> extends SelectionIterator<M
     private static final class ProbabilityItem<Solution_> {
 
         MoveSelector<Solution_> moveSelector;
+        int childIndex;
         Iterator<Move<Solution_>> moveIterator;
         double probabilityWeight;
 
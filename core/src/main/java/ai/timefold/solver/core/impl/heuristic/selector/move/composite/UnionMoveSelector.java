@@ -5,8 +5,10 @@ import java.util.List;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
 import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
 import ai.timefold.solver.core.impl.score.director.ScoreDirector;
 import ai.timefold.solver.core.preview.api.move.Move;
@@ -17,6 +19,9 @@ import ai.timefold.solver.core.preview.api.move.Move;
  * For example: a union of {A, B, C} and {X, Y} will result in {A, B, C, X, Y}.
  * <p>
  * Warning: there is no duplicated {@link Move} check, so union of {A, B, C} and {B, D} will result in {A, B, C, B, D}.
+ * <p>
+ * With adaptive selection, the probability of each child selector is multiplied by how productive its moves
+ * have recently been, as learned by {@link AdaptiveSelectorWeights}.
  *
  * @see CompositeMoveSelector
  */
@@ -24,6 +29,8 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
 
     protected final SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> selectorProbabilityWeightFactory;
 
+    private final AdaptiveSelectorWeights<Solution_> adaptiveSelectorWeights;
+
     protected ScoreDirector<Solution_> scoreDirector;
 
     public UnionMoveSelector(List<MoveSelector<Solution_>> childMoveSelectorList, boolean randomSelection) {
@@ -32,6 +39,12 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
 
     public UnionMoveSelector(List<MoveSelector<Solution_>> childMoveSelectorList, boolean randomSelection,
             SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> selectorProbabilityWeightFactory) {
+        this(childMoveSelectorList, randomSelection, selectorProbabilityWeightFactory, false);
+    }
+
+    public UnionMoveSelector(List<MoveSelector<Solution_>> childMoveSelectorList, boolean randomSelection,
+            SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> selectorProbabilityWeightFactory,
+            boolean adaptiveSelection) {
         super(childMoveSelectorList, randomSelection);
         this.selectorProbabilityWeightFactory = selectorProbabilityWeightFactory;
         if (!randomSelection) {
@@ -41,13 +54,31 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
                         + ") cannot have a selectorProbabilityWeightFactory (" + selectorProbabilityWeightFactory
                         + ").");
             }
+            if (adaptiveSelection) {
+                throw new IllegalArgumentException("The selector (" + this
+                        + ") without randomSelection (" + randomSelection
+                        + ") cannot have adaptiveSelection (" + adaptiveSelection + ").");
+            }
         }
+        this.adaptiveSelectorWeights = adaptiveSelection ? new AdaptiveSelectorWeights<>(childMoveSelectorList.size()) : null;
     }
 
     public SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> getSelectorProbabilityWeightFactory() {
         return selectorProbabilityWeightFactory;
     }
 
+    public boolean isAdaptiveSelection() {
+        return adaptiveSelectorWeights != null;
+    }
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        if (adaptiveSelectorWeights != null) {
+            adaptiveSelectorWeights.reset();
+        }
+    }
+
     @Override
     public void stepStarted(AbstractStepScope<Solution_> stepScope) {
         scoreDirector = stepScope.getScoreDirector();
@@ -58,6 +89,25 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
     public void stepEnded(AbstractStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
         scoreDirector = null;
+        if (adaptiveSelectorWeights != null) {
+            var solverScope = stepScope.getPhaseScope().getSolverScope();
+            if (solverScope.isMetricEnabled(SolverMetric.MOVE_COUNT_PER_SELECTOR)) {
+                for (var childIndex = 0; childIndex < childMoveSelectorList.size(); childIndex++) {
+                    solverScope.addMoveSelectionCountPerSelector(childMoveSelectorList.get(childIndex).toString(),
+                            adaptiveSelectorWeights.getStepSelectedCount(childIndex));
+                }
+            }
+            adaptiveSelectorWeights.stepEnded(stepScope);
+        }
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        if (adaptiveSelectorWeights != null) {
+            logger.debug("Adaptive selector weights ({}) for child selectors ({}).",
+                    adaptiveSelectorWeights, childMoveSelectorList);
+        }
+        super.phaseEnded(phaseScope);
     }
 
     // ************************************************************************
@@ -98,20 +148,28 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
                 stream = Stream.concat(stream, toStream(moveSelector));
             }
             return stream.iterator();
-        } else if (selectorProbabilityWeightFactory == null) {
+        } else if (selectorProbabilityWeightFactory == null && adaptiveSelectorWeights == null) {
             return new UniformRandomUnionMoveIterator<>(childMoveSelectorList, workingRandom);
         } else {
-            return new BiasedRandomUnionMoveIterator<>(childMoveSelectorList,
-                    moveSelector -> {
-                        double weight = selectorProbabilityWeightFactory.createProbabilityWeight(scoreDirector, moveSelector);
-                        if (weight < 0.0) {
-                            throw new IllegalStateException(
-                                    "The selectorProbabilityWeightFactory (" + selectorProbabilityWeightFactory
-                                            + ") returned a negative probabilityWeight (" + weight + ").");
-                        }
-                        return weight;
-                    }, workingRandom);
+            return new BiasedRandomUnionMoveIterator<>(childMoveSelectorList, this::createProbabilityWeight, workingRandom,
+                    adaptiveSelectorWeights == null ? null : adaptiveSelectorWeights::moveSelected);
+        }
+    }
+
+    private double createProbabilityWeight(MoveSelector<Solution_> moveSelector) {
+        var weight = 1.0;
+        if (selectorProbabilityWeightFactory != null) {
+            weight = selectorProbabilityWeightFactory.createProbabilityWeight(scoreDirector, moveSelector);
+            if (weight < 0.0) {
+                throw new IllegalStateException(
+                        "The selectorProbabilityWeightFactory (" + selectorProbabilityWeightFactory
+                                + ") returned a negative probabilityWeight (" + weight + ").");
+            }
+        }
+        if (adaptiveSelectorWeights != null) {
+            weight *= adaptiveSelectorWeights.getWeight(childMoveSelectorList.indexOf(moveSelector));
         }
+        return weight;
     }
 
     private static <Solution_> Stream<Move<Solution_>> toStream(MoveSelector<Solution_> moveSelector) {
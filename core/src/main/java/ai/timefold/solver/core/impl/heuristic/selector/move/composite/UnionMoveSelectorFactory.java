@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
 import ai.timefold.solver.core.config.heuristic.selector.move.MoveSelectorConfig;
@@ -86,6 +87,15 @@ public class UnionMoveSelectorFactory<Solution_>
         } else {
             selectorProbabilityWeightFactory = null;
         }
-        return new UnionMoveSelector<>(moveSelectorList, randomSelection, selectorProbabilityWeightFactory);
+        var adaptiveSelection = Objects.requireNonNullElse(config.getAdaptiveSelection(), false);
+        if (adaptiveSelection && !randomSelection) {
+            throw new IllegalArgumentException(
+                    """
+                            The moveSelectorConfig (%s) with adaptiveSelection (%s) has non-random randomSelection (%s).
+                            Maybe remove the adaptiveSelection or the selectionOrder of the unionMoveSelector."""
+                            .formatted(config, adaptiveSelection, randomSelection));
+        }
+        return new UnionMoveSelector<>(moveSelectorList, randomSelection, selectorProbabilityWeightFactory,
+                adaptiveSelection);
     }
 }
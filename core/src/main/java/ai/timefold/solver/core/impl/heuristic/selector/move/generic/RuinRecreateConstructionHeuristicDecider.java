@@ -1,16 +1,44 @@
 package ai.timefold.solver.core.impl.heuristic.selector.move.generic;
 
+import java.util.Set;
+
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.impl.constructionheuristic.decider.ConstructionHeuristicDecider;
 import ai.timefold.solver.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
+import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicMoveScope;
+import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
 import ai.timefold.solver.core.impl.solver.termination.PhaseTermination;
+import ai.timefold.solver.core.preview.api.move.Move;
 
 final class RuinRecreateConstructionHeuristicDecider<Solution_>
         extends ConstructionHeuristicDecider<Solution_> {
 
+    private final boolean recreateInRuinedEntitiesOnly;
+    private final int maximumMoveEvaluationCount;
+
+    private Set<Object> ruinedEntitySet = null;
+    private int remainingMoveEvaluationCount;
+
+    /**
+     * @param recreateInRuinedEntitiesOnly true to only evaluate moves
+     *        which assign a value to one of the entities set by {@link #setRuinedEntitySet(Set)}
+     * @param maximumMoveEvaluationCount once this many moves were evaluated during a phase,
+     *        every remaining step picks the first move it evaluates;
+     *        {@link Integer#MAX_VALUE} for no limit
+     */
     RuinRecreateConstructionHeuristicDecider(PhaseTermination<Solution_> termination,
-            ConstructionHeuristicForager<Solution_> forager) {
+            ConstructionHeuristicForager<Solution_> forager, boolean recreateInRuinedEntitiesOnly,
+            int maximumMoveEvaluationCount) {
         super("", termination, forager);
+        this.recreateInRuinedEntitiesOnly = recreateInRuinedEntitiesOnly;
+        this.maximumMoveEvaluationCount = maximumMoveEvaluationCount;
+    }
+
+    /**
+     * @param ruinedEntitySet sometimes null, the entities which the values to recreate were ruined from
+     */
+    void setRuinedEntitySet(Set<Object> ruinedEntitySet) {
+        this.ruinedEntitySet = ruinedEntitySet;
     }
 
     @Override
@@ -23,4 +51,38 @@ final class RuinRecreateConstructionHeuristicDecider<Solution_>
         throw new UnsupportedOperationException(
                 "Impossible state: Construction heuristics inside Ruin and Recreate moves cannot be asserted.");
     }
+
+    @Override
+    public void phaseStarted(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        remainingMoveEvaluationCount = maximumMoveEvaluationCount;
+    }
+
+    @Override
+    protected boolean isMoveSkipped(Move<Solution_> move) {
+        if (!recreateInRuinedEntitiesOnly || ruinedEntitySet == null || ruinedEntitySet.isEmpty()) {
+            return false;
+        }
+        var entities = move.getPlanningEntities();
+        if (entities.isEmpty()) { // Leaves the value unassigned.
+            return false;
+        }
+        for (var entity : entities) {
+            if (ruinedEntitySet.contains(entity)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doMove(ConstructionHeuristicMoveScope<Solution_> moveScope) {
+        super.doMove(moveScope);
+        remainingMoveEvaluationCount--;
+    }
+
+    @Override
+    protected boolean isStepQuitEarly() {
+        return remainingMoveEvaluationCount <= 0;
+    }
 }
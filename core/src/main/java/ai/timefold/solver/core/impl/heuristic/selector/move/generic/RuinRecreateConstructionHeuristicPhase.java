@@ -12,18 +12,22 @@ import ai.timefold.solver.core.impl.constructionheuristic.DefaultConstructionHeu
 import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
 import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
 import ai.timefold.solver.core.impl.phase.PhaseType;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.random.DefaultRandomSource;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 @NullMarked
 public final class RuinRecreateConstructionHeuristicPhase<Solution_>
         extends DefaultConstructionHeuristicPhase<Solution_>
         implements ConstructionHeuristicPhase<Solution_> {
 
-    private final Set<Object> elementsToRuinSet;
+    private Set<Object> elementsToRuinSet;
     // Store the original value list of elements that are not included in the initial list of ruined elements
     private final Map<Object, List<Object>> missingUpdatedElementsMap;
+    private @Nullable SolverScope<Solution_> nestedSolverScope = null;
 
     RuinRecreateConstructionHeuristicPhase(RuinRecreateConstructionHeuristicPhaseBuilder<Solution_> builder) {
         super(builder);
@@ -31,6 +35,35 @@ public final class RuinRecreateConstructionHeuristicPhase<Solution_>
         this.missingUpdatedElementsMap = new IdentityHashMap<>();
     }
 
+    /**
+     * Prepares the phase to run again, for the next move.
+     */
+    void reset(@Nullable Set<Object> elementsToRuin) {
+        this.elementsToRuinSet = Objects.requireNonNullElse(elementsToRuin, Collections.emptySet());
+        this.missingUpdatedElementsMap.clear();
+    }
+
+    /**
+     * The phase runs for every evaluated move, so the same nested solver scope is reused for every run.
+     *
+     * @param solverScope the scope of the solver which evaluates the move
+     * @param scoreDirector the score director to run the phase on
+     * @param randomSeed the seed of the working random of the nested solver scope
+     * @return the nested solver scope to run the phase with
+     */
+    public SolverScope<Solution_> prepareNestedSolverScope(SolverScope<Solution_> solverScope,
+            InnerScoreDirector<Solution_, ?> scoreDirector, long randomSeed) {
+        var result = nestedSolverScope;
+        if (result == null || result.getClock() != solverScope.getClock()) {
+            result = new SolverScope<>(solverScope.getClock());
+            nestedSolverScope = result;
+        }
+        result.setSolver(solverScope.getSolver());
+        result.setScoreDirector(scoreDirector);
+        result.setWorkingRandom(DefaultRandomSource.seeded(randomSeed));
+        return result;
+    }
+
     @Override
     protected ConstructionHeuristicPhaseScope<Solution_> buildPhaseScope(SolverScope<Solution_> solverScope, int phaseIndex) {
         return new RuinRecreateConstructionHeuristicPhaseScope<>(solverScope, phaseIndex);
@@ -1,5 +1,7 @@
 package ai.timefold.solver.core.impl.heuristic.selector.move.generic;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Set;
 
@@ -9,7 +11,6 @@ import ai.timefold.solver.core.config.heuristic.selector.entity.EntitySelectorCo
 import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
 import ai.timefold.solver.core.impl.constructionheuristic.DefaultConstructionHeuristicPhase;
 import ai.timefold.solver.core.impl.constructionheuristic.DefaultConstructionHeuristicPhase.DefaultConstructionHeuristicPhaseBuilder;
-import ai.timefold.solver.core.impl.constructionheuristic.decider.ConstructionHeuristicDecider;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.EntityPlacer;
 import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
@@ -31,8 +32,21 @@ public final class RuinRecreateConstructionHeuristicPhaseBuilder<Solution_>
 
     public static <Solution_> RuinRecreateConstructionHeuristicPhaseBuilder<Solution_> create(
             HeuristicConfigPolicy<Solution_> solverConfigPolicy, ConstructionHeuristicPhaseConfig constructionHeuristicConfig) {
+        return create(solverConfigPolicy, constructionHeuristicConfig, false, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param recreateInRuinedEntitiesOnly true to only recreate into the entities {@link #withElementsToRuin(Set) ruined}
+     * @param maximumMoveEvaluationCount the most moves to evaluate during a single recreate, as long as every
+     *        {@link #withElementsToRecreate(List) element to recreate} gets at least one evaluated move;
+     *        {@link Integer#MAX_VALUE} for no limit
+     */
+    public static <Solution_> RuinRecreateConstructionHeuristicPhaseBuilder<Solution_> create(
+            HeuristicConfigPolicy<Solution_> solverConfigPolicy, ConstructionHeuristicPhaseConfig constructionHeuristicConfig,
+            boolean recreateInRuinedEntitiesOnly, int maximumMoveEvaluationCount) {
         var constructionHeuristicPhaseFactory =
-                new RuinRecreateConstructionHeuristicPhaseFactory<Solution_>(constructionHeuristicConfig);
+                new RuinRecreateConstructionHeuristicPhaseFactory<Solution_>(constructionHeuristicConfig,
+                        recreateInRuinedEntitiesOnly, maximumMoveEvaluationCount);
         var builder = (RuinRecreateConstructionHeuristicPhaseBuilder<Solution_>) constructionHeuristicPhaseFactory.getBuilder(0,
                 false,
                 solverConfigPolicy, (SolverTermination<Solution_>) TerminationFactory
@@ -46,24 +60,30 @@ public final class RuinRecreateConstructionHeuristicPhaseBuilder<Solution_>
     private final HeuristicConfigPolicy<Solution_> configPolicy;
     private final RuinRecreateConstructionHeuristicPhaseFactory<Solution_> constructionHeuristicPhaseFactory;
     private final PhaseTermination<Solution_> phaseTermination;
+    private final RuinRecreateConstructionHeuristicDecider<Solution_> decider;
 
     Set<Object> elementsToRuin;
-    List<Object> elementsToRecreate;
+    private Set<Object> elementsToRecreate = Collections.emptySet();
     private boolean multithreaded = false;
 
+    // Built once and reused by every move that uses this builder.
+    private EntityPlacer<Solution_> filteredEntityPlacer = null;
+    private RuinRecreateConstructionHeuristicPhase<Solution_> phase = null;
+
     RuinRecreateConstructionHeuristicPhaseBuilder(HeuristicConfigPolicy<Solution_> configPolicy,
             RuinRecreateConstructionHeuristicPhaseFactory<Solution_> constructionHeuristicPhaseFactory,
             PhaseTermination<Solution_> phaseTermination, EntityPlacer<Solution_> entityPlacer,
-            ConstructionHeuristicDecider<Solution_> decider) {
+            RuinRecreateConstructionHeuristicDecider<Solution_> decider) {
         super(0, false, "", phaseTermination, entityPlacer, decider);
         this.configPolicy = configPolicy;
         this.constructionHeuristicPhaseFactory = constructionHeuristicPhaseFactory;
         this.phaseTermination = phaseTermination;
+        this.decider = decider;
     }
 
     /**
      * In a multithreaded environment, the builder will be shared among all moves and threads.
-     * Consequently, the list {@code elementsToRecreate} used by {@code getEntityPlacer} or the {@code decider},
+     * Consequently, the set {@code elementsToRecreate} used by {@code getEntityPlacer} or the {@code decider},
      * will be shared between the main and move threads.
      * This sharing can lead to race conditions.
      * The method creates a new copy of the builder and the decider to avoid race conditions.
@@ -79,7 +99,12 @@ public final class RuinRecreateConstructionHeuristicPhaseBuilder<Solution_>
     }
 
     public RuinRecreateConstructionHeuristicPhaseBuilder<Solution_> withElementsToRecreate(List<Object> elements) {
-        this.elementsToRecreate = elements;
+        if (elements == null || elements.isEmpty()) {
+            this.elementsToRecreate = Collections.emptySet();
+        } else {
+            this.elementsToRecreate = Collections.newSetFromMap(new IdentityHashMap<>(elements.size()));
+            this.elementsToRecreate.addAll(elements);
+        }
         return this;
     }
 
@@ -88,24 +113,32 @@ public final class RuinRecreateConstructionHeuristicPhaseBuilder<Solution_>
         return this;
     }
 
+    /**
+     * The placer is filtered once, by a filter which always reads the current {@code elementsToRecreate},
+     * so that it does not need to be rebuilt for every move.
+     */
     @Override
     public EntityPlacer<Solution_> getEntityPlacer() {
-        var placer = super.getEntityPlacer();
-        if (elementsToRecreate == null || elementsToRecreate.isEmpty()) {
-            return placer;
+        if (filteredEntityPlacer == null) {
+            filteredEntityPlacer = super.getEntityPlacer().rebuildWithFilter(
+                    (scoreDirector, selection) -> elementsToRecreate.isEmpty()
+                            || elementsToRecreate.contains(selection));
         }
-        return placer.rebuildWithFilter((scoreDirector, selection) -> {
-            for (var element : elementsToRecreate) {
-                if (selection == element) {
-                    return true;
-                }
-            }
-            return false;
-        });
+        return filteredEntityPlacer;
     }
 
+    /**
+     * Returns the same phase every time,
+     * prepared for the elements of the current move.
+     */
     @Override
     public DefaultConstructionHeuristicPhase<Solution_> build() {
-        return new RuinRecreateConstructionHeuristicPhase<>(this);
+        decider.setRuinedEntitySet(elementsToRuin);
+        if (phase == null) {
+            phase = new RuinRecreateConstructionHeuristicPhase<>(this);
+        } else {
+            phase.reset(elementsToRuin);
+        }
+        return phase;
     }
 }
@@ -11,8 +11,14 @@ import ai.timefold.solver.core.impl.solver.termination.SolverTermination;
 final class RuinRecreateConstructionHeuristicPhaseFactory<Solution_>
         extends DefaultConstructionHeuristicPhaseFactory<Solution_> {
 
-    RuinRecreateConstructionHeuristicPhaseFactory(ConstructionHeuristicPhaseConfig phaseConfig) {
+    private final boolean recreateInRuinedEntitiesOnly;
+    private final int maximumMoveEvaluationCount;
+
+    RuinRecreateConstructionHeuristicPhaseFactory(ConstructionHeuristicPhaseConfig phaseConfig,
+            boolean recreateInRuinedEntitiesOnly, int maximumMoveEvaluationCount) {
         super(phaseConfig);
+        this.recreateInRuinedEntitiesOnly = recreateInRuinedEntitiesOnly;
+        this.maximumMoveEvaluationCount = maximumMoveEvaluationCount;
     }
 
     @Override
@@ -28,7 +34,8 @@ final class RuinRecreateConstructionHeuristicPhaseFactory<Solution_>
     @Override
     protected RuinRecreateConstructionHeuristicDecider<Solution_> buildDecider(HeuristicConfigPolicy<Solution_> configPolicy,
             PhaseTermination<Solution_> termination) {
-        return new RuinRecreateConstructionHeuristicDecider<>(termination, buildForager(configPolicy));
+        return new RuinRecreateConstructionHeuristicDecider<>(termination, buildForager(configPolicy),
+                recreateInRuinedEntitiesOnly, maximumMoveEvaluationCount);
     }
 
 }
@@ -1,5 +1,7 @@
 package ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.ruin;
 
+import java.util.Objects;
+
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
 import ai.timefold.solver.core.config.heuristic.selector.common.SelectionOrder;
@@ -45,8 +47,18 @@ public final class ListRuinRecreateMoveSelectorFactory<Solution_>
 
         var constructionHeuristicPhaseConfig =
                 new ConstructionHeuristicPhaseConfig().withEntityPlacerConfig(entityPlacerConfig);
+        var recreateInRuinedEntitiesOnly =
+                Objects.requireNonNullElse(ruinMoveSelectorConfig.getRecreateInRuinedEntitiesOnly(), false);
+        var maximumRecreateMoveEvaluationCount = ruinMoveSelectorConfig.getMaximumRecreateMoveEvaluationCount();
+        if (maximumRecreateMoveEvaluationCount != null && maximumRecreateMoveEvaluationCount < 1) {
+            throw new IllegalArgumentException(
+                    "The moveSelectorConfig (%s) has a maximumRecreateMoveEvaluationCount (%d) which is lower than 1.%nMaybe remove the maximumRecreateMoveEvaluationCount to not limit the recreate."
+                            .formatted(ruinMoveSelectorConfig, maximumRecreateMoveEvaluationCount));
+        }
         var constructionHeuristicPhaseBuilder =
-                RuinRecreateConstructionHeuristicPhaseBuilder.create(configPolicy, constructionHeuristicPhaseConfig);
+                RuinRecreateConstructionHeuristicPhaseBuilder.create(configPolicy, constructionHeuristicPhaseConfig,
+                        recreateInRuinedEntitiesOnly,
+                        Objects.requireNonNullElse(maximumRecreateMoveEvaluationCount, Integer.MAX_VALUE));
         return new ListRuinRecreateMoveSelector<>(valueSelector, listVariableDescriptor, constructionHeuristicPhaseBuilder,
                 minimumSelectedSupplier, maximumSelectedSupplier);
     }
@@ -2,6 +2,7 @@ package ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.ruin;
 
 import java.util.ArrayList;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableSet;
@@ -18,12 +19,12 @@ import ai.timefold.solver.core.impl.heuristic.selector.move.generic.RuinRecreate
 import ai.timefold.solver.core.impl.move.MoveDirector;
 import ai.timefold.solver.core.impl.move.VariableChangeRecordingScoreDirector;
 import ai.timefold.solver.core.impl.score.director.VariableDescriptorAwareScoreDirector;
-import ai.timefold.solver.core.impl.solver.random.DefaultRandomSource;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 import ai.timefold.solver.core.preview.api.domain.metamodel.PositionInList;
 import ai.timefold.solver.core.preview.api.move.Move;
 
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 @NullMarked
 public final class SelectorBasedListRuinRecreateMove<Solution_> extends AbstractSelectorBasedMove<Solution_> {
@@ -36,6 +37,12 @@ public final class SelectorBasedListRuinRecreateMove<Solution_> extends Abstract
     private final Map<Object, NavigableSet<RuinedPosition>> entityToNewPositionMap;
     private final long randomSeed;
 
+    /**
+     * The affected entities, followed by the entities which the recreate inserted a ruined value into.
+     * Null until the move is executed.
+     */
+    private @Nullable SequencedSet<Object> changedEntitySet;
+
     /**
      * Prefer
      * {@link #SelectorBasedListRuinRecreateMove(ListVariableDescriptor, RuinRecreateConstructionHeuristicPhaseBuilder, SolverScope, List, SequencedSet, long)}
@@ -64,11 +71,13 @@ public final class SelectorBasedListRuinRecreateMove<Solution_> extends Abstract
         this.affectedEntitySet = affectedEntitySet;
         this.entityToNewPositionMap = new IdentityHashMap<>(affectedEntitySet.size());
         this.randomSeed = randomSeed;
+        this.changedEntitySet = null;
     }
 
     @Override
     protected void execute(VariableDescriptorAwareScoreDirector<Solution_> scoreDirector) {
         entityToNewPositionMap.clear();
+        var newChangedEntitySet = new LinkedHashSet<>(affectedEntitySet);
         var variableChangeRecordingScoreDirector =
                 scoreDirector instanceof VariableChangeRecordingScoreDirector<Solution_, ?> recordingScoreDirector
                         ? recordingScoreDirector
@@ -115,10 +124,8 @@ public final class SelectorBasedListRuinRecreateMove<Solution_> extends Abstract
                             .withElementsToRecreate(ruinedValueList)
                             .build();
 
-            var nestedSolverScope = new SolverScope<Solution_>(solverScope.getClock());
-            nestedSolverScope.setSolver(solverScope.getSolver());
-            nestedSolverScope.setScoreDirector(nonRecordingScoreDirector);
-            nestedSolverScope.setWorkingRandom(DefaultRandomSource.seeded(randomSeed));
+            var nestedSolverScope =
+                    constructionHeuristicPhase.prepareNestedSolverScope(solverScope, nonRecordingScoreDirector, randomSeed);
             constructionHeuristicPhase.solvingStarted(nestedSolverScope);
             constructionHeuristicPhase.solve(nestedSolverScope);
             constructionHeuristicPhase.solvingEnded(nestedSolverScope);
@@ -136,6 +143,7 @@ public final class SelectorBasedListRuinRecreateMove<Solution_> extends Abstract
                 }
                 entityToNewPositionMap.computeIfAbsent(position.entity(), ignored -> new TreeSet<>())
                         .add(new RuinedPosition(ruinedValue, position.index()));
+                newChangedEntitySet.add(position.entity());
                 entityToInsertedValuesMap.computeIfAbsent(position.entity(), ignored -> new ArrayList<>()).add(ruinedValue);
             }
 
@@ -175,11 +183,16 @@ public final class SelectorBasedListRuinRecreateMove<Solution_> extends Abstract
             nonRecordingScoreDirector.getSupplyManager()
                     .cancel(listVariableDescriptor.getStateDemand());
         }
+        changedEntitySet = newChangedEntitySet;
     }
 
+    /**
+     * Once executed, this also includes the entities which the recreate inserted a ruined value into,
+     * even if no value was ruined from them.
+     */
     @Override
     public SequencedCollection<Object> getPlanningEntities() {
-        return affectedEntitySet;
+        return changedEntitySet == null ? affectedEntitySet : changedEntitySet;
     }
 
     @Override
@@ -118,10 +118,16 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
 
     protected void doStep(LocalSearchStepScope<Solution_> stepScope) {
         var step = stepScope.getStep();
-        stepScope.getScoreDirector().executeMove(step);
+        var solverScope = stepScope.getPhaseScope().getSolverScope();
+        var bestSolutionDelta = solverScope.getBestSolutionDelta();
+        if (bestSolutionDelta == null) {
+            stepScope.getScoreDirector().executeMove(step);
+        } else {
+            // The best solution has not been cloned yet, so remember the way back to it.
+            bestSolutionDelta.addStepUndoMove(stepScope.getScoreDirector().executeMoveAndCreateUndoMove(step));
+        }
         predictWorkingStepScore(stepScope, step);
-        var solver = stepScope.getPhaseScope().getSolverScope().getSolver();
-        solver.getBestSolutionRecaller().processWorkingSolutionDuringStep(stepScope);
+        solverScope.getSolver().getBestSolutionRecaller().processWorkingSolutionDuringLocalSearchStep(stepScope);
     }
 
     @Override
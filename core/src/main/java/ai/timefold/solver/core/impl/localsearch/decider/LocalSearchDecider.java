@@ -11,6 +11,7 @@ import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
 import ai.timefold.solver.core.impl.neighborhood.MoveRepository;
 import ai.timefold.solver.core.impl.phase.scope.SolverLifecyclePoint;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 import ai.timefold.solver.core.impl.solver.termination.PhaseTermination;
 import ai.timefold.solver.core.impl.solver.termination.Termination;
@@ -33,6 +34,11 @@ public class LocalSearchDecider<Solution_> {
 
     protected boolean assertMoveScoreFromScratch = false;
     protected boolean assertExpectedUndoMoveScore = false;
+    /**
+     * Moves with a score worse than this are rejected by the acceptor during the current step;
+     * null if the acceptor has no such threshold.
+     */
+    private InnerScore<?> rejectionThreshold = null;
 
     public LocalSearchDecider(String logIndentation, PhaseTermination<Solution_> termination,
             MoveRepository<Solution_> moveRepository, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager) {
@@ -84,16 +90,47 @@ public class LocalSearchDecider<Solution_> {
         moveRepository.stepStarted(stepScope);
         acceptor.stepStarted(stepScope);
         forager.stepStarted(stepScope);
+        rejectionThreshold = acceptor.getRejectionThreshold(stepScope);
     }
 
     public void decideNextStep(LocalSearchStepScope<Solution_> stepScope) {
         var scoreDirector = stepScope.getScoreDirector();
         scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(true);
+        var evaluatedMoveCount = evaluateMoves(stepScope);
+        if (evaluatedMoveCount == 0 && forager.forgetSkippedMoves()
+                && !termination.isPhaseTerminated(stepScope.getPhaseScope())) {
+            // A finite move selector can run out of moves which are not skipped.
+            // Rather than ending the phase without a step, look at all of its moves again.
+            evaluateMoves(stepScope);
+        }
+        scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(false);
+        pickMove(stepScope);
+    }
+
+    /**
+     * @return the number of moves evaluated, not counting the moves which the forager skipped
+     */
+    private int evaluateMoves(LocalSearchStepScope<Solution_> stepScope) {
         var moveIndex = 0;
+        LocalSearchMoveScope<Solution_> reusableMoveScope = null;
         for (var move : moveRepository) {
-            var moveScope = new LocalSearchMoveScope<>(stepScope, moveIndex, move);
+            if (forager.skipsMove(move)) {
+                if (termination.isPhaseTerminated(stepScope.getPhaseScope())) {
+                    break;
+                }
+                continue;
+            }
+            LocalSearchMoveScope<Solution_> moveScope;
+            if (reusableMoveScope == null) {
+                moveScope = new LocalSearchMoveScope<>(stepScope, moveIndex, move);
+            } else {
+                moveScope = reusableMoveScope;
+                moveScope.reset(moveIndex, move);
+            }
             moveIndex++;
             doMove(moveScope);
+            // Most moves are neither accepted nor finalists; their move scope can be reused for the next move.
+            reusableMoveScope = forager.retains(moveScope) ? null : moveScope;
             if (forager.isQuitEarly()) {
                 break;
             }
@@ -102,10 +139,10 @@ public class LocalSearchDecider<Solution_> {
                 break;
             }
         }
-        scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(false);
-        pickMove(stepScope);
+        return moveIndex;
     }
 
+    @SuppressWarnings("unchecked")
     protected <Score_ extends Score<Score_>> void doMove(LocalSearchMoveScope<Solution_> moveScope) {
         var scoreDirector = moveScope.<Score_> getScoreDirector();
         var moveDirector = moveScope.getStepScope().<Score_> getMoveDirector();
@@ -114,18 +151,28 @@ public class LocalSearchDecider<Solution_> {
             throw new IllegalStateException("Impossible state: Local search move selector (%s) provided a non-doable move (%s)."
                     .formatted(moveRepository, move));
         }
-        var score = scoreDirector.executeTemporaryMove(moveScope.getMove(), assertMoveScoreFromScratch);
-        moveScope.setScore(score);
-        moveScope.setAccepted(acceptor.isAccepted(moveScope));
+        // Once the forager ignores rejected moves, the score of a move need only be calculated
+        // as far as it takes to tell whether the acceptor would reject it.
+        var threshold = forager.ignoresRejectedMoves() ? (InnerScore<Score_>) rejectionThreshold : null;
+        var score = scoreDirector.executeTemporaryMove(moveScope.getMove(), assertMoveScoreFromScratch, threshold);
+        if (score == null) { // Worse than the threshold, therefore rejected.
+            moveScope.setAccepted(false);
+        } else {
+            moveScope.setScore(score);
+            moveScope.setAccepted(acceptor.isAccepted(moveScope));
+        }
         forager.addMove(moveScope);
         if (assertExpectedUndoMoveScore) {
             scoreDirector.assertExpectedUndoMoveScore(moveScope.getMove(),
                     moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore(),
                     SolverLifecyclePoint.of(moveScope));
         }
-        logger.trace("{}        Move index ({}), score ({}), accepted ({}), move ({}).",
-                logIndentation, moveScope.getMoveIndex(), moveScope.getScore().raw(), moveScope.getAccepted(),
-                moveScope.getMove());
+        if (logger.isTraceEnabled()) {
+            var moveScore = moveScope.getScore();
+            logger.trace("{}        Move index ({}), score ({}), accepted ({}), move ({}).",
+                    logIndentation, moveScope.getMoveIndex(), moveScore == null ? "below " + threshold : moveScore.raw(),
+                    moveScope.getAccepted(), moveScope.getMove());
+        }
     }
 
     protected void pickMove(LocalSearchStepScope<Solution_> stepScope) {
@@ -147,6 +194,7 @@ public class LocalSearchDecider<Solution_> {
     }
 
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
+        rejectionThreshold = null;
         moveRepository.phaseEnded(phaseScope);
         acceptor.phaseEnded(phaseScope);
         forager.phaseEnded(phaseScope);
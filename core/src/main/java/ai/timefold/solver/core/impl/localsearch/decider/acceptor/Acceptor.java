@@ -1,10 +1,15 @@
 package ai.timefold.solver.core.impl.localsearch.decider.acceptor;
 
+import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForager;
 import ai.timefold.solver.core.impl.localsearch.event.LocalSearchPhaseLifecycleListener;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
 import ai.timefold.solver.core.preview.api.move.Move;
 
+import org.jspecify.annotations.Nullable;
+
 /**
  * An Acceptor accepts or rejects a selected {@link Move}.
  * Note that the {@link LocalSearchForager} can still ignore the advice of the {@link Acceptor}.
@@ -19,4 +24,17 @@ public interface Acceptor<Solution_> extends LocalSearchPhaseLifecycleListener<S
      */
     boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope);
 
+    /**
+     * Every move with a score worse than the returned threshold is rejected by {@link #isAccepted},
+     * so the score calculation of such a move can stop as soon as it is certain to be worse.
+     * Called after {@link #stepStarted}; the threshold holds for the entire step.
+     *
+     * @param stepScope never null
+     * @return null if there is no such threshold, for example because worse moves are sometimes accepted
+     */
+    default <Score_ extends Score<Score_>> @Nullable InnerScore<Score_>
+            getRejectionThreshold(LocalSearchStepScope<Solution_> stepScope) {
+        return null;
+    }
+
 }
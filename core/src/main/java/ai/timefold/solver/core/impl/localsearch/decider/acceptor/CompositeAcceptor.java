@@ -3,11 +3,15 @@ package ai.timefold.solver.core.impl.localsearch.decider.acceptor;
 import java.util.Arrays;
 import java.util.List;
 
+import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 
+import org.jspecify.annotations.Nullable;
+
 /**
  * Combines several acceptors into one.
  * Does a logical AND over the accepted status of its acceptors.
@@ -61,6 +65,22 @@ public class CompositeAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
         return true;
     }
 
+    /**
+     * A move is rejected as soon as any acceptor rejects it, so the highest threshold applies.
+     */
+    @Override
+    public <Score_ extends Score<Score_>> @Nullable InnerScore<Score_>
+            getRejectionThreshold(LocalSearchStepScope<Solution_> stepScope) {
+        InnerScore<Score_> highestThreshold = null;
+        for (Acceptor<Solution_> acceptor : acceptorList) {
+            InnerScore<Score_> threshold = acceptor.getRejectionThreshold(stepScope);
+            if (threshold != null && (highestThreshold == null || threshold.compareTo(highestThreshold) > 0)) {
+                highestThreshold = threshold;
+            }
+        }
+        return highestThreshold;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         for (Acceptor<Solution_> acceptor : acceptorList) {
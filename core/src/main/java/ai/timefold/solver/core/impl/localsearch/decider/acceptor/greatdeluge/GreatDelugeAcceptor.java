@@ -5,6 +5,7 @@ import ai.timefold.solver.core.impl.localsearch.decider.acceptor.AbstractAccepto
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
 
 public class GreatDelugeAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
 
@@ -71,6 +72,16 @@ public class GreatDelugeAcceptor<Solution_> extends AbstractAcceptor<Solution_>
         return moveScore.compareTo(lastStepScore) > 0; // Aspiration
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <Score_ extends Score<Score_>> InnerScore<Score_>
+            getRejectionThreshold(LocalSearchStepScope<Solution_> stepScope) {
+        // A move below both the water level and the last step score fails the aspiration too.
+        var waterLevel = (Score_) currentWaterLevel;
+        var lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().<Score_> getScore().raw();
+        return InnerScore.fullyAssigned(waterLevel.compareTo(lastStepScore) <= 0 ? waterLevel : lastStepScore);
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
@@ -1,7 +1,9 @@
 package ai.timefold.solver.core.impl.localsearch.decider.acceptor.hillclimbing;
 
+import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
 import ai.timefold.solver.core.impl.score.director.InnerScore;
 
 public class HillClimbingAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
@@ -14,4 +16,10 @@ public class HillClimbingAcceptor<Solution_> extends AbstractAcceptor<Solution_>
         return moveScore.compareTo(lastStepScore) >= 0;
     }
 
+    @Override
+    public <Score_ extends Score<Score_>> InnerScore<Score_>
+            getRejectionThreshold(LocalSearchStepScope<Solution_> stepScope) {
+        return stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+    }
+
 }
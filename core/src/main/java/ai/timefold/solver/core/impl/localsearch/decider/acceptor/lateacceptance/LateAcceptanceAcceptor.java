@@ -61,6 +61,17 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
         return false;
     }
 
+    @Override
+    public <Score_ extends Score<Score_>> InnerScore<Score_>
+            getRejectionThreshold(LocalSearchStepScope<Solution_> stepScope) {
+        InnerScore<Score_> lateScore = scoreBuffer.getCurrent();
+        if (!hillClimbingEnabled) {
+            return lateScore;
+        }
+        InnerScore<Score_> lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        return lateScore.compareTo(lastStepScore) <= 0 ? lateScore : lastStepScore;
+    }
+
     @Override
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
         super.stepStarted(stepScope);
@@ -1,5 +1,6 @@
 package ai.timefold.solver.core.impl.localsearch.decider.acceptor.stepcountinghillclimbing;
 
+import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.config.localsearch.decider.acceptor.stepcountinghillclimbing.StepCountingHillClimbingType;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
@@ -51,6 +52,15 @@ public class StepCountingHillClimbingAcceptor<Solution_> extends AbstractAccepto
         return moveScore.compareTo(thresholdScore) >= 0;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <Score_ extends Score<Score_>> InnerScore<Score_>
+            getRejectionThreshold(LocalSearchStepScope<Solution_> stepScope) {
+        InnerScore<Score_> lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        var castThresholdScore = (InnerScore<Score_>) thresholdScore;
+        return lastStepScore.compareTo(castThresholdScore) <= 0 ? lastStepScore : castThresholdScore;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
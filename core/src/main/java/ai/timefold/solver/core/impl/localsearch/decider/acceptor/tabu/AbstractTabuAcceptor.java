@@ -1,9 +1,6 @@
 package ai.timefold.solver.core.impl.localsearch.decider.acceptor.tabu;
 
 import java.util.Collection;
-import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.Map;
 
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.Acceptor;
@@ -26,6 +23,7 @@ public abstract sealed class AbstractTabuAcceptor<Solution_>
         permits EntityTabuAcceptor, MoveTabuAcceptor, ValueTabuAcceptor {
 
     private final String logIndentation;
+    private final boolean tabuIdentityComparable;
 
     private @Nullable TabuSizeStrategy<Solution_> tabuSizeStrategy = null;
     private @Nullable TabuSizeStrategy<Solution_> fadingTabuSizeStrategy = null;
@@ -33,13 +31,19 @@ public abstract sealed class AbstractTabuAcceptor<Solution_>
 
     private boolean assertTabuHashCodeCorrectness = false;
 
-    private Map<@Nullable Object, Integer> tabuToStepIndexMap = Collections.emptyMap(); // Avoid @Nullable.
+    private @Nullable TabuStore tabuStore = null;
 
     private int workingTabuSize = -1;
     private int workingFadingTabuSize = -1;
 
-    protected AbstractTabuAcceptor(String logIndentation) {
+    /**
+     * @param logIndentation never null
+     * @param tabuIdentityComparable true if two tabus are only equal if they are the same instance,
+     *        which allows to skip {@link Object#hashCode()} and {@link Object#equals(Object)}
+     */
+    protected AbstractTabuAcceptor(String logIndentation, boolean tabuIdentityComparable) {
         this.logIndentation = logIndentation;
+        this.tabuIdentityComparable = tabuIdentityComparable;
     }
 
     public void setTabuSizeStrategy(TabuSizeStrategy<Solution_> tabuSizeStrategy) {
@@ -71,13 +75,13 @@ public abstract sealed class AbstractTabuAcceptor<Solution_>
         workingFadingTabuSize = fadingTabuSizeStrategy == null ? 0
                 : fadingTabuSizeStrategy.determineTabuSize(lastCompletedStepScope);
         var totalTabuListSize = workingTabuSize + workingFadingTabuSize; // is at least 1
-        tabuToStepIndexMap = LinkedHashMap.newLinkedHashMap(totalTabuListSize);
+        tabuStore = new TabuStore(tabuIdentityComparable, totalTabuListSize);
     }
 
     @Override
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
-        tabuToStepIndexMap = Collections.emptyMap();
+        tabuStore = null;
         workingTabuSize = -1;
         workingFadingTabuSize = -1;
     }
@@ -92,34 +96,22 @@ public abstract sealed class AbstractTabuAcceptor<Solution_>
     }
 
     protected void adjustTabuList(int tabuStepIndex, Collection<@Nullable Object> tabus) {
+        var store = getTabuStore();
         var totalTabuListSize = workingTabuSize + workingFadingTabuSize; // is at least 1
         // Remove the oldest tabu(s).
-        var it = tabuToStepIndexMap.keySet().iterator();
-        while (it.hasNext()) {
-            var oldTabu = it.next();
-            var oldTabuStepIndexInteger = tabuToStepIndexMap.get(oldTabu);
-            if (oldTabuStepIndexInteger == null) {
-                // oldTabu not null here, as null is a valid key and therefore has a valid corresponding value.
-                throw createHashcodeStabilityViolationException(oldTabu);
-            }
-            var oldTabuStepCount = tabuStepIndex - oldTabuStepIndexInteger; // at least 1
-            if (oldTabuStepCount < totalTabuListSize) {
-                break;
-            }
-            it.remove();
-        }
-        // Add the new tabu(s)
+        store.expire(tabuStepIndex, totalTabuListSize);
+        // Add the new tabu(s); a tabu which is already tabu moves to the end of the line.
         for (var tabu : tabus) {
-            // Push tabu to the end of the line; remove+put has that effect in LinkedHashMap.
-            tabuToStepIndexMap.remove(tabu);
-            tabuToStepIndexMap.put(tabu, tabuStepIndex);
+            store.put(tabu, tabuStepIndex);
         }
     }
 
-    private static IllegalStateException createHashcodeStabilityViolationException(Object tabu) {
-        return new IllegalStateException(
-                "HashCode stability violation: the hashCode() of tabu (%s) of class (%s) changed during planning, since it was inserted in the tabu Map."
-                        .formatted(tabu, tabu.getClass()));
+    private TabuStore getTabuStore() {
+        if (tabuStore == null) {
+            throw new IllegalStateException("Impossible state: the tabu acceptor (%s) is used outside of a phase."
+                    .formatted(this));
+        }
+        return tabuStore;
     }
 
     @Override
@@ -155,32 +147,38 @@ public abstract sealed class AbstractTabuAcceptor<Solution_>
     }
 
     private int locateMaximumTabuStepIndex(LocalSearchMoveScope<Solution_> moveScope) {
+        var store = getTabuStore();
         var checkingTabus = findTabu(moveScope);
         var maximumTabuStepIndex = -1;
         for (var checkingTabu : checkingTabus) {
-            var tabuStepIndexInteger = tabuToStepIndexMap.get(checkingTabu);
-            if (tabuStepIndexInteger != null) {
-                maximumTabuStepIndex = Math.max(tabuStepIndexInteger, maximumTabuStepIndex);
-            }
+            var tabuStepIndex = store.get(checkingTabu);
+            maximumTabuStepIndex = Math.max(tabuStepIndex, maximumTabuStepIndex); // ABSENT is -1.
             if (assertTabuHashCodeCorrectness) {
-                for (var tabu : tabuToStepIndexMap.keySet()) {
+                store.forEachTabu(tabu -> {
                     // tabu and checkingTabu can be null with a planning variable which allows unassigned values
-                    if (tabu != null && tabu.equals(checkingTabu)) {
-                        if (tabu.hashCode() != checkingTabu.hashCode()) {
+                    if (tabu != null && isSameTabu(tabu, checkingTabu)) {
+                        if (!tabuIdentityComparable && tabu.hashCode() != checkingTabu.hashCode()) {
                             throw new IllegalStateException(
                                     "HashCode/equals contract violation: tabu (%s) of class (%s) and checkingTabu (%s) are equals() but have a different hashCode()."
                                             .formatted(tabu, tabu.getClass(), checkingTabu));
                         }
-                        if (tabuStepIndexInteger == null) {
-                            throw createHashcodeStabilityViolationException(tabu);
+                        if (tabuStepIndex == TabuStore.ABSENT) {
+                            throw TabuStore.createHashcodeStabilityViolationException(tabu);
                         }
                     }
-                }
+                });
             }
         }
         return maximumTabuStepIndex;
     }
 
+    /**
+     * As the {@link TabuStore}, which ignores {@link Object#equals(Object)} if the tabus are identity comparable.
+     */
+    private boolean isSameTabu(Object tabu, @Nullable Object checkingTabu) {
+        return tabuIdentityComparable ? tabu == checkingTabu : tabu.equals(checkingTabu);
+    }
+
     /**
      * @param fadingTabuStepCount {@code 0 < fadingTabuStepCount <= fadingTabuSize}
      * @return in absolute value, the accept chance;
@@ -11,7 +11,8 @@ import org.jspecify.annotations.NullMarked;
 public final class EntityTabuAcceptor<Solution_> extends AbstractTabuAcceptor<Solution_> {
 
     public EntityTabuAcceptor(String logIndentation) {
-        super(logIndentation);
+        // Every planning entity of the working solution is a distinct instance.
+        super(logIndentation, true);
     }
 
     // ************************************************************************
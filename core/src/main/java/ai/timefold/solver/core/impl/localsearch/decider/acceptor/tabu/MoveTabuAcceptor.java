@@ -12,7 +12,7 @@ import org.jspecify.annotations.NullMarked;
 public final class MoveTabuAcceptor<Solution_> extends AbstractTabuAcceptor<Solution_> {
 
     public MoveTabuAcceptor(String logIndentation) {
-        super(logIndentation);
+        super(logIndentation, false);
     }
 
     // ************************************************************************
@@ -0,0 +1,136 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor.tabu;
+
+import java.util.function.Consumer;
+
+import ai.timefold.solver.core.impl.util.ObjectIntMap;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Maps every tabu to the step index at which it last became tabu.
+ * <p>
+ * The tabus are kept in an {@link ObjectIntMap},
+ * so that looking up a tabu neither allocates nor boxes.
+ * A ring buffer remembers the tabus in the order in which they were put,
+ * so that expiring the oldest tabus does not need to scan the table.
+ * When a tabu is put again, its old ring entry goes stale and is skipped when it reaches the head of the ring.
+ * <p>
+ * Tabus are compared either by identity or by {@link Object#equals(Object)}.
+ * Null is a valid tabu.
+ */
+@NullMarked
+final class TabuStore {
+
+    static final int ABSENT = ObjectIntMap.ABSENT;
+
+    private static final Object NULL_TABU = new Object();
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private final ObjectIntMap table;
+
+    private Object[] ringKeys;
+    private int[] ringStepIndices;
+    private int ringHead = 0;
+    private int ringSize = 0;
+
+    /**
+     * @param identity true to compare tabus by identity, false to compare them by {@link Object#equals(Object)}
+     * @param expectedTabuCount the number of tabus expected to be tabu at the same time
+     */
+    TabuStore(boolean identity, int expectedTabuCount) {
+        var ringCapacity = Math.max(MINIMUM_CAPACITY, Integer.highestOneBit(Math.max(1, expectedTabuCount - 1)) << 1);
+        this.table = new ObjectIntMap(identity, ringCapacity);
+        this.ringKeys = new Object[ringCapacity];
+        this.ringStepIndices = new int[ringCapacity];
+    }
+
+    int size() {
+        return table.size();
+    }
+
+    /**
+     * @param tabu sometimes null
+     * @return the step index at which the tabu last became tabu, or {@link #ABSENT}
+     */
+    int get(@Nullable Object tabu) {
+        return table.get(tabu == null ? NULL_TABU : tabu);
+    }
+
+    /**
+     * Makes the tabu tabu at the given step index, which moves it to the end of the line.
+     *
+     * @param tabu sometimes null
+     * @param stepIndex never lower than the step index of any earlier call
+     */
+    void put(@Nullable Object tabu, int stepIndex) {
+        var key = tabu == null ? NULL_TABU : tabu;
+        var oldStepIndex = table.put(key, stepIndex); // Any old ring entry of the tabu is now stale.
+        if (oldStepIndex == stepIndex) { // Already put during this step.
+            return;
+        }
+        if (ringSize == ringKeys.length) {
+            resizeRing(ringKeys.length << 1);
+        }
+        var ringIndex = (ringHead + ringSize) & (ringKeys.length - 1);
+        ringKeys[ringIndex] = key;
+        ringStepIndices[ringIndex] = stepIndex;
+        ringSize++;
+    }
+
+    /**
+     * Removes every tabu which became tabu at least {@code totalTabuSize} steps before the given step index.
+     *
+     * @param stepIndex the current step index
+     * @param totalTabuSize at least 1
+     * @throws IllegalStateException if the hashCode() of an expiring tabu changed since it was put
+     */
+    void expire(int stepIndex, int totalTabuSize) {
+        while (ringSize > 0) {
+            var ringStepIndex = ringStepIndices[ringHead];
+            if (stepIndex - ringStepIndex < totalTabuSize) {
+                break;
+            }
+            var key = ringKeys[ringHead];
+            ringKeys[ringHead] = NULL_TABU; // Do not hold on to the tabu.
+            ringHead = (ringHead + 1) & (ringKeys.length - 1);
+            ringSize--;
+            var tableStepIndex = table.get(key);
+            if (tableStepIndex == ABSENT) {
+                throw createHashcodeStabilityViolationException(key);
+            }
+            if (tableStepIndex == ringStepIndex) {
+                table.remove(key);
+            } // Otherwise the ring entry is stale, as the tabu was put again later.
+        }
+    }
+
+    /**
+     * Only meant for assertions, as it is slow.
+     *
+     * @param consumer receives every tabu, sometimes null
+     */
+    void forEachTabu(Consumer<@Nullable Object> consumer) {
+        table.forEachKey(key -> consumer.accept(key == NULL_TABU ? null : key));
+    }
+
+    static IllegalStateException createHashcodeStabilityViolationException(Object tabu) {
+        return new IllegalStateException(
+                "HashCode stability violation: the hashCode() of tabu (%s) of class (%s) changed during planning, since it was inserted in the tabu Map."
+                        .formatted(tabu, tabu.getClass()));
+    }
+
+    private void resizeRing(int newCapacity) {
+        var newKeys = new Object[newCapacity];
+        var newStepIndices = new int[newCapacity];
+        for (var i = 0; i < ringSize; i++) {
+            var ringIndex = (ringHead + i) & (ringKeys.length - 1);
+            newKeys[i] = ringKeys[ringIndex];
+            newStepIndices[i] = ringStepIndices[ringIndex];
+        }
+        ringKeys = newKeys;
+        ringStepIndices = newStepIndices;
+        ringHead = 0;
+    }
+
+}
@@ -12,7 +12,7 @@ import org.jspecify.annotations.Nullable;
 public final class ValueTabuAcceptor<Solution_> extends AbstractTabuAcceptor<Solution_> {
 
     public ValueTabuAcceptor(String logIndentation) {
-        super(logIndentation);
+        super(logIndentation, false);
     }
 
     // ************************************************************************
@@ -8,6 +8,9 @@ import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.preview.api.move.Move;
+
+import org.jspecify.annotations.Nullable;
 
 /**
  * A {@link LocalSearchForager} which forages accepted moves and ignores unaccepted moves.
@@ -21,6 +24,7 @@ public final class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSe
     private final LocalSearchPickEarlyType pickEarlyType;
     private final int acceptedCountLimit;
     private final boolean breakTieRandomly;
+    private final @Nullable DontLookBits<Solution_> dontLookBits;
 
     private long selectedMoveCount;
     private long acceptedMoveCount;
@@ -28,6 +32,17 @@ public final class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSe
 
     public AcceptedLocalSearchForager(FinalistPodium<Solution_> finalistPodium,
             LocalSearchPickEarlyType pickEarlyType, int acceptedCountLimit, boolean breakTieRandomly) {
+        this(finalistPodium, pickEarlyType, acceptedCountLimit, breakTieRandomly, null);
+    }
+
+    /**
+     * @param dontLookPatience null if moves are never skipped;
+     *        otherwise the number of moves which failed to improve the last step score,
+     *        after which the moves touching only the same entities are skipped until one of those entities changes
+     */
+    public AcceptedLocalSearchForager(FinalistPodium<Solution_> finalistPodium,
+            LocalSearchPickEarlyType pickEarlyType, int acceptedCountLimit, boolean breakTieRandomly,
+            @Nullable Integer dontLookPatience) {
         this.finalistPodium = finalistPodium;
         this.pickEarlyType = pickEarlyType;
         this.acceptedCountLimit = acceptedCountLimit;
@@ -36,6 +51,7 @@ public final class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSe
                     + ") cannot be negative or zero.");
         }
         this.breakTieRandomly = breakTieRandomly;
+        this.dontLookBits = dontLookPatience == null ? null : new DontLookBits<>(dontLookPatience);
     }
 
     // ************************************************************************
@@ -52,6 +68,9 @@ public final class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSe
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
         finalistPodium.phaseStarted(phaseScope);
+        if (dontLookBits != null) {
+            dontLookBits.phaseStarted(phaseScope.getSolutionDescriptor());
+        }
     }
 
     @Override
@@ -69,9 +88,22 @@ public final class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSe
         return acceptedCountLimit < Integer.MAX_VALUE;
     }
 
+    @Override
+    public boolean skipsMove(Move<Solution_> move) {
+        return dontLookBits != null && dontLookBits.skips(move);
+    }
+
+    @Override
+    public boolean forgetSkippedMoves() {
+        return dontLookBits != null && dontLookBits.forgetSkippedMoves();
+    }
+
     @Override
     public void addMove(LocalSearchMoveScope<Solution_> moveScope) {
         selectedMoveCount++;
+        if (dontLookBits != null) {
+            dontLookBits.addMove(moveScope);
+        }
         moveScope.getStepScope().getPhaseScope().addMoveEvaluationCount(moveScope.getMove(), 1);
         if (moveScope.getAccepted()) {
             acceptedMoveCount++;
@@ -80,6 +112,17 @@ public final class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSe
         finalistPodium.addMove(moveScope);
     }
 
+    @Override
+    public boolean retains(LocalSearchMoveScope<Solution_> moveScope) {
+        return earlyPickedMoveScope == moveScope || finalistPodium.retains(moveScope);
+    }
+
+    @Override
+    public boolean ignoresRejectedMoves() {
+        // Until a move is accepted, the best rejected move is kept as a finalist in case none will be.
+        return finalistPodium.hasAcceptedFinalist();
+    }
+
     private <Score_ extends Score<Score_>> void checkPickEarly(LocalSearchMoveScope<Solution_> moveScope) {
         switch (pickEarlyType) {
             case NEVER:
@@ -129,12 +172,18 @@ public final class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSe
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
         finalistPodium.stepEnded(stepScope);
+        if (dontLookBits != null) {
+            dontLookBits.stepEnded(stepScope);
+        }
     }
 
     @Override
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
         finalistPodium.phaseEnded(phaseScope);
+        if (dontLookBits != null) {
+            dontLookBits.clear();
+        }
         selectedMoveCount = 0L;
         acceptedMoveCount = 0L;
         earlyPickedMoveScope = null;
@@ -0,0 +1,214 @@
+package ai.timefold.solver.core.impl.localsearch.decider.forager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.util.MutableInt;
+import ai.timefold.solver.core.preview.api.move.Move;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Remembers the planning entities around which the recent moves did not improve the score,
+ * so that moves which touch only such entities need not be evaluated again
+ * until one of those entities changes.
+ * <p>
+ * An entity is "not looked at" once moves touching it failed to improve the last step score
+ * {@link #patience} times without an improving move in between.
+ * Any step which changes an entity clears its bit,
+ * as the moves around that entity might then improve the score again.
+ * <p>
+ * For a model with only a list variable, the bits are kept per planning value instead,
+ * keyed by {@link Move#getPlanningValues()}.
+ * Otherwise a few failed moves within a list would stop every move into that list.
+ * A step clears the bits of the values it moved and of every value in the lists it changed,
+ * as their neighbors might have changed.
+ * <p>
+ * Moves which do not implement {@link Move#getPlanningEntities()},
+ * or {@link Move#getPlanningValues()} for a model with only a list variable, are never skipped.
+ *
+ * @param <Solution_>
+ */
+@NullMarked
+final class DontLookBits<Solution_> {
+
+    private final int patience;
+    private final Map<Object, MutableInt> keyToFailureCountMap = new IdentityHashMap<>();
+    private final Set<Class<?>> entityUnsupportedMoveClassSet = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Class<?>> valueUnsupportedMoveClassSet = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Null unless the model has only a list variable, in which case the bits are kept per planning value.
+     */
+    private @Nullable ListVariableDescriptor<Solution_> listVariableDescriptor = null;
+    private long consecutiveSkipCount = 0L;
+    /**
+     * The keys of a move are computed once, for both {@link #skips(Move)} and {@link #addMove(LocalSearchMoveScope)}.
+     */
+    private @Nullable Move<Solution_> lastMove = null;
+    private @Nullable Collection<@Nullable Object> lastMoveKeys = null;
+
+    DontLookBits(int patience) {
+        if (patience < 1) {
+            throw new IllegalArgumentException("The dontLookPatience (%d) cannot be negative or zero."
+                    .formatted(patience));
+        }
+        this.patience = patience;
+    }
+
+    void phaseStarted(SolutionDescriptor<Solution_> solutionDescriptor) {
+        clear();
+        listVariableDescriptor = solutionDescriptor.hasListVariable() && !solutionDescriptor.hasBasicVariable()
+                ? solutionDescriptor.getListVariableDescriptor()
+                : null;
+    }
+
+    /**
+     * @param move never null, not yet executed
+     * @return true if every entity (or value) the move touches has run out of patience
+     */
+    boolean skips(Move<Solution_> move) {
+        var keys = getMoveKeys(move);
+        if (keys == null || keys.isEmpty()) {
+            // Some moves only know their entities once executed.
+            consecutiveSkipCount = 0L;
+            return false;
+        }
+        for (var key : keys) {
+            var failureCount = keyToFailureCountMap.get(key);
+            if (failureCount == null || failureCount.intValue() < patience) {
+                consecutiveSkipCount = 0L;
+                return false;
+            }
+        }
+        if (consecutiveSkipCount >= keyToFailureCountMap.size()) {
+            // Protects a never ending move selector from only ever selecting skipped moves;
+            // everything is looked at again.
+            keyToFailureCountMap.clear();
+            consecutiveSkipCount = 0L;
+            return false;
+        }
+        consecutiveSkipCount++;
+        return true;
+    }
+
+    /**
+     * Only called when the step has not evaluated any move,
+     * so every move selected during the step has been skipped.
+     *
+     * @return true if any move was skipped during this step
+     */
+    boolean forgetSkippedMoves() {
+        if (consecutiveSkipCount == 0L) {
+            return false;
+        }
+        keyToFailureCountMap.clear();
+        consecutiveSkipCount = 0L;
+        return true;
+    }
+
+    <Score_ extends Score<Score_>> void addMove(LocalSearchMoveScope<Solution_> moveScope) {
+        var keys = getMoveKeys(moveScope.getMove());
+        if (keys == null) {
+            return;
+        }
+        var lastStepScore = moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().<Score_> getScore();
+        var score = moveScope.<Score_> getScore();
+        // A move without a score was rejected before its score was calculated in full.
+        if (score != null && score.compareTo(lastStepScore) > 0) {
+            for (var key : keys) {
+                keyToFailureCountMap.remove(key);
+            }
+        } else {
+            for (var key : keys) {
+                keyToFailureCountMap.computeIfAbsent(key, k -> new MutableInt()).increment();
+            }
+        }
+    }
+
+    void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
+        consecutiveSkipCount = 0L;
+        lastMove = null;
+        lastMoveKeys = null;
+        var step = stepScope.getStep();
+        if (step == null) {
+            return;
+        }
+        var entities = getPlanningEntities(step);
+        if (entities == null) {
+            // The step changed entities which are not known, so none of the bits can be trusted.
+            keyToFailureCountMap.clear();
+            return;
+        }
+        if (listVariableDescriptor == null) {
+            for (var entity : entities) {
+                keyToFailureCountMap.remove(entity);
+            }
+            return;
+        }
+        var values = getPlanningValues(step);
+        if (values == null) {
+            keyToFailureCountMap.clear();
+            return;
+        }
+        for (var value : values) {
+            keyToFailureCountMap.remove(value);
+        }
+        for (var entity : entities) {
+            for (var value : listVariableDescriptor.getValue(entity)) {
+                keyToFailureCountMap.remove(value);
+            }
+        }
+    }
+
+    void clear() {
+        keyToFailureCountMap.clear();
+        consecutiveSkipCount = 0L;
+        lastMove = null;
+        lastMoveKeys = null;
+    }
+
+    private @Nullable Collection<@Nullable Object> getMoveKeys(Move<Solution_> move) {
+        if (move != lastMove) {
+            lastMove = move;
+            lastMoveKeys = listVariableDescriptor == null ? getPlanningEntities(move) : getPlanningValues(move);
+        }
+        return lastMoveKeys;
+    }
+
+    private @Nullable Collection<@Nullable Object> getPlanningEntities(Move<Solution_> move) {
+        var moveClass = move.getClass();
+        if (entityUnsupportedMoveClassSet.contains(moveClass)) {
+            return null;
+        }
+        try {
+            return move.getPlanningEntities();
+        } catch (UnsupportedOperationException e) {
+            entityUnsupportedMoveClassSet.add(moveClass);
+            return null;
+        }
+    }
+
+    private @Nullable Collection<@Nullable Object> getPlanningValues(Move<Solution_> move) {
+        var moveClass = move.getClass();
+        if (valueUnsupportedMoveClassSet.contains(moveClass)) {
+            return null;
+        }
+        try {
+            return move.getPlanningValues();
+        } catch (UnsupportedOperationException e) {
+            valueUnsupportedMoveClassSet.add(moveClass);
+            return null;
+        }
+    }
+
+}
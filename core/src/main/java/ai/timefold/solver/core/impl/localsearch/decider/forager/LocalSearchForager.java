@@ -5,6 +5,7 @@ import ai.timefold.solver.core.impl.localsearch.decider.LocalSearchDecider;
 import ai.timefold.solver.core.impl.localsearch.event.LocalSearchPhaseLifecycleListener;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.preview.api.move.Move;
 
 /**
  * Collects the moves and picks the next step from those for the {@link LocalSearchDecider}.
@@ -18,11 +19,45 @@ public interface LocalSearchForager<Solution_> extends LocalSearchPhaseLifecycle
      */
     boolean supportsNeverEndingMoveSelector();
 
+    /**
+     * Called before a move is evaluated.
+     * A skipped move is not evaluated and not {@link #addMove(LocalSearchMoveScope) added}.
+     *
+     * @param move never null, not yet executed
+     * @return true if the move need not be evaluated during this step
+     */
+    boolean skipsMove(Move<Solution_> move);
+
+    /**
+     * Called when a step has skipped every move it selected,
+     * for example because a finite move selector has no other moves left.
+     * Moves are no longer skipped afterwards, so the step can select its moves again.
+     *
+     * @return true if any move was skipped during this step
+     */
+    boolean forgetSkippedMoves();
+
     /**
      * @param moveScope never null
      */
     void addMove(LocalSearchMoveScope<Solution_> moveScope);
 
+    /**
+     * If false, the caller may {@link LocalSearchMoveScope#reset reuse} the move scope for another move.
+     *
+     * @param moveScope never null, the move scope last passed to {@link #addMove(LocalSearchMoveScope)}
+     * @return true if this forager still holds on to the move scope, for example as a finalist
+     */
+    boolean retains(LocalSearchMoveScope<Solution_> moveScope);
+
+    /**
+     * If true, the caller may skip calculating the entire score of a move which the acceptor rejects,
+     * as that move can no longer be picked during this step.
+     *
+     * @return true if moves which are not accepted are ignored for the rest of this step
+     */
+    boolean ignoresRejectedMoves();
+
     /**
      * @return true if no further moves should be selected (and evaluated) for this step.
      */
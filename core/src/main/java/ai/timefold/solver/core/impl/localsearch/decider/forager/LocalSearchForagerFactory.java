@@ -25,7 +25,14 @@ public class LocalSearchForagerFactory<Solution_> {
                 Objects.requireNonNullElse(foragerConfig.getFinalistPodiumType(), FinalistPodiumType.HIGHEST_SCORE);
         // Breaking ties randomly leads to better results statistically
         boolean breakTieRandomly_ = Objects.requireNonNullElse(foragerConfig.getBreakTieRandomly(), true);
+        // Unless configured, every move is evaluated
+        var dontLookPatience = foragerConfig.getDontLookPatience();
+        if (dontLookPatience != null && dontLookPatience < 1) {
+            throw new IllegalArgumentException(
+                    "The forager's dontLookPatience (%d) cannot be negative or zero.%nMaybe remove the dontLookPatience to evaluate every move."
+                            .formatted(dontLookPatience));
+        }
         return new AcceptedLocalSearchForager<>(finalistPodiumType_.buildFinalistPodium(), pickEarlyType_,
-                acceptedCountLimit_, breakTieRandomly_);
+                acceptedCountLimit_, breakTieRandomly_, dontLookPatience);
     }
 }
@@ -41,6 +41,17 @@ public abstract class AbstractFinalistPodium<Solution_> extends LocalSearchPhase
         finalistList.add(moveScope);
     }
 
+    @Override
+    public boolean retains(LocalSearchMoveScope<Solution_> moveScope) {
+        // A finalist is always added at the end, so only the last one can be the move scope which was added last.
+        return !finalistList.isEmpty() && finalistList.getLast() == moveScope;
+    }
+
+    @Override
+    public boolean hasAcceptedFinalist() {
+        return finalistIsAccepted;
+    }
+
     @Override
     public List<LocalSearchMoveScope<Solution_>> getFinalistList() {
         return finalistList;
@@ -21,6 +21,21 @@ public interface FinalistPodium<Solution_> extends LocalSearchPhaseLifecycleList
      */
     void addMove(LocalSearchMoveScope<Solution_> moveScope);
 
+    /**
+     * See {@link LocalSearchForager#retains(LocalSearchMoveScope)}.
+     *
+     * @param moveScope never null, the move scope last passed to {@link #addMove(LocalSearchMoveScope)}
+     * @return true if the move scope is a finalist
+     */
+    boolean retains(LocalSearchMoveScope<Solution_> moveScope);
+
+    /**
+     * Once a move is accepted, moves which are not accepted can no longer become finalists.
+     *
+     * @return true if an accepted move was added during this step
+     */
+    boolean hasAcceptedFinalist();
+
     /**
      *
      * @return never null, sometimes empty
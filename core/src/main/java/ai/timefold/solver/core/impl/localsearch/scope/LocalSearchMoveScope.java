@@ -1,6 +1,7 @@
 package ai.timefold.solver.core.impl.localsearch.scope;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForager;
 import ai.timefold.solver.core.impl.phase.scope.AbstractMoveScope;
 import ai.timefold.solver.core.preview.api.move.Move;
 
@@ -20,6 +21,22 @@ public final class LocalSearchMoveScope<Solution_> extends AbstractMoveScope<Sol
         return (LocalSearchStepScope<Solution_>) super.getStepScope();
     }
 
+    /**
+     * Prepares this instance for the evaluation of another move of the same step,
+     * so that the decider needn't allocate a new move scope for every move it evaluates.
+     * Only call this once nothing holds on to this instance anymore,
+     * see {@link LocalSearchForager#retains(LocalSearchMoveScope)}.
+     *
+     * @param moveIndex the index of the next move
+     * @param move the next move
+     */
+    public void reset(int moveIndex, Move<Solution_> move) {
+        this.moveIndex = moveIndex;
+        this.move = move;
+        this.score = null;
+        this.accepted = null;
+    }
+
     public Boolean getAccepted() {
         return accepted;
     }
@@ -417,6 +417,18 @@ public sealed class MoveDirector<Solution_, Score_ extends Score<Score_>>
         }
     }
 
+    /**
+     * As {@link #execute(Move)}, but also records the changes the move made.
+     *
+     * @return the move which undoes the given move,
+     *         for as long as the working solution has not been changed since
+     */
+    public final Move<Solution_> executeAndCreateUndoMove(Move<Solution_> move) {
+        var ephemeralMoveDirector = ephemeral();
+        ephemeralMoveDirector.execute(move);
+        return ephemeralMoveDirector.createUndoMove(); // Not closed, as that would undo the move.
+    }
+
     public final InnerScore<Score_> executeTemporary(Move<Solution_> move) {
         var solutionDescriptor = backingScoreDirector.getSolutionDescriptor();
         var workingSolution = backingScoreDirector.getWorkingSolution();
@@ -430,6 +442,26 @@ public sealed class MoveDirector<Solution_, Score_ extends Score<Score_>>
         return score;
     }
 
+    /**
+     * As {@link #executeTemporary(Move)},
+     * but stops calculating the score once it is certain to be worse than the given threshold.
+     *
+     * @return null if the score is certainly worse than the threshold
+     * @see InnerScoreDirector#calculateScoreUnlessWorseThan(InnerScore)
+     */
+    public final @Nullable InnerScore<Score_> executeTemporary(Move<Solution_> move, InnerScore<Score_> rejectionThreshold) {
+        var solutionDescriptor = backingScoreDirector.getSolutionDescriptor();
+        var workingSolution = backingScoreDirector.getWorkingSolution();
+        var previousScore = solutionDescriptor.<Score_> getScore(workingSolution);
+        var ephemeralMoveDirector = ephemeral();
+        ephemeralMoveDirector.execute(move);
+        var score = backingScoreDirector.calculateScoreUnlessWorseThan(rejectionThreshold);
+        ephemeralMoveDirector.close(); // This undoes the move.
+        // Restore the previous working score
+        solutionDescriptor.setScore(workingSolution, previousScore);
+        return score;
+    }
+
     public @Nullable <Result_> Result_ executeTemporary(Move<Solution_> move,
             TemporaryMovePostprocessor<Solution_, Score_, @Nullable Result_> postprocessor) {
         var solutionDescriptor = backingScoreDirector.getSolutionDescriptor();
@@ -2,6 +2,7 @@ package ai.timefold.solver.core.impl.score.director;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
@@ -352,6 +353,11 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         moveDirector.execute(move);
     }
 
+    @Override
+    public Move<Solution_> executeMoveAndCreateUndoMove(Move<Solution_> move) {
+        return moveDirector.executeAndCreateUndoMove(move);
+    }
+
     @Override
     public InnerScore<Score_> executeTemporaryMove(Move<Solution_> move, @Nullable Consumer<SolutionView<Solution_>> consumer,
             boolean assertMoveScoreFromScratch) {
@@ -373,6 +379,16 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         return Objects.requireNonNull(result);
     }
 
+    @Override
+    public @Nullable InnerScore<Score_> executeTemporaryMove(Move<Solution_> move, boolean assertMoveScoreFromScratch,
+            @Nullable InnerScore<Score_> rejectionThreshold) {
+        if (rejectionThreshold == null || assertMoveScoreFromScratch || solutionTracker != null) {
+            // Assertions need the entire score.
+            return executeTemporaryMove(move, assertMoveScoreFromScratch);
+        }
+        return moveDirector.executeTemporary(move, rejectionThreshold);
+    }
+
     @Override
     public boolean isWorkingEntityListDirty(long expectedWorkingEntityListRevision) {
         return workingEntityListRevision != expectedWorkingEntityListRevision;
@@ -651,6 +667,66 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         }
     }
 
+    @Override
+    public void beforeProblemFactsAdded(Collection<?> problemFactCollection) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterProblemFactsAdded(Collection<?> problemFactCollection) {
+        if (problemFactCollection.isEmpty()) {
+            return;
+        }
+        if (lookUpEnabled) {
+            problemFactCollection.forEach(lookUpManager::addWorkingObject);
+        }
+        shadowVariableSupport.resetWorkingSolution(); // TODO do not nuke the shadow variable state
+        // Notify the move repository of the change, allowing an update to move generating.
+        if (moveRepository instanceof NeighborhoodsBasedMoveRepository<Solution_> neighborhoodsBasedMoveRepository) {
+            problemFactCollection.forEach(neighborhoodsBasedMoveRepository::insert);
+        }
+    }
+
+    @Override
+    public void beforeProblemPropertiesChanged(Collection<?> problemFactOrEntityCollection) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterProblemPropertiesChanged(Collection<?> problemFactOrEntityCollection) {
+        if (problemFactOrEntityCollection.isEmpty()) {
+            return;
+        }
+        for (var problemFactOrEntity : problemFactOrEntityCollection) {
+            if (isConstraintConfiguration(problemFactOrEntity)) {
+                setWorkingSolution(workingSolution); // Nuke everything and recalculate, constraint weights have changed.
+                return;
+            }
+        }
+        shadowVariableSupport.resetWorkingSolution(); // TODO do not nuke the shadow variable state
+        problemFactOrEntityCollection.forEach(neighborhoodsElementUpdateNotifier);
+    }
+
+    @Override
+    public void beforeProblemFactsRemoved(Collection<?> problemFactCollection) {
+        problemFactCollection.forEach(this::beforeProblemFactRemoved);
+    }
+
+    @Override
+    public void afterProblemFactsRemoved(Collection<?> problemFactCollection) {
+        if (problemFactCollection.isEmpty()) {
+            return;
+        }
+        if (lookUpEnabled) {
+            problemFactCollection.forEach(lookUpManager::removeWorkingObject);
+        }
+        shadowVariableSupport.resetWorkingSolution(); // TODO do not nuke the shadow variable state
+        // Notify the move repository of the change, allowing an update to move generating.
+        if (moveRepository instanceof NeighborhoodsBasedMoveRepository<Solution_> neighborhoodsBasedMoveRepository) {
+            problemFactCollection.forEach(neighborhoodsBasedMoveRepository::retract);
+        }
+    }
+
     @Override
     public <E> @Nullable E lookUpWorkingObject(@Nullable E externalObject) {
         if (!lookUpEnabled) {
@@ -1,5 +1,6 @@
 package ai.timefold.solver.core.impl.score.director;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.function.Consumer;
 
@@ -80,6 +81,19 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     InnerScore<Score_> calculateScore();
 
+    /**
+     * As defined by {@link #calculateScore()},
+     * but may stop calculating once it is certain that the score is worse than the given threshold,
+     * in which case the working solution keeps its previous score.
+     * The default implementation always calculates the entire score.
+     *
+     * @param threshold never null
+     * @return null if the score is certainly worse than the threshold
+     */
+    default @Nullable InnerScore<Score_> calculateScoreUnlessWorseThan(InnerScore<Score_> threshold) {
+        return calculateScore();
+    }
+
     /**
      * @return {@link ConstraintMatchPolicy#ENABLED} if {@link #getConstraintMatchTotalMap()} can be called.
      *         {@link ConstraintMatchPolicy#ENABLED_WITHOUT_JUSTIFICATIONS} if only the former can be called.
@@ -113,6 +127,14 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
 
     void executeMove(Move<Solution_> move);
 
+    /**
+     * As {@link #executeMove(Move)}, but also records the changes the move made.
+     *
+     * @return the move which undoes the given move,
+     *         for as long as the working solution has not been changed since
+     */
+    Move<Solution_> executeMoveAndCreateUndoMove(Move<Solution_> move);
+
     /**
      * Executes a move, finds out its score, and immediately undoes it.
      * The undo action also restores the working solution score to its original value.
@@ -136,6 +158,20 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
         return executeTemporaryMove(move, null, assertMoveScoreFromScratch);
     }
 
+    /**
+     * As defined by {@link #executeTemporaryMove(Move, boolean)},
+     * but stops calculating the score once it is certain to be worse than the given threshold,
+     * see {@link #calculateScoreUnlessWorseThan(InnerScore)}.
+     * The move is undone either way.
+     *
+     * @param rejectionThreshold null if the entire score is always needed
+     * @return null if the score is certainly worse than rejectionThreshold
+     */
+    default @Nullable InnerScore<Score_> executeTemporaryMove(Move<Solution_> move, boolean assertMoveScoreFromScratch,
+            @Nullable InnerScore<Score_> rejectionThreshold) {
+        return executeTemporaryMove(move, assertMoveScoreFromScratch);
+    }
+
     /**
      * @param expectedWorkingEntityListRevision an
      * @return true if the entityList might have a different set of instances now
@@ -372,4 +408,59 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
 
     void afterProblemFactRemoved(Object problemFact);
 
+    // ************************************************************************
+    // Batched problem fact add/change/remove methods
+    // ************************************************************************
+
+    /**
+     * As defined by {@link #beforeProblemFactAdded(Object)}, for every problem fact of the collection.
+     * Each batched method has the same effect as calling its single-fact counterpart for every element,
+     * but bookkeeping that does not depend on the individual facts only happens once per batch.
+     * Some score directors also pass the whole batch to their session at once,
+     * which is faster when the facts are grouped by class.
+     *
+     * @param problemFactCollection never null, may be empty
+     */
+    void beforeProblemFactsAdded(Collection<?> problemFactCollection);
+
+    /**
+     * As defined by {@link #afterProblemFactAdded(Object)}, for every problem fact of the collection.
+     *
+     * @param problemFactCollection never null, may be empty
+     * @see #beforeProblemFactsAdded(Collection)
+     */
+    void afterProblemFactsAdded(Collection<?> problemFactCollection);
+
+    /**
+     * As defined by {@link #beforeProblemPropertyChanged(Object)}, for every object of the collection.
+     *
+     * @param problemFactOrEntityCollection never null, may be empty
+     * @see #beforeProblemFactsAdded(Collection)
+     */
+    void beforeProblemPropertiesChanged(Collection<?> problemFactOrEntityCollection);
+
+    /**
+     * As defined by {@link #afterProblemPropertyChanged(Object)}, for every object of the collection.
+     *
+     * @param problemFactOrEntityCollection never null, may be empty
+     * @see #beforeProblemFactsAdded(Collection)
+     */
+    void afterProblemPropertiesChanged(Collection<?> problemFactOrEntityCollection);
+
+    /**
+     * As defined by {@link #beforeProblemFactRemoved(Object)}, for every problem fact of the collection.
+     *
+     * @param problemFactCollection never null, may be empty
+     * @see #beforeProblemFactsAdded(Collection)
+     */
+    void beforeProblemFactsRemoved(Collection<?> problemFactCollection);
+
+    /**
+     * As defined by {@link #afterProblemFactRemoved(Object)}, for every problem fact of the collection.
+     *
+     * @param problemFactCollection never null, may be empty
+     * @see #beforeProblemFactsAdded(Collection)
+     */
+    void afterProblemFactsRemoved(Collection<?> problemFactCollection);
+
 }
@@ -1,5 +1,6 @@
 package ai.timefold.solver.core.impl.score.director.incremental;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.SortedMap;
@@ -196,6 +197,30 @@ public final class IncrementalScoreDirector<Solution_, Score_ extends Score<Scor
         super.afterProblemFactRemoved(problemFact);
     }
 
+    @Override
+    public void afterProblemFactsAdded(Collection<?> problemFactCollection) {
+        if (!problemFactCollection.isEmpty()) {
+            resetWorkingSolutionAndMaps(workingSolution);
+        }
+        super.afterProblemFactsAdded(problemFactCollection);
+    }
+
+    @Override
+    public void afterProblemPropertiesChanged(Collection<?> problemFactOrEntityCollection) {
+        if (!problemFactOrEntityCollection.isEmpty()) {
+            resetWorkingSolutionAndMaps(workingSolution);
+        }
+        super.afterProblemPropertiesChanged(problemFactOrEntityCollection);
+    }
+
+    @Override
+    public void afterProblemFactsRemoved(Collection<?> problemFactCollection) {
+        if (!problemFactCollection.isEmpty()) {
+            resetWorkingSolutionAndMaps(workingSolution);
+        }
+        super.afterProblemFactsRemoved(problemFactCollection);
+    }
+
     @Override
     public ConstraintMatchRegistration<Score_> registerConstraintMatch(ConstraintRef constraintRef, Score_ score,
             ConstraintJustification justification) {
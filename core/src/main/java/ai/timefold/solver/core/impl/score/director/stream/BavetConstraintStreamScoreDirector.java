@@ -1,6 +1,7 @@
 package ai.timefold.solver.core.impl.score.director.stream;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 
@@ -8,6 +9,8 @@ import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.stream.ConstraintRef;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.bavet.common.InnerConstraintProfiler;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.declarative.ConsistencyTracker;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
@@ -34,11 +37,15 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         extends AbstractScoreDirector<Solution_, Score_, BavetConstraintStreamScoreDirectorFactory<Solution_, Score_>> {
 
     private final boolean derived;
+    private final @Nullable InnerConstraintProfiler constraintProfiler;
     private @Nullable BavetConstraintSession<Score_> session;
+    private @Nullable Score_ cachedThreshold;
+    private Number @Nullable [] cachedThresholdLevelNumbers;
 
     private BavetConstraintStreamScoreDirector(Builder<Solution_, Score_> builder, boolean derived) {
         super(builder);
         this.derived = derived;
+        this.constraintProfiler = derived ? null : builder.constraintProfiler;
     }
 
     // ************************************************************************
@@ -76,7 +83,7 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
     @Override
     public void setWorkingSolutionWithoutUpdatingShadows(Solution_ workingSolution) {
         session = scoreDirectorFactory.newSession(workingSolution, shadowVariableSupport.getConsistencyTracker(),
-                constraintMatchPolicy, derived);
+                constraintMatchPolicy, derived, constraintProfiler);
         super.setWorkingSolutionWithoutUpdatingShadows(workingSolution, session::insert);
     }
 
@@ -95,6 +102,44 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         return new InnerScore<>(score, -getWorkingInitScore());
     }
 
+    /**
+     * Settles the constraints which impact the feasible levels of the score first,
+     * and only settles the others if the feasible levels alone do not prove the score worse than the threshold.
+     * The constraints left unsettled are settled by the next score calculation,
+     * together with whatever changes happen until then, such as the undo of a temporary move.
+     */
+    @Override
+    public @Nullable InnerScore<Score_> calculateScoreUnlessWorseThan(InnerScore<Score_> threshold) {
+        if (!threshold.isFullyAssigned() || !session.canCalculateFeasibleScore()) {
+            return calculateScore();
+        }
+        shadowVariableSupport.assertShadowVariablesAreUpToDate();
+        var feasibleScore = session.calculateFeasibleScore();
+        if (isWorseOnFeasibleLevels(feasibleScore, threshold.raw())) {
+            // Counted, as most of the work of a score calculation has been done.
+            incrementCalculationCount();
+            return null;
+        }
+        return calculateScore();
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private boolean isWorseOnFeasibleLevels(Score_ score, Score_ threshold) {
+        if (threshold != cachedThreshold) {
+            cachedThreshold = threshold;
+            cachedThresholdLevelNumbers = threshold.toLevelNumbers();
+        }
+        var levelNumbers = score.toLevelNumbers();
+        var feasibleLevelsSize = getScoreDefinition().getFeasibleLevelsSize();
+        for (var i = 0; i < feasibleLevelsSize; i++) {
+            var comparison = ((Comparable) levelNumbers[i]).compareTo(cachedThresholdLevelNumbers[i]);
+            if (comparison != 0) {
+                return comparison < 0;
+            }
+        }
+        return false;
+    }
+
     @Override
     public Map<ConstraintRef, ConstraintMatchTotal<Score_>> getConstraintMatchTotalMap() {
         if (!constraintMatchPolicy.isEnabled()) {
@@ -195,6 +240,37 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         super.afterProblemFactRemoved(problemFact);
     }
 
+    // public void beforeProblemFactsAdded(Collection<?> problemFactCollection) // Do nothing
+
+    @Override
+    public void afterProblemFactsAdded(Collection<?> problemFactCollection) {
+        problemFactCollection.forEach(Objects::requireNonNull);
+        session.insertAll(problemFactCollection);
+        super.afterProblemFactsAdded(problemFactCollection);
+    }
+
+    @Override
+    public void beforeProblemPropertiesChanged(Collection<?> problemFactOrEntityCollection) {
+        // Since this is called when facts (not variables) change,
+        // we need to retract and reinsert to update cached static data
+        super.beforeProblemPropertiesChanged(problemFactOrEntityCollection);
+        session.retractAll(problemFactOrEntityCollection);
+    }
+
+    @Override
+    public void afterProblemPropertiesChanged(Collection<?> problemFactOrEntityCollection) {
+        session.insertAll(problemFactOrEntityCollection);
+        super.afterProblemPropertiesChanged(problemFactOrEntityCollection);
+    }
+
+    // public void beforeProblemFactsRemoved(Collection<?> problemFactCollection) // Do nothing
+
+    @Override
+    public void afterProblemFactsRemoved(Collection<?> problemFactCollection) {
+        session.retractAll(problemFactCollection);
+        super.afterProblemFactsRemoved(problemFactCollection);
+    }
+
     /**
      * Exposed for debugging purposes, so that we can hook into it from tests and while reproducing issues.
      * 
@@ -215,10 +291,24 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
             extends
             AbstractScoreDirectorBuilder<Solution_, Score_, BavetConstraintStreamScoreDirectorFactory<Solution_, Score_>, Builder<Solution_, Score_>> {
 
+        private @Nullable InnerConstraintProfiler constraintProfiler;
+
         public Builder(BavetConstraintStreamScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory) {
             super(scoreDirectorFactory);
         }
 
+        /**
+         * Optionally profiles every session of the score director, such as for {@link SolverMetric#CONSTRAINT_NODE_COST}.
+         * Derived score directors are never profiled.
+         *
+         * @param constraintProfiler null if the sessions should not be profiled
+         * @return this
+         */
+        public Builder<Solution_, Score_> withConstraintProfiler(@Nullable InnerConstraintProfiler constraintProfiler) {
+            this.constraintProfiler = constraintProfiler;
+            return this;
+        }
+
         @Override
         public BavetConstraintStreamScoreDirector<Solution_, Score_> build() {
             return new BavetConstraintStreamScoreDirector<>(this, false);
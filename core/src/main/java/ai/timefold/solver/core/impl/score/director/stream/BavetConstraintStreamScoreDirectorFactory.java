@@ -10,6 +10,7 @@ import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.config.util.ConfigUtils;
 import ai.timefold.solver.core.enterprise.TimefoldSolverEnterpriseService;
+import ai.timefold.solver.core.impl.bavet.common.InnerConstraintProfiler;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.declarative.ConsistencyTracker;
 import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
@@ -20,6 +21,8 @@ import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintSessionFac
 import ai.timefold.solver.core.impl.score.stream.common.AbstractConstraintStreamScoreDirectorFactory;
 import ai.timefold.solver.core.impl.score.stream.common.inliner.AbstractScoreInliner;
 
+import org.jspecify.annotations.Nullable;
+
 public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ extends Score<Score_>>
         extends
         AbstractConstraintStreamScoreDirectorFactory<Solution_, Score_, BavetConstraintStreamScoreDirectorFactory<Solution_, Score_>> {
@@ -38,10 +41,14 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
         var constraintProvider = ConfigUtils.newInstance(config, "constraintProviderClass", constraintProviderClass);
         var profilingEnabled =
                 Objects.requireNonNullElse(config.getConstraintStreamProfilingEnabled(), false);
+        var parallelPropagationEnabled =
+                Objects.requireNonNullElse(config.getConstraintStreamParallelPropagationEnabled(), false);
+        var nodeSpecializationEnabled =
+                Objects.requireNonNullElse(config.getConstraintStreamNodeSpecializationEnabled(), false);
         ConfigUtils.applyCustomProperties(constraintProvider, "constraintProviderClass",
                 config.getConstraintProviderCustomProperties(), "constraintProviderCustomProperties");
         return new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider, environmentMode,
-                profilingEnabled);
+                profilingEnabled, parallelPropagationEnabled, nodeSpecializationEnabled);
     }
 
     private static Class<? extends ConstraintProvider> getConstraintProviderClass(ScoreDirectorFactoryConfig config,
@@ -69,18 +76,36 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
 
     public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             ConstraintProvider constraintProvider, EnvironmentMode environmentMode, boolean profilingEnabled) {
+        this(solutionDescriptor, constraintProvider, environmentMode, profilingEnabled, false);
+    }
+
+    public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintProvider constraintProvider, EnvironmentMode environmentMode, boolean profilingEnabled,
+            boolean parallelPropagationEnabled) {
+        this(solutionDescriptor, constraintProvider, environmentMode, profilingEnabled, parallelPropagationEnabled, false);
+    }
+
+    public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintProvider constraintProvider, EnvironmentMode environmentMode, boolean profilingEnabled,
+            boolean parallelPropagationEnabled, boolean nodeSpecializationEnabled) {
         super(solutionDescriptor, environmentMode);
         var constraintFactory = new BavetConstraintFactory<>(solutionDescriptor, environmentMode);
         constraintMetaModel = DefaultConstraintMetaModel.of(constraintFactory.buildConstraints(constraintProvider));
-        constraintSessionFactory =
-                new BavetConstraintSessionFactory<>(solutionDescriptor, constraintMetaModel, profilingEnabled);
+        constraintSessionFactory = new BavetConstraintSessionFactory<>(solutionDescriptor, constraintMetaModel,
+                profilingEnabled, parallelPropagationEnabled, nodeSpecializationEnabled);
     }
 
     public BavetConstraintSession<Score_> newSession(Solution_ workingSolution,
             ConsistencyTracker<Solution_> consistencyTracker, ConstraintMatchPolicy constraintMatchPolicy,
             boolean scoreDirectorDerived) {
+        return newSession(workingSolution, consistencyTracker, constraintMatchPolicy, scoreDirectorDerived, null);
+    }
+
+    public BavetConstraintSession<Score_> newSession(Solution_ workingSolution,
+            ConsistencyTracker<Solution_> consistencyTracker, ConstraintMatchPolicy constraintMatchPolicy,
+            boolean scoreDirectorDerived, @Nullable InnerConstraintProfiler sessionProfiler) {
         return constraintSessionFactory.buildSession(workingSolution, consistencyTracker, constraintMatchPolicy,
-                scoreDirectorDerived);
+                scoreDirectorDerived, sessionProfiler);
     }
 
     @Override
@@ -88,7 +113,7 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
         var consistencyTracker = ConsistencyTracker.frozen(solutionDescriptor, facts);
         var session = newSession(null, consistencyTracker,
                 ConstraintMatchPolicy.ENABLED, true);
-        Arrays.stream(facts).forEach(session::insert);
+        session.insertAll(Arrays.asList(facts));
         session.calculateScore();
         return session.getScoreInliner();
     }
@@ -16,6 +16,14 @@ import ai.timefold.solver.core.impl.score.stream.common.inliner.AbstractScoreInl
  * The type is public to make it easier for Bavet-specific minimal bug reproducers to be created.
  * Instances should be created through
  * {@link BavetConstraintStreamScoreDirectorFactory#newSession(Object, ConsistencyTracker, ConstraintMatchPolicy, boolean)}.
+ * <p>
+ * A session can not be forked or snapshotted.
+ * Its tuples, index keys and group keys reference the objects of the working solution directly,
+ * so a session over a cloned solution would have to remap every one of them,
+ * which costs about as much as inserting everything anew.
+ * To evaluate "what-if" changes against a settled session,
+ * apply them to the working solution and undo them afterwards, as temporary moves do;
+ * only the affected tuples are then recalculated.
  *
  * @see PropagationQueue Description of the tuple propagation mechanism.
  *
@@ -40,6 +48,29 @@ public final class BavetConstraintSession<Score_ extends Score<Score_>>
         return scoreInliner.extractScore();
     }
 
+    /**
+     * Settles only the constraints which impact the feasible levels of the score,
+     * such as the hard levels of a {@code HardSoftScore},
+     * leaving the other constraints to be settled by the next {@link #calculateScore()}.
+     * Used to reject moves which are infeasible enough without calculating their entire score.
+     * <p>
+     * Should only be called if {@link #canCalculateFeasibleScore()} returns true;
+     * otherwise it settles everything, same as {@link #calculateScore()}.
+     *
+     * @return a score whose feasible levels are up to date; the other levels are not
+     */
+    public Score_ calculateFeasibleScore() {
+        settleSubset();
+        return scoreInliner.extractScore();
+    }
+
+    /**
+     * @return true if {@link #calculateFeasibleScore()} settles less than {@link #calculateScore()}
+     */
+    public boolean canCalculateFeasibleScore() {
+        return nodeNetwork.hasSubset();
+    }
+
     public AbstractScoreInliner<Score_> getScoreInliner() {
         return scoreInliner;
     }
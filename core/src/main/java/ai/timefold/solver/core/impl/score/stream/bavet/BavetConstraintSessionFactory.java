@@ -1,6 +1,7 @@
 package ai.timefold.solver.core.impl.score.stream.bavet;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -15,14 +16,17 @@ import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.api.score.stream.ConstraintMetaModel;
 import ai.timefold.solver.core.enterprise.TimefoldSolverEnterpriseService;
+import ai.timefold.solver.core.impl.bavet.common.AbstractNode;
 import ai.timefold.solver.core.impl.bavet.common.AbstractRootNode;
 import ai.timefold.solver.core.impl.bavet.common.BavetAbstractConstraintStream;
 import ai.timefold.solver.core.impl.bavet.common.InnerConstraintProfiler;
+import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycleSpecializer;
 import ai.timefold.solver.core.impl.bavet.uni.AbstractForEachUniNode;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.declarative.ConsistencyTracker;
 import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.ConstraintNodeBuildHelper;
+import ai.timefold.solver.core.impl.score.stream.bavet.common.Scorer;
 import ai.timefold.solver.core.impl.score.stream.common.inliner.AbstractScoreInliner;
 
 import org.jspecify.annotations.Nullable;
@@ -38,25 +42,69 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final ConstraintMetaModel constraintMetaModel;
     private final @Nullable InnerConstraintProfiler constraintProfiler;
+    private final boolean parallelPropagationEnabled;
+    private final @Nullable TupleLifecycleSpecializer tupleLifecycleSpecializer;
 
     public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             ConstraintMetaModel constraintMetaModel, boolean profilingEnabled) {
+        this(solutionDescriptor, constraintMetaModel, profilingEnabled, false);
+    }
+
+    public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintMetaModel constraintMetaModel, boolean profilingEnabled, boolean parallelPropagationEnabled) {
+        this(solutionDescriptor, constraintMetaModel, profilingEnabled, parallelPropagationEnabled, false);
+    }
+
+    /**
+     * @param nodeSpecializationEnabled whether filters get their own copy of the tuple lifecycle class,
+     *        see {@link TupleLifecycleSpecializer}; has no effect on profiled sessions
+     */
+    public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintMetaModel constraintMetaModel, boolean profilingEnabled, boolean parallelPropagationEnabled,
+            boolean nodeSpecializationEnabled) {
+        if (profilingEnabled && parallelPropagationEnabled) {
+            throw new IllegalArgumentException("""
+                    Constraint stream profiling and parallel propagation cannot be enabled at the same time.
+                    Maybe disable parallel propagation while profiling.""");
+        }
         this.solutionDescriptor = Objects.requireNonNull(solutionDescriptor);
         this.constraintMetaModel = Objects.requireNonNull(constraintMetaModel);
         this.constraintProfiler = profilingEnabled
                 ? TimefoldSolverEnterpriseService.loadOrFail(TimefoldSolverEnterpriseService.Feature.CONSTRAINT_PROFILING)
                         .buildConstraintProfiler()
                 : null;
+        this.parallelPropagationEnabled = parallelPropagationEnabled;
+        // Shared by all sessions, so that rebuilt sessions reuse the specialized classes the JIT has already optimized.
+        this.tupleLifecycleSpecializer = nodeSpecializationEnabled ? new TupleLifecycleSpecializer() : null;
     }
 
     // ************************************************************************
     // Node creation
     // ************************************************************************
 
-    @SuppressWarnings("unchecked")
     public BavetConstraintSession<Score_> buildSession(Solution_ workingSolution,
             ConsistencyTracker<Solution_> consistencyTracker, ConstraintMatchPolicy constraintMatchPolicy,
             boolean scoreDirectorDerived) {
+        return buildSession(workingSolution, consistencyTracker, constraintMatchPolicy, scoreDirectorDerived, null);
+    }
+
+    /**
+     * As {@link #buildSession(Object, ConsistencyTracker, ConstraintMatchPolicy, boolean)},
+     * but profiles the session with the given profiler,
+     * unless constraint stream profiling is already enabled for the entire factory.
+     *
+     * @param sessionProfiler null if the session should not be profiled individually
+     */
+    @SuppressWarnings("unchecked")
+    public BavetConstraintSession<Score_> buildSession(Solution_ workingSolution,
+            ConsistencyTracker<Solution_> consistencyTracker, ConstraintMatchPolicy constraintMatchPolicy,
+            boolean scoreDirectorDerived, @Nullable InnerConstraintProfiler sessionProfiler) {
+        if (sessionProfiler != null && parallelPropagationEnabled) {
+            throw new IllegalStateException("""
+                    Constraint node profiling and parallel propagation cannot be enabled at the same time.
+                    Maybe disable parallel propagation while collecting constraint node metrics.""");
+        }
+        var profiler = constraintProfiler != null ? constraintProfiler : sessionProfiler;
         var constraintWeightSupplier = solutionDescriptor.getConstraintWeightSupplier();
         var constraints = constraintMetaModel.getConstraints();
         if (constraintWeightSupplier != null) { // Fail fast on unknown constraints.
@@ -116,14 +164,16 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
             LOGGER.atLevel(CONSTRAINT_WEIGHT_LOGGING_LEVEL).log(constraintWeightString.toString().trim());
         }
         return new BavetConstraintSession<>(scoreInliner,
-                buildNodeNetwork(workingSolution, consistencyTracker, constraintStreamSet, scoreInliner, constraintProfiler,
+                buildNodeNetwork(workingSolution, consistencyTracker, constraintStreamSet, scoreInliner, profiler,
                         scoreDirectorDerived));
     }
 
     private ConstraintStreamsBavetNodeNetwork buildNodeNetwork(Solution_ workingSolution,
             ConsistencyTracker<Solution_> consistencyTracker, Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet,
-            AbstractScoreInliner<Score_> scoreInliner, InnerConstraintProfiler profiler, boolean scoreDirectorDerived) {
-        var buildHelper = new ConstraintNodeBuildHelper<>(consistencyTracker, constraintStreamSet, scoreInliner, profiler);
+            AbstractScoreInliner<Score_> scoreInliner, @Nullable InnerConstraintProfiler profiler,
+            boolean scoreDirectorDerived) {
+        var buildHelper = new ConstraintNodeBuildHelper<>(consistencyTracker, constraintStreamSet, scoreInliner, profiler,
+                tupleLifecycleSpecializer);
         var declaredClassToNodeMap = new LinkedHashMap<Class<?>, List<AbstractRootNode<?>>>();
         var nodeList =
                 buildHelper.buildNodeList(constraintStreamSet, buildHelper, BavetAbstractConstraintStream::buildNode, node -> {
@@ -157,13 +207,48 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
                         constraint -> buildHelper.getScorer(constraint.getScoringConstraintStream()), (a, b) -> a,
                         LinkedHashMap::new));
 
-        if (constraintProfiler != null) {
-            constraintProfiler.registerNodeGraph(workingSolution, nodeList, scoreInliner.getConstraints(),
+        if (profiler != null) {
+            profiler.registerNodeGraph(workingSolution, nodeList, scoreInliner.getConstraints(),
                     buildHelper::getNodeCreatingStream, buildHelper::findParentNode);
         }
 
         return buildHelper.buildNodeNetwork(nodeList, declaredClassToNodeMap, (Map) constraintToScorerMap,
+                findFeasibilityNodeSet(buildHelper, constraintToScorerMap), parallelPropagationEnabled,
                 scoreDirectorDerived);
     }
 
+    /**
+     * Finds the nodes which need to be settled for the feasible levels of the score to be up to date,
+     * see {@link BavetConstraintSession#calculateFeasibleScore()}.
+     *
+     * @return empty if settling only those nodes would not save any work,
+     *         because either all or none of the constraints impact the feasible levels
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Set<AbstractNode> findFeasibilityNodeSet(ConstraintNodeBuildHelper<Solution_, Score_> buildHelper,
+            Map<BavetConstraint<Solution_>, ? extends Scorer<?>> constraintToScorerMap) {
+        var scoreDefinition = solutionDescriptor.<Score_> getScoreDefinition();
+        var feasibleLevelsSize = scoreDefinition.getFeasibleLevelsSize();
+        if (feasibleLevelsSize == 0) {
+            return Collections.emptySet();
+        }
+        var zeroLevelNumbers = scoreDefinition.getZeroScore().toLevelNumbers();
+        var feasibilityConstraintList = constraintToScorerMap.entrySet().stream()
+                .filter(entry -> {
+                    var weightLevelNumbers = entry.getValue().getWeight().toLevelNumbers();
+                    for (var i = 0; i < feasibleLevelsSize; i++) {
+                        if (((Comparable) weightLevelNumbers[i]).compareTo(zeroLevelNumbers[i]) != 0) {
+                            return true;
+                        }
+                    }
+                    return false;
+                })
+                .map(Map.Entry::getKey)
+                .toList();
+        if (feasibilityConstraintList.isEmpty() || feasibilityConstraintList.size() == constraintToScorerMap.size()) {
+            return Collections.emptySet();
+        }
+        return buildHelper.findScoringAncestorNodeSet(feasibilityConstraintList);
+    }
+
 }
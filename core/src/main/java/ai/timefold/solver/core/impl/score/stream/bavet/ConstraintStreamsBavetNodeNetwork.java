@@ -2,13 +2,16 @@ package ai.timefold.solver.core.impl.score.stream.bavet;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import ai.timefold.solver.core.impl.bavet.AbstractBavetNodeNetwork;
+import ai.timefold.solver.core.impl.bavet.ParallelLayerSettler;
 import ai.timefold.solver.core.impl.bavet.common.AbstractNode;
 import ai.timefold.solver.core.impl.bavet.common.AbstractRootNode;
 import ai.timefold.solver.core.impl.bavet.common.InnerConstraintProfiler;
+import ai.timefold.solver.core.impl.bavet.common.JoinStatistics;
 import ai.timefold.solver.core.impl.bavet.common.Propagator;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.Scorer;
 
@@ -31,20 +34,21 @@ public final class ConstraintStreamsBavetNodeNetwork extends AbstractBavetNodeNe
     public static ConstraintStreamsBavetNodeNetwork of(List<AbstractNode> nodeList,
             Map<Class<?>, List<AbstractRootNode<?>>> declaredClassToNodeMap,
             Map<BavetConstraint<?>, Scorer<?>> constraintToScorerMap, Function<AbstractNode, Propagator> propagatorFunction,
-            @Nullable InnerConstraintProfiler constraintProfiler, boolean scoreDirectorDerived) {
+            @Nullable InnerConstraintProfiler constraintProfiler, @Nullable ParallelLayerSettler parallelLayerSettler,
+            Set<AbstractNode> subsetNodeSet, boolean scoreDirectorDerived) {
         var layeredNodes = AbstractBavetNodeNetwork.buildLayeredNodes(nodeList);
         return new ConstraintStreamsBavetNodeNetwork(declaredClassToNodeMap, constraintToScorerMap, layeredNodes,
-                propagatorFunction, constraintProfiler, scoreDirectorDerived);
+                propagatorFunction, constraintProfiler, parallelLayerSettler, subsetNodeSet, scoreDirectorDerived);
     }
 
     public static final ConstraintStreamsBavetNodeNetwork EMPTY =
             new ConstraintStreamsBavetNodeNetwork(Map.of(), Map.of(), new AbstractNode[0][0], AbstractNode::getPropagator, null,
-                    true);
+                    null, Set.of(), true);
 
     private final Map<BavetConstraint<?>, Scorer<?>> constraintToScorerMap;
     private final @Nullable InnerConstraintProfiler constraintProfiler;
     private final boolean scoreDirectorDerived;
-    private boolean printedInactiveConstraints = false;
+    private boolean printedDiagnostics = false;
 
     /**
      * @param declaredClassToNodeMap starting nodes, one for each class used in the constraints;
@@ -52,12 +56,15 @@ public final class ConstraintStreamsBavetNodeNetwork extends AbstractBavetNodeNe
      * @param layeredNodes nodes grouped first by their layer, then by their index within the layer;
      *        propagation needs to happen in this order.
      * @param propagatorFunction function to get the propagator for a given node
+     * @param parallelLayerSettler null if layers are to be propagated sequentially
+     * @param subsetNodeSet the nodes settled by {@link #settleSubset()}; empty if there is no such subset
      */
     private ConstraintStreamsBavetNodeNetwork(Map<Class<?>, List<AbstractRootNode<?>>> declaredClassToNodeMap,
             Map<BavetConstraint<?>, Scorer<?>> constraintToScorerMap, AbstractNode[][] layeredNodes,
             Function<AbstractNode, Propagator> propagatorFunction, @Nullable InnerConstraintProfiler constraintProfiler,
+            @Nullable ParallelLayerSettler parallelLayerSettler, Set<AbstractNode> subsetNodeSet,
             boolean scoreDirectorDerived) {
-        super(declaredClassToNodeMap, layeredNodes, propagatorFunction);
+        super(declaredClassToNodeMap, layeredNodes, propagatorFunction, parallelLayerSettler, subsetNodeSet);
         this.constraintToScorerMap = constraintToScorerMap;
         this.constraintProfiler = constraintProfiler;
         this.scoreDirectorDerived = scoreDirectorDerived;
@@ -67,23 +74,47 @@ public final class ConstraintStreamsBavetNodeNetwork extends AbstractBavetNodeNe
     public void settle() {
         super.settle();
         var loggingLevel = Level.DEBUG; // Makes sure the check and the logging always operate on the same level.
-        if (!LOGGER.isEnabledForLevel(loggingLevel)) {
+        if (scoreDirectorDerived || printedDiagnostics || !isActivationCheckComplete()
+                || !LOGGER.isEnabledForLevel(loggingLevel)) {
             return;
         }
-        if (!scoreDirectorDerived && !printedInactiveConstraints && isActivationCheckComplete()) {
-            printedInactiveConstraints = true;
-            var substring = constraintToScorerMap.entrySet().stream()
-                    .filter(entry -> !entry.getValue().isActive())
-                    .map(entry -> "  Constraint (%s) with weight set to (%s).".formatted(entry.getKey().getConstraintRef(),
-                            entry.getValue().getWeight()))
-                    .collect(Collectors.joining(System.lineSeparator()));
-            if (substring.isEmpty()) {
-                return;
-            }
-            LOGGER.atLevel(loggingLevel).log("""
-                    Constraints deactivated due to being useless in the given working solution:
-                    %s""".formatted(substring));
+        // The first settle inserted the entire working solution, so the network is now at its typical size.
+        printedDiagnostics = true;
+        logInactiveConstraints(loggingLevel);
+        logNearCartesianJoins(loggingLevel);
+    }
+
+    private void logInactiveConstraints(Level loggingLevel) {
+        var substring = constraintToScorerMap.entrySet().stream()
+                .filter(entry -> !entry.getValue().isActive())
+                .map(entry -> "  Constraint (%s) with weight set to (%s).".formatted(entry.getKey().getConstraintRef(),
+                        entry.getValue().getWeight()))
+                .collect(Collectors.joining(System.lineSeparator()));
+        if (substring.isEmpty()) {
+            return;
+        }
+        LOGGER.atLevel(loggingLevel).log("""
+                Constraints deactivated due to being useless in the given working solution:
+                %s""".formatted(substring));
+    }
+
+    private void logNearCartesianJoins(Level loggingLevel) {
+        var substring = getJoinStatisticsList().stream()
+                .filter(JoinStatistics::isNearCartesian)
+                .map(statistics -> {
+                    var locationSet = statistics.node().getLocationSet();
+                    return locationSet.isEmpty() ? "  Join %s.".formatted(statistics)
+                            : "  Join %s at %s.".formatted(statistics, locationSet);
+                })
+                .collect(Collectors.joining(System.lineSeparator()));
+        if (substring.isEmpty()) {
+            return;
         }
+        LOGGER.atLevel(loggingLevel).log("""
+                Joins which look at most pairs of their inputs, close to a cartesian product:
+                %s
+                Maybe add an equal joiner on a property with many distinct values to those joins.
+                Maybe enable constraint profiling to see which constraints those joins belong to.""".formatted(substring));
     }
 
     public @Nullable InnerConstraintProfiler getConstraintProfiler() {
@@ -94,6 +125,12 @@ public final class ConstraintStreamsBavetNodeNetwork extends AbstractBavetNodeNe
         if (constraintProfiler != null) {
             constraintProfiler.summarize();
         }
+        var parallelLayerSettler = getParallelLayerSettler();
+        if (parallelLayerSettler != null && LOGGER.isDebugEnabled()) {
+            LOGGER.debug("""
+                    Layer settle times with parallel propagation:
+                    {}""", parallelLayerSettler.getHistogram().summarize());
+        }
     }
 
     @Override
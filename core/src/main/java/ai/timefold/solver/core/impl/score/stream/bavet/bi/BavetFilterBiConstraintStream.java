@@ -5,7 +5,6 @@ import java.util.function.BiPredicate;
 
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.bavet.common.tuple.BiTuple;
-import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintFactory;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.ConstraintNodeBuildHelper;
 
@@ -31,7 +30,7 @@ final class BavetFilterBiConstraintStream<Solution_, A, B>
     @Override
     public <Score_ extends Score<Score_>> void buildNode(ConstraintNodeBuildHelper<Solution_, Score_> buildHelper) {
         buildHelper.<BiTuple<A, B>> putInsertUpdateRetract(this, childStreamList,
-                tupleLifecycle -> TupleLifecycle.conditionally(tupleLifecycle, predicate));
+                tupleLifecycle -> buildHelper.conditionally(tupleLifecycle, predicate));
     }
 
     // ************************************************************************
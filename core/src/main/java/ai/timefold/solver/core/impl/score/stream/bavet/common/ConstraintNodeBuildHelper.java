@@ -2,15 +2,21 @@ package ai.timefold.solver.core.impl.score.stream.bavet.common;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 
+import ai.timefold.solver.core.api.function.QuadPredicate;
+import ai.timefold.solver.core.api.function.TriPredicate;
 import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.bavet.ParallelLayerSettler;
 import ai.timefold.solver.core.impl.bavet.common.AbstractNode;
 import ai.timefold.solver.core.impl.bavet.common.AbstractNodeBuildHelper;
 import ai.timefold.solver.core.impl.bavet.common.AbstractRootNode;
@@ -21,9 +27,14 @@ import ai.timefold.solver.core.impl.bavet.common.ConstraintNodeProfileId;
 import ai.timefold.solver.core.impl.bavet.common.InnerConstraintProfiler;
 import ai.timefold.solver.core.impl.bavet.common.ProfilingPropagator;
 import ai.timefold.solver.core.impl.bavet.common.tuple.AggregatedTupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.tuple.BiTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.ProfilingTupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.tuple.QuadTuple;
+import ai.timefold.solver.core.impl.bavet.common.tuple.TriTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.Tuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycleSpecializer;
+import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.declarative.ConsistencyTracker;
 import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraint;
@@ -41,6 +52,7 @@ public final class ConstraintNodeBuildHelper<Solution_, Score_ extends Score<Sco
     private final AbstractScoreInliner<Score_> scoreInliner;
     private final ConsistencyTracker<Solution_> consistencyTracker;
     private final @Nullable InnerConstraintProfiler constraintProfiler;
+    private final @Nullable TupleLifecycleSpecializer tupleLifecycleSpecializer;
     private final Map<EntityDescriptor<Solution_>, Map<ForEachFilteringCriteria, @Nullable Predicate<Object>>> entityDescriptorToForEachCriteriaToPredicateMap;
     private final Map<BavetAbstractConstraintStream<Solution_>, List<Set<ConstraintNodeProfileId>>> streamToProfileIdSets;
     private final Map<BavetScoringConstraintStream<Solution_>, Scorer<?>> streamToScorers = new HashMap<>();
@@ -50,10 +62,21 @@ public final class ConstraintNodeBuildHelper<Solution_, Score_ extends Score<Sco
     public ConstraintNodeBuildHelper(ConsistencyTracker<Solution_> consistencyTracker,
             Set<BavetAbstractConstraintStream<Solution_>> activeStreamSet, AbstractScoreInliner<Score_> scoreInliner,
             @Nullable InnerConstraintProfiler profiler) {
+        this(consistencyTracker, activeStreamSet, scoreInliner, profiler, null);
+    }
+
+    /**
+     * @param tupleLifecycleSpecializer null if filters should not be specialized;
+     *        ignored when profiling, as the profiler needs to recognize every tuple lifecycle
+     */
+    public ConstraintNodeBuildHelper(ConsistencyTracker<Solution_> consistencyTracker,
+            Set<BavetAbstractConstraintStream<Solution_>> activeStreamSet, AbstractScoreInliner<Score_> scoreInliner,
+            @Nullable InnerConstraintProfiler profiler, @Nullable TupleLifecycleSpecializer tupleLifecycleSpecializer) {
         super(activeStreamSet);
         this.consistencyTracker = consistencyTracker;
         this.scoreInliner = scoreInliner;
         this.constraintProfiler = profiler;
+        this.tupleLifecycleSpecializer = profiler == null ? tupleLifecycleSpecializer : null;
         this.entityDescriptorToForEachCriteriaToPredicateMap = new HashMap<>();
         this.streamToProfileIdSets = HashMap.newHashMap(Math.max(16, activeStreamSet.size() / 2));
     }
@@ -112,6 +135,30 @@ public final class ConstraintNodeBuildHelper<Solution_, Score_ extends Score<Sco
         }
     }
 
+    public <A> TupleLifecycle<UniTuple<A>> conditionally(TupleLifecycle<UniTuple<A>> tupleLifecycle,
+            Predicate<A> predicate) {
+        return tupleLifecycleSpecializer == null ? TupleLifecycle.conditionally(tupleLifecycle, predicate)
+                : tupleLifecycleSpecializer.conditionally(tupleLifecycle, predicate);
+    }
+
+    public <A, B> TupleLifecycle<BiTuple<A, B>> conditionally(TupleLifecycle<BiTuple<A, B>> tupleLifecycle,
+            BiPredicate<A, B> predicate) {
+        return tupleLifecycleSpecializer == null ? TupleLifecycle.conditionally(tupleLifecycle, predicate)
+                : tupleLifecycleSpecializer.conditionally(tupleLifecycle, predicate);
+    }
+
+    public <A, B, C> TupleLifecycle<TriTuple<A, B, C>> conditionally(TupleLifecycle<TriTuple<A, B, C>> tupleLifecycle,
+            TriPredicate<A, B, C> predicate) {
+        return tupleLifecycleSpecializer == null ? TupleLifecycle.conditionally(tupleLifecycle, predicate)
+                : tupleLifecycleSpecializer.conditionally(tupleLifecycle, predicate);
+    }
+
+    public <A, B, C, D> TupleLifecycle<QuadTuple<A, B, C, D>>
+            conditionally(TupleLifecycle<QuadTuple<A, B, C, D>> tupleLifecycle, QuadPredicate<A, B, C, D> predicate) {
+        return tupleLifecycleSpecializer == null ? TupleLifecycle.conditionally(tupleLifecycle, predicate)
+                : tupleLifecycleSpecializer.conditionally(tupleLifecycle, predicate);
+    }
+
     public AbstractScoreInliner<Score_> getScoreInliner() {
         return scoreInliner;
     }
@@ -129,10 +176,47 @@ public final class ConstraintNodeBuildHelper<Solution_, Score_ extends Score<Sco
                 ignored -> criteria.getFilterForEntityDescriptor(consistencyTracker, entityDescriptor));
     }
 
+    /**
+     * Finds the nodes which propagate into the scorers of the given constraints, directly or indirectly.
+     *
+     * @param constraintCollection never null
+     * @return never null, the nodes directly feeding those scorers and all of their ancestors
+     */
+    public Set<AbstractNode> findScoringAncestorNodeSet(Collection<BavetConstraint<Solution_>> constraintCollection) {
+        var ancestorNodeSet = Collections.<AbstractNode> newSetFromMap(new IdentityHashMap<>());
+        var nodeQueue = new ArrayDeque<AbstractNode>();
+        for (var constraint : constraintCollection) {
+            nodeQueue.add(findScoringParentNode(constraint.getScoringConstraintStream()));
+        }
+        while (!nodeQueue.isEmpty()) {
+            var node = nodeQueue.poll();
+            if (ancestorNodeSet.add(node)) {
+                nodeQueue.addAll(findParentNodes(node));
+            }
+        }
+        return ancestorNodeSet;
+    }
+
+    @SuppressWarnings("unchecked")
+    private AbstractNode findScoringParentNode(BavetScoringConstraintStream<Solution_> scoringStream) {
+        // Every scoring stream is a constraint stream.
+        return findParentNode((BavetAbstractConstraintStream<Solution_>) scoringStream);
+    }
+
+    /**
+     * @param subsetNodeSet the nodes which {@link ConstraintStreamsBavetNodeNetwork#settleSubset()} settles,
+     *        including their ancestors; empty if there is no such subset
+     */
     public ConstraintStreamsBavetNodeNetwork buildNodeNetwork(List<AbstractNode> nodeList,
             Map<Class<?>, List<AbstractRootNode<?>>> declaredClassToNodeMap,
-            Map<BavetConstraint<Solution_>, Scorer<?>> constraintToScorerMap, boolean scoreDirectorDerived) {
-        return ConstraintStreamsBavetNodeNetwork.of(nodeList, declaredClassToNodeMap, (Map) constraintToScorerMap, node -> {
+            Map<BavetConstraint<Solution_>, Scorer<?>> constraintToScorerMap, Set<AbstractNode> subsetNodeSet,
+            boolean parallelPropagationEnabled, boolean scoreDirectorDerived) {
+        var parallelLayerSettler = parallelPropagationEnabled
+                ? new ParallelLayerSettler(buildNodeToPropagationTargetSetMap(nodeList))
+                : null;
+        // Read-only, which lets the constraints lose their solution type without a cast.
+        Map<BavetConstraint<?>, Scorer<?>> scorerMap = Collections.unmodifiableMap(constraintToScorerMap);
+        return ConstraintStreamsBavetNodeNetwork.of(nodeList, declaredClassToNodeMap, scorerMap, node -> {
             if (constraintProfiler == null) {
                 return node.getPropagator();
             }
@@ -145,12 +229,24 @@ public final class ConstraintNodeBuildHelper<Solution_, Score_ extends Score<Sco
                 affectedSet.add(profileId);
             }
             return new ProfilingPropagator(constraintProfiler, profileId, node.getPropagator());
-        }, constraintProfiler, scoreDirectorDerived);
+        }, constraintProfiler, parallelLayerSettler, subsetNodeSet, scoreDirectorDerived);
+    }
+
+    @Override
+    public Map<AbstractNode, Set<Object>> buildNodeToPropagationTargetSetMap(List<AbstractNode> nodeList) {
+        var nodeToPropagationTargetSetMap = super.buildNodeToPropagationTargetSetMap(nodeList);
+        // All scorers share the score inliner; nodes feeding scorers must therefore never propagate concurrently.
+        for (var scoringStream : streamToScorers.keySet()) {
+            var scoringNode = findScoringParentNode(scoringStream);
+            nodeToPropagationTargetSetMap.get(scoringNode).add(scoreInliner);
+        }
+        return nodeToPropagationTargetSetMap;
     }
 
     public ConstraintStreamsBavetNodeNetwork buildPrecomputeNodeNetwork(List<AbstractNode> nodeList,
             Map<Class<?>, List<AbstractRootNode<?>>> declaredClassToNodeMap) {
-        return buildNodeNetwork(nodeList, declaredClassToNodeMap, Collections.emptyMap(), true); // Reduces logging.
+        return buildNodeNetwork(nodeList, declaredClassToNodeMap, Collections.emptyMap(), Collections.emptySet(), false,
+                true); // Reduces logging.
     }
 
 }
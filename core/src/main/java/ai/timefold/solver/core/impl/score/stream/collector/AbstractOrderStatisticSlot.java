@@ -0,0 +1,50 @@
+package ai.timefold.solver.core.impl.score.stream.collector;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
+public abstract class AbstractOrderStatisticSlot<Value_> {
+
+    public static final class State<Value_, Result_> {
+        private final OrderStatisticTree<Value_> tree;
+        private final OrderStatisticQuery<Value_, Result_> query;
+
+        public State(Comparator<? super Value_> comparator, OrderStatisticQuery<Value_, Result_> query) {
+            this.tree = new OrderStatisticTree<>(comparator);
+            this.query = query;
+        }
+
+        public @Nullable Result_ result() {
+            return query.apply(tree);
+        }
+
+    }
+
+    private final OrderStatisticTree<Value_> tree;
+    private @Nullable Value_ cachedValue;
+
+    protected AbstractOrderStatisticSlot(State<Value_, ?> state) {
+        this.tree = state.tree;
+    }
+
+    protected void addMapped(Value_ value) {
+        cachedValue = value;
+        tree.add(value);
+    }
+
+    protected void replaceWithMapped(Value_ value) {
+        if (Objects.equals(cachedValue, value)) {
+            return;
+        }
+        tree.remove(cachedValue);
+        cachedValue = value;
+        tree.add(value);
+    }
+
+    protected void removeMapped() {
+        tree.remove(cachedValue);
+    }
+
+}
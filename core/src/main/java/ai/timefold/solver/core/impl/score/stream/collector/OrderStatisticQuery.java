@@ -0,0 +1,93 @@
+package ai.timefold.solver.core.impl.score.stream.collector;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Extracts the result of an order-statistic collector from its {@link OrderStatisticTree}.
+ * Implementations are records, so that equal collectors can be shared between constraints.
+ *
+ * @param <Value_> the type of the collected values
+ * @param <Result_> the type of the result
+ */
+@NullMarked
+public sealed interface OrderStatisticQuery<Value_, Result_> {
+
+    static <Value_> OrderStatisticQuery<Value_, Value_> percentile(double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException("The percentile (%s) must be between 0 and 100."
+                    .formatted(percentile));
+        }
+        return new Percentile<>(percentile);
+    }
+
+    static <Value_> OrderStatisticQuery<Value_, Value_> kthSmallest(int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("""
+                    The k (%d) must be at least 1.
+                    Maybe use 1 for the smallest value.""".formatted(k));
+        }
+        return new KthSmallest<>(k);
+    }
+
+    static <Value_> OrderStatisticQuery<Value_, List<Value_>> topK(int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("The k (%d) must be at least 1.".formatted(k));
+        }
+        return new TopK<>(k);
+    }
+
+    @Nullable
+    Result_ apply(OrderStatisticTree<Value_> tree);
+
+    /**
+     * Nearest-rank percentile: the smallest value such that at least the given percentage of values
+     * is less than or equal to it.
+     * The 50th percentile is therefore the lower median.
+     */
+    record Percentile<Value_>(double percentile) implements OrderStatisticQuery<Value_, Value_> {
+
+        @Override
+        public @Nullable Value_ apply(OrderStatisticTree<Value_> tree) {
+            var size = tree.size();
+            if (size == 0) {
+                return null;
+            }
+            return tree.select(Math.max(rank(size), 1) - 1);
+        }
+
+        int rank(int size) {
+            if (percentile == Math.rint(percentile)) {
+                // Exact, unlike percentile / 100.0 * size, which is 7.000000000000001 for the 7th percentile of 100.
+                return (int) Math.ceilDiv((long) percentile * size, 100L);
+            }
+            return (int) Math.ceil(percentile * size / 100.0);
+        }
+
+    }
+
+    /**
+     * @param k one-based, so that 1 returns the smallest value
+     */
+    record KthSmallest<Value_>(int k) implements OrderStatisticQuery<Value_, Value_> {
+
+        @Override
+        public @Nullable Value_ apply(OrderStatisticTree<Value_> tree) {
+            return k > tree.size() ? null : tree.select(k - 1);
+        }
+
+    }
+
+    record TopK<Value_>(int k) implements OrderStatisticQuery<Value_, List<Value_>> {
+
+        @Override
+        public List<Value_> apply(OrderStatisticTree<Value_> tree) {
+            return tree.isEmpty() ? Collections.emptyList() : tree.largest(k);
+        }
+
+    }
+
+}
@@ -0,0 +1,215 @@
+package ai.timefold.solver.core.impl.score.stream.collector;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A multiset backed by a balanced (AVL) search tree,
+ * in which every node knows how many elements its subtree holds.
+ * Equal elements share a node and are counted.
+ * Therefore {@link #add(Object)}, {@link #remove(Object)} and {@link #select(int)}
+ * all take O(log n) time, where n is the number of distinct elements.
+ *
+ * @param <Value_> the type of the elements; compareTo must be consistent with equals
+ */
+@NullMarked
+public final class OrderStatisticTree<Value_> {
+
+    private final Comparator<? super Value_> comparator;
+    private @Nullable Node<Value_> root;
+
+    public OrderStatisticTree(Comparator<? super Value_> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+    }
+
+    /**
+     * @return the number of elements, counting duplicates
+     */
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    public void add(Value_ value) {
+        root = add(root, value);
+    }
+
+    private Node<Value_> add(@Nullable Node<Value_> node, Value_ value) {
+        if (node == null) {
+            return new Node<>(value);
+        }
+        var comparison = comparator.compare(value, node.value);
+        if (comparison == 0) {
+            node.count++;
+            node.size++;
+            return node;
+        } else if (comparison < 0) {
+            node.left = add(node.left, value);
+        } else {
+            node.right = add(node.right, value);
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Removes a single occurrence of the value.
+     *
+     * @throws IllegalStateException if the value is not present
+     */
+    public void remove(Value_ value) {
+        root = remove(root, value);
+    }
+
+    private @Nullable Node<Value_> remove(@Nullable Node<Value_> node, Value_ value) {
+        if (node == null) {
+            throw new IllegalStateException("Impossible state: the value (%s) is not present in the tree."
+                    .formatted(value));
+        }
+        var comparison = comparator.compare(value, node.value);
+        if (comparison < 0) {
+            node.left = remove(node.left, value);
+        } else if (comparison > 0) {
+            node.right = remove(node.right, value);
+        } else if (node.count > 1) {
+            node.count--;
+            node.size--;
+            return node;
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            // Replace by the smallest node of the right subtree, which has no left child.
+            var successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeSmallest(node.right);
+            successor.left = node.left;
+            return rebalance(successor);
+        }
+        return rebalance(node);
+    }
+
+    private @Nullable Node<Value_> removeSmallest(Node<Value_> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeSmallest(node.left);
+        return rebalance(node);
+    }
+
+    /**
+     * @param index zero-based position in ascending order, counting duplicates
+     * @return the element at that position
+     * @throws IndexOutOfBoundsException if the index is negative or not less than {@link #size()}
+     */
+    public Value_ select(int index) {
+        Objects.checkIndex(index, size());
+        var node = root;
+        while (true) {
+            var leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index < leftSize + node.count) {
+                return node.value;
+            } else {
+                index -= leftSize + node.count;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * @param limit the maximum number of elements to return
+     * @return the largest elements in descending order, counting duplicates; at most limit elements
+     */
+    public List<Value_> largest(int limit) {
+        var resultList = new ArrayList<Value_>(Math.min(limit, size()));
+        collectDescending(root, limit, resultList);
+        return resultList;
+    }
+
+    private static <Value_> void collectDescending(@Nullable Node<Value_> node, int limit, List<Value_> resultList) {
+        if (node == null || resultList.size() >= limit) {
+            return;
+        }
+        collectDescending(node.right, limit, resultList);
+        for (var i = 0; i < node.count && resultList.size() < limit; i++) {
+            resultList.add(node.value);
+        }
+        collectDescending(node.left, limit, resultList);
+    }
+
+    private static int size(@Nullable Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(@Nullable Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static <Value_> Node<Value_> rebalance(Node<Value_> node) {
+        update(node);
+        var balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <Value_> Node<Value_> rotateLeft(Node<Value_> node) {
+        var newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private static <Value_> Node<Value_> rotateRight(Node<Value_> node) {
+        var newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private static void update(Node<?> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.size = node.count + size(node.left) + size(node.right);
+    }
+
+    private static final class Node<Value_> {
+
+        private final Value_ value;
+        private int count = 1;
+        private int size = 1;
+        private int height = 1;
+        private @Nullable Node<Value_> left;
+        private @Nullable Node<Value_> right;
+
+        private Node(Value_ value) {
+            this.value = value;
+        }
+
+    }
+
+}
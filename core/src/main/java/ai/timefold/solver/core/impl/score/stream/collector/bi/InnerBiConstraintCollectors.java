@@ -25,6 +25,7 @@ import ai.timefold.solver.core.api.score.stream.common.ConnectedRangeChain;
 import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
 import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
 import ai.timefold.solver.core.impl.score.stream.collector.AbstractReferenceAverageSlot;
+import ai.timefold.solver.core.impl.score.stream.collector.OrderStatisticQuery;
 
 public final class InnerBiConstraintCollectors {
     public static <A, B> BiConstraintCollector<A, B, ?, Double> average(ToLongBiFunction<? super A, ? super B> mapper) {
@@ -123,6 +124,21 @@ public final class InnerBiConstraintCollectors {
         return new MinPropertyBiCollector<>(mapper, propertyMapper);
     }
 
+    public static <A, B, Value_ extends Comparable<? super Value_>> BiConstraintCollector<A, B, ?, Value_> percentile(
+            BiFunction<? super A, ? super B, ? extends Value_> mapper, double percentile) {
+        return new OrderStatisticBiCollector<>(mapper, OrderStatisticQuery.percentile(percentile));
+    }
+
+    public static <A, B, Value_ extends Comparable<? super Value_>> BiConstraintCollector<A, B, ?, Value_> kthSmallest(
+            BiFunction<? super A, ? super B, ? extends Value_> mapper, int k) {
+        return new OrderStatisticBiCollector<>(mapper, OrderStatisticQuery.kthSmallest(k));
+    }
+
+    public static <A, B, Value_ extends Comparable<? super Value_>> BiConstraintCollector<A, B, ?, List<Value_>> topK(
+            BiFunction<? super A, ? super B, ? extends Value_> mapper, int k) {
+        return new OrderStatisticBiCollector<>(mapper, OrderStatisticQuery.topK(k));
+    }
+
     public static <A, B> BiConstraintCollector<A, B, ?, Long> sum(ToLongBiFunction<? super A, ? super B> mapper) {
         return new SumBiCollector<>(mapper);
     }
@@ -0,0 +1,73 @@
+package ai.timefold.solver.core.impl.score.stream.collector.bi;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.score.stream.bi.BiConstraintCollectorValueHandle;
+import ai.timefold.solver.core.impl.score.stream.collector.AbstractOrderStatisticSlot;
+import ai.timefold.solver.core.impl.score.stream.collector.OrderStatisticQuery;
+
+import org.jspecify.annotations.NonNull;
+
+final class OrderStatisticBiCollector<A, B, Value_ extends Comparable<? super Value_>, Result_>
+        extends
+        AbstractReferenceBasedBiCollector<A, B, Value_, Result_, AbstractOrderStatisticSlot.State<Value_, Result_>> {
+
+    private final OrderStatisticQuery<Value_, Result_> query;
+
+    OrderStatisticBiCollector(BiFunction<? super A, ? super B, ? extends Value_> mapper,
+            OrderStatisticQuery<Value_, Result_> query) {
+        super(mapper);
+        this.query = Objects.requireNonNull(query);
+    }
+
+    @Override
+    public @NonNull Supplier<AbstractOrderStatisticSlot.State<Value_, Result_>> supplier() {
+        return () -> new AbstractOrderStatisticSlot.State<>(Comparator.naturalOrder(), query);
+    }
+
+    @Override
+    public @NonNull Function<AbstractOrderStatisticSlot.State<Value_, Result_>, Result_> finisher() {
+        return AbstractOrderStatisticSlot.State::result;
+    }
+
+    @Override
+    protected BiConstraintCollectorValueHandle<A, B> newAccumulatedValue(AbstractOrderStatisticSlot.State<Value_, Result_> state) {
+        return new Slot(state);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        return super.equals(object) && query.equals(((OrderStatisticBiCollector<?, ?, ?, ?>) object).query);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), query);
+    }
+
+    private final class Slot extends AbstractOrderStatisticSlot<Value_>
+            implements BiConstraintCollectorValueHandle<A, B> {
+        Slot(AbstractOrderStatisticSlot.State<Value_, Result_> state) {
+            super(state);
+        }
+
+        @Override
+        public void add(A a, B b) {
+            addMapped(mapper.apply(a, b));
+        }
+
+        @Override
+        public void replaceWith(A a, B b) {
+            replaceWithMapped(mapper.apply(a, b));
+        }
+
+        @Override
+        public void remove() {
+            removeMapped();
+        }
+    }
+}
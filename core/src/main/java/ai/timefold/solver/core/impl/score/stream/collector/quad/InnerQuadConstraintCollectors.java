@@ -25,6 +25,7 @@ import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
 import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
 import ai.timefold.solver.core.api.score.stream.quad.QuadConstraintCollector;
 import ai.timefold.solver.core.impl.score.stream.collector.AbstractReferenceAverageSlot;
+import ai.timefold.solver.core.impl.score.stream.collector.OrderStatisticQuery;
 
 public final class InnerQuadConstraintCollectors {
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Double> average(
@@ -125,6 +126,21 @@ public final class InnerQuadConstraintCollectors {
         return new MinPropertyQuadCollector<>(mapper, propertyMapper);
     }
 
+    public static <A, B, C, D, Value_ extends Comparable<? super Value_>> QuadConstraintCollector<A, B, C, D, ?, Value_> percentile(
+            QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends Value_> mapper, double percentile) {
+        return new OrderStatisticQuadCollector<>(mapper, OrderStatisticQuery.percentile(percentile));
+    }
+
+    public static <A, B, C, D, Value_ extends Comparable<? super Value_>> QuadConstraintCollector<A, B, C, D, ?, Value_> kthSmallest(
+            QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends Value_> mapper, int k) {
+        return new OrderStatisticQuadCollector<>(mapper, OrderStatisticQuery.kthSmallest(k));
+    }
+
+    public static <A, B, C, D, Value_ extends Comparable<? super Value_>> QuadConstraintCollector<A, B, C, D, ?, List<Value_>> topK(
+            QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends Value_> mapper, int k) {
+        return new OrderStatisticQuadCollector<>(mapper, OrderStatisticQuery.topK(k));
+    }
+
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Long> sum(
             ToLongQuadFunction<? super A, ? super B, ? super C, ? super D> mapper) {
         return new SumQuadCollector<>(mapper);
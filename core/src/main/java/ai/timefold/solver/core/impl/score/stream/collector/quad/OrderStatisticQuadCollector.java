@@ -0,0 +1,73 @@
+package ai.timefold.solver.core.impl.score.stream.collector.quad;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.function.QuadFunction;
+import ai.timefold.solver.core.api.score.stream.quad.QuadConstraintCollectorValueHandle;
+import ai.timefold.solver.core.impl.score.stream.collector.AbstractOrderStatisticSlot;
+import ai.timefold.solver.core.impl.score.stream.collector.OrderStatisticQuery;
+
+import org.jspecify.annotations.NonNull;
+
+final class OrderStatisticQuadCollector<A, B, C, D, Value_ extends Comparable<? super Value_>, Result_>
+        extends
+        AbstractReferenceBasedQuadCollector<A, B, C, D, Value_, Result_, AbstractOrderStatisticSlot.State<Value_, Result_>> {
+
+    private final OrderStatisticQuery<Value_, Result_> query;
+
+    OrderStatisticQuadCollector(QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends Value_> mapper,
+            OrderStatisticQuery<Value_, Result_> query) {
+        super(mapper);
+        this.query = Objects.requireNonNull(query);
+    }
+
+    @Override
+    public @NonNull Supplier<AbstractOrderStatisticSlot.State<Value_, Result_>> supplier() {
+        return () -> new AbstractOrderStatisticSlot.State<>(Comparator.naturalOrder(), query);
+    }
+
+    @Override
+    public @NonNull Function<AbstractOrderStatisticSlot.State<Value_, Result_>, Result_> finisher() {
+        return AbstractOrderStatisticSlot.State::result;
+    }
+
+    @Override
+    protected QuadConstraintCollectorValueHandle<A, B, C, D> newAccumulatedValue(AbstractOrderStatisticSlot.State<Value_, Result_> state) {
+        return new Slot(state);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        return super.equals(object) && query.equals(((OrderStatisticQuadCollector<?, ?, ?, ?, ?, ?>) object).query);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), query);
+    }
+
+    private final class Slot extends AbstractOrderStatisticSlot<Value_>
+            implements QuadConstraintCollectorValueHandle<A, B, C, D> {
+        Slot(AbstractOrderStatisticSlot.State<Value_, Result_> state) {
+            super(state);
+        }
+
+        @Override
+        public void add(A a, B b, C c, D d) {
+            addMapped(mapper.apply(a, b, c, d));
+        }
+
+        @Override
+        public void replaceWith(A a, B b, C c, D d) {
+            replaceWithMapped(mapper.apply(a, b, c, d));
+        }
+
+        @Override
+        public void remove() {
+            removeMapped();
+        }
+    }
+}
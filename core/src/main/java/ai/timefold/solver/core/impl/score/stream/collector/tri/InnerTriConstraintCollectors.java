@@ -25,6 +25,7 @@ import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
 import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
 import ai.timefold.solver.core.api.score.stream.tri.TriConstraintCollector;
 import ai.timefold.solver.core.impl.score.stream.collector.AbstractReferenceAverageSlot;
+import ai.timefold.solver.core.impl.score.stream.collector.OrderStatisticQuery;
 
 public final class InnerTriConstraintCollectors {
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Double> average(
@@ -125,6 +126,21 @@ public final class InnerTriConstraintCollectors {
         return new MinPropertyTriCollector<>(mapper, propertyMapper);
     }
 
+    public static <A, B, C, Value_ extends Comparable<? super Value_>> TriConstraintCollector<A, B, C, ?, Value_> percentile(
+            TriFunction<? super A, ? super B, ? super C, ? extends Value_> mapper, double percentile) {
+        return new OrderStatisticTriCollector<>(mapper, OrderStatisticQuery.percentile(percentile));
+    }
+
+    public static <A, B, C, Value_ extends Comparable<? super Value_>> TriConstraintCollector<A, B, C, ?, Value_> kthSmallest(
+            TriFunction<? super A, ? super B, ? super C, ? extends Value_> mapper, int k) {
+        return new OrderStatisticTriCollector<>(mapper, OrderStatisticQuery.kthSmallest(k));
+    }
+
+    public static <A, B, C, Value_ extends Comparable<? super Value_>> TriConstraintCollector<A, B, C, ?, List<Value_>> topK(
+            TriFunction<? super A, ? super B, ? super C, ? extends Value_> mapper, int k) {
+        return new OrderStatisticTriCollector<>(mapper, OrderStatisticQuery.topK(k));
+    }
+
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Long> sum(
             ToLongTriFunction<? super A, ? super B, ? super C> mapper) {
         return new SumTriCollector<>(mapper);
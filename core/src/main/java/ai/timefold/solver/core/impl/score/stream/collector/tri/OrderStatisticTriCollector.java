@@ -0,0 +1,73 @@
+package ai.timefold.solver.core.impl.score.stream.collector.tri;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.function.TriFunction;
+import ai.timefold.solver.core.api.score.stream.tri.TriConstraintCollectorValueHandle;
+import ai.timefold.solver.core.impl.score.stream.collector.AbstractOrderStatisticSlot;
+import ai.timefold.solver.core.impl.score.stream.collector.OrderStatisticQuery;
+
+import org.jspecify.annotations.NonNull;
+
+final class OrderStatisticTriCollector<A, B, C, Value_ extends Comparable<? super Value_>, Result_>
+        extends
+        AbstractReferenceBasedTriCollector<A, B, C, Value_, Result_, AbstractOrderStatisticSlot.State<Value_, Result_>> {
+
+    private final OrderStatisticQuery<Value_, Result_> query;
+
+    OrderStatisticTriCollector(TriFunction<? super A, ? super B, ? super C, ? extends Value_> mapper,
+            OrderStatisticQuery<Value_, Result_> query) {
+        super(mapper);
+        this.query = Objects.requireNonNull(query);
+    }
+
+    @Override
+    public @NonNull Supplier<AbstractOrderStatisticSlot.State<Value_, Result_>> supplier() {
+        return () -> new AbstractOrderStatisticSlot.State<>(Comparator.naturalOrder(), query);
+    }
+
+    @Override
+    public @NonNull Function<AbstractOrderStatisticSlot.State<Value_, Result_>, Result_> finisher() {
+        return AbstractOrderStatisticSlot.State::result;
+    }
+
+    @Override
+    protected TriConstraintCollectorValueHandle<A, B, C> newAccumulatedValue(AbstractOrderStatisticSlot.State<Value_, Result_> state) {
+        return new Slot(state);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        return super.equals(object) && query.equals(((OrderStatisticTriCollector<?, ?, ?, ?, ?>) object).query);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), query);
+    }
+
+    private final class Slot extends AbstractOrderStatisticSlot<Value_>
+            implements TriConstraintCollectorValueHandle<A, B, C> {
+        Slot(AbstractOrderStatisticSlot.State<Value_, Result_> state) {
+            super(state);
+        }
+
+        @Override
+        public void add(A a, B b, C c) {
+            addMapped(mapper.apply(a, b, c));
+        }
+
+        @Override
+        public void replaceWith(A a, B b, C c) {
+            replaceWithMapped(mapper.apply(a, b, c));
+        }
+
+        @Override
+        public void remove() {
+            removeMapped();
+        }
+    }
+}
@@ -26,6 +26,7 @@ import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
 import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
 import ai.timefold.solver.core.api.score.stream.uni.UniConstraintCollector;
 import ai.timefold.solver.core.impl.score.stream.collector.AbstractReferenceAverageSlot;
+import ai.timefold.solver.core.impl.score.stream.collector.OrderStatisticQuery;
 
 public class InnerUniConstraintCollectors {
     public static <A> UniConstraintCollector<A, ?, Double> average(ToLongFunction<? super A> mapper) {
@@ -113,6 +114,21 @@ public class InnerUniConstraintCollectors {
         return new MinPropertyUniCollector<>(mapper, propertyMapper);
     }
 
+    public static <A, Value_ extends Comparable<? super Value_>> UniConstraintCollector<A, ?, Value_> percentile(
+            Function<? super A, ? extends Value_> mapper, double percentile) {
+        return new OrderStatisticUniCollector<>(mapper, OrderStatisticQuery.percentile(percentile));
+    }
+
+    public static <A, Value_ extends Comparable<? super Value_>> UniConstraintCollector<A, ?, Value_> kthSmallest(
+            Function<? super A, ? extends Value_> mapper, int k) {
+        return new OrderStatisticUniCollector<>(mapper, OrderStatisticQuery.kthSmallest(k));
+    }
+
+    public static <A, Value_ extends Comparable<? super Value_>> UniConstraintCollector<A, ?, List<Value_>> topK(
+            Function<? super A, ? extends Value_> mapper, int k) {
+        return new OrderStatisticUniCollector<>(mapper, OrderStatisticQuery.topK(k));
+    }
+
     public static <A> UniConstraintCollector<A, ?, Long> sum(ToLongFunction<? super A> mapper) {
         return new SumUniCollector<>(mapper);
     }
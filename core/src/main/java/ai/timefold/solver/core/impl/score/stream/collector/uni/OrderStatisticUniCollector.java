@@ -0,0 +1,72 @@
+package ai.timefold.solver.core.impl.score.stream.collector.uni;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.score.stream.uni.UniConstraintCollectorValueHandle;
+import ai.timefold.solver.core.impl.score.stream.collector.AbstractOrderStatisticSlot;
+import ai.timefold.solver.core.impl.score.stream.collector.OrderStatisticQuery;
+
+import org.jspecify.annotations.NonNull;
+
+final class OrderStatisticUniCollector<A, Value_ extends Comparable<? super Value_>, Result_>
+        extends
+        AbstractReferenceBasedUniCollector<A, Value_, Result_, AbstractOrderStatisticSlot.State<Value_, Result_>> {
+
+    private final OrderStatisticQuery<Value_, Result_> query;
+
+    OrderStatisticUniCollector(Function<? super A, ? extends Value_> mapper,
+            OrderStatisticQuery<Value_, Result_> query) {
+        super(mapper);
+        this.query = Objects.requireNonNull(query);
+    }
+
+    @Override
+    public @NonNull Supplier<AbstractOrderStatisticSlot.State<Value_, Result_>> supplier() {
+        return () -> new AbstractOrderStatisticSlot.State<>(Comparator.naturalOrder(), query);
+    }
+
+    @Override
+    public @NonNull Function<AbstractOrderStatisticSlot.State<Value_, Result_>, Result_> finisher() {
+        return AbstractOrderStatisticSlot.State::result;
+    }
+
+    @Override
+    protected UniConstraintCollectorValueHandle<A> newAccumulatedValue(AbstractOrderStatisticSlot.State<Value_, Result_> state) {
+        return new Slot(state);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        return super.equals(object) && query.equals(((OrderStatisticUniCollector<?, ?, ?>) object).query);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), query);
+    }
+
+    private final class Slot extends AbstractOrderStatisticSlot<Value_>
+            implements UniConstraintCollectorValueHandle<A> {
+        Slot(AbstractOrderStatisticSlot.State<Value_, Result_> state) {
+            super(state);
+        }
+
+        @Override
+        public void add(A a) {
+            addMapped(mapper.apply(a));
+        }
+
+        @Override
+        public void replaceWith(A a) {
+            replaceWithMapped(mapper.apply(a));
+        }
+
+        @Override
+        public void remove() {
+            removeMapped();
+        }
+    }
+}
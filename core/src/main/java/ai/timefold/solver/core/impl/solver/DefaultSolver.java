@@ -1,5 +1,6 @@
 package ai.timefold.solver.core.impl.solver;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -16,6 +17,7 @@ import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.phase.Phase;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.score.director.ScoreDirectorFactory;
 import ai.timefold.solver.core.impl.solver.random.RandomSource;
@@ -25,6 +27,7 @@ import ai.timefold.solver.core.impl.solver.termination.BasicPlumbingTermination;
 import ai.timefold.solver.core.impl.solver.termination.UniversalTermination;
 
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tags;
@@ -46,6 +49,8 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
     protected final SolverScope<Solution_> solverScope;
     private final String moveThreadCountDescription;
 
+    private boolean resumingAfterMigration = false;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -195,8 +200,16 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
     @Override
     public void solvingStarted(SolverScope<Solution_> solverScope) {
         assertCorrectSolutionState();
-        solverScope.startingNow();
-        solverScope.getScoreDirector().resetCalculationCount();
+        var resuming = resumingAfterMigration;
+        resumingAfterMigration = false;
+        if (resuming) {
+            // A migration changes the solution, not the problem; the time and calculation budget carries over.
+            // The phases still restart, see MigrationProblemChange.
+            solverScope.resumingNow();
+        } else {
+            solverScope.startingNow();
+            solverScope.getScoreDirector().resetCalculationCount();
+        }
         super.solvingStarted(solverScope);
         var startingSolverCount = solverScope.getStartingSolverCount() + 1;
         solverScope.setStartingSolverCount(startingSolverCount);
@@ -206,6 +219,11 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         bestSolutionRecaller.updateBestSolutionAndFireIfInitialized(solverScope,
                 EventProducerId.solvingStarted());
 
+        if (resuming) {
+            LOGGER.debug("Solving resumed: time spent ({}), best score ({}).",
+                    solverScope.calculateTimeMillisSpentUpToNow(), solverScope.getBestScore().raw());
+            return;
+        }
         LOGGER.info("Solving {}: time spent ({}), best score ({}), "
                 + "environment mode ({}), move thread count ({}), random ({}).",
                 (startingSolverCount == 1 ? "started" : "restarted"),
@@ -333,11 +351,18 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         } else {
             var problemChangeQueue = basicPlumbingTermination
                     .startProblemChangesProcessing();
-            solverScope.setWorkingSolutionFromBestSolution();
+            var migrant = findBetterMigrant(problemChangeQueue);
+            if (migrant == null) {
+                solverScope.setWorkingSolutionFromBestSolution();
+            } else {
+                solverScope.setWorkingSolutionFromMigrant(migrant);
+            }
 
             var stepIndex = 0;
+            var onlyMigrations = true;
             var problemChange = problemChangeQueue.poll();
             while (problemChange != null) {
+                onlyMigrations &= problemChange instanceof MigrationProblemChange;
                 problemChange.doChange(solverScope.getWorkingSolution(), solverScope.getProblemChangeDirector());
                 solverScope.getScoreDirector().updateShadowVariables();
                 LOGGER.debug("    Real-time problem change applied; step index ({}).", stepIndex);
@@ -352,9 +377,38 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
             basicPlumbingTermination.endProblemChangesProcessing();
             bestSolutionRecaller.updateBestSolutionAndFireIfInitialized(solverScope,
                     EventProducerId.problemChange());
-            LOGGER.info("Real-time problem fact changes done: step total ({}), new best score ({}).",
-                    stepIndex, score);
+            if (onlyMigrations) {
+                resumingAfterMigration = true;
+                LOGGER.debug("Migration done: new best score ({}).", score);
+            } else {
+                LOGGER.info("Real-time problem fact changes done: step total ({}), new best score ({}).",
+                        stepIndex, score);
+            }
             return true;
         }
     }
+
+    /**
+     * @return null if there is no migration,
+     *         or if this solver has found a best solution at least as good as the last migrant since it was sent
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private @Nullable Solution_ findBetterMigrant(Collection<ProblemChange<Solution_>> problemChangeQueue) {
+        MigrationProblemChange<Solution_> lastMigration = null;
+        for (var problemChange : problemChangeQueue) {
+            if (problemChange instanceof MigrationProblemChange<?> migration) {
+                lastMigration = (MigrationProblemChange<Solution_>) migration;
+            }
+        }
+        if (lastMigration == null) {
+            return null;
+        }
+        InnerScore migrantScore = lastMigration.migrantScore();
+        if (migrantScore.compareTo(solverScope.getBestScore()) <= 0) {
+            LOGGER.debug("Migration skipped: the migrant score ({}) is not better than the best score ({}).",
+                    migrantScore.raw(), solverScope.getBestScore().raw());
+            return null;
+        }
+        return lastMigration.migrant();
+    }
 }
@@ -1,10 +1,12 @@
 package ai.timefold.solver.core.impl.solver;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.OptionalInt;
 import java.util.function.Supplier;
@@ -26,6 +28,7 @@ import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
 import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
 import ai.timefold.solver.core.config.util.ConfigUtils;
 import ai.timefold.solver.core.impl.AbstractFromConfigFactory;
+import ai.timefold.solver.core.impl.bavet.common.DefaultConstraintProfiler;
 import ai.timefold.solver.core.impl.constructionheuristic.DefaultConstructionHeuristicPhaseFactory;
 import ai.timefold.solver.core.impl.domain.common.DomainAccessType;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
@@ -36,6 +39,7 @@ import ai.timefold.solver.core.impl.phase.PhaseFactory;
 import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
 import ai.timefold.solver.core.impl.score.director.ScoreDirectorFactory;
 import ai.timefold.solver.core.impl.score.director.ScoreDirectorFactoryFactory;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirector;
 import ai.timefold.solver.core.impl.solver.change.DefaultProblemChangeDirector;
 import ai.timefold.solver.core.impl.solver.random.DefaultRandomSource;
 import ai.timefold.solver.core.impl.solver.random.RandomSource;
@@ -46,6 +50,7 @@ import ai.timefold.solver.core.impl.solver.termination.BasicPlumbingTermination;
 import ai.timefold.solver.core.impl.solver.termination.SolverTermination;
 import ai.timefold.solver.core.impl.solver.termination.TerminationFactory;
 import ai.timefold.solver.core.impl.solver.termination.UniversalTermination;
+import ai.timefold.solver.core.impl.solver.thread.DefaultSolverThreadFactory;
 
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
@@ -63,6 +68,8 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultSolverFactory.class);
     private static final long DEFAULT_RANDOM_SEED = 0L;
+    private static final Duration DEFAULT_ISLAND_MIGRATION_INTERVAL = Duration.ofSeconds(10);
+    private static final String ISLAND_INDEX_TAG = "island.index";
 
     private final Clock clock;
     private final SolverConfig solverConfig;
@@ -99,6 +106,33 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
     @Override
     public Solver<Solution_> buildSolver(SolverConfigOverride configOverride) {
         Objects.requireNonNull(configOverride, "Invalid configOverride (null) given to SolverFactory.");
+        var islandCount = Objects.requireNonNullElse(solverConfig.getIslandCount(), 1);
+        if (islandCount < 1) {
+            throw new IllegalArgumentException(
+                    "The islandCount (%d) cannot be negative or zero.%nMaybe remove the islandCount to solve with a single solver."
+                            .formatted(islandCount));
+        } else if (islandCount == 1) {
+            return buildIsland(configOverride, 0);
+        }
+        var islandList = new ArrayList<DefaultSolver<Solution_>>(islandCount);
+        for (var islandIndex = 0; islandIndex < islandCount; islandIndex++) {
+            var island = buildIsland(configOverride, islandIndex);
+            // Otherwise the islands would register the same solver metrics.
+            island.setMonitorTagMap(Map.of(ISLAND_INDEX_TAG, Integer.toString(islandIndex)));
+            islandList.add(island);
+        }
+        var migrationInterval =
+                Objects.requireNonNullElse(solverConfig.getIslandMigrationInterval(), DEFAULT_ISLAND_MIGRATION_INTERVAL);
+        var threadFactoryClass = solverConfig.getThreadFactoryClass();
+        var threadFactory = threadFactoryClass == null ? new DefaultSolverThreadFactory("IslandThread")
+                : ConfigUtils.newInstance(solverConfig, "threadFactoryClass", threadFactoryClass);
+        return new IslandSolver<>(islandList, migrationInterval, threadFactory);
+    }
+
+    /**
+     * @param islandIndex 0 unless solving with multiple islands, in which case every island gets its own random seed
+     */
+    private DefaultSolver<Solution_> buildIsland(SolverConfigOverride configOverride, int islandIndex) {
         var isDaemon = Objects.requireNonNullElse(solverConfig.getDaemon(), false);
 
         var solverScope = new SolverScope<Solution_>(clock);
@@ -124,17 +158,24 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
                     "Enabling constraint matching as required by the enabled metrics ({}). This will impact solver performance.",
                     metricsRequiringConstraintMatchSet);
         }
-        var castScoreDirector = scoreDirectorFactory.createScoreDirectorBuilder()
-                .withLookUpEnabled(true) // Custom phases and problem changes may rely on lookups.
+        var scoreDirectorBuilder = scoreDirectorFactory.createScoreDirectorBuilder();
+        scoreDirectorBuilder.withLookUpEnabled(true) // Custom phases and problem changes may rely on lookups.
                 .withConstraintMatchPolicy(
-                        constraintMatchEnabled ? ConstraintMatchPolicy.ENABLED : ConstraintMatchPolicy.DISABLED)
-                .build();
+                        constraintMatchEnabled ? ConstraintMatchPolicy.ENABLED : ConstraintMatchPolicy.DISABLED);
+        if (solverScope.isMetricEnabled(SolverMetric.CONSTRAINT_NODE_COST)
+                && scoreDirectorBuilder instanceof BavetConstraintStreamScoreDirector.Builder<?, ?> bavetScoreDirectorBuilder) {
+            // Only the main score director is profiled; child thread score directors are derived.
+            var constraintProfiler = new DefaultConstraintProfiler();
+            bavetScoreDirectorBuilder.withConstraintProfiler(constraintProfiler);
+            solverScope.setConstraintProfiler(constraintProfiler);
+        }
+        var castScoreDirector = scoreDirectorBuilder.build();
         solverScope.setScoreDirector(castScoreDirector);
         solverScope.setProblemChangeDirector(new DefaultProblemChangeDirector<>(castScoreDirector));
 
         var moveThreadCount = resolveMoveThreadCount(true);
         var bestSolutionRecaller = BestSolutionRecallerFactory.create().<Solution_> buildBestSolutionRecaller(environmentMode);
-        var randomFactory = buildRandomSupplier(environmentMode);
+        var randomFactory = buildRandomSupplier(environmentMode, islandIndex);
         var previewFeaturesEnabled = solverConfig.getEnablePreviewFeatureSet();
 
         var scoreDirectorFactoryConfig = solverConfig.getScoreDirectorFactoryConfig();
@@ -214,13 +255,17 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
     }
 
     public Supplier<RandomSource> buildRandomSupplier(EnvironmentMode environmentMode_) {
+        return buildRandomSupplier(environmentMode_, 0);
+    }
+
+    private Supplier<RandomSource> buildRandomSupplier(EnvironmentMode environmentMode_, int islandIndex) {
         var randomSeed_ = solverConfig.getRandomSeed();
         if (randomSeed_ == null && environmentMode_ != EnvironmentMode.NON_REPRODUCIBLE) {
             randomSeed_ = DEFAULT_RANDOM_SEED;
         } else if (randomSeed_ == null) {
             randomSeed_ = RandomGenerator.getDefault().nextLong();
         }
-        return DefaultRandomSource.seededSupplier(randomSeed_);
+        return DefaultRandomSource.seededSupplier(randomSeed_ + islandIndex);
     }
 
     public List<Phase<Solution_>> buildPhaseList(HeuristicConfigPolicy<Solution_> configPolicy,
@@ -63,7 +63,14 @@ public final class DefaultSolverManager<Solution_> implements SolverManager<Solu
     }
 
     private void validateSolverFactory() {
-        solverFactory.buildSolver();
+        var solver = solverFactory.buildSolver();
+        if (solver instanceof IslandSolver<Solution_> islandSolver) {
+            throw new UnsupportedOperationException("""
+                    The solverManager does not support solving with an islandCount (%d).
+                    Maybe remove the islandCount and raise the parallelSolverCount instead, \
+                    or solve with the solver (%s) directly."""
+                    .formatted(islandSolver.getIslandList().size(), islandSolver));
+        }
     }
 
     private static Object getProblemIdOrThrow(Object problemId) {
@@ -0,0 +1,318 @@
+package ai.timefold.solver.core.impl.solver;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
+import ai.timefold.solver.core.api.solver.event.BestSolutionChangedEvent;
+import ai.timefold.solver.core.api.solver.event.SolverEventListener;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
+import ai.timefold.solver.core.impl.solver.event.SolverEventSupport;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Solves the same problem with several {@link DefaultSolver}s ("islands") in parallel,
+ * each with its own random seed.
+ * <p>
+ * Every migration interval, the best solution of all islands migrates to every island whose best solution is worse.
+ * The migration travels as a {@link MigrationProblemChange}, which restarts the island from the migrant,
+ * unless the island has found a best solution at least as good as the migrant by then.
+ * See {@link MigrationProblemChange} for what that restart resets.
+ * The first island to terminate ends the search; the other islands are then terminated early.
+ * <p>
+ * The best solution events of the islands are merged:
+ * an event is only delivered if its solution is better than the best solution delivered so far.
+ * Like with a single solver, events are delivered in the solver thread (which is the thread that calls {@link #solve}).
+ * The islands hand over their improvements to that thread, so a slow event listener does not stall the islands,
+ * but if several improvements arrive while an event is being delivered, only the best of them is delivered next.
+ * <p>
+ * The solver metrics of every island are tagged with its island index.
+ * <p>
+ * The islands share the problem facts of the problem,
+ * which is why {@link ProblemChange}s are not supported.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+@NullMarked
+final class IslandSolver<Solution_> implements Solver<Solution_> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IslandSolver.class);
+    private static final Duration TERMINATION_RETRY_INTERVAL = Duration.ofMillis(100);
+
+    private final List<DefaultSolver<Solution_>> islandList;
+    private final Duration migrationInterval;
+    private final ThreadFactory threadFactory;
+    private final SolverEventSupport<Solution_> solverEventSupport = new SolverEventSupport<>(this);
+    private final AtomicBoolean solving = new AtomicBoolean(false);
+    private final AtomicBoolean terminatedEarly = new AtomicBoolean(false);
+    // Completed islands are polled from this queue; terminateEarly() adds this marker to wake up the polling thread.
+    private final Future<Solution_> terminatedEarlyMarker = CompletableFuture.completedFuture(null);
+    // An island which improves the merged best solution adds this marker to wake up the polling thread.
+    private final Future<Solution_> bestSolutionChangedMarker = CompletableFuture.completedFuture(null);
+    private volatile @Nullable BlockingQueue<Future<Solution_>> completionQueue = null;
+
+    // Guarded by this.
+    private final @Nullable IslandBest<Solution_>[] islandBests;
+    private @Nullable IslandBest<Solution_> mergedBest = null;
+    private @Nullable BestSolutionChangedEvent<Solution_> pendingEvent = null;
+
+    @SuppressWarnings("unchecked")
+    IslandSolver(List<DefaultSolver<Solution_>> islandList, Duration migrationInterval, ThreadFactory threadFactory) {
+        if (islandList.size() < 2) {
+            throw new IllegalArgumentException("The islandCount (%d) must be at least 2."
+                    .formatted(islandList.size()));
+        }
+        if (migrationInterval.isNegative() || migrationInterval.isZero()) {
+            throw new IllegalArgumentException("The islandMigrationInterval (%s) must be positive."
+                    .formatted(migrationInterval));
+        }
+        this.islandList = List.copyOf(islandList);
+        this.migrationInterval = migrationInterval;
+        this.threadFactory = threadFactory;
+        this.islandBests = new IslandBest[islandList.size()];
+        for (var islandIndex = 0; islandIndex < islandList.size(); islandIndex++) {
+            var finalIslandIndex = islandIndex;
+            islandList.get(islandIndex).addEventListener(event -> islandBestSolutionChanged(finalIslandIndex, event));
+        }
+    }
+
+    List<DefaultSolver<Solution_>> getIslandList() {
+        return islandList;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public Solution_ solve(Solution_ problem) {
+        Objects.requireNonNull(problem, "The problem must not be null.");
+        solving.set(true);
+        terminatedEarly.set(false);
+        synchronized (this) {
+            Arrays.fill(islandBests, null);
+            mergedBest = null;
+            pendingEvent = null;
+        }
+        var completionQueue_ = new LinkedBlockingQueue<Future<Solution_>>();
+        completionQueue = completionQueue_;
+        var executor = Executors.newFixedThreadPool(islandList.size(), threadFactory);
+        try {
+            var completionService = new ExecutorCompletionService<Solution_>(executor, completionQueue_);
+            for (var island : islandList) {
+                completionService.submit(() -> island.solve(problem));
+            }
+            var remainingIslandCount = islandList.size();
+            var terminating = false;
+            var nextMigrationNanos = System.nanoTime() + migrationInterval.toNanos();
+            while (remainingIslandCount > 0) {
+                var timeoutNanos = terminating || terminatedEarly.get() ? TERMINATION_RETRY_INTERVAL.toNanos()
+                        : Math.max(0L, nextMigrationNanos - System.nanoTime());
+                var future = completionService.poll(timeoutNanos, TimeUnit.NANOSECONDS);
+                firePendingBestSolutionChanged();
+                if (future == bestSolutionChangedMarker) {
+                    continue;
+                }
+                if (future == null || future == terminatedEarlyMarker) {
+                    if (terminating || terminatedEarly.get()) {
+                        // An island which had not started solving yet has ignored the earlier termination.
+                        terminating = true;
+                        terminateIslandsEarly();
+                    } else if (System.nanoTime() - nextMigrationNanos >= 0L) {
+                        migrate();
+                        nextMigrationNanos = System.nanoTime() + migrationInterval.toNanos();
+                    }
+                    continue;
+                }
+                remainingIslandCount--;
+                getOrFail(future);
+                if (!terminating) {
+                    // The first island to terminate ends the search.
+                    terminating = true;
+                    terminateIslandsEarly();
+                }
+            }
+            // An island may have improved just before it terminated.
+            firePendingBestSolutionChanged();
+            return pickBestIsland().getSolverScope().getBestSolution();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The island solver thread was interrupted.", e);
+        } finally {
+            // Interrupts the islands still solving, in case an island failed.
+            executor.shutdownNow();
+            completionQueue = null;
+            solving.set(false);
+        }
+    }
+
+    private void getOrFail(Future<Solution_> future) throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            terminateIslandsEarly();
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("An island of the island solver failed.", e.getCause());
+        }
+    }
+
+    private void terminateIslandsEarly() {
+        for (var island : islandList) {
+            island.terminateEarly();
+        }
+    }
+
+    private DefaultSolver<Solution_> pickBestIsland() {
+        var bestIsland = islandList.get(0);
+        for (var island : islandList.subList(1, islandList.size())) {
+            if (isBetter(island.getSolverScope().getBestScore(), bestIsland.getSolverScope().getBestScore())) {
+                bestIsland = island;
+            }
+        }
+        return bestIsland;
+    }
+
+    private synchronized void islandBestSolutionChanged(int islandIndex, BestSolutionChangedEvent<Solution_> event) {
+        var score = islandList.get(islandIndex).getSolverScope().getBestScore();
+        var islandBest = new IslandBest<>(islandIndex, event.getNewBestSolution(), score);
+        islandBests[islandIndex] = islandBest;
+        if (mergedBest == null || isBetter(score, mergedBest.score())) {
+            mergedBest = islandBest;
+            var wakeUpNeeded = pendingEvent == null;
+            pendingEvent = event;
+            var completionQueue_ = completionQueue;
+            if (wakeUpNeeded && completionQueue_ != null) {
+                completionQueue_.offer(bestSolutionChangedMarker);
+            }
+        }
+    }
+
+    /**
+     * Called in the solver thread only, which delivers the events outside the lock,
+     * so that the islands do not wait for the event listeners.
+     */
+    private void firePendingBestSolutionChanged() {
+        BestSolutionChangedEvent<Solution_> event;
+        InnerScore<?> score;
+        synchronized (this) {
+            event = pendingEvent;
+            if (event == null) {
+                return;
+            }
+            pendingEvent = null;
+            score = Objects.requireNonNull(mergedBest).score();
+        }
+        solverEventSupport.fireBestSolutionChanged(event.getProducerId(), event.getTimeMillisSpent(),
+                event.getNewBestSolution(), score);
+    }
+
+    private synchronized void migrate() {
+        if (mergedBest == null || !mergedBest.score().isFullyAssigned()) {
+            return;
+        }
+        var migrationCount = 0;
+        for (var islandIndex = 0; islandIndex < islandList.size(); islandIndex++) {
+            var islandBest = islandBests[islandIndex];
+            if (islandIndex == mergedBest.islandIndex()
+                    || (islandBest != null && !isBetter(mergedBest.score(), islandBest.score()))) {
+                continue;
+            }
+            var island = islandList.get(islandIndex);
+            if (!island.isEveryProblemChangeProcessed()) { // The previous migration is still pending.
+                continue;
+            }
+            island.addProblemChange(new MigrationProblemChange<>(mergedBest.solution(), mergedBest.score()));
+            migrationCount++;
+        }
+        LOGGER.debug("Migrated the best solution ({}) of island ({}) to ({}) other islands.",
+                mergedBest.score().raw(), mergedBest.islandIndex(), migrationCount);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static boolean isBetter(InnerScore score, InnerScore otherScore) {
+        return score.compareTo(otherScore) > 0;
+    }
+
+    @Override
+    public boolean terminateEarly() {
+        var terminationEarlySuccessful = terminatedEarly.compareAndSet(false, true);
+        terminateIslandsEarly();
+        var completionQueue_ = completionQueue;
+        if (completionQueue_ != null) {
+            // Retries the termination right away, in case an island has not started solving yet.
+            completionQueue_.offer(terminatedEarlyMarker);
+        }
+        return terminationEarlySuccessful;
+    }
+
+    @Override
+    public boolean isSolving() {
+        return solving.get();
+    }
+
+    @Override
+    public boolean isTerminateEarly() {
+        return terminatedEarly.get();
+    }
+
+    @Override
+    public void addProblemChange(ProblemChange<Solution_> problemChange) {
+        addProblemChanges(List.of(problemChange));
+    }
+
+    @Override
+    public void addProblemChanges(List<ProblemChange<Solution_>> problemChangeList) {
+        throw new UnsupportedOperationException("""
+                The problem changes (%s) are not supported by a solver with an islandCount (%d).
+                Maybe remove the islandCount for real-time planning."""
+                .formatted(problemChangeList, islandList.size()));
+    }
+
+    @Override
+    public boolean isEveryProblemChangeProcessed() {
+        // Migrations are internal to this solver.
+        return true;
+    }
+
+    @Override
+    public void addEventListener(SolverEventListener<Solution_> eventListener) {
+        solverEventSupport.addEventListener(eventListener);
+    }
+
+    @Override
+    public void removeEventListener(SolverEventListener<Solution_> eventListener) {
+        solverEventSupport.removeEventListener(eventListener);
+    }
+
+    @Override
+    public String toString() {
+        return "%s(%d islands, migration every %s)"
+                .formatted(getClass().getSimpleName(), islandList.size(), migrationInterval);
+    }
+
+    private record IslandBest<Solution_>(int islandIndex, Solution_ solution, InnerScore<?> score) {
+    }
+
+}
@@ -0,0 +1,40 @@
+package ai.timefold.solver.core.impl.solver;
+
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
+import ai.timefold.solver.core.api.solver.change.ProblemChangeDirector;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Makes a {@link DefaultSolver} continue from the best solution of another island of the same {@link IslandSolver}.
+ * <p>
+ * The problem does not change, so the change itself does nothing.
+ * Instead, the {@link DefaultSolver} recognizes it when it restarts,
+ * and sets its working solution to a planning clone of the migrant instead of its own best solution.
+ * The islands publish their best solutions at their own pace,
+ * so by the time the migration is applied, the island may have found a best solution at least as good as the migrant.
+ * In that case, the island continues from its own best solution instead.
+ * <p>
+ * Like a real problem change, the restart runs every phase from the start:
+ * a construction heuristic finds the migrant initialized and does nothing,
+ * and a local search starts with a fresh acceptor and forager,
+ * losing for example its tabu lists, its late acceptance history and its simulated annealing temperature.
+ * The phase terminations, such as a step count limit, also start counting again.
+ * Unlike a real problem change, a migration keeps the time spent and the calculation count,
+ * so the solver terminations, such as a time spent limit, keep counting.
+ * The unimproved time spent counts from the migration, as the migrant is the new best solution of the island.
+ *
+ * @param migrant never modified
+ * @param migrantScore the score of the migrant
+ * @param <Solution_>
+ */
+@NullMarked
+record MigrationProblemChange<Solution_>(Solution_ migrant, InnerScore<?> migrantScore) implements ProblemChange<Solution_> {
+
+    @Override
+    public void doChange(Solution_ workingSolution, ProblemChangeDirector problemChangeDirector) {
+        // No-op; see the class documentation.
+    }
+
+}
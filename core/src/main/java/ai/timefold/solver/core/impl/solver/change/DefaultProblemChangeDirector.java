@@ -1,5 +1,8 @@
 package ai.timefold.solver.core.impl.solver.change;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -86,6 +89,56 @@ public final class DefaultProblemChangeDirector<Solution_> implements ProblemCha
         scoreDirector.afterProblemPropertyChanged(workingEntityOrProblemFact);
     }
 
+    @Override
+    public <ProblemFact> void addProblemFacts(Collection<ProblemFact> problemFactCollection,
+            Consumer<ProblemFact> problemFactConsumer) {
+        Objects.requireNonNull(problemFactCollection,
+                () -> "Problem fact collection (" + problemFactCollection + ") cannot be null.");
+        Objects.requireNonNull(problemFactConsumer,
+                () -> "Problem fact consumer (" + problemFactConsumer + ") cannot be null.");
+        for (var problemFact : problemFactCollection) {
+            Objects.requireNonNull(problemFact, () -> "Problem fact (" + problemFact + ") cannot be null.");
+        }
+        scoreDirector.beforeProblemFactsAdded(problemFactCollection);
+        problemFactCollection.forEach(problemFactConsumer);
+        scoreDirector.afterProblemFactsAdded(problemFactCollection);
+    }
+
+    @Override
+    public <ProblemFact> void removeProblemFacts(Collection<ProblemFact> problemFactCollection,
+            Consumer<ProblemFact> problemFactConsumer) {
+        Objects.requireNonNull(problemFactCollection,
+                () -> "Problem fact collection (" + problemFactCollection + ") cannot be null.");
+        Objects.requireNonNull(problemFactConsumer,
+                () -> "Problem fact consumer (" + problemFactConsumer + ") cannot be null.");
+        var workingProblemFactList = lookUpWorkingObjects(problemFactCollection);
+        scoreDirector.beforeProblemFactsRemoved(workingProblemFactList);
+        workingProblemFactList.forEach(problemFactConsumer);
+        scoreDirector.afterProblemFactsRemoved(workingProblemFactList);
+    }
+
+    @Override
+    public <EntityOrProblemFact> void changeProblemProperties(Collection<EntityOrProblemFact> problemFactOrEntityCollection,
+            Consumer<EntityOrProblemFact> problemFactOrEntityConsumer) {
+        Objects.requireNonNull(problemFactOrEntityCollection,
+                () -> "Problem fact or entity collection (" + problemFactOrEntityCollection + ") cannot be null.");
+        Objects.requireNonNull(problemFactOrEntityConsumer,
+                () -> "Problem fact or entity consumer (" + problemFactOrEntityConsumer + ") cannot be null.");
+        var workingEntityOrProblemFactList = lookUpWorkingObjects(problemFactOrEntityCollection);
+        scoreDirector.beforeProblemPropertiesChanged(workingEntityOrProblemFactList);
+        workingEntityOrProblemFactList.forEach(problemFactOrEntityConsumer);
+        scoreDirector.afterProblemPropertiesChanged(workingEntityOrProblemFactList);
+    }
+
+    private <Object_> List<Object_> lookUpWorkingObjects(Collection<Object_> externalObjectCollection) {
+        var workingObjectList = new ArrayList<Object_>(externalObjectCollection.size());
+        for (var externalObject : externalObjectCollection) {
+            Objects.requireNonNull(externalObject, () -> "Problem fact or entity (" + externalObject + ") cannot be null.");
+            workingObjectList.add(lookUpWorkingObject(externalObject));
+        }
+        return workingObjectList;
+    }
+
     @Override
     public <EntityOrProblemFact> @Nullable EntityOrProblemFact
             lookUpWorkingObject(@Nullable EntityOrProblemFact externalObject) {
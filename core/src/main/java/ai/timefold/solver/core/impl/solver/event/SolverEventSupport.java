@@ -4,6 +4,7 @@ import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.solver.Solver;
 import ai.timefold.solver.core.api.solver.event.EventProducerId;
 import ai.timefold.solver.core.api.solver.event.SolverEventListener;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 
 /**
@@ -21,9 +22,13 @@ public class SolverEventSupport<Solution_> extends AbstractEventSupport<SolverEv
 
     public void fireBestSolutionChanged(SolverScope<Solution_> solverScope, EventProducerId eventProducerId,
             Solution_ newBestSolution) {
+        fireBestSolutionChanged(eventProducerId, solverScope.getBestSolutionTimeMillisSpent(), newBestSolution,
+                solverScope.getBestScore());
+    }
+
+    public void fireBestSolutionChanged(EventProducerId eventProducerId, long timeMillisSpent, Solution_ newBestSolution,
+            InnerScore<?> bestScore) {
         var it = getEventListeners().iterator();
-        var timeMillisSpent = solverScope.getBestSolutionTimeMillisSpent();
-        var bestScore = solverScope.getBestScore();
         if (it.hasNext()) {
             var event =
                     new DefaultBestSolutionChangedEvent<>(solver, eventProducerId, timeMillisSpent, newBestSolution, bestScore);
@@ -0,0 +1,102 @@
+package ai.timefold.solver.core.impl.solver.monitoring.statistic;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Publishes the time spent and the number of invocations of each constraint node,
+ * and of each constraint node location, as recorded by the solver's
+ * {@link ai.timefold.solver.core.impl.bavet.common.DefaultConstraintProfiler}.
+ */
+public class ConstraintNodeCostStatistic<Solution_> implements SolverStatistic<Solution_> {
+
+    public static final String NODE_TAG = "constraint.node";
+    public static final String LOCATION_TAG = "constraint.node.location";
+
+    public static String getTimeMeterId() {
+        return SolverMetric.CONSTRAINT_NODE_COST.getMeterId() + ".time";
+    }
+
+    public static String getCountMeterId() {
+        return SolverMetric.CONSTRAINT_NODE_COST.getMeterId() + ".count";
+    }
+
+    public static String getLocationTimeMeterId() {
+        return SolverMetric.CONSTRAINT_NODE_COST.getMeterId() + ".location.time";
+    }
+
+    public static String getLocationCountMeterId() {
+        return SolverMetric.CONSTRAINT_NODE_COST.getMeterId() + ".location.count";
+    }
+
+    private final Map<Solver<Solution_>, PhaseLifecycleListenerAdapter<Solution_>> solverToPhaseLifecycleListenerMap =
+            new WeakHashMap<>();
+
+    @Override
+    public void unregister(Solver<Solution_> solver) {
+        var listener = solverToPhaseLifecycleListenerMap.remove(solver);
+        if (listener != null) {
+            ((DefaultSolver<Solution_>) solver).removePhaseLifecycleListener(listener);
+            ((ConstraintNodeCostStatisticListener<Solution_>) listener).unregister();
+        }
+    }
+
+    @Override
+    public void register(Solver<Solution_> solver) {
+        var defaultSolver = (DefaultSolver<Solution_>) solver;
+        var listener = new ConstraintNodeCostStatisticListener<Solution_>();
+        solverToPhaseLifecycleListenerMap.put(solver, listener);
+        defaultSolver.addPhaseLifecycleListener(listener);
+    }
+
+    private static class ConstraintNodeCostStatisticListener<Solution_> extends PhaseLifecycleListenerAdapter<Solution_> {
+        private final Map<Meter.Id, AtomicLong> meterIdToGaugeMap = new ConcurrentHashMap<>();
+
+        @Override
+        public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+            // The metric must be collected when the phase ends instead of when the solver ends
+            // because there is no guarantee this listener will run the phase event before the StatisticRegistry listener
+            var constraintProfiler = phaseScope.getSolverScope().getConstraintProfiler();
+            if (constraintProfiler == null) { // Not solving with constraint streams.
+                return;
+            }
+            var tags = phaseScope.getSolverScope().getMonitoringTags();
+            constraintProfiler.getNodeCostMap().forEach((profileId, cost) -> {
+                var nodeTags = tags.and(NODE_TAG, profileId.toString());
+                updateGauge(getTimeMeterId(), nodeTags, cost.timeNanos());
+                updateGauge(getCountMeterId(), nodeTags, cost.count());
+            });
+            constraintProfiler.getLocationCostMap().forEach((location, cost) -> {
+                var locationTags = tags.and(LOCATION_TAG, location.toString());
+                updateGauge(getLocationTimeMeterId(), locationTags, cost.timeNanos());
+                updateGauge(getLocationCountMeterId(), locationTags, cost.count());
+            });
+        }
+
+        private void updateGauge(String meterId, Tags tags, long value) {
+            var gauge = meterIdToGaugeMap.computeIfAbsent(new Meter.Id(meterId, tags, null, null, Meter.Type.GAUGE),
+                    id -> Metrics.gauge(meterId, tags, new AtomicLong(0L)));
+            if (gauge != null) {
+                gauge.set(value);
+            }
+        }
+
+        void unregister() {
+            meterIdToGaugeMap.keySet().forEach(Metrics.globalRegistry::remove);
+            meterIdToGaugeMap.clear();
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package ai.timefold.solver.core.impl.solver.monitoring.statistic;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Publishes how many moves each child selector of an adaptive union move selector selected,
+ * which shows how the adaptive selection divided the move evaluations.
+ */
+public class MoveCountPerSelectorStatistic<Solution_> implements SolverStatistic<Solution_> {
+
+    public static final String SELECTOR_TAG = "move.selector";
+
+    private final Map<Solver<Solution_>, PhaseLifecycleListenerAdapter<Solution_>> solverToPhaseLifecycleListenerMap =
+            new WeakHashMap<>();
+
+    @Override
+    public void unregister(Solver<Solution_> solver) {
+        var listener = solverToPhaseLifecycleListenerMap.remove(solver);
+        if (listener != null) {
+            ((DefaultSolver<Solution_>) solver).removePhaseLifecycleListener(listener);
+            ((MoveCountPerSelectorStatisticListener<Solution_>) listener).unregister();
+        }
+    }
+
+    @Override
+    public void register(Solver<Solution_> solver) {
+        var defaultSolver = (DefaultSolver<Solution_>) solver;
+        var listener = new MoveCountPerSelectorStatisticListener<Solution_>();
+        solverToPhaseLifecycleListenerMap.put(solver, listener);
+        defaultSolver.addPhaseLifecycleListener(listener);
+    }
+
+    private static class MoveCountPerSelectorStatisticListener<Solution_>
+            extends PhaseLifecycleListenerAdapter<Solution_> {
+        private final Map<Meter.Id, AtomicLong> meterIdToGaugeMap = new ConcurrentHashMap<>();
+
+        @Override
+        public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+            // The metric must be collected when the phase ends instead of when the solver ends
+            // because there is no guarantee this listener will run the phase event before the StatisticRegistry listener
+            var meterId = SolverMetric.MOVE_COUNT_PER_SELECTOR.getMeterId();
+            var tags = phaseScope.getSolverScope().getMonitoringTags();
+            phaseScope.getSolverScope().getMoveSelectionCountPerSelector().forEach((selector, count) -> {
+                var selectorTags = tags.and(SELECTOR_TAG, selector);
+                var gauge = meterIdToGaugeMap.computeIfAbsent(
+                        new Meter.Id(meterId, selectorTags, null, null, Meter.Type.GAUGE),
+                        id -> Metrics.gauge(meterId, selectorTags, new AtomicLong(0L)));
+                if (gauge != null) {
+                    gauge.set(count);
+                }
+            });
+        }
+
+        void unregister() {
+            meterIdToGaugeMap.keySet().forEach(Metrics.globalRegistry::remove);
+            meterIdToGaugeMap.clear();
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package ai.timefold.solver.core.impl.solver.recaller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.preview.api.move.Move;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Stands in for a {@link PlanningSolution best solution} which has not been cloned yet.
+ * Instead of the clone, it keeps the undo moves of every step taken since the working solution was the best solution.
+ * <p>
+ * A best solution is only cloned when it is {@link #materialize(InnerScoreDirector) materialized},
+ * by undoing those steps on the working solution, cloning it and redoing the steps again.
+ * A best solution which is superseded by a better one before that never gets cloned at all.
+ * <p>
+ * The delta is only valid for as long as every change to the working solution is recorded in it.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+@NullMarked
+public final class BestSolutionDelta<Solution_> {
+
+    /**
+     * Materializing undoes and redoes every recorded step,
+     * so beyond this many steps that is no longer cheaper than the clone it avoids.
+     */
+    static final int MAXIMUM_STEP_COUNT = 1000;
+
+    private final InnerScore<?> bestScore;
+    private final List<Move<Solution_>> stepUndoMoveList = new ArrayList<>();
+
+    BestSolutionDelta(InnerScore<?> bestScore) {
+        this.bestScore = bestScore;
+    }
+
+    /**
+     * @param stepUndoMove the move which undoes the step that was just taken on the working solution
+     */
+    public void addStepUndoMove(Move<Solution_> stepUndoMove) {
+        stepUndoMoveList.add(stepUndoMove);
+    }
+
+    int getStepCount() {
+        return stepUndoMoveList.size();
+    }
+
+    boolean isFull() {
+        return stepUndoMoveList.size() >= MAXIMUM_STEP_COUNT;
+    }
+
+    /**
+     * Leaves the working solution, including its score, as it was before the call.
+     *
+     * @param scoreDirector the score director of the working solution which the steps were recorded on
+     * @return a planning clone of the best solution
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public Solution_ materialize(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        var solutionDescriptor = scoreDirector.getSolutionDescriptor();
+        var workingSolution = scoreDirector.getWorkingSolution();
+        var workingScore = solutionDescriptor.<Score> getScore(workingSolution);
+        var redoMoveList = new ArrayList<Move<Solution_>>(stepUndoMoveList.size());
+        for (var i = stepUndoMoveList.size() - 1; i >= 0; i--) {
+            redoMoveList.add(scoreDirector.executeMoveAndCreateUndoMove(stepUndoMoveList.get(i)));
+        }
+        // No need to calculate the score, it is already known.
+        solutionDescriptor.setScore(workingSolution, (Score) bestScore.raw());
+        var bestSolution = scoreDirector.cloneWorkingSolution();
+        for (var i = redoMoveList.size() - 1; i >= 0; i--) {
+            scoreDirector.executeMove(redoMoveList.get(i));
+        }
+        solutionDescriptor.setScore(workingSolution, workingScore);
+        return bestSolution;
+    }
+
+}
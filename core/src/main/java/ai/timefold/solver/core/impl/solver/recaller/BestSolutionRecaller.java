@@ -3,13 +3,16 @@ package ai.timefold.solver.core.impl.solver.recaller;
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.api.solver.event.BestSolutionChangedEvent;
 import ai.timefold.solver.core.api.solver.event.EventProducerId;
 import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
 import ai.timefold.solver.core.impl.score.director.InnerScore;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.solver.event.SolverEventSupport;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.preview.api.move.Move;
 
 /**
  * Remembers the {@link PlanningSolution best solution} that a {@link Solver} encounters.
@@ -68,6 +71,12 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         }
     }
 
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        // The next phase may start from the best solution, or the solver may return it.
+        phaseScope.getSolverScope().materializeBestSolution();
+    }
+
     public void processWorkingSolutionDuringConstructionHeuristicsStep(AbstractStepScope<Solution_> stepScope) {
         AbstractPhaseScope<Solution_> phaseScope = stepScope.getPhaseScope();
         SolverScope<Solution_> solverScope = phaseScope.getSolverScope();
@@ -79,7 +88,26 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         updateBestSolutionWithoutFiring(solverScope, stepScope.getScore(), newBestSolution);
     }
 
-    public <Score_ extends Score<Score_>> void processWorkingSolutionDuringStep(AbstractStepScope<Solution_> stepScope) {
+    public void processWorkingSolutionDuringStep(AbstractStepScope<Solution_> stepScope) {
+        processWorkingSolutionDuringStep(stepScope, false);
+    }
+
+    /**
+     * As {@link #processWorkingSolutionDuringStep(AbstractStepScope)},
+     * but unless a {@link BestSolutionChangedEvent} needs it right away,
+     * a new best solution is not cloned until it is {@link SolverScope#materializeBestSolution() materialized}.
+     * Until then, the caller must execute every later step with
+     * {@link InnerScoreDirector#executeMoveAndCreateUndoMove(Move)}
+     * and add its undo move to the {@link SolverScope#getBestSolutionDelta() best solution delta}.
+     *
+     * @param stepScope never null
+     */
+    public void processWorkingSolutionDuringLocalSearchStep(AbstractStepScope<Solution_> stepScope) {
+        processWorkingSolutionDuringStep(stepScope, !assertBestScoreIsUnmodified && !solverEventSupport.hasEventListeners());
+    }
+
+    private <Score_ extends Score<Score_>> void processWorkingSolutionDuringStep(AbstractStepScope<Solution_> stepScope,
+            boolean cloningDeferrable) {
         var phaseScope = stepScope.getPhaseScope();
         var score = stepScope.<Score_> getScore();
         var solverScope = phaseScope.getSolverScope();
@@ -87,12 +115,25 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         stepScope.setBestScoreImproved(bestScoreImproved);
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
-            var newBestSolution = stepScope.cloneWorkingSolution();
-            var innerScore = buildInnerScore(solverScope.getSolutionDescriptor().<Score_> getScore(newBestSolution),
-                    stepScope.getScoreDirector().getWorkingInitScore(), true);
-            updateBestSolutionAndFire(solverScope, phaseScope, innerScore, newBestSolution);
-        } else if (assertBestScoreIsUnmodified) {
-            solverScope.assertScoreFromScratch(solverScope.getBestSolution());
+            if (cloningDeferrable) {
+                // Early on, most new best solutions are superseded by the next one before anything needs them.
+                var innerScore = buildInnerScore(score.raw(), stepScope.getScoreDirector().getWorkingInitScore(), true);
+                updateBestScoreWithoutFiring(solverScope, innerScore);
+                solverScope.setBestSolutionDelta(new BestSolutionDelta<>(innerScore));
+            } else {
+                var newBestSolution = stepScope.cloneWorkingSolution();
+                var innerScore = buildInnerScore(solverScope.getSolutionDescriptor().<Score_> getScore(newBestSolution),
+                        stepScope.getScoreDirector().getWorkingInitScore(), true);
+                updateBestSolutionAndFire(solverScope, phaseScope, innerScore, newBestSolution);
+            }
+        } else {
+            var bestSolutionDelta = solverScope.getBestSolutionDelta();
+            if (bestSolutionDelta != null && bestSolutionDelta.isFull()) {
+                solverScope.materializeBestSolution();
+            }
+            if (assertBestScoreIsUnmodified) {
+                solverScope.assertScoreFromScratch(solverScope.getBestSolution());
+            }
         }
     }
 
@@ -151,11 +192,14 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
 
     private void updateBestSolutionWithoutFiring(SolverScope<Solution_> solverScope, InnerScore<?> bestScore,
             Solution_ bestSolution) {
+        solverScope.setBestSolution(bestSolution);
+        updateBestScoreWithoutFiring(solverScope, bestScore);
+    }
+
+    private void updateBestScoreWithoutFiring(SolverScope<Solution_> solverScope, InnerScore<?> bestScore) {
         if (bestScore.isFullyAssigned() && !solverScope.isBestSolutionInitialized()) {
             solverScope.setStartingInitializedScore(bestScore.raw());
         }
-
-        solverScope.setBestSolution(bestSolution);
         solverScope.setBestScore(bestScore);
         solverScope.setBestSolutionTimeMillis(solverScope.getClock().millis());
     }
@@ -18,6 +18,7 @@ import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.solver.ProblemSizeStatistics;
 import ai.timefold.solver.core.api.solver.Solver;
 import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.bavet.common.DefaultConstraintProfiler;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
@@ -28,11 +29,14 @@ import ai.timefold.solver.core.impl.solver.change.DefaultProblemChangeDirector;
 import ai.timefold.solver.core.impl.solver.monitoring.ScoreLevels;
 import ai.timefold.solver.core.impl.solver.random.DefaultRandomSource;
 import ai.timefold.solver.core.impl.solver.random.RandomSource;
+import ai.timefold.solver.core.impl.solver.recaller.BestSolutionDelta;
 import ai.timefold.solver.core.impl.solver.termination.PhaseTermination;
 import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
 
 import io.micrometer.core.instrument.Tags;
 
+import org.jspecify.annotations.Nullable;
+
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
@@ -44,6 +48,11 @@ public class SolverScope<Solution_> {
     private final AtomicReference<ProblemSizeStatistics> problemSizeStatistics = new AtomicReference<>();
     private final AtomicReference<Solution_> bestSolution = new AtomicReference<>();
     private final AtomicReference<InnerScore<?>> bestScore = new AtomicReference<>();
+    private @Nullable BestSolutionDelta<Solution_> bestSolutionDelta = null;
+    /**
+     * The solver thread, which recorded the {@link #bestSolutionDelta} and therefore must materialize it.
+     */
+    private @Nullable Thread bestSolutionDeltaThread = null;
     private final AtomicLong startingSystemTimeMillis = resetAtomicLongTimeMillis(new AtomicLong());
     private final AtomicLong endingSystemTimeMillis = resetAtomicLongTimeMillis(new AtomicLong());
 
@@ -77,6 +86,16 @@ public class SolverScope<Solution_> {
      */
     private final Map<String, Long> moveEvaluationCountPerTypeMap = new ConcurrentHashMap<>();
 
+    /**
+     * Used for tracking move count per child selector of adaptive union move selectors
+     */
+    private final Map<String, Long> moveSelectionCountPerSelectorMap = new ConcurrentHashMap<>();
+
+    /**
+     * Used for tracking constraint node cost; null unless {@link SolverMetric#CONSTRAINT_NODE_COST} is enabled.
+     */
+    private DefaultConstraintProfiler constraintProfiler;
+
     private static AtomicLong resetAtomicLongTimeMillis(AtomicLong atomicLong) {
         atomicLong.set(-1);
         return atomicLong;
@@ -221,7 +240,14 @@ public class SolverScope<Solution_> {
         return moveEvaluationCount;
     }
 
+    /**
+     * Only call this on the solver thread, as it may need to {@link #materializeBestSolution() materialize}
+     * the best solution from the working solution.
+     *
+     * @return never null
+     */
     public Solution_ getBestSolution() {
+        materializeBestSolution();
         return bestSolution.get();
     }
 
@@ -232,9 +258,48 @@ public class SolverScope<Solution_> {
      * @param bestSolution never null
      */
     public void setBestSolution(Solution_ bestSolution) {
+        this.bestSolutionDelta = null;
+        this.bestSolutionDeltaThread = null;
         this.bestSolution.set(bestSolution);
     }
 
+    /**
+     * @return null if the best solution has already been cloned
+     */
+    public @Nullable BestSolutionDelta<Solution_> getBestSolutionDelta() {
+        return bestSolutionDelta;
+    }
+
+    /**
+     * Replaces the best solution without cloning it yet.
+     * Until the best solution is {@link #materializeBestSolution() materialized},
+     * every change to the working solution must be recorded in the delta.
+     *
+     * @param bestSolutionDelta never null
+     */
+    public void setBestSolutionDelta(BestSolutionDelta<Solution_> bestSolutionDelta) {
+        this.bestSolutionDelta = bestSolutionDelta;
+        this.bestSolutionDeltaThread = Thread.currentThread();
+    }
+
+    /**
+     * Clones the best solution, if that was deferred by {@link #setBestSolutionDelta(BestSolutionDelta)}.
+     * Only call this on the solver thread, as the clone is made from the working solution.
+     */
+    public void materializeBestSolution() {
+        if (bestSolutionDelta != null) {
+            if (Thread.currentThread() != bestSolutionDeltaThread) {
+                throw new IllegalStateException(
+                        "Impossible state: the best solution must be materialized on the solver thread (%s), not on (%s)."
+                                .formatted(bestSolutionDeltaThread, Thread.currentThread()));
+            }
+            var delta = bestSolutionDelta;
+            bestSolutionDelta = null;
+            bestSolutionDeltaThread = null;
+            bestSolution.set(delta.materialize(scoreDirector));
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public <Score_ extends Score<Score_>> InnerScore<Score_> getBestScore() {
         return (InnerScore<Score_>) bestScore.get();
@@ -264,6 +329,18 @@ public class SolverScope<Solution_> {
         return moveEvaluationCountPerTypeMap;
     }
 
+    public Map<String, Long> getMoveSelectionCountPerSelector() {
+        return moveSelectionCountPerSelectorMap;
+    }
+
+    public DefaultConstraintProfiler getConstraintProfiler() {
+        return constraintProfiler;
+    }
+
+    public void setConstraintProfiler(DefaultConstraintProfiler constraintProfiler) {
+        this.constraintProfiler = constraintProfiler;
+    }
+
     // ************************************************************************
     // Calculated methods
     // ************************************************************************
@@ -278,6 +355,13 @@ public class SolverScope<Solution_> {
         this.moveEvaluationCount = 0L;
     }
 
+    /**
+     * Like {@link #startingNow()}, but continues counting the time and the moves since the solver started.
+     */
+    public void resumingNow() {
+        resetAtomicLongTimeMillis(endingSystemTimeMillis);
+    }
+
     public Long getBestSolutionTimeMillisSpent() {
         return getBestSolutionTimeMillis() - getStartingSystemTimeMillis();
     }
@@ -338,6 +422,15 @@ public class SolverScope<Solution_> {
         scoreDirector.setWorkingSolution(scoreDirector.cloneSolution(getBestSolution()));
     }
 
+    /**
+     * @param migrant the best solution of another solver of the same problem;
+     *        it shares the problem facts, but not the planning entities, with the solutions of this solver
+     */
+    public void setWorkingSolutionFromMigrant(Solution_ migrant) {
+        materializeBestSolution(); // The working solution is about to be replaced.
+        scoreDirector.setWorkingSolution(scoreDirector.cloneSolution(migrant));
+    }
+
     public void setInitialSolution(Solution_ initialSolution) {
         // The workingSolution must never be the same instance as the bestSolution.
         scoreDirector.setWorkingSolution(scoreDirector.cloneSolution(initialSolution));
@@ -412,4 +505,8 @@ public class SolverScope<Solution_> {
             return counter;
         });
     }
+
+    public void addMoveSelectionCountPerSelector(String selector, long count) {
+        moveSelectionCountPerSelectorMap.merge(selector, count, Long::sum);
+    }
 }
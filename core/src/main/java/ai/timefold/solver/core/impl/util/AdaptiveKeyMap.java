@@ -0,0 +1,308 @@
+package ai.timefold.solver.core.impl.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A map for the keys of Bavet nodes and indexes, such as group keys and equal-joiner keys.
+ * <p>
+ * Such keys are very often enums (such as a skill or a shift type)
+ * or small integers (such as a day index or an employee id).
+ * For those, a {@link HashMap} allocates a node per entry,
+ * and every lookup goes through virtual {@link Object#hashCode()} and {@link Object#equals(Object)} calls.
+ * The key functions are user-supplied lambdas, so the key domain can not be known up-front.
+ * Therefore this map decides its storage based on the first key it sees:
+ * <ul>
+ * <li>Enum keys are stored in a dense array indexed by {@link Enum#ordinal()}.</li>
+ * <li>{@link Integer} and {@link Long} keys are stored in an open-addressing table of primitive longs.</li>
+ * <li>Anything else goes to a {@link HashMap}.</li>
+ * </ul>
+ * As soon as a key arrives that the specialized storage can not hold
+ * (null, an enum of another class, a different boxed type, ...),
+ * all entries are migrated to a {@link HashMap} once and for all.
+ * Equality semantics are those of a {@link HashMap} in all cases.
+ * <p>
+ * The key functions still return boxed keys;
+ * this class only avoids the per-entry allocation and the pointer chasing on lookup.
+ *
+ * @param <Value_> the type of the values; never null
+ */
+@NullMarked
+public final class AdaptiveKeyMap<Value_> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private enum Mode {
+        UNDECIDED,
+        ENUM,
+        INTEGER,
+        LONG,
+        GENERIC
+    }
+
+    private final float genericLoadFactor;
+    private Mode mode = Mode.UNDECIDED;
+    private int size = 0;
+
+    // Mode.ENUM
+    private @Nullable Class<?> enumClass;
+    private @Nullable Object @Nullable [] ordinalValues;
+
+    // Mode.INTEGER and Mode.LONG; an empty slot has a null value.
+    private long @Nullable [] primitiveKeys;
+    private @Nullable Object @Nullable [] primitiveValues;
+
+    // Mode.GENERIC
+    private @Nullable Map<@Nullable Object, Value_> genericMap;
+
+    /**
+     * @param genericLoadFactor only used for the {@link HashMap} fallback
+     */
+    public AdaptiveKeyMap(float genericLoadFactor) {
+        this.genericLoadFactor = genericLoadFactor;
+    }
+
+    public AdaptiveKeyMap() {
+        this(0.75f);
+    }
+
+    public @Nullable Value_ get(@Nullable Object key) {
+        return switch (mode) {
+            case UNDECIDED -> null;
+            case ENUM -> getEnum(key);
+            case INTEGER, LONG -> getPrimitive(key);
+            case GENERIC -> genericMap.get(key);
+        };
+    }
+
+    public void put(@Nullable Object key, Value_ value) {
+        if (mode == Mode.UNDECIDED) {
+            decideMode(key);
+        }
+        switch (mode) {
+            case ENUM -> {
+                if (isEnumKey(key)) {
+                    putEnum((Enum<?>) key, value);
+                    return;
+                }
+            }
+            case INTEGER, LONG -> {
+                if (isPrimitiveKey(key)) {
+                    putPrimitive(toLong(key), value);
+                    return;
+                }
+            }
+            case GENERIC -> {
+                genericMap.put(key, value);
+                return;
+            }
+            default -> throw new IllegalStateException("Impossible state: unexpected mode (%s).".formatted(mode));
+        }
+        migrateToGeneric();
+        genericMap.put(key, value);
+    }
+
+    public @Nullable Value_ remove(@Nullable Object key) {
+        return switch (mode) {
+            case UNDECIDED -> null;
+            case ENUM -> removeEnum(key);
+            case INTEGER, LONG -> removePrimitive(key);
+            case GENERIC -> genericMap.remove(key);
+        };
+    }
+
+    public int size() {
+        return mode == Mode.GENERIC ? genericMap.size() : size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Used for testing.
+     */
+    boolean isSpecialized() {
+        return mode == Mode.ENUM || mode == Mode.INTEGER || mode == Mode.LONG;
+    }
+
+    private void decideMode(@Nullable Object key) {
+        if (key instanceof Enum<?> enumKey) {
+            mode = Mode.ENUM;
+            enumClass = enumKey.getDeclaringClass();
+            ordinalValues = new Object[enumClass.getEnumConstants().length];
+        } else if (key instanceof Integer) {
+            mode = Mode.INTEGER;
+            primitiveKeys = new long[INITIAL_CAPACITY];
+            primitiveValues = new Object[INITIAL_CAPACITY];
+        } else if (key instanceof Long) {
+            mode = Mode.LONG;
+            primitiveKeys = new long[INITIAL_CAPACITY];
+            primitiveValues = new Object[INITIAL_CAPACITY];
+        } else {
+            mode = Mode.GENERIC;
+            genericMap = new HashMap<>(INITIAL_CAPACITY, genericLoadFactor);
+        }
+    }
+
+    private boolean isEnumKey(@Nullable Object key) {
+        return key instanceof Enum<?> enumKey && enumKey.getDeclaringClass() == enumClass;
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable Value_ getEnum(@Nullable Object key) {
+        if (!isEnumKey(key)) {
+            return null;
+        }
+        return (Value_) ordinalValues[((Enum<?>) key).ordinal()];
+    }
+
+    private void putEnum(Enum<?> key, Value_ value) {
+        var ordinal = key.ordinal();
+        if (ordinalValues[ordinal] == null) {
+            size++;
+        }
+        ordinalValues[ordinal] = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable Value_ removeEnum(@Nullable Object key) {
+        if (!isEnumKey(key)) {
+            return null;
+        }
+        var ordinal = ((Enum<?>) key).ordinal();
+        var oldValue = (Value_) ordinalValues[ordinal];
+        if (oldValue != null) {
+            ordinalValues[ordinal] = null;
+            size--;
+        }
+        return oldValue;
+    }
+
+    private boolean isPrimitiveKey(@Nullable Object key) {
+        // Integer 1 and Long 1 are not equal; mixing them must not merge groups.
+        return mode == Mode.INTEGER ? key instanceof Integer : key instanceof Long;
+    }
+
+    private static long toLong(Object key) {
+        return ((Number) key).longValue();
+    }
+
+    private int findSlot(long key) {
+        var mask = primitiveKeys.length - 1;
+        var slot = mix(key) & mask;
+        while (primitiveValues[slot] != null && primitiveKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(long key) {
+        var hash = (int) (key ^ (key >>> 32)) * 0x9E3779B9; // Fibonacci hashing spreads sequential ids.
+        return hash ^ (hash >>> 16);
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable Value_ getPrimitive(@Nullable Object key) {
+        if (!isPrimitiveKey(key)) {
+            return null;
+        }
+        return (Value_) primitiveValues[findSlot(toLong(key))];
+    }
+
+    private void putPrimitive(long key, Value_ value) {
+        var slot = findSlot(key);
+        if (primitiveValues[slot] == null) {
+            primitiveKeys[slot] = key;
+            size++;
+            if (size * 2 > primitiveKeys.length) { // Keep the load factor at most 0.5, so that probe chains stay short.
+                primitiveValues[slot] = value;
+                resize();
+                return;
+            }
+        }
+        primitiveValues[slot] = value;
+    }
+
+    private void resize() {
+        var oldKeys = primitiveKeys;
+        var oldValues = primitiveValues;
+        primitiveKeys = new long[oldKeys.length * 2];
+        primitiveValues = new Object[oldValues.length * 2];
+        for (var i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                var slot = findSlot(oldKeys[i]);
+                primitiveKeys[slot] = oldKeys[i];
+                primitiveValues[slot] = oldValues[i];
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable Value_ removePrimitive(@Nullable Object key) {
+        if (!isPrimitiveKey(key)) {
+            return null;
+        }
+        var slot = findSlot(toLong(key));
+        var oldValue = (Value_) primitiveValues[slot];
+        if (oldValue == null) {
+            return null;
+        }
+        // Backward-shift deletion; no tombstones, so lookups never slow down as groups come and go.
+        var mask = primitiveKeys.length - 1;
+        var emptySlot = slot;
+        var nextSlot = (slot + 1) & mask;
+        while (primitiveValues[nextSlot] != null) {
+            var idealSlot = mix(primitiveKeys[nextSlot]) & mask;
+            // Move the entry into the gap, unless its ideal slot lies cyclically in (emptySlot, nextSlot].
+            var distanceToIdeal = (nextSlot - idealSlot) & mask;
+            var distanceToEmpty = (nextSlot - emptySlot) & mask;
+            if (distanceToIdeal >= distanceToEmpty) {
+                primitiveKeys[emptySlot] = primitiveKeys[nextSlot];
+                primitiveValues[emptySlot] = primitiveValues[nextSlot];
+                emptySlot = nextSlot;
+            }
+            nextSlot = (nextSlot + 1) & mask;
+        }
+        primitiveValues[emptySlot] = null;
+        size--;
+        return oldValue;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void migrateToGeneric() {
+        var map = new HashMap<@Nullable Object, Value_>(Math.max(INITIAL_CAPACITY, size * 2), genericLoadFactor);
+        if (mode == Mode.ENUM) {
+            var enumConstants = enumClass.getEnumConstants();
+            for (var ordinal = 0; ordinal < ordinalValues.length; ordinal++) {
+                if (ordinalValues[ordinal] != null) {
+                    map.put(enumConstants[ordinal], (Value_) ordinalValues[ordinal]);
+                }
+            }
+        } else {
+            for (var i = 0; i < primitiveKeys.length; i++) {
+                if (primitiveValues[i] != null) {
+                    // Not a ternary; numeric promotion would turn every Integer into a Long.
+                    Object key;
+                    if (mode == Mode.INTEGER) {
+                        key = (int) primitiveKeys[i];
+                    } else {
+                        key = primitiveKeys[i];
+                    }
+                    map.put(key, (Value_) primitiveValues[i]);
+                }
+            }
+        }
+        mode = Mode.GENERIC;
+        genericMap = map;
+        enumClass = null;
+        ordinalValues = null;
+        primitiveKeys = null;
+        primitiveValues = null;
+        size = 0;
+    }
+
+}
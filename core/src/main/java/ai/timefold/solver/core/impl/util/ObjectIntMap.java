@@ -0,0 +1,193 @@
+package ai.timefold.solver.core.impl.util;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Maps objects to non-negative ints.
+ * <p>
+ * The entries are kept in an open-addressing table with linear probing,
+ * so that neither looking up nor putting an entry allocates or boxes.
+ * Removing an entry shifts the later entries of its probe chain back, so that no tombstones are needed.
+ * <p>
+ * Keys are compared either by identity or by {@link Object#equals(Object)}.
+ * The hash of every key is kept from the moment it was put,
+ * so a key whose {@link Object#hashCode()} changes since is no longer found.
+ * Null keys are not supported.
+ */
+@NullMarked
+public final class ObjectIntMap {
+
+    public static final int ABSENT = -1;
+
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private final boolean identity;
+
+    private @Nullable Object[] keys;
+    private int[] hashes;
+    private int[] values;
+    private int size = 0;
+
+    /**
+     * @param identity true to compare keys by identity, false to compare them by {@link Object#equals(Object)}
+     * @param expectedSize the number of entries expected to be in the map at the same time
+     */
+    public ObjectIntMap(boolean identity, int expectedSize) {
+        this.identity = identity;
+        // Keeps the load factor at most 0.5.
+        var capacity = Math.max(MINIMUM_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize - 1)) << 2);
+        this.keys = new Object[capacity];
+        this.hashes = new int[capacity];
+        this.values = new int[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param key never null
+     * @return the value of the key, or {@link #ABSENT}
+     */
+    public int get(Object key) {
+        var slot = findSlot(key, hash(key));
+        return slot < 0 ? ABSENT : values[slot];
+    }
+
+    /**
+     * @param key never null
+     * @param value never negative
+     * @return the value the key had, or {@link #ABSENT}
+     */
+    public int put(Object key, int value) {
+        var hash = hash(key);
+        var slot = findSlot(key, hash);
+        if (slot >= 0) {
+            var oldValue = values[slot];
+            values[slot] = value;
+            return oldValue;
+        }
+        if ((size + 1) << 1 > keys.length) {
+            resize(keys.length << 1);
+        }
+        insert(key, hash, value);
+        size++;
+        return ABSENT;
+    }
+
+    /**
+     * @param key never null
+     * @return the value the key had, or {@link #ABSENT}
+     */
+    public int remove(Object key) {
+        var slot = findSlot(key, hash(key));
+        if (slot < 0) {
+            return ABSENT;
+        }
+        var value = values[slot];
+        delete(slot);
+        size--;
+        return value;
+    }
+
+    /**
+     * Removes every entry, but keeps the capacity.
+     */
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, null);
+            size = 0;
+        }
+    }
+
+    /**
+     * @param consumer receives every key, in no particular order
+     */
+    public void forEachKey(Consumer<Object> consumer) {
+        for (var key : keys) {
+            if (key != null) {
+                consumer.accept(key);
+            }
+        }
+    }
+
+    private int hash(Object key) {
+        var hash = identity ? System.identityHashCode(key) : key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private int findSlot(Object key, int hash) {
+        var mask = keys.length - 1;
+        var slot = hash & mask;
+        while (true) {
+            var slotKey = keys[slot];
+            if (slotKey == null) {
+                return -1;
+            }
+            if (slotKey == key || (!identity && hashes[slot] == hash && slotKey.equals(key))) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void insert(Object key, int hash, int value) {
+        var mask = keys.length - 1;
+        var slot = hash & mask;
+        while (keys[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        hashes[slot] = hash;
+        values[slot] = value;
+    }
+
+    /**
+     * Backward shift deletion: later keys of the same probe chain move up,
+     * so that no tombstones are needed.
+     */
+    private void delete(int slot) {
+        var mask = keys.length - 1;
+        var emptySlot = slot;
+        var nextSlot = slot;
+        while (true) {
+            nextSlot = (nextSlot + 1) & mask;
+            var nextKey = keys[nextSlot];
+            if (nextKey == null) {
+                break;
+            }
+            var idealSlot = hashes[nextSlot] & mask;
+            // Move the key up unless its ideal slot lies cyclically in (emptySlot, nextSlot].
+            var stays = emptySlot <= nextSlot
+                    ? emptySlot < idealSlot && idealSlot <= nextSlot
+                    : emptySlot < idealSlot || idealSlot <= nextSlot;
+            if (!stays) {
+                keys[emptySlot] = nextKey;
+                hashes[emptySlot] = hashes[nextSlot];
+                values[emptySlot] = values[nextSlot];
+                emptySlot = nextSlot;
+            }
+        }
+        keys[emptySlot] = null;
+    }
+
+    private void resize(int newCapacity) {
+        var oldKeys = keys;
+        var oldHashes = hashes;
+        var oldValues = values;
+        keys = new Object[newCapacity];
+        hashes = new int[newCapacity];
+        values = new int[newCapacity];
+        for (var slot = 0; slot < oldKeys.length; slot++) {
+            var key = oldKeys[slot];
+            if (key != null) {
+                insert(key, oldHashes[slot], oldValues[slot]);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,206 @@
+package ai.timefold.solver.core.impl.bavet;
+
+import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
+import static ai.timefold.solver.core.api.score.stream.Joiners.filtering;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintCollectors;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirector;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
+import ai.timefold.solver.core.testdomain.score.lavish.TestdataLavishEntity;
+import ai.timefold.solver.core.testdomain.score.lavish.TestdataLavishSolution;
+import ai.timefold.solver.core.testdomain.score.lavish.TestdataLavishValue;
+
+import org.junit.jupiter.api.Test;
+
+class ParallelLayerSettlerTest {
+
+    private static final ConstraintProvider CONSTRAINT_PROVIDER = factory -> new Constraint[] {
+            factory.forEach(TestdataLavishEntity.class)
+                    .filter(entity -> entity.getValue() != null)
+                    .penalize(SimpleScore.ONE)
+                    .asConstraint("assigned"),
+            factory.forEachUniquePair(TestdataLavishEntity.class, equal(TestdataLavishEntity::getValue))
+                    .penalize(SimpleScore.ONE)
+                    .asConstraint("sameValue"),
+            factory.forEach(TestdataLavishEntity.class)
+                    .groupBy(TestdataLavishEntity::getEntityGroup, ConstraintCollectors.count())
+                    .penalize(SimpleScore.ONE, (group, count) -> count * count)
+                    .asConstraint("groupSize"),
+            factory.forEach(TestdataLavishValue.class)
+                    .ifNotExists(TestdataLavishEntity.class, equal(value -> value, TestdataLavishEntity::getValue))
+                    .reward(SimpleScore.ONE)
+                    .asConstraint("unusedValue"),
+            factory.forEach(TestdataLavishValue.class)
+                    .join(TestdataLavishEntity.class, equal(value -> value, TestdataLavishEntity::getValue))
+                    .groupBy((value, entity) -> value, ConstraintCollectors.countBi())
+                    .penalize(SimpleScore.ONE, (value, count) -> count)
+                    .asConstraint("valueUsage")
+    };
+
+    /**
+     * Both ifExists nodes in the second layer pass the tuples of their shared left parent on
+     * to a filtering ifExists node, which keeps its pending marker in its own store slot of those tuples.
+     */
+    private static final ConstraintProvider SHARED_LEFT_TUPLE_CONSTRAINT_PROVIDER = factory -> new Constraint[] {
+            factory.forEach(TestdataLavishValue.class)
+                    .ifExists(TestdataLavishEntity.class, equal(value -> value, TestdataLavishEntity::getValue))
+                    .ifNotExists(TestdataLavishEntity.class, equal(value -> value, TestdataLavishEntity::getValue),
+                            filtering((value, entity) -> entity.getCode().hashCode() % 2 == 0))
+                    .penalize(SimpleScore.ONE)
+                    .asConstraint("usedByOddEntitiesOnly"),
+            factory.forEach(TestdataLavishValue.class)
+                    .ifNotExists(TestdataLavishEntity.class, equal(value -> value, TestdataLavishEntity::getValue))
+                    .ifExists(TestdataLavishEntity.class, filtering((value, entity) -> entity.getValue() == null))
+                    .reward(SimpleScore.ONE)
+                    .asConstraint("unusedWhileEntitiesUnassigned")
+    };
+
+    private static InnerScoreDirector<TestdataLavishSolution, SimpleScore> buildScoreDirector(
+            SolutionDescriptor<TestdataLavishSolution> solutionDescriptor, boolean parallelPropagationEnabled) {
+        return buildScoreDirector(solutionDescriptor, CONSTRAINT_PROVIDER, parallelPropagationEnabled);
+    }
+
+    private static InnerScoreDirector<TestdataLavishSolution, SimpleScore> buildScoreDirector(
+            SolutionDescriptor<TestdataLavishSolution> solutionDescriptor, ConstraintProvider constraintProvider,
+            boolean parallelPropagationEnabled) {
+        var scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore>(
+                solutionDescriptor, constraintProvider, EnvironmentMode.PHASE_ASSERT, false, parallelPropagationEnabled);
+        return scoreDirectorFactory.buildScoreDirector();
+    }
+
+    private static ParallelLayerSettler getParallelLayerSettler(
+            InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector) {
+        var session = ((BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore>) scoreDirector).getSession();
+        assertThat(session).isNotNull();
+        return session.getNodeNetwork().getParallelLayerSettler();
+    }
+
+    @Test
+    void sameScoreAsSequential() {
+        var solutionDescriptor = TestdataLavishSolution.buildSolutionDescriptor();
+        var variableDescriptor = solutionDescriptor.findEntityDescriptorOrFail(TestdataLavishEntity.class)
+                .getGenuineVariableDescriptor(TestdataLavishEntity.VALUE_FIELD);
+        var sequentialSolution = TestdataLavishSolution.generateSolution(20, 2_000);
+        var parallelSolution = TestdataLavishSolution.generateSolution(20, 2_000);
+        try (var sequentialScoreDirector = buildScoreDirector(solutionDescriptor, false);
+                var parallelScoreDirector = buildScoreDirector(solutionDescriptor, true)) {
+            assertSameScoreAsSequential(variableDescriptor, sequentialSolution, sequentialScoreDirector, parallelSolution,
+                    parallelScoreDirector, 20);
+            var histogram = getParallelLayerSettler(parallelScoreDirector).getHistogram();
+            var parallelSettleCount = IntStream.range(0, histogram.getLayerCount())
+                    .mapToLong(layerId -> histogram.getSettleCount(layerId, true))
+                    .sum();
+            if (Runtime.getRuntime().availableProcessors() > 1) {
+                assertThat(parallelSettleCount).isPositive();
+            }
+            assertThat(histogram.summarize()).startsWith("| Layer |");
+        }
+    }
+
+    @Test
+    void ifExistsNodesSharingLeftTuples() {
+        var solutionDescriptor = TestdataLavishSolution.buildSolutionDescriptor();
+        var variableDescriptor = solutionDescriptor.findEntityDescriptorOrFail(TestdataLavishEntity.class)
+                .getGenuineVariableDescriptor(TestdataLavishEntity.VALUE_FIELD);
+        var sequentialSolution = TestdataLavishSolution.generateSolution(2_000, 2_000);
+        var parallelSolution = TestdataLavishSolution.generateSolution(2_000, 2_000);
+        try (var sequentialScoreDirector =
+                buildScoreDirector(solutionDescriptor, SHARED_LEFT_TUPLE_CONSTRAINT_PROVIDER, false);
+                var parallelScoreDirector =
+                        buildScoreDirector(solutionDescriptor, SHARED_LEFT_TUPLE_CONSTRAINT_PROVIDER, true)) {
+            assertSameScoreAsSequential(variableDescriptor, sequentialSolution, sequentialScoreDirector, parallelSolution,
+                    parallelScoreDirector, 2_000);
+        }
+    }
+
+    private static void assertSameScoreAsSequential(
+            GenuineVariableDescriptor<TestdataLavishSolution> variableDescriptor,
+            TestdataLavishSolution sequentialSolution,
+            InnerScoreDirector<TestdataLavishSolution, SimpleScore> sequentialScoreDirector,
+            TestdataLavishSolution parallelSolution,
+            InnerScoreDirector<TestdataLavishSolution, SimpleScore> parallelScoreDirector, int valueCount) {
+        sequentialScoreDirector.setWorkingSolution(sequentialSolution);
+        parallelScoreDirector.setWorkingSolution(parallelSolution);
+        assertThat(getParallelLayerSettler(sequentialScoreDirector)).isNull();
+        assertThat(parallelScoreDirector.calculateScore())
+                .isEqualTo(sequentialScoreDirector.calculateScore());
+
+        var random = new Random(37);
+        for (var step = 0; step < 20; step++) {
+            // Large steps, so that at least some layers exceed the minimum cost.
+            for (var entityIndex : IntStream.range(0, 1_000).map(i -> random.nextInt(2_000)).toArray()) {
+                var valueIndex = random.nextInt(valueCount + 1);
+                var sequentialEntity = sequentialSolution.getEntityList().get(entityIndex);
+                var parallelEntity = parallelSolution.getEntityList().get(entityIndex);
+                sequentialScoreDirector.beforeVariableChanged(variableDescriptor, sequentialEntity);
+                sequentialEntity.setValue(valueIndex == valueCount ? null : sequentialSolution.getValueList().get(valueIndex));
+                sequentialScoreDirector.afterVariableChanged(variableDescriptor, sequentialEntity);
+                parallelScoreDirector.beforeVariableChanged(variableDescriptor, parallelEntity);
+                parallelEntity.setValue(valueIndex == valueCount ? null : parallelSolution.getValueList().get(valueIndex));
+                parallelScoreDirector.afterVariableChanged(variableDescriptor, parallelEntity);
+            }
+            assertThat(parallelScoreDirector.calculateScore())
+                    .isEqualTo(sequentialScoreDirector.calculateScore());
+        }
+    }
+
+    @Test
+    void nodesSharingTargetsShareCluster() {
+        var solutionDescriptor = TestdataLavishSolution.buildSolutionDescriptor();
+        try (var scoreDirector = buildScoreDirector(solutionDescriptor, true)) {
+            scoreDirector.setWorkingSolution(TestdataLavishSolution.generateSolution(2, 10));
+            scoreDirector.calculateScore();
+            var parallelLayerSettler = getParallelLayerSettler(scoreDirector);
+            // Layer 0 holds the forEach nodes of both classes;
+            // the value forEach and the entity forEach both feed the ifNotExists and join nodes,
+            // so all of them end up in a single cluster.
+            assertThat(parallelLayerSettler.getClusterCount(0)).isOne();
+            // Every node in the network ends up feeding some scorer, all of which share the score inliner.
+            var lastLayerId = parallelLayerSettler.getHistogram().getLayerCount() - 1;
+            assertThat(parallelLayerSettler.getClusterCount(lastLayerId)).isOne();
+        }
+    }
+
+    @Test
+    void histogramPercentiles() {
+        var histogram = new LayerSettleHistogram(2);
+        histogram.record(0, false, 1);
+        histogram.record(0, false, 1_000);
+        histogram.record(0, false, 1_000);
+        histogram.record(0, true, 100_000);
+
+        assertThat(histogram.getSettleCount(0, false)).isEqualTo(3);
+        assertThat(histogram.getSettleCount(0, true)).isOne();
+        assertThat(histogram.getSettleCount(1, false)).isZero();
+        assertThat(histogram.getTotalNanos(0, false)).isEqualTo(2_001);
+        assertThat(histogram.getPercentileNanos(0, false, 0)).isEqualTo(1);
+        assertThat(histogram.getPercentileNanos(0, false, 50)).isEqualTo(1_023);
+        assertThat(histogram.getPercentileNanos(0, true, 99)).isEqualTo(131_071);
+        assertThat(histogram.getPercentileNanos(1, true, 99)).isZero();
+        assertThat(histogram.summarize()).contains("|     0 |").doesNotContain("|     1 |");
+        assertThatThrownBy(() -> histogram.getPercentileNanos(0, false, 101))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void profilingAndParallelPropagationAreExclusive() {
+        var solutionDescriptor = TestdataLavishSolution.buildSolutionDescriptor();
+        assertThatThrownBy(() -> new BavetConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore>(
+                solutionDescriptor, CONSTRAINT_PROVIDER, EnvironmentMode.PHASE_ASSERT, true, true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("parallel propagation");
+    }
+
+}
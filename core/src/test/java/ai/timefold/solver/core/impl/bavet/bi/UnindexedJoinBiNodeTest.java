@@ -1,5 +1,6 @@
 package ai.timefold.solver.core.impl.bavet.bi;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.argThat;
 import static org.mockito.Mockito.verify;
 
@@ -98,4 +99,29 @@ class UnindexedJoinBiNodeTest {
         verify(downstream).update(argThat(t -> t.getA().equals("L1") && t.getB().equals("R2")));
     }
 
+    @Test
+    void statistics() {
+        var node = new UnindexedJoinBiNode<String, String>(downstream, (a, b) -> a.charAt(1) == b.charAt(1),
+                new TestTracker());
+        var left1 = createInputTuple("L1");
+        var left2 = createInputTuple("L2");
+        var right1 = createInputTuple("R1");
+        node.insertLeft(left1);
+        node.insertLeft(left2);
+        node.insertRight(right1);
+        node.prepareForSettle();
+        node.getPropagator().propagateEverything();
+        var statistics = node.getStatistics();
+        assertThat(statistics.leftTupleCount()).isEqualTo(2);
+        assertThat(statistics.rightTupleCount()).isEqualTo(1);
+        assertThat(statistics.outTupleCount()).isEqualTo(1);
+        assertThat(statistics.equalKeyCount()).isEqualTo(1);
+
+        node.retractLeft(left1);
+        node.getPropagator().propagateEverything();
+        statistics = node.getStatistics();
+        assertThat(statistics.leftTupleCount()).isEqualTo(1);
+        assertThat(statistics.outTupleCount()).isZero();
+    }
+
 }
@@ -0,0 +1,108 @@
+package ai.timefold.solver.core.impl.bavet.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.TreeSet;
+import java.util.concurrent.locks.LockSupport;
+
+import ai.timefold.solver.core.impl.bavet.common.InnerConstraintProfiler.Operation;
+
+import org.junit.jupiter.api.Test;
+
+class DefaultConstraintProfilerTest {
+
+    private static final ConstraintNodeLocation LOCATION_A = new ConstraintNodeLocation("Constraints", "a", 1);
+    private static final ConstraintNodeLocation LOCATION_B = new ConstraintNodeLocation("Constraints", "b", 2);
+
+    private static ConstraintNodeProfileId profileId(int key, ConstraintNodeLocation... locations) {
+        var locationSet = new TreeSet<ConstraintNodeLocation>();
+        for (var location : locations) {
+            locationSet.add(location);
+        }
+        return new ConstraintNodeProfileId(key, StreamKind.FILTER, locationSet);
+    }
+
+    @Test
+    void measureCountsInvocations() {
+        var profiler = new DefaultConstraintProfiler();
+        var profileId = profileId(0, LOCATION_A);
+        profiler.register(profileId);
+
+        profiler.measure(profileId, Operation.INSERT, () -> {
+        });
+        profiler.measure(profileId, Operation.UPDATE, () -> {
+        });
+        profiler.measure(profileId, Operation.RETRACT, () -> {
+        });
+
+        assertThat(profiler.getNodeCostMap().get(profileId).count()).isEqualTo(3);
+    }
+
+    @Test
+    void nestedMeasurementsAreExcluded() {
+        var profiler = new DefaultConstraintProfiler();
+        var outerProfileId = profileId(0, LOCATION_A);
+        var innerProfileId = profileId(1, LOCATION_B);
+        profiler.register(outerProfileId);
+        profiler.register(innerProfileId);
+
+        profiler.measure(outerProfileId, Operation.INSERT,
+                () -> profiler.measure(innerProfileId, Operation.INSERT, () -> LockSupport.parkNanos(20_000_000L)));
+
+        var nodeCostMap = profiler.getNodeCostMap();
+        var outerCost = nodeCostMap.get(outerProfileId);
+        var innerCost = nodeCostMap.get(innerProfileId);
+        assertThat(innerCost.timeNanos()).isGreaterThanOrEqualTo(20_000_000L);
+        // The outer node did almost nothing by itself.
+        assertThat(outerCost.timeNanos()).isLessThan(innerCost.timeNanos());
+        assertThat(outerCost.count()).isOne();
+        assertThat(innerCost.count()).isOne();
+    }
+
+    @Test
+    void sharedNodeCostIsAttributedToEachLocation() {
+        var profiler = new DefaultConstraintProfiler();
+        var sharedProfileId = profileId(0, LOCATION_A, LOCATION_B);
+        var profileId = profileId(1, LOCATION_B);
+        profiler.register(sharedProfileId);
+        profiler.register(profileId);
+
+        profiler.measure(sharedProfileId, Operation.INSERT, () -> {
+        });
+        profiler.measure(profileId, Operation.INSERT, () -> {
+        });
+        profiler.measure(profileId, Operation.INSERT, () -> {
+        });
+
+        var locationCostMap = profiler.getLocationCostMap();
+        assertThat(locationCostMap).containsOnlyKeys(LOCATION_A, LOCATION_B);
+        assertThat(locationCostMap.get(LOCATION_A).count()).isOne();
+        assertThat(locationCostMap.get(LOCATION_B).count()).isEqualTo(3);
+    }
+
+    @Test
+    void registerKeepsAccumulatedCost() {
+        var profiler = new DefaultConstraintProfiler();
+        var profileId = profileId(0, LOCATION_A);
+        profiler.register(profileId);
+        profiler.measure(profileId, Operation.INSERT, () -> {
+        });
+
+        // A rebuilt session registers the same profile IDs again.
+        profiler.register(profileId(0, LOCATION_A));
+        profiler.measure(profileId, Operation.INSERT, () -> {
+        });
+
+        assertThat(profiler.getNodeCostMap().get(profileId).count()).isEqualTo(2);
+    }
+
+    @Test
+    void failsOnUnregisteredProfileId() {
+        var profiler = new DefaultConstraintProfiler();
+        assertThatThrownBy(() -> profiler.measure(profileId(0, LOCATION_A), Operation.INSERT, () -> {
+        })).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not registered");
+    }
+
+}
@@ -0,0 +1,67 @@
+package ai.timefold.solver.core.impl.bavet.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import ai.timefold.solver.core.impl.bavet.bi.UnindexedJoinBiNode;
+import ai.timefold.solver.core.impl.bavet.common.tuple.InOutTupleStorePositionTracker;
+import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
+
+import org.junit.jupiter.api.Test;
+
+class JoinStatisticsTest {
+
+    @SuppressWarnings("unchecked")
+    private static JoinStatistics statistics(int leftTupleCount, int rightTupleCount, int outTupleCount,
+            int equalKeyCount) {
+        var node = new UnindexedJoinBiNode<>(mock(TupleLifecycle.class), null, mock(InOutTupleStorePositionTracker.class));
+        return new JoinStatistics(node, leftTupleCount, rightTupleCount, outTupleCount, equalKeyCount);
+    }
+
+    @Test
+    void empty() {
+        var statistics = statistics(0, 1_000, 0, 1);
+        assertThat(statistics.pairCount()).isZero();
+        assertThat(statistics.candidateRatio()).isZero();
+        assertThat(statistics.isNearCartesian()).isFalse();
+    }
+
+    @Test
+    void smallJoinIsNeverReported() {
+        var statistics = statistics(50, 50, 2_500, 1);
+        assertThat(statistics.candidateRatio()).isEqualTo(1.0);
+        assertThat(statistics.isNearCartesian()).isFalse();
+    }
+
+    @Test
+    void joinWithoutJoiners() {
+        // Even if the filter rejects every pair, every pair needs to be tested.
+        var statistics = statistics(200, 300, 0, 1);
+        assertThat(statistics.pairCount()).isEqualTo(60_000L);
+        assertThat(statistics.isNearCartesian()).isTrue();
+    }
+
+    @Test
+    void selectiveEqualJoiner() {
+        var statistics = statistics(200, 300, 600, 100);
+        assertThat(statistics.candidateRatio()).isEqualTo(0.01);
+        assertThat(statistics.isNearCartesian()).isFalse();
+    }
+
+    @Test
+    void unselectiveEqualJoiner() {
+        var statistics = statistics(200, 300, 0, 2);
+        assertThat(statistics.candidateRatio()).isEqualTo(0.5);
+        assertThat(statistics.isNearCartesian()).isTrue();
+    }
+
+    @Test
+    void unselectiveComparisonJoiner() {
+        // The number of keys is unknown, so only the matched pairs tell.
+        var statistics = statistics(200, 300, 48_000, 0);
+        assertThat(statistics.candidateRatio()).isEqualTo(0.8);
+        assertThat(statistics.isNearCartesian()).isTrue();
+        assertThat(statistics(200, 300, 6_000, 0).isNearCartesian()).isFalse();
+    }
+
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.DayOfWeek;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.NoSuchElementException;
@@ -73,6 +74,25 @@ class EqualIndexerTest extends AbstractIndexerTest {
         assertThat(forEachToTuples(indexer, "F", 20)).isEmpty();
     }
 
+    @Test
+    void forEachWithEnumAndNullKeys() {
+        var indexer = new EqualIndexer<UniTuple<String>, Object>(KeyUnpacker.single(), LinkedListLeafIndexer::new);
+
+        var mondayTuple = newTuple("Ann-MONDAY");
+        indexer.put(DayOfWeek.MONDAY, mondayTuple);
+        var fridayTuple = newTuple("Beth-FRIDAY");
+        indexer.put(DayOfWeek.FRIDAY, fridayTuple);
+        assertThat(forEachToTuples(indexer, DayOfWeek.MONDAY)).containsOnly(mondayTuple);
+
+        // A null key forces the index off its enum-specialized storage, without losing anything.
+        var nullTuple = newTuple("Carl-null");
+        indexer.put(CompositeKey.of(null), nullTuple);
+        assertThat(forEachToTuples(indexer, DayOfWeek.MONDAY)).containsOnly(mondayTuple);
+        assertThat(forEachToTuples(indexer, DayOfWeek.FRIDAY)).containsOnly(fridayTuple);
+        assertThat(forEachToTuples(indexer, (Object) null)).containsOnly(nullTuple);
+        assertThat(indexer.size(DayOfWeek.TUESDAY)).isZero();
+    }
+
     private static UniTuple<String> newTuple(String factA) {
         return UniTuple.of(factA, 0);
     }
@@ -0,0 +1,74 @@
+package ai.timefold.solver.core.impl.bavet.common.tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+class TupleLifecycleSpecializerTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void filtersUni() {
+        var specializer = new TupleLifecycleSpecializer();
+        var downstream = (TupleLifecycle<UniTuple<String>>) mock(TupleLifecycle.class);
+        Predicate<String> predicate = a -> a.startsWith("A");
+        var lifecycle = specializer.conditionally(downstream, predicate);
+
+        var accepted = UniTuple.of("A1", 0);
+        var rejected = UniTuple.of("B1", 0);
+        lifecycle.insert(accepted);
+        lifecycle.insert(rejected);
+        verify(downstream).insert(accepted);
+        verify(downstream, never()).insert(rejected);
+
+        lifecycle.update(accepted);
+        verify(downstream).update(accepted);
+        accepted.setA("B2");
+        lifecycle.update(accepted);
+        verify(downstream).retract(accepted);
+
+        lifecycle.retract(rejected);
+        verify(downstream).retract(rejected);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void filtersBi() {
+        var specializer = new TupleLifecycleSpecializer();
+        var downstream = (TupleLifecycle<BiTuple<String, Integer>>) mock(TupleLifecycle.class);
+        BiPredicate<String, Integer> predicate = (a, b) -> a.length() == b;
+        var lifecycle = specializer.conditionally(downstream, predicate);
+
+        var accepted = BiTuple.of("AB", 2, 0);
+        var rejected = BiTuple.of("AB", 3, 0);
+        lifecycle.insert(accepted);
+        lifecycle.insert(rejected);
+        verify(downstream).insert(accepted);
+        verify(downstream, never()).insert(rejected);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void everyPredicateGetsItsOwnClass() {
+        var specializer = new TupleLifecycleSpecializer();
+        var downstream = (TupleLifecycle<UniTuple<String>>) mock(TupleLifecycle.class);
+        Predicate<String> predicate1 = a -> true;
+        Predicate<String> predicate2 = a -> false;
+
+        var lifecycle1 = specializer.conditionally(downstream, predicate1);
+        var lifecycle1Again = specializer.conditionally(downstream, predicate1);
+        var lifecycle2 = specializer.conditionally(downstream, predicate2);
+        assertThat(lifecycle1.getClass().isHidden()).isTrue();
+        assertThat(lifecycle1Again).isNotSameAs(lifecycle1);
+        assertThat(lifecycle1Again.getClass()).isSameAs(lifecycle1.getClass());
+        assertThat(lifecycle2.getClass()).isNotSameAs(lifecycle1.getClass());
+        assertThat(lifecycle2.getClass().isHidden()).isTrue();
+    }
+
+}
@@ -370,6 +370,88 @@ class DefaultConstructionHeuristicPhaseTest {
                 .hasSameElementsAs(List.of("v3"));
     }
 
+    @Test
+    void solveRegretInsertionListVariable() {
+        var solverConfig = PlannerTestUtils
+                .buildSolverConfig(TestdataListSolution.class, TestdataListEntity.class, TestdataListValue.class)
+                .withEasyScoreCalculatorClass(TestdataListSolutionEasyScoreCalculator.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig()
+                        .withConstructionHeuristicType(ConstructionHeuristicType.REGRET_INSERTION));
+
+        var solution = TestdataListSolution.generateUninitializedSolution(6, 3);
+
+        var bestSolution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(bestSolution.getEntityList())
+                .flatMap(TestdataListEntity::getValueList)
+                .hasSameElementsAs(bestSolution.getValueList());
+        // One entity takes the values which would make another entity exceed a single value.
+        assertThat(bestSolution.getScore()).isEqualTo(SimpleScore.of(-15));
+    }
+
+    @Test
+    void solveRegretInsertionWithEntityValueRangeListVariable() {
+        var solverConfig = PlannerTestUtils
+                .buildSolverConfig(TestdataListEntityProvidingSolution.class, TestdataListEntityProvidingEntity.class,
+                        TestdataListEntityProvidingValue.class)
+                .withEasyScoreCalculatorClass(TestdataListEntityProvidingScoreCalculator.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig()
+                        .withConstructionHeuristicType(ConstructionHeuristicType.REGRET_INSERTION));
+
+        var value1 = new TestdataListEntityProvidingValue("v1");
+        var value2 = new TestdataListEntityProvidingValue("v2");
+        var value3 = new TestdataListEntityProvidingValue("v3");
+        var entity1 = new TestdataListEntityProvidingEntity("e1", List.of(value1, value2));
+        var entity2 = new TestdataListEntityProvidingEntity("e2", List.of(value2, value3));
+
+        var solution = new TestdataListEntityProvidingSolution();
+        solution.setEntityList(List.of(entity1, entity2));
+
+        // The values which fit into a single entity go first, then v2 goes to where it scores best.
+        var bestSolution = PlannerTestUtils.solve(solverConfig, solution, true);
+        assertThat(bestSolution.getEntityList().get(0).getValueList().stream().map(TestdataListEntityProvidingValue::getCode))
+                .hasSameElementsAs(List.of("v1", "v2"));
+        assertThat(bestSolution.getEntityList().get(1).getValueList().stream().map(TestdataListEntityProvidingValue::getCode))
+                .hasSameElementsAs(List.of("v3"));
+    }
+
+    @Test
+    void solveRegretInsertionWithAllowsUnassignedValuesListVariable() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataAllowsUnassignedValuesListSolution.class,
+                TestdataAllowsUnassignedValuesListEntity.class, TestdataAllowsUnassignedValuesListValue.class)
+                .withEasyScoreCalculatorClass(TestdataAllowsUnassignedValuesListEasyScoreCalculator.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig()
+                        .withConstructionHeuristicType(ConstructionHeuristicType.REGRET_INSERTION));
+
+        var value1 = new TestdataAllowsUnassignedValuesListValue("v1");
+        var value2 = new TestdataAllowsUnassignedValuesListValue("v2");
+        var value3 = new TestdataAllowsUnassignedValuesListValue("v3");
+        var value4 = new TestdataAllowsUnassignedValuesListValue("v4");
+        var entity = new TestdataAllowsUnassignedValuesListEntity("e1", value1, value2);
+
+        var solution = new TestdataAllowsUnassignedValuesListSolution();
+        solution.setEntityList(List.of(entity));
+        solution.setValueList(Arrays.asList(value1, value2, value3, value4));
+        SolutionManager.updateShadowVariables(solution);
+
+        var bestSolution = PlannerTestUtils.solve(solverConfig, solution, true);
+        assertThat(bestSolution.getScore())
+                .isEqualTo(SimpleScore.of(-2)); // Length of the entity's value list.
+        assertThat(bestSolution.getEntityList().getFirst().getValueList())
+                .containsExactly(bestSolution.getValueList().get(0), bestSolution.getValueList().get(1));
+    }
+
+    @Test
+    void failRegretInsertionBasicVariable() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig()
+                        .withConstructionHeuristicType(ConstructionHeuristicType.REGRET_INSERTION));
+
+        var solution = TestdataSolution.generateUninitializedSolution(2, 2);
+        assertThatThrownBy(() -> PlannerTestUtils.solve(solverConfig, solution))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("requires a planning list variable");
+    }
+
     private static List<ConstructionHeuristicTestConfig> generateCommonConfiguration() {
         var values = new ArrayList<ConstructionHeuristicTestConfig>();
         values.add(new ConstructionHeuristicTestConfig(
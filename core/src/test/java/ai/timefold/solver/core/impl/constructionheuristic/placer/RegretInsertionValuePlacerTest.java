@@ -0,0 +1,73 @@
+package ai.timefold.solver.core.impl.constructionheuristic.placer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.api.score.calculator.EasyScoreCalculator;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicType;
+import ai.timefold.solver.core.impl.constructionheuristic.DefaultConstructionHeuristicPhase;
+import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
+import ai.timefold.solver.core.testdomain.list.TestdataListEntity;
+import ai.timefold.solver.core.testdomain.list.TestdataListSolution;
+import ai.timefold.solver.core.testdomain.list.TestdataListValue;
+import ai.timefold.solver.core.testutil.PlannerTestUtils;
+
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+
+class RegretInsertionValuePlacerTest {
+
+    @Test
+    void cachedInsertionsEqualInsertionsEvaluatedFromScratch() {
+        // The score difference of an insertion only depends on the entity it inserts into,
+        // so the cached insertions are exact.
+        var solverConfig = PlannerTestUtils
+                .buildSolverConfig(TestdataListSolution.class, TestdataListEntity.class, TestdataListValue.class)
+                .withEasyScoreCalculatorClass(SquaredListSizeEasyScoreCalculator.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig()
+                        .withConstructionHeuristicType(ConstructionHeuristicType.REGRET_INSERTION));
+        var solver = (DefaultSolver<TestdataListSolution>) SolverFactory.<TestdataListSolution> create(solverConfig)
+                .buildSolver();
+        var phase = (DefaultConstructionHeuristicPhase<TestdataListSolution>) solver.getPhaseList().getFirst();
+        var placer = (RegretInsertionValuePlacer<TestdataListSolution>) phase.getEntityPlacer();
+
+        var stepCount = new AtomicInteger();
+        solver.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<>() {
+            @Override
+            public void stepStarted(AbstractStepScope<TestdataListSolution> stepScope) {
+                // The placement of the step already brought the cached insertions up to date.
+                var cachedInsertions = placer.getCachedInsertions();
+                assertThat(cachedInsertions)
+                        .hasSize(8 - stepCount.getAndIncrement())
+                        .isEqualTo(placer.evaluateInsertionsFromScratch());
+            }
+        });
+        var bestSolution = solver.solve(TestdataListSolution.generateUninitializedSolution(8, 3));
+
+        assertThat(stepCount).hasValue(8);
+        assertThat(bestSolution.getEntityList())
+                .flatMap(TestdataListEntity::getValueList)
+                .hasSameElementsAs(bestSolution.getValueList());
+    }
+
+    public static class SquaredListSizeEasyScoreCalculator implements EasyScoreCalculator<TestdataListSolution, SimpleScore> {
+
+        @Override
+        public @NonNull SimpleScore calculateScore(@NonNull TestdataListSolution solution) {
+            var score = 0;
+            for (var entity : solution.getEntityList()) {
+                var listSize = entity.getValueList().size();
+                score -= listSize * listSize;
+            }
+            return SimpleScore.of(score);
+        }
+
+    }
+
+}
@@ -0,0 +1,103 @@
+package ai.timefold.solver.core.impl.domain.common.accessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ai.timefold.solver.core.api.domain.solution.ProblemFactProperty;
+import ai.timefold.solver.core.api.domain.variable.PlanningVariable;
+import ai.timefold.solver.core.impl.domain.common.DomainAccessType;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataValue;
+import ai.timefold.solver.core.testdomain.reflect.accessmodifier.TestdataVisibilityModifierSolution;
+import ai.timefold.solver.core.testdomain.reflect.field.TestdataFieldAnnotatedEntity;
+
+import org.junit.jupiter.api.Test;
+
+class HiddenClassMemberAccessorTest {
+
+    @Test
+    void isSupported() {
+        assertThat(HiddenClassMemberAccessor.isSupported()).isTrue();
+    }
+
+    @Test
+    void fieldAnnotatedEntity() throws NoSuchFieldException {
+        var memberAccessor = HiddenClassMemberAccessor.of(new ReflectionFieldMemberAccessor(
+                TestdataFieldAnnotatedEntity.class.getDeclaredField("value")));
+        assertThat(memberAccessor).isInstanceOf(HiddenClassMemberAccessor.class);
+        assertThat(memberAccessor.getName()).isEqualTo("value");
+        assertThat(memberAccessor.getType()).isEqualTo(TestdataValue.class);
+        assertThat(memberAccessor.getAnnotation(PlanningVariable.class)).isNotNull();
+        assertThat(memberAccessor.getSpeedNote()).isEqualTo("hidden class");
+
+        var v1 = new TestdataValue("v1");
+        var v2 = new TestdataValue("v2");
+        var e1 = new TestdataFieldAnnotatedEntity("e1", v1);
+        assertThat(memberAccessor.executeGetter(e1)).isSameAs(v1);
+        memberAccessor.executeSetter(e1, v2);
+        assertThat(e1.getValue()).isSameAs(v2);
+    }
+
+    @Test
+    void methodAnnotatedEntity() throws NoSuchMethodException {
+        var memberAccessor = HiddenClassMemberAccessor.of(new ReflectionBeanPropertyMemberAccessor(
+                TestdataEntity.class.getMethod("getValue")));
+        assertThat(memberAccessor).isInstanceOf(HiddenClassMemberAccessor.class);
+        assertThat(memberAccessor.getName()).isEqualTo("value");
+        assertThat(memberAccessor.getType()).isEqualTo(TestdataValue.class);
+        assertThat(memberAccessor.getAnnotation(PlanningVariable.class)).isNotNull();
+        assertThat(memberAccessor.supportSetter()).isTrue();
+
+        var v1 = new TestdataValue("v1");
+        var v2 = new TestdataValue("v2");
+        var e1 = new TestdataEntity("e1", v1);
+        assertThat(memberAccessor.executeGetter(e1)).isSameAs(v1);
+        memberAccessor.executeSetter(e1, v2);
+        assertThat(e1.getValue()).isSameAs(v2);
+    }
+
+    @Test
+    void getterOnlyProperty() throws NoSuchMethodException {
+        var memberAccessor = HiddenClassMemberAccessor.of(new ReflectionBeanPropertyMemberAccessor(
+                TestdataEntity.class.getMethod("getValue"), TestdataEntity.class.getMethod("getValue"), true));
+        assertThat(memberAccessor.supportSetter()).isFalse();
+
+        var v1 = new TestdataValue("v1");
+        var e1 = new TestdataEntity("e1", v1);
+        assertThat(memberAccessor.executeGetter(e1)).isSameAs(v1);
+        assertThatThrownBy(() -> memberAccessor.executeSetter(e1, new TestdataValue("v2")))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void methodReturnVoid() throws NoSuchMethodException {
+        var memberAccessor = MemberAccessorFactory.buildMemberAccessor(TestdataEntity.class.getMethod("updateValue"),
+                MemberAccessorType.VOID_METHOD, null, DomainAccessType.FORCE_HIDDEN_CLASS, null);
+        assertThat(memberAccessor).isInstanceOf(HiddenClassMemberAccessor.class);
+        assertThat(memberAccessor.getName()).isEqualTo("updateValue");
+        assertThat(memberAccessor.getType()).isEqualTo(void.class);
+
+        var entity = new TestdataEntity();
+        entity.setValue(new TestdataValue("A"));
+        assertThat(memberAccessor.executeGetter(entity)).isNull();
+        assertThat(entity.getValue().getCode()).isEqualTo("A/A");
+    }
+
+    @Test
+    void publicFieldThroughFactory() throws NoSuchFieldException {
+        var memberAccessor = MemberAccessorFactory.buildMemberAccessor(
+                TestdataVisibilityModifierSolution.class.getDeclaredField("publicField"),
+                MemberAccessorType.FIELD_OR_GETTER_METHOD_WITH_SETTER, ProblemFactProperty.class,
+                DomainAccessType.FORCE_HIDDEN_CLASS, null);
+        assertThat(memberAccessor).isInstanceOf(HiddenClassMemberAccessor.class);
+        assertThat(memberAccessor.getType()).isEqualTo(String.class);
+
+        var s1 = new TestdataVisibilityModifierSolution("s1",
+                "n/a", "firstValue",
+                "n/a", "n/a", "n/a", "n/a");
+        assertThat(memberAccessor.executeGetter(s1)).isEqualTo("firstValue");
+        memberAccessor.executeSetter(s1, "secondValue");
+        assertThat(memberAccessor.executeGetter(s1)).isEqualTo("secondValue");
+    }
+
+}
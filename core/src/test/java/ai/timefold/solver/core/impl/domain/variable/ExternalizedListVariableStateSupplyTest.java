@@ -3,14 +3,18 @@ package ai.timefold.solver.core.impl.domain.variable;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Consumer;
 
+import ai.timefold.solver.core.impl.domain.variable.nextprev.NextElementShadowVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.nextprev.PreviousElementShadowVariableDescriptor;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.score.director.ValueRangeManager;
 import ai.timefold.solver.core.preview.api.domain.metamodel.ElementPosition;
@@ -18,7 +22,10 @@ import ai.timefold.solver.core.testdomain.list.unassignedvar.TestdataAllowsUnass
 import ai.timefold.solver.core.testdomain.list.unassignedvar.TestdataAllowsUnassignedValuesListSolution;
 import ai.timefold.solver.core.testdomain.list.unassignedvar.TestdataAllowsUnassignedValuesListValue;
 
+import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
 
 class ExternalizedListVariableStateSupplyTest {
@@ -113,4 +120,218 @@ class ExternalizedListVariableStateSupplyTest {
         }
     }
 
+    @Test
+    void moveRoundTrip() {
+        var variableDescriptor = TestdataAllowsUnassignedValuesListEntity.buildVariableDescriptorForValueList();
+        @SuppressWarnings("unchecked")
+        var notifier = (Consumer<Object>) mock(Consumer.class);
+        try (var supply = new ExternalizedListVariableStateSupply<>(variableDescriptor, notifier)) {
+
+            var valueList = new ArrayList<TestdataAllowsUnassignedValuesListValue>();
+            for (var i = 0; i < 40; i++) {
+                valueList.add(new TestdataAllowsUnassignedValuesListValue(String.valueOf(i)));
+            }
+            var e1 = new TestdataAllowsUnassignedValuesListEntity("e1", new ArrayList<>(valueList.subList(0, 30)));
+            var e2 = new TestdataAllowsUnassignedValuesListEntity("e2", new ArrayList<>());
+
+            var solution = new TestdataAllowsUnassignedValuesListSolution();
+            solution.setEntityList(new ArrayList<>(Arrays.asList(e1, e2)));
+            solution.setValueList(valueList);
+
+            var scoreDirector = mock(InnerScoreDirector.class);
+            var valueRangeManager =
+                    ValueRangeManager.of(variableDescriptor.getEntityDescriptor().getSolutionDescriptor(), solution);
+            when(scoreDirector.getValueRangeManager()).thenReturn(valueRangeManager);
+            when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+            supply.resetWorkingSolution(scoreDirector);
+
+            var first = valueList.get(0);
+            var last = valueList.get(29);
+            var unassigned = valueList.get(35);
+            assertSoftly(softly -> {
+                softly.assertThat(supply.getUnassignedCount()).isEqualTo(10);
+                softly.assertThat(supply.getElementPosition(last)).isEqualTo(ElementPosition.of(e1, 29));
+                softly.assertThat(supply.getPreviousElement(last)).isSameAs(valueList.get(28));
+                softly.assertThat(supply.getNextElement(last)).isNull();
+                softly.assertThat(supply.getElementPosition(unassigned)).isEqualTo(ElementPosition.unassigned());
+            });
+
+            // Move the first value of e1 to e2 and assign an unassigned value after it.
+            e1.getValueList().remove(0);
+            supply.afterListVariableChanged(scoreDirector, e1, 0, 0);
+            e2.getValueList().addAll(List.of(first, unassigned));
+            supply.afterListVariableChanged(scoreDirector, e2, 0, 2);
+            assertSoftly(softly -> {
+                softly.assertThat(supply.getUnassignedCount()).isEqualTo(9);
+                softly.assertThat(supply.getElementPosition(first)).isEqualTo(ElementPosition.of(e2, 0));
+                softly.assertThat(supply.getElementPosition(unassigned)).isEqualTo(ElementPosition.of(e2, 1));
+                softly.assertThat(supply.getInverseSingleton(unassigned)).isSameAs(e2);
+                softly.assertThat(supply.getIndexOrFail(last)).isEqualTo(28);
+                softly.assertThat(supply.getPreviousElement(unassigned)).isSameAs(first);
+                softly.assertThat(supply.getNextElement(first)).isSameAs(unassigned);
+                softly.assertThat(supply.getPreviousElement(valueList.get(1))).isNull();
+            });
+
+            e2.getValueList().remove(1);
+            supply.afterListElementUnassigned(scoreDirector, unassigned);
+            assertSoftly(softly -> {
+                softly.assertThat(supply.getUnassignedCount()).isEqualTo(10);
+                softly.assertThat(supply.getElementPosition(unassigned)).isEqualTo(ElementPosition.unassigned());
+                softly.assertThat(supply.getInverseSingleton(unassigned)).isNull();
+                softly.assertThat(supply.getIndexOrElse(unassigned, -1)).isEqualTo(-1);
+            });
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void shiftAfterChangeInTheMiddle(boolean externalizePreviousAndNext) {
+        var variableDescriptor = TestdataAllowsUnassignedValuesListEntity.buildVariableDescriptorForValueList();
+        @SuppressWarnings("unchecked")
+        var notifier = (Consumer<Object>) mock(Consumer.class);
+        try (var supply = new ExternalizedListVariableStateSupply<>(variableDescriptor, notifier)) {
+            if (externalizePreviousAndNext) {
+                var valueDescriptor = variableDescriptor.getEntityDescriptor().getSolutionDescriptor()
+                        .findEntityDescriptorOrFail(TestdataAllowsUnassignedValuesListValue.class);
+                supply.externalize(
+                        (PreviousElementShadowVariableDescriptor<TestdataAllowsUnassignedValuesListSolution>) valueDescriptor
+                                .getShadowVariableDescriptor("previous"));
+                supply.externalize(
+                        (NextElementShadowVariableDescriptor<TestdataAllowsUnassignedValuesListSolution>) valueDescriptor
+                                .getShadowVariableDescriptor("next"));
+            }
+
+            var valueList = new ArrayList<TestdataAllowsUnassignedValuesListValue>();
+            for (var i = 0; i < 10; i++) {
+                valueList.add(new TestdataAllowsUnassignedValuesListValue(String.valueOf(i)));
+            }
+            var insertedValue = new TestdataAllowsUnassignedValuesListValue("inserted");
+            var e1 = new TestdataAllowsUnassignedValuesListEntity("e1", new ArrayList<>(valueList));
+
+            var solution = new TestdataAllowsUnassignedValuesListSolution();
+            solution.setEntityList(new ArrayList<>(List.of(e1)));
+            var solutionValueList = new ArrayList<>(valueList);
+            solutionValueList.add(insertedValue);
+            solution.setValueList(solutionValueList);
+
+            var scoreDirector = mock(InnerScoreDirector.class);
+            var valueRangeManager =
+                    ValueRangeManager.of(variableDescriptor.getEntityDescriptor().getSolutionDescriptor(), solution);
+            when(scoreDirector.getValueRangeManager()).thenReturn(valueRangeManager);
+            when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+            supply.resetWorkingSolution(scoreDirector);
+            assertSoftly(softly -> assertPositions(softly, supply, e1, 0));
+
+            // Remove an element from the middle; every element after it shifts one back.
+            var removedValue = e1.getValueList().remove(3);
+            supply.afterListElementUnassigned(scoreDirector, removedValue);
+            supply.afterListVariableChanged(scoreDirector, e1, 3, 3);
+            assertSoftly(softly -> {
+                softly.assertThat(supply.getElementPosition(removedValue)).isEqualTo(ElementPosition.unassigned());
+                assertPositions(softly, supply, e1, 2);
+            });
+
+            // Insert an element in the middle; every element after it shifts one forward.
+            e1.getValueList().add(3, insertedValue);
+            supply.afterListVariableChanged(scoreDirector, e1, 3, 4);
+            assertSoftly(softly -> assertPositions(softly, supply, e1, 2));
+
+            // Replace an element in the middle; the elements after it do not move.
+            Mockito.reset(notifier);
+            e1.getValueList().set(3, removedValue);
+            supply.afterListElementUnassigned(scoreDirector, insertedValue);
+            supply.afterListVariableChanged(scoreDirector, e1, 3, 4);
+            assertSoftly(softly -> {
+                softly.assertThat(supply.getElementPosition(insertedValue)).isEqualTo(ElementPosition.unassigned());
+                assertPositions(softly, supply, e1, 2);
+            });
+            // The shift stops at the first element after the changed range, since its position is unchanged.
+            var firstUnchangedIndex = externalizePreviousAndNext ? 5 : 4;
+            verify(notifier).accept(e1.getValueList().get(firstUnchangedIndex));
+            for (var i = firstUnchangedIndex + 1; i < e1.getValueList().size(); i++) {
+                verify(notifier, never()).accept(e1.getValueList().get(i));
+            }
+        }
+    }
+
+    private static void assertPositions(SoftAssertions softly,
+            ExternalizedListVariableStateSupply<TestdataAllowsUnassignedValuesListSolution> supply,
+            TestdataAllowsUnassignedValuesListEntity entity, int fromIndex) {
+        var elementList = entity.getValueList();
+        for (var i = fromIndex; i < elementList.size(); i++) {
+            var element = elementList.get(i);
+            softly.assertThat(supply.getIndexOrFail(element)).isEqualTo(i);
+            softly.assertThat(supply.getInverseSingleton(element)).isSameAs(entity);
+            softly.assertThat(supply.getPreviousElement(element)).isSameAs(i == 0 ? null : elementList.get(i - 1));
+            softly.assertThat(supply.getNextElement(element))
+                    .isSameAs(i == elementList.size() - 1 ? null : elementList.get(i + 1));
+        }
+    }
+
+    @Test
+    void growAndReuseOrdinals() {
+        var variableDescriptor = TestdataAllowsUnassignedValuesListEntity.buildVariableDescriptorForValueList();
+        @SuppressWarnings("unchecked")
+        var notifier = (Consumer<Object>) mock(Consumer.class);
+        try (var supply = new ExternalizedListVariableStateSupply<>(variableDescriptor, notifier)) {
+
+            var v1 = new TestdataAllowsUnassignedValuesListValue("1");
+            var e1 = new TestdataAllowsUnassignedValuesListEntity("e1", new ArrayList<>(List.of(v1)));
+
+            var solution = new TestdataAllowsUnassignedValuesListSolution();
+            solution.setEntityList(new ArrayList<>(List.of(e1)));
+            solution.setValueList(List.of(v1));
+
+            var scoreDirector = mock(InnerScoreDirector.class);
+            var valueRangeManager =
+                    ValueRangeManager.of(variableDescriptor.getEntityDescriptor().getSolutionDescriptor(), solution);
+            when(scoreDirector.getValueRangeManager()).thenReturn(valueRangeManager);
+            when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+            supply.resetWorkingSolution(scoreDirector);
+
+            // Far more elements than the value range counted, such as after a problem change.
+            var addedValueList = new ArrayList<TestdataAllowsUnassignedValuesListValue>();
+            for (var i = 0; i < 100; i++) {
+                addedValueList.add(new TestdataAllowsUnassignedValuesListValue("added" + i));
+            }
+            e1.getValueList().addAll(addedValueList);
+            supply.afterListVariableChanged(scoreDirector, e1, 1, 101);
+            assertSoftly(softly -> {
+                softly.assertThat(supply.getElementPosition(v1)).isEqualTo(ElementPosition.of(e1, 0));
+                for (var i = 0; i < 100; i++) {
+                    softly.assertThat(supply.getElementPosition(addedValueList.get(i)))
+                            .isEqualTo(ElementPosition.of(e1, i + 1));
+                }
+            });
+
+            // Unassigning frees the ordinal, which the next assigned element reuses.
+            var unassignedValue = addedValueList.get(49);
+            e1.getValueList().remove(unassignedValue);
+            supply.afterListElementUnassigned(scoreDirector, unassignedValue);
+            supply.afterListVariableChanged(scoreDirector, e1, 50, 50);
+            var reassignedValue = new TestdataAllowsUnassignedValuesListValue("reassigned");
+            e1.getValueList().add(0, reassignedValue);
+            supply.afterListVariableChanged(scoreDirector, e1, 0, 1);
+            assertSoftly(softly -> {
+                softly.assertThat(supply.getElementPosition(unassignedValue)).isEqualTo(ElementPosition.unassigned());
+                softly.assertThat(supply.getElementPosition(reassignedValue)).isEqualTo(ElementPosition.of(e1, 0));
+                softly.assertThat(supply.getElementPosition(v1)).isEqualTo(ElementPosition.of(e1, 1));
+                softly.assertThat(supply.getElementPosition(addedValueList.get(48))).isEqualTo(ElementPosition.of(e1, 50));
+                softly.assertThat(supply.getElementPosition(addedValueList.get(50))).isEqualTo(ElementPosition.of(e1, 51));
+                softly.assertThat(supply.getNextElement(addedValueList.get(48))).isSameAs(addedValueList.get(50));
+            });
+
+            // A new working solution forgets every position.
+            e1.getValueList().clear();
+            e1.getValueList().add(v1);
+            supply.resetWorkingSolution(scoreDirector);
+            assertSoftly(softly -> {
+                softly.assertThat(supply.getElementPosition(v1)).isEqualTo(ElementPosition.of(e1, 0));
+                softly.assertThat(supply.getElementPosition(reassignedValue)).isEqualTo(ElementPosition.unassigned());
+                softly.assertThat(supply.getElementPosition(addedValueList.get(0))).isEqualTo(ElementPosition.unassigned());
+            });
+        }
+    }
+
 }
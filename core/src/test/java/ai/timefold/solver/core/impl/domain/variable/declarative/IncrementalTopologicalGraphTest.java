@@ -0,0 +1,86 @@
+package ai.timefold.solver.core.impl.domain.variable.declarative;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class IncrementalTopologicalGraphTest extends AbstractTopologicalGraphTest<IncrementalTopologicalOrderGraph> {
+
+    @Override
+    protected IncrementalTopologicalOrderGraph createTopologicalGraph(int graphSize) {
+        return new IncrementalTopologicalOrderGraph(graphSize);
+    }
+
+    @Override
+    protected void verifyConsistent(IncrementalTopologicalOrderGraph graph) {
+        var size = graph.size();
+        var orderSet = new HashSet<Integer>();
+        for (var node = 0; node < size; node++) {
+            orderSet.add(graph.getTopologicalOrder(node));
+        }
+        assertThat(orderSet)
+                .as("Topological orders must be unique in graph %s", graph)
+                .hasSize(size);
+        graph.forEachEdge((from, to) -> {
+            if (!graph.getComponent(from).contains(to)) {
+                assertThat(graph.getTopologicalOrder(from))
+                        .as("Edge %d -> %d must respect the topological order in graph %s", from, to, graph)
+                        .isLessThan(graph.getTopologicalOrder(to));
+            }
+        });
+    }
+
+    @Override
+    protected List<Integer> getComponentMembers(IncrementalTopologicalOrderGraph graph, int graphSize, int node) {
+        return graph.getComponent(node);
+    }
+
+    @Test
+    void matchesDefaultGraphOnRandomChanges() {
+        var graphSize = 30;
+        var random = new Random(37);
+        var graph = new IncrementalTopologicalOrderGraph(graphSize);
+        var expectedGraph = new DefaultTopologicalOrderGraph(graphSize);
+        var edgeMatrix = new boolean[graphSize][graphSize];
+        var changed = new BitSet();
+        var expectedChanged = new BitSet();
+        for (var commit = 0; commit < 2_000; commit++) {
+            // Mostly single edge changes, sometimes a batch.
+            var changeCount = random.nextInt(10) == 0 ? 1 + random.nextInt(5) : 1;
+            for (var i = 0; i < changeCount; i++) {
+                var from = random.nextInt(graphSize);
+                var to = random.nextInt(graphSize);
+                if (from == to) {
+                    continue;
+                }
+                // Removals are more likely than additions, to keep the graph from looping all the time.
+                if (edgeMatrix[from][to] && random.nextInt(3) != 0) {
+                    edgeMatrix[from][to] = false;
+                    graph.removeEdge(from, to);
+                    expectedGraph.removeEdge(from, to);
+                } else if (!edgeMatrix[from][to]) {
+                    edgeMatrix[from][to] = true;
+                    graph.addEdge(from, to);
+                    expectedGraph.addEdge(from, to);
+                }
+            }
+            changed.clear();
+            expectedChanged.clear();
+            graph.commitChanges(changed);
+            expectedGraph.commitChanges(expectedChanged);
+
+            assertThat(changed).isEqualTo(expectedChanged);
+            verifyConsistent(graph);
+            for (var node = 0; node < graphSize; node++) {
+                assertThat(graph.getComponent(node))
+                        .containsExactlyInAnyOrderElementsOf(expectedGraph.getComponent(node));
+            }
+        }
+    }
+
+}
@@ -39,6 +39,7 @@ import ai.timefold.solver.core.testdomain.comparable.TestdataDifficultyComparing
 import ai.timefold.solver.core.testutil.PlannerTestUtils;
 
 import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -431,6 +432,34 @@ class BlackBoxBasicVariableExhaustiveSearchPhaseTest {
         }
     }
 
+    @Test
+    void fallBackToDepthFirstWhenExpandableNodeLimitReached() {
+        var solverConfig = buildSolverConfig(EntitySorterManner.NONE, ValueSorterManner.NONE,
+                ExhaustiveSearchType.BRANCH_AND_BOUND, NodeExplorationType.BREADTH_FIRST);
+        ((ExhaustiveSearchPhaseConfig) solverConfig.getPhaseConfigList().get(0)).setExpandableNodeLimit(3);
+        var solver = SolverFactory.<TestdataDifficultyComparingSolution> create(solverConfig).buildSolver();
+        var listener = new TestdataSolutionStateRecorder();
+        ((DefaultSolver<TestdataDifficultyComparingSolution>) solver).addPhaseLifecycleListener(listener);
+
+        solver.solve(buildSolution());
+
+        // Expanding the root fills the queue up to the limit, so unlike breadth first, the next step already goes deeper.
+        assertThat(listener.getWorkingSolutions())
+                .containsExactly("----", "1---", "13--", "132-", "13-2", "12--", "123-", "12-3", "1-3-", "123-", "1321");
+    }
+
+    @Test
+    void expandableNodeLimitTooLow() {
+        var solverConfig = buildSolverConfig(EntitySorterManner.NONE, ValueSorterManner.NONE,
+                ExhaustiveSearchType.BRANCH_AND_BOUND, NodeExplorationType.BREADTH_FIRST);
+        ((ExhaustiveSearchPhaseConfig) solverConfig.getPhaseConfigList().get(0)).setExpandableNodeLimit(0);
+        var solverFactory = SolverFactory.<TestdataDifficultyComparingSolution> create(solverConfig);
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(solverFactory::buildSolver)
+                .withMessageContaining("expandableNodeLimit (0)");
+    }
+
     /**
      * This class calculates the score of a solution by penalizing repeated value occurrences held by entities.
      */
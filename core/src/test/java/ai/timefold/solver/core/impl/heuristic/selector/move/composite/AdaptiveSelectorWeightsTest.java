@@ -0,0 +1,104 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.composite;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+
+import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.impl.heuristic.move.SelectorBasedDummyMove;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveSelectorWeightsTest {
+
+    @Test
+    void initialWeightsAreEqual() {
+        var weights = new AdaptiveSelectorWeights<TestdataSolution>(3);
+        assertThat(weights.getWeight(0)).isEqualTo(1.0);
+        assertThat(weights.getWeight(1)).isEqualTo(1.0);
+        assertThat(weights.getWeight(2)).isEqualTo(1.0);
+    }
+
+    @Test
+    void newBestStepRewardsItsChild() {
+        var weights = new AdaptiveSelectorWeights<TestdataSolution>(2);
+        var a = new SelectorBasedDummyMove("a");
+        weights.moveSelected(a, 0);
+        weights.moveSelected(new SelectorBasedDummyMove("b1"), 1);
+        weights.moveSelected(new SelectorBasedDummyMove("b2"), 1);
+        assertThat(weights.getStepSelectedCount(0)).isEqualTo(1L);
+        assertThat(weights.getStepSelectedCount(1)).isEqualTo(2L);
+
+        var stepScope = createStepScope(a, SimpleScore.of(-5));
+        stepScope.setBestScoreImproved(true);
+        weights.stepEnded(stepScope);
+
+        assertThat(weights.getWeight(0)).isEqualTo((AdaptiveSelectorWeights.NEW_BEST_REWARD + 1.0) / (1.0 + 1.0));
+        assertThat(weights.getWeight(1)).isEqualTo(1.0 / (2.0 + 1.0));
+        assertThat(weights.getStepSelectedCount(0)).isZero();
+        assertThat(weights.getStepSelectedCount(1)).isZero();
+    }
+
+    @Test
+    void improvingAndAcceptedSteps() {
+        var weights = new AdaptiveSelectorWeights<TestdataSolution>(2);
+        var a = new SelectorBasedDummyMove("a");
+        weights.moveSelected(a, 0);
+        weights.stepEnded(createStepScope(a, SimpleScore.of(-5))); // Improves the last step score of -10.
+        assertThat(weights.getWeight(0)).isEqualTo((AdaptiveSelectorWeights.IMPROVING_REWARD + 1.0) / (1.0 + 1.0));
+
+        var b = new SelectorBasedDummyMove("b");
+        weights.moveSelected(b, 1);
+        weights.stepEnded(createStepScope(b, SimpleScore.of(-20))); // Worsens the last step score of -10.
+        assertThat(weights.getWeight(1)).isEqualTo((AdaptiveSelectorWeights.ACCEPTED_REWARD + 1.0) / (1.0 + 1.0));
+        // The history of the other child decays.
+        assertThat(weights.getWeight(0))
+                .isCloseTo((AdaptiveSelectorWeights.IMPROVING_REWARD * AdaptiveSelectorWeights.RETENTION + 1.0)
+                        / (AdaptiveSelectorWeights.RETENTION + 1.0), within(1e-9));
+    }
+
+    @Test
+    void unknownStepIsNotRewarded() {
+        var weights = new AdaptiveSelectorWeights<TestdataSolution>(2);
+        weights.moveSelected(new SelectorBasedDummyMove("a"), 0);
+        weights.stepEnded(createStepScope(new SelectorBasedDummyMove("other"), SimpleScore.of(-5)));
+        assertThat(weights.getWeight(0)).isEqualTo(1.0 / (1.0 + 1.0));
+        assertThat(weights.getWeight(1)).isEqualTo(1.0);
+
+        weights.moveSelected(new SelectorBasedDummyMove("b"), 1);
+        weights.stepEnded(mock(AbstractStepScope.class)); // Not a local search step.
+        assertThat(weights.getWeight(1)).isEqualTo(1.0 / (1.0 + 1.0));
+    }
+
+    @Test
+    void reset() {
+        var weights = new AdaptiveSelectorWeights<TestdataSolution>(2);
+        var a = new SelectorBasedDummyMove("a");
+        weights.moveSelected(a, 0);
+        weights.stepEnded(createStepScope(a, SimpleScore.of(-5)));
+        weights.moveSelected(new SelectorBasedDummyMove("b"), 1);
+        weights.reset();
+        assertThat(weights.getWeight(0)).isEqualTo(1.0);
+        assertThat(weights.getWeight(1)).isEqualTo(1.0);
+        assertThat(weights.getStepSelectedCount(1)).isZero();
+    }
+
+    private static LocalSearchStepScope<TestdataSolution> createStepScope(SelectorBasedDummyMove step,
+            SimpleScore score) {
+        var phaseScope = new LocalSearchPhaseScope<>(new SolverScope<TestdataSolution>(), 0);
+        var lastStepScope = new LocalSearchStepScope<>(phaseScope);
+        lastStepScope.setInitializedScore(SimpleScore.of(-10));
+        phaseScope.setLastCompletedStepScope(lastStepScope);
+        var stepScope = new LocalSearchStepScope<>(phaseScope);
+        stepScope.setStep(step);
+        stepScope.setInitializedScore(score);
+        stepScope.setBestScoreImproved(false);
+        return stepScope;
+    }
+
+}
@@ -4,6 +4,7 @@ import static ai.timefold.solver.core.testutil.PlannerAssert.assertAllCodesOfMov
 import static ai.timefold.solver.core.testutil.PlannerAssert.verifyPhaseLifecycle;
 import static ai.timefold.solver.core.testutil.PlannerTestUtils.mockSolverScope;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -213,6 +214,46 @@ class UnionMoveSelectorTest {
         verifyPhaseLifecycle(childMoveSelectorList.get(1), 1, 1, 1);
     }
 
+    @Test
+    void adaptiveRandomSelection() {
+        List<MoveSelector<TestdataSolution>> childMoveSelectorList = List.of(
+                SelectorTestUtils.mockMoveSelector(new SelectorBasedDummyMove("a1"), new SelectorBasedDummyMove("a2"),
+                        new SelectorBasedDummyMove("a3")),
+                SelectorTestUtils.mockMoveSelector(new SelectorBasedDummyMove("b1"), new SelectorBasedDummyMove("b2")));
+        UnionMoveSelector<TestdataSolution> moveSelector =
+                new UnionMoveSelector<>(childMoveSelectorList, true, null, true);
+        assertThat(moveSelector.isAdaptiveSelection()).isTrue();
+
+        // Both children start with the same weight.
+        var workingRandom = new TestRandom(0.25, 0.75, 0.9, 0.0, 0.0);
+        SolverScope<TestdataSolution> solverScope = mockSolverScope();
+        when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
+        moveSelector.solvingStarted(solverScope);
+        AbstractPhaseScope<TestdataSolution> phaseScopeA = PlannerTestUtils.delegatingPhaseScope(solverScope);
+        moveSelector.phaseStarted(phaseScopeA);
+        AbstractStepScope<TestdataSolution> stepScopeA1 = PlannerTestUtils.delegatingStepScope(phaseScopeA);
+        moveSelector.stepStarted(stepScopeA1);
+
+        assertAllCodesOfMoveSelector(moveSelector, "a1", "b1", "b2", "a2", "a3");
+
+        moveSelector.stepEnded(stepScopeA1);
+        moveSelector.phaseEnded(phaseScopeA);
+        moveSelector.solvingEnded(solverScope);
+
+        verifyPhaseLifecycle(childMoveSelectorList.get(0), 1, 1, 1);
+        verifyPhaseLifecycle(childMoveSelectorList.get(1), 1, 1, 1);
+    }
+
+    @Test
+    void adaptiveOriginSelectionFails() {
+        List<MoveSelector<TestdataSolution>> childMoveSelectorList = List.of(
+                SelectorTestUtils.mockMoveSelector(new SelectorBasedDummyMove("a1")),
+                SelectorTestUtils.mockMoveSelector(new SelectorBasedDummyMove("b1")));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new UnionMoveSelector<>(childMoveSelectorList, false, null, true))
+                .withMessageContaining("adaptiveSelection");
+    }
+
     @Test
     void testEnableNearbyMixedModel() {
         var moveSelectorConfig = new UnionMoveSelectorConfig();
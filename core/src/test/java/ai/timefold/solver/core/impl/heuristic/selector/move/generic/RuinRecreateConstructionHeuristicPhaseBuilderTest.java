@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import ai.timefold.solver.core.config.score.trend.InitializingScoreTrendLevel;
 import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
@@ -28,6 +30,23 @@ class RuinRecreateConstructionHeuristicPhaseBuilderTest {
         assertThat(phase.getEntityPlacer()).isSameAs(builder.getEntityPlacer());
     }
 
+    @Test
+    void buildReusesPhase() {
+        var solverConfigPolicy = new HeuristicConfigPolicy.Builder<TestdataSolution>()
+                .withSolutionDescriptor(TestdataSolution.buildSolutionDescriptor())
+                .withInitializingScoreTrend(new InitializingScoreTrend(new InitializingScoreTrendLevel[] {
+                        InitializingScoreTrendLevel.ANY, InitializingScoreTrendLevel.ANY, InitializingScoreTrendLevel.ANY }))
+                .build();
+        var constructionHeuristicConfig = mock(ConstructionHeuristicPhaseConfig.class);
+        var builder = RuinRecreateConstructionHeuristicPhaseBuilder.create(solverConfigPolicy, constructionHeuristicConfig);
+        var phase = builder.withElementsToRecreate(List.of("a"))
+                .build();
+        var secondPhase = builder.withElementsToRecreate(List.of("b"))
+                .build();
+        assertThat(secondPhase).isSameAs(phase);
+        assertThat(secondPhase.getEntityPlacer()).isSameAs(phase.getEntityPlacer());
+    }
+
     @Test
     void buildMultiThreaded() {
         var solverConfigPolicy = new HeuristicConfigPolicy.Builder<TestdataSolution>()
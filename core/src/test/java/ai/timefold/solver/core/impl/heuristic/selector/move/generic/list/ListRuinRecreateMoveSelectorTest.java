@@ -71,6 +71,26 @@ class ListRuinRecreateMoveSelectorTest extends AbstractMeterTest {
         assertDoesNotThrow(() -> solver.solve(problem));
     }
 
+    @Test
+    void testRuiningWithBoundedRecreate() {
+        var solverConfig = new SolverConfig()
+                .withEnvironmentMode(EnvironmentMode.TRACKED_FULL_ASSERT)
+                .withSolutionClass(TestdataListSolution.class)
+                .withEntityClasses(TestdataListEntity.class, TestdataListValue.class)
+                .withConstraintProviderClass(TestdataListConstraintProvider.class)
+                .withPhaseList(List.of(
+                        new ConstructionHeuristicPhaseConfig(),
+                        new LocalSearchPhaseConfig()
+                                .withMoveSelectorConfig(new ListRuinRecreateMoveSelectorConfig()
+                                        .withRecreateInRuinedEntitiesOnly(true)
+                                        .withMaximumRecreateMoveEvaluationCount(5))
+                                .withTerminationConfig(new TerminationConfig()
+                                        .withStepCountLimit(100))));
+        var problem = TestdataListSolution.generateUninitializedSolution(10, 3);
+        var solver = SolverFactory.create(solverConfig).buildSolver();
+        assertDoesNotThrow(() -> solver.solve(problem));
+    }
+
     @Test
     void testRuiningWithMetric() {
         var meterRegistry = new TestMeterRegistry();
@@ -11,6 +11,7 @@ import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import ai.timefold.solver.core.api.score.SimpleScore;
 import ai.timefold.solver.core.api.solver.SolutionManager;
@@ -182,6 +183,135 @@ class SelectorBasedListRuinRecreateMoveTest {
 
         assertThat(entityA.getValueList()).containsExactly(aPin, special1, special2, special3);
         assertThat(entityB.getValueList()).containsExactly(bPin);
+        // The recreate inserted into entity B, so the move changes it too.
+        assertThat(move.getPlanningEntities()).containsExactly(entityA, entityB);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void recreateInRuinedEntitiesOnly() {
+        var listVariableDescriptor = TestdataPinnedWithIndexListEntity.buildVariableDescriptorForValueList();
+        var solutionDescriptor = listVariableDescriptor.getEntityDescriptor().getSolutionDescriptor();
+
+        var aPin = new TestdataPinnedWithIndexListValue("aPin");
+        var special1 = new TestdataPinnedWithIndexListValue("special1");
+        var special2 = new TestdataPinnedWithIndexListValue("special2");
+        var bPin = new TestdataPinnedWithIndexListValue("bPin");
+
+        var entityA = new TestdataPinnedWithIndexListEntity("A", aPin, special1, special2);
+        entityA.setPinIndex(1);
+        var entityB = new TestdataPinnedWithIndexListEntity("B", bPin);
+        entityB.setPinIndex(1);
+
+        var solution = new TestdataPinnedWithIndexListSolution();
+        solution.setEntityList(new ArrayList<>(List.of(entityA, entityB)));
+        solution.setValueList(new ArrayList<>(List.of(aPin, special1, special2, bPin)));
+        SolutionManager.updateShadowVariables(solution);
+
+        // Every "special" value would rather be on entity B, which the ruin does not touch.
+        var scoreDirectorFactory = new EasyScoreDirectorFactory<TestdataPinnedWithIndexListSolution, SimpleScore>(
+                solutionDescriptor,
+                s -> {
+                    var penalty = 0;
+                    for (var value : s.getValueList()) {
+                        if (value.getCode().startsWith("special") && value.getEntity() != null
+                                && !value.getEntity().getCode().equals("B")) {
+                            penalty++;
+                        }
+                    }
+                    return SimpleScore.of(-penalty);
+                }, EnvironmentMode.PHASE_ASSERT);
+        var scoreDirector = (InnerScoreDirector<TestdataPinnedWithIndexListSolution, SimpleScore>) scoreDirectorFactory
+                .buildScoreDirector();
+        scoreDirector.setWorkingSolution(solution);
+
+        var solverConfigPolicy = new HeuristicConfigPolicy.Builder<TestdataPinnedWithIndexListSolution>()
+                .withSolutionDescriptor(solutionDescriptor)
+                .withInitializingScoreTrend(InitializingScoreTrend.buildUniformTrend(InitializingScoreTrendLevel.ANY, 1))
+                .build();
+        var entityPlacerConfig = DefaultConstructionHeuristicPhaseFactory
+                .buildListVariableQueuedValuePlacerConfig(solverConfigPolicy, listVariableDescriptor);
+        var constructionHeuristicPhaseConfig =
+                new ConstructionHeuristicPhaseConfig().withEntityPlacerConfig(entityPlacerConfig);
+        var constructionHeuristicPhaseBuilder = RuinRecreateConstructionHeuristicPhaseBuilder.create(solverConfigPolicy,
+                constructionHeuristicPhaseConfig, true, Integer.MAX_VALUE);
+
+        var solverScope = new SolverScope<TestdataPinnedWithIndexListSolution>();
+        solverScope.setScoreDirector(scoreDirector);
+
+        var move = new SelectorBasedListRuinRecreateMove<TestdataPinnedWithIndexListSolution>(listVariableDescriptor,
+                constructionHeuristicPhaseBuilder, solverScope, List.of(special1, special2),
+                new LinkedHashSet<>(Set.of(entityA)), 0L);
+        scoreDirector.getMoveDirector().execute(move);
+
+        assertThat(entityA.getValueList()).hasSize(3)
+                .startsWith(aPin)
+                .contains(special1, special2);
+        assertThat(entityB.getValueList()).containsExactly(bPin);
+        assertThat(move.getPlanningEntities()).containsExactly(entityA);
+    }
+
+    @Test
+    void maximumRecreateMoveEvaluationCount() {
+        // Every ruined value has at least 6 positions to be recreated at, 21 in total.
+        // On top of the move evaluations, the recreate calculates the working score once.
+        assertThat(countRecreateMoveEvaluations(Integer.MAX_VALUE)).isEqualTo(21 + 1);
+        // The first value stops after the limit, every other value takes the first position it evaluates.
+        assertThat(countRecreateMoveEvaluations(4)).isEqualTo(4 + 1 + 1 + 1);
+        assertThat(countRecreateMoveEvaluations(1)).isEqualTo(1 + 1 + 1 + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int countRecreateMoveEvaluations(int maximumRecreateMoveEvaluationCount) {
+        var listVariableDescriptor = TestdataPinnedWithIndexListEntity.buildVariableDescriptorForValueList();
+        var solutionDescriptor = listVariableDescriptor.getEntityDescriptor().getSolutionDescriptor();
+
+        var a1 = new TestdataPinnedWithIndexListValue("a1");
+        var a2 = new TestdataPinnedWithIndexListValue("a2");
+        var a3 = new TestdataPinnedWithIndexListValue("a3");
+        var a4 = new TestdataPinnedWithIndexListValue("a4");
+        var b1 = new TestdataPinnedWithIndexListValue("b1");
+        var b2 = new TestdataPinnedWithIndexListValue("b2");
+        var b3 = new TestdataPinnedWithIndexListValue("b3");
+        var entityA = new TestdataPinnedWithIndexListEntity("A", a1, a2, a3, a4);
+        var entityB = new TestdataPinnedWithIndexListEntity("B", b1, b2, b3);
+
+        var solution = new TestdataPinnedWithIndexListSolution();
+        solution.setEntityList(new ArrayList<>(List.of(entityA, entityB)));
+        solution.setValueList(new ArrayList<>(List.of(a1, a2, a3, a4, b1, b2, b3)));
+        SolutionManager.updateShadowVariables(solution);
+
+        var scoreCalculationCount = new AtomicInteger();
+        var scoreDirectorFactory = new EasyScoreDirectorFactory<TestdataPinnedWithIndexListSolution, SimpleScore>(
+                solutionDescriptor,
+                s -> {
+                    scoreCalculationCount.incrementAndGet();
+                    return SimpleScore.ZERO;
+                }, EnvironmentMode.PHASE_ASSERT);
+        var scoreDirector = (InnerScoreDirector<TestdataPinnedWithIndexListSolution, SimpleScore>) scoreDirectorFactory
+                .buildScoreDirector();
+        scoreDirector.setWorkingSolution(solution);
+
+        var solverConfigPolicy = new HeuristicConfigPolicy.Builder<TestdataPinnedWithIndexListSolution>()
+                .withSolutionDescriptor(solutionDescriptor)
+                .withInitializingScoreTrend(InitializingScoreTrend.buildUniformTrend(InitializingScoreTrendLevel.ANY, 1))
+                .build();
+        var entityPlacerConfig = DefaultConstructionHeuristicPhaseFactory
+                .buildListVariableQueuedValuePlacerConfig(solverConfigPolicy, listVariableDescriptor);
+        var constructionHeuristicPhaseConfig =
+                new ConstructionHeuristicPhaseConfig().withEntityPlacerConfig(entityPlacerConfig);
+        var constructionHeuristicPhaseBuilder = RuinRecreateConstructionHeuristicPhaseBuilder.create(solverConfigPolicy,
+                constructionHeuristicPhaseConfig, false, maximumRecreateMoveEvaluationCount);
+
+        var solverScope = new SolverScope<TestdataPinnedWithIndexListSolution>();
+        solverScope.setScoreDirector(scoreDirector);
+
+        var move = new SelectorBasedListRuinRecreateMove<TestdataPinnedWithIndexListSolution>(listVariableDescriptor,
+                constructionHeuristicPhaseBuilder, solverScope, List.of(a1, a2, a3),
+                new LinkedHashSet<>(Set.of(entityA)), 0L);
+        scoreCalculationCount.set(0);
+        scoreDirector.getMoveDirector().execute(move);
+        return scoreCalculationCount.get();
     }
 
 }
@@ -7,16 +7,26 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.util.Arrays;
 import java.util.Collections;
 
+import ai.timefold.solver.core.api.score.HardSoftScore;
 import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.list.ListChangeMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.list.ListRuinRecreateMoveSelectorConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchType;
 import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
 import ai.timefold.solver.core.testdomain.TestdataEntity;
 import ai.timefold.solver.core.testdomain.TestdataSolution;
 import ai.timefold.solver.core.testdomain.TestdataValue;
+import ai.timefold.solver.core.testdomain.common.TestdataSortableValue;
 import ai.timefold.solver.core.testdomain.list.TestdataListEntity;
 import ai.timefold.solver.core.testdomain.list.TestdataListSolution;
 import ai.timefold.solver.core.testdomain.list.TestdataListValue;
+import ai.timefold.solver.core.testdomain.list.TestdataListVarEasyScoreCalculator;
+import ai.timefold.solver.core.testdomain.list.sort.comparator.ListOneValuePerEntityEasyScoreCalculator;
+import ai.timefold.solver.core.testdomain.list.sort.comparator.TestdataListSortableEntity;
+import ai.timefold.solver.core.testdomain.list.sort.comparator.TestdataListSortableSolution;
 import ai.timefold.solver.core.testdomain.pinned.TestdataPinnedEntity;
 import ai.timefold.solver.core.testdomain.pinned.TestdataPinnedSolution;
 import ai.timefold.solver.core.testdomain.pinned.unassignedvar.TestdataPinnedAllowsUnassignedEntity;
@@ -233,6 +243,110 @@ class DefaultLocalSearchPhaseTest {
         assertThat(solution).isNotNull();
     }
 
+    @Test
+    void solveListVariableWithoutEventListener() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataListSolution.class, TestdataListEntity.class, TestdataListValue.class)
+                .withEasyScoreCalculatorClass(TestdataListVarEasyScoreCalculator.class);
+        // Without construction heuristics, local search has to find every new best solution.
+        solverConfig.withPhases(new LocalSearchPhaseConfig()
+                .withTerminationConfig(new TerminationConfig().withStepCountLimit(200)));
+
+        // Without an event listener, new best solutions are only cloned once the phase ends.
+        var solver = SolverFactory.<TestdataListSolution> create(solverConfig).buildSolver();
+        var solution = solver.solve(TestdataListSolution.generateInitializedSolution(12, 5));
+        // With one, every new best solution is cloned straight away.
+        var expectedSolution = PlannerTestUtils.solve(solverConfig,
+                TestdataListSolution.generateInitializedSolution(12, 5));
+
+        assertThat(solution.getScore())
+                .isEqualTo(expectedSolution.getScore())
+                .isEqualTo(new TestdataListVarEasyScoreCalculator().calculateScore(solution));
+        assertThat(solution.getEntityList())
+                .map(entity -> entity.getValueList().stream().map(TestdataListValue::getCode).toList())
+                .isEqualTo(expectedSolution.getEntityList().stream()
+                        .map(entity -> entity.getValueList().stream().map(TestdataListValue::getCode).toList())
+                        .toList());
+    }
+
+    @Test
+    void solveWithEventListenerPublishesIndependentSolutions() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class)
+                .withPhases(new LocalSearchPhaseConfig()
+                        .withTerminationConfig(new TerminationConfig().withStepCountLimit(100)));
+        var solver = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        var bestSolutionList = new ArrayList<TestdataSolution>();
+        var bestValueCodesList = new ArrayList<List<String>>();
+        solver.addEventListener(event -> {
+            bestSolutionList.add(event.getNewBestSolution());
+            bestValueCodesList.add(getValueCodes(event.getNewBestSolution()));
+        });
+
+        // Every entity starts with the same value, so that local search finds many new best solutions.
+        var solution = TestdataSolution.generateSolution(4, 12);
+        solution.getEntityList().forEach(entity -> entity.setValue(solution.getValueList().get(0)));
+        solver.solve(solution);
+
+        assertThat(bestSolutionList).hasSizeGreaterThan(2);
+        // Users may modify a published best solution, which must not affect any other published best solution.
+        for (var i = 1; i < bestSolutionList.size(); i++) {
+            var previousEntityList = bestSolutionList.get(i - 1).getEntityList();
+            for (var entity : bestSolutionList.get(i).getEntityList()) {
+                assertThat(previousEntityList).doesNotContain(entity);
+            }
+        }
+        bestSolutionList.get(0).getEntityList().forEach(entity -> entity.setValue(solution.getValueList().get(1)));
+        for (var i = 1; i < bestSolutionList.size(); i++) {
+            var bestSolution = bestSolutionList.get(i);
+            assertThat(getValueCodes(bestSolution)).isEqualTo(bestValueCodesList.get(i));
+            assertThat(bestSolution.getScore()).isEqualTo(new TestdataEasyScoreCalculator().calculateScore(bestSolution));
+        }
+    }
+
+    @Test
+    void solveListRuinRecreateWithEventListener() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataListSortableSolution.class,
+                TestdataListSortableEntity.class)
+                .withEasyScoreCalculatorClass(ListOneValuePerEntityEasyScoreCalculator.class)
+                .withPhases(new LocalSearchPhaseConfig()
+                        .withMoveSelectorConfig(new UnionMoveSelectorConfig()
+                                .withMoveSelectors(new ListRuinRecreateMoveSelectorConfig(),
+                                        new ListChangeMoveSelectorConfig()))
+                        .withTerminationConfig(new TerminationConfig().withStepCountLimit(200)));
+        var solver = SolverFactory.<TestdataListSortableSolution> create(solverConfig).buildSolver();
+        var bestSolutionList = new ArrayList<TestdataListSortableSolution>();
+        var bestScoreList = new ArrayList<HardSoftScore>();
+        solver.addEventListener(event -> {
+            bestSolutionList.add(event.getNewBestSolution());
+            // The recreate of a ruin-and-recreate move may insert values into entities which nothing ruined.
+            bestScoreList.add(new ListOneValuePerEntityEasyScoreCalculator().calculateScore(event.getNewBestSolution()));
+        });
+
+        // Every value starts in the same entity, so that local search finds many new best solutions.
+        var solution = TestdataListSortableSolution.generateSolution(20, 20, true);
+        solution.getEntityList().get(0).getValueList().addAll(solution.getValueList());
+        solver.solve(solution);
+
+        assertThat(bestSolutionList).hasSizeGreaterThan(2);
+        for (var i = 0; i < bestSolutionList.size(); i++) {
+            var bestSolution = bestSolutionList.get(i);
+            assertThat(bestSolution.getEntityList())
+                    .flatMap(TestdataListSortableEntity::getValueList)
+                    .map(TestdataSortableValue::getCode)
+                    .containsExactlyInAnyOrderElementsOf(solution.getValueList().stream()
+                            .map(TestdataSortableValue::getCode)
+                            .toList());
+            assertThat(bestSolution.getScore()).isEqualTo(bestScoreList.get(i));
+        }
+    }
+
+    private static List<String> getValueCodes(TestdataSolution solution) {
+        return solution.getEntityList().stream()
+                .map(entity -> entity.getValue().getCode())
+                .toList();
+    }
+
     @Test
     void failsFastWithUninitializedSolutionBasicVariable() {
         var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
@@ -0,0 +1,108 @@
+package ai.timefold.solver.core.impl.localsearch.decider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.config.localsearch.decider.forager.LocalSearchPickEarlyType;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.localsearch.decider.acceptor.Acceptor;
+import ai.timefold.solver.core.impl.localsearch.decider.forager.AcceptedLocalSearchForager;
+import ai.timefold.solver.core.impl.localsearch.decider.forager.finalist.HighestScoreFinalistPodium;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.neighborhood.MoveSelectorBasedMoveRepository;
+import ai.timefold.solver.core.impl.score.definition.SimpleScoreDefinition;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.solver.termination.ChildThreadPlumbingTermination;
+import ai.timefold.solver.core.preview.api.move.Move;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+import ai.timefold.solver.core.testutil.TestRandom;
+
+import org.junit.jupiter.api.Test;
+
+class LocalSearchDeciderTest {
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void finiteMoveSelectorWithOnlySkippedMovesStillPicksStep() {
+        var moveA = createMove(new TestdataEntity("A"));
+        var moveB = createMove(new TestdataEntity("B"));
+        var moveC = createMove(new TestdataEntity("C"));
+        // A finite move selector, which ends once it has selected each of its moves.
+        MoveSelector<TestdataSolution> moveSelector = mock(MoveSelector.class);
+        when(moveSelector.iterator()).thenAnswer(invocation -> List.of(moveA, moveB).iterator());
+        Acceptor<TestdataSolution> acceptor = mock(Acceptor.class);
+        when(acceptor.isAccepted(any())).thenReturn(true);
+        var forager = new AcceptedLocalSearchForager<TestdataSolution>(new HighestScoreFinalistPodium<>(),
+                LocalSearchPickEarlyType.NEVER, Integer.MAX_VALUE, true, 1);
+        var decider = new LocalSearchDecider<>("", new ChildThreadPlumbingTermination<>(),
+                new MoveSelectorBasedMoveRepository<>(moveSelector), acceptor, forager);
+
+        var phaseScope = createPhaseScope();
+        decider.phaseStarted(phaseScope);
+        // Neither move improved the score, and the step changed an entity which neither of them touches.
+        var stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        forager.stepStarted(stepScope0);
+        forager.addMove(createMoveScope(stepScope0, moveA, SimpleScore.of(-200)));
+        forager.addMove(createMoveScope(stepScope0, moveB, SimpleScore.of(-200)));
+        assertThat(forager.skipsMove(moveA)).isTrue();
+        stepScope0.setStep(moveC);
+        forager.stepEnded(stepScope0);
+
+        var stepScope1 = new LocalSearchStepScope<>(phaseScope);
+        decider.stepStarted(stepScope1);
+        decider.decideNextStep(stepScope1);
+        // Every move was skipped, so the step looked at all of them again.
+        assertThat(stepScope1.getStep()).isIn(moveA, moveB);
+        assertThat(stepScope1.getSelectedMoveCount()).isEqualTo(2L);
+        decider.stepEnded(stepScope1);
+        decider.phaseEnded(phaseScope);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Move<TestdataSolution> createMove(TestdataEntity entity) {
+        var move = (Move<TestdataSolution>) mock(Move.class);
+        when(move.getPlanningEntities()).thenReturn(List.<Object> of(entity));
+        return move;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static LocalSearchPhaseScope<TestdataSolution> createPhaseScope() {
+        var solverScope = new SolverScope<TestdataSolution>();
+        var phaseScope = new LocalSearchPhaseScope<>(solverScope, 0);
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getSolutionDescriptor()).thenReturn(TestdataSolution.buildSolutionDescriptor());
+        when(scoreDirector.getScoreDefinition()).thenReturn(new SimpleScoreDefinition());
+        when(scoreDirector.executeTemporaryMove(any(), anyBoolean(), any()))
+                .thenReturn((InnerScore) InnerScore.fullyAssigned(SimpleScore.of(-200)));
+        solverScope.setScoreDirector(scoreDirector);
+        solverScope.setWorkingRandom(new TestRandom(0, 0));
+        solverScope.setInitializedBestScore(SimpleScore.of(-10));
+        solverScope.setSolverMetricSet(EnumSet.of(SolverMetric.MOVE_EVALUATION_COUNT));
+        var lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope);
+        lastCompletedStepScope.setInitializedScore(SimpleScore.of(-100));
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        return phaseScope;
+    }
+
+    private static LocalSearchMoveScope<TestdataSolution> createMoveScope(LocalSearchStepScope<TestdataSolution> stepScope,
+            Move<TestdataSolution> move, SimpleScore score) {
+        var moveScope = new LocalSearchMoveScope<>(stepScope, 0, move);
+        moveScope.setInitializedScore(score);
+        moveScope.setAccepted(true);
+        return moveScope;
+    }
+
+}
@@ -1,10 +1,12 @@
 package ai.timefold.solver.core.impl.localsearch.decider.acceptor;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
 import ai.timefold.solver.core.api.score.SimpleScore;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
 import ai.timefold.solver.core.preview.api.move.Move;
 
 public abstract class AbstractAcceptorTest {
@@ -17,4 +19,24 @@ public abstract class AbstractAcceptorTest {
         return moveScope;
     }
 
+    /**
+     * Asserts that the acceptor rejects every move scoring below its rejection threshold,
+     * for every score from lowestScore to highestScore.
+     *
+     * @return the rejection threshold
+     */
+    protected <Solution_> InnerScore<SimpleScore> assertRejectsEveryMoveBelowThreshold(Acceptor<Solution_> acceptor,
+            LocalSearchStepScope<Solution_> stepScope, int lowestScore, int highestScore) {
+        var threshold = acceptor.<SimpleScore> getRejectionThreshold(stepScope);
+        assertThat(threshold).isNotNull();
+        for (var score = lowestScore; score <= highestScore; score++) {
+            if (InnerScore.fullyAssigned(SimpleScore.of(score)).compareTo(threshold) < 0) {
+                assertThat(acceptor.isAccepted(buildMoveScope(stepScope, score)))
+                        .as("The move with score (%d) is below the threshold (%s).", score, threshold)
+                        .isFalse();
+            }
+        }
+        return threshold;
+    }
+
 }
@@ -9,11 +9,13 @@ import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 
+import ai.timefold.solver.core.api.score.SimpleScore;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.Acceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.CompositeAcceptor;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 import ai.timefold.solver.core.testdomain.TestdataSolution;
 
@@ -50,6 +52,25 @@ class CompositeAcceptorTest {
         verifyPhaseLifecycle(acceptor3, 1, 2, 3);
     }
 
+    @Test
+    void rejectionThreshold() {
+        LocalSearchStepScope<TestdataSolution> stepScope = mock(LocalSearchStepScope.class);
+        Acceptor<TestdataSolution> acceptor1 = mock(Acceptor.class);
+        Acceptor<TestdataSolution> acceptor2 = mock(Acceptor.class);
+        Acceptor<TestdataSolution> acceptor3 = mock(Acceptor.class);
+        when(acceptor1.<SimpleScore> getRejectionThreshold(stepScope)).thenReturn(InnerScore.fullyAssigned(SimpleScore.of(-20)));
+        when(acceptor2.<SimpleScore> getRejectionThreshold(stepScope)).thenReturn(null);
+        when(acceptor3.<SimpleScore> getRejectionThreshold(stepScope)).thenReturn(InnerScore.fullyAssigned(SimpleScore.of(-10)));
+
+        // A move is rejected as soon as any acceptor rejects it.
+        assertThat(new CompositeAcceptor<>(acceptor1, acceptor2, acceptor3).<SimpleScore> getRejectionThreshold(stepScope))
+                .isEqualTo(InnerScore.fullyAssigned(SimpleScore.of(-10)));
+        assertThat(new CompositeAcceptor<>(acceptor1, acceptor2).<SimpleScore> getRejectionThreshold(stepScope))
+                .isEqualTo(InnerScore.fullyAssigned(SimpleScore.of(-20)));
+        assertThat(new CompositeAcceptor<>(acceptor2).<SimpleScore> getRejectionThreshold(stepScope))
+                .isNull();
+    }
+
     @Test
     void isAccepted() {
         assertThat(isCompositeAccepted(true, true, true)).isTrue();
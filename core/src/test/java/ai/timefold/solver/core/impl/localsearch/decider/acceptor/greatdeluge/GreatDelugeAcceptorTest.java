@@ -195,4 +195,34 @@ class GreatDelugeAcceptorTest extends AbstractAcceptorTest {
         acceptor.phaseEnded(phaseScope);
     }
 
+    @Test
+    void rejectionThreshold() {
+        var acceptor = new GreatDelugeAcceptor<>();
+        acceptor.setWaterLevelIncrementScore(SimpleScore.of(100));
+
+        var solverScope = new SolverScope<>();
+        solverScope.setInitializedBestScore(SimpleScore.of(-1000));
+        var phaseScope = new LocalSearchPhaseScope<>(solverScope, 0);
+        var lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setInitializedScore(SimpleScore.of(-1200));
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        acceptor.phaseStarted(phaseScope);
+
+        // Water level -1000, last step score -1200: the aspiration accepts everything above -1200.
+        var stepScope = new LocalSearchStepScope<>(phaseScope);
+        acceptor.stepStarted(stepScope);
+        assertThat(assertRejectsEveryMoveBelowThreshold(acceptor, stepScope, -1500, -500))
+                .isEqualTo(InnerScore.fullyAssigned(SimpleScore.of(-1200)));
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope, -1199))).isTrue();
+
+        // Water level -1000, last step score -800: the water level accepts down to -1000.
+        var betterStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        betterStepScope.setInitializedScore(SimpleScore.of(-800));
+        phaseScope.setLastCompletedStepScope(betterStepScope);
+        assertThat(assertRejectsEveryMoveBelowThreshold(acceptor, stepScope, -1500, -500))
+                .isEqualTo(InnerScore.fullyAssigned(SimpleScore.of(-1000)));
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope, -1000))).isTrue();
+        acceptor.phaseEnded(phaseScope);
+    }
+
 }
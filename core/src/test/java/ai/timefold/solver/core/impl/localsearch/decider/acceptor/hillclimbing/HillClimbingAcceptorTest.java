@@ -62,4 +62,26 @@ class HillClimbingAcceptorTest extends AbstractAcceptorTest {
         acceptor.phaseEnded(phaseScope);
     }
 
+    @Test
+    void rejectionThreshold() {
+        var acceptor = new HillClimbingAcceptor<>();
+
+        var solverScope = new SolverScope<>();
+        solverScope.setInitializedBestScore(SimpleScore.of(-1000));
+        var phaseScope = new LocalSearchPhaseScope<>(solverScope, 0);
+        var lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setInitializedScore(SimpleScore.of(-500));
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        acceptor.phaseStarted(phaseScope);
+
+        var stepScope = new LocalSearchStepScope<>(phaseScope);
+        acceptor.stepStarted(stepScope);
+        var threshold = acceptor.<SimpleScore> getRejectionThreshold(stepScope);
+        assertThat(threshold).isEqualTo(InnerScore.fullyAssigned(SimpleScore.of(-500)));
+        // Every move worse than the threshold is rejected; the threshold itself is not.
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope, -501))).isFalse();
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope, -500))).isTrue();
+        acceptor.phaseEnded(phaseScope);
+    }
+
 }
@@ -390,4 +390,45 @@ class LateAcceptanceAcceptorTest extends AbstractAcceptorTest {
         acceptor.setLateAcceptanceSize(-1);
         assertThatIllegalArgumentException().isThrownBy(() -> acceptor.phaseStarted(null));
     }
+
+    @Test
+    void rejectionThreshold() {
+        var acceptor = new LateAcceptanceAcceptor<>();
+        acceptor.setLateAcceptanceSize(3);
+
+        var solverScope = new SolverScope<>();
+        solverScope.setInitializedBestScore(SimpleScore.of(-1000));
+        var phaseScope = new LocalSearchPhaseScope<>(solverScope, 0);
+        var lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setInitializedScore(SimpleScore.of(-1200));
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        var scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getScoreDefinition()).thenReturn(new SimpleScoreDefinition());
+        solverScope.setScoreDirector(scoreDirector);
+        acceptor.phaseStarted(phaseScope);
+
+        // Late score -1000, last step score -1200: the hill climbing branch accepts down to -1200.
+        var stepScope = new LocalSearchStepScope<>(phaseScope);
+        acceptor.stepStarted(stepScope);
+        assertThat(assertRejectsEveryMoveBelowThreshold(acceptor, stepScope, -1500, -500))
+                .isEqualTo(InnerScore.fullyAssigned(SimpleScore.of(-1200)));
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope, -1100))).isTrue();
+
+        // Late score -1000, last step score -800: the late acceptance branch accepts down to -1000.
+        var betterStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        betterStepScope.setInitializedScore(SimpleScore.of(-800));
+        phaseScope.setLastCompletedStepScope(betterStepScope);
+        assertThat(assertRejectsEveryMoveBelowThreshold(acceptor, stepScope, -1500, -500))
+                .isEqualTo(InnerScore.fullyAssigned(SimpleScore.of(-1000)));
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope, -1000))).isTrue();
+
+        // Without hill climbing, only the late score counts.
+        acceptor.setHillClimbingEnabled(false);
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        assertThat(assertRejectsEveryMoveBelowThreshold(acceptor, stepScope, -1500, -500))
+                .isEqualTo(InnerScore.fullyAssigned(SimpleScore.of(-1000)));
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope, -1100))).isFalse();
+        acceptor.phaseEnded(phaseScope);
+    }
+
 }
@@ -2,14 +2,17 @@ package ai.timefold.solver.core.impl.localsearch.decider.acceptor.simulatedannea
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
 
 import ai.timefold.solver.core.api.score.HardMediumSoftScore;
 import ai.timefold.solver.core.api.score.SimpleScore;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.AbstractAcceptorTest;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
 import ai.timefold.solver.core.impl.score.director.InnerScore;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.preview.api.move.Move;
 import ai.timefold.solver.core.testutil.TestRandom;
 
 import org.junit.jupiter.api.Test;
@@ -81,6 +84,38 @@ class SimulatedAnnealingAcceptorTest extends AbstractAcceptorTest {
         acceptor.phaseEnded(phaseScope);
     }
 
+    @Test
+    void largeLevelsDifferingByOne() {
+        var acceptor = new SimulatedAnnealingAcceptor<>();
+        acceptor.setStartingTemperature(SimpleScore.ONE);
+
+        // Both scores convert to the same double, so only an exact subtraction sees them differ.
+        var lastStepScore = SimpleScore.of(-(1L << 60));
+        var moveScore = SimpleScore.of(-(1L << 60) - 1L);
+        assertThat(lastStepScore.toLevelDoubles()).isEqualTo(moveScore.toLevelDoubles());
+
+        var solverScope = new SolverScope<>();
+        solverScope.setInitializedBestScore(lastStepScore);
+        var phaseScope = new LocalSearchPhaseScope<>(solverScope, 0);
+        var lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setInitializedScore(lastStepScore);
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        acceptor.phaseStarted(phaseScope);
+
+        var stepScope = new LocalSearchStepScope<>(phaseScope);
+        stepScope.setTimeGradient(0.0);
+        acceptor.stepStarted(stepScope);
+        var moveScope = new LocalSearchMoveScope<>(stepScope, 0, mock(Move.class));
+        moveScope.setInitializedScore(moveScore);
+        // The accept chance is exp(-1 / 1), about 0.37.
+        solverScope.setWorkingRandom(new TestRandom(0.36));
+        assertThat(acceptor.isAccepted(moveScope)).isTrue();
+        solverScope.setWorkingRandom(new TestRandom(0.38));
+        assertThat(acceptor.isAccepted(moveScope)).isFalse();
+
+        acceptor.phaseEnded(phaseScope);
+    }
+
     @Test
     void negativeSimulatedAnnealingSize() {
         var acceptor = new SimulatedAnnealingAcceptor<>();
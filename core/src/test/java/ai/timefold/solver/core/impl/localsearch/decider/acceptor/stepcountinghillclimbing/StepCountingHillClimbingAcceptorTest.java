@@ -361,4 +361,33 @@ class StepCountingHillClimbingAcceptorTest extends AbstractAcceptorTest {
                 .isThrownBy(() -> new StepCountingHillClimbingAcceptor<>(-1, StepCountingHillClimbingType.STEP));
     }
 
+    @Test
+    void rejectionThreshold() {
+        var acceptor = new StepCountingHillClimbingAcceptor<>(2, StepCountingHillClimbingType.STEP);
+
+        var solverScope = new SolverScope<>();
+        solverScope.setInitializedBestScore(SimpleScore.of(-1000));
+        var phaseScope = new LocalSearchPhaseScope<>(solverScope, 0);
+        var lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setInitializedScore(SimpleScore.of(-1200));
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        acceptor.phaseStarted(phaseScope);
+
+        // Threshold score -1000, last step score -1200: the last step score accepts down to -1200.
+        var stepScope = new LocalSearchStepScope<>(phaseScope);
+        acceptor.stepStarted(stepScope);
+        assertThat(assertRejectsEveryMoveBelowThreshold(acceptor, stepScope, -1500, -500))
+                .isEqualTo(InnerScore.fullyAssigned(SimpleScore.of(-1200)));
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope, -1200))).isTrue();
+
+        // Threshold score -1000, last step score -800: the threshold score accepts down to -1000.
+        var betterStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        betterStepScope.setInitializedScore(SimpleScore.of(-800));
+        phaseScope.setLastCompletedStepScope(betterStepScope);
+        assertThat(assertRejectsEveryMoveBelowThreshold(acceptor, stepScope, -1500, -500))
+                .isEqualTo(InnerScore.fullyAssigned(SimpleScore.of(-1000)));
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope, -1000))).isTrue();
+        acceptor.phaseEnded(phaseScope);
+    }
+
 }
@@ -205,6 +205,34 @@ class EntityTabuAcceptorTest {
         acceptor.phaseEnded(phaseScope);
     }
 
+    @Test
+    void assertTabuHashCodeCorrectnessWithEqualEntities() {
+        var acceptor = new EntityTabuAcceptor<>("");
+        acceptor.setTabuSizeStrategy(new FixedTabuSizeStrategy<>(2));
+        acceptor.setAssertTabuHashCodeCorrectness(true);
+
+        // Equal, but distinct entities; entity tabu is keyed by identity.
+        var e0 = new EqualByCodeEntity("e");
+        var e1 = new EqualByCodeEntity("e");
+
+        var solverScope = new SolverScope<>();
+        solverScope.setInitializedBestScore(SimpleScore.ZERO);
+        var phaseScope = new LocalSearchPhaseScope<>(solverScope, 0);
+        acceptor.phaseStarted(phaseScope);
+
+        var stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        var moveScope0 = buildMoveScope(stepScope0, e0);
+        assertThat(acceptor.isAccepted(moveScope0)).isTrue();
+        stepScope0.setStep(moveScope0.getMove());
+        acceptor.stepEnded(stepScope0);
+        phaseScope.setLastCompletedStepScope(stepScope0);
+
+        var stepScope1 = new LocalSearchStepScope<>(phaseScope);
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope1, -1, e0))).isFalse();
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope1, -1, e1))).isTrue();
+        acceptor.phaseEnded(phaseScope);
+    }
+
     @Test
     void aspiration() {
         var acceptor = new EntityTabuAcceptor<>("");
@@ -314,6 +342,24 @@ class EntityTabuAcceptorTest {
         acceptor.phaseEnded(phaseScope);
     }
 
+    private static final class EqualByCodeEntity extends TestdataEntity {
+
+        private EqualByCodeEntity(String code) {
+            super(code);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof EqualByCodeEntity entity && entity.getCode().equals(getCode());
+        }
+
+        @Override
+        public int hashCode() {
+            return getCode().hashCode();
+        }
+
+    }
+
     private static <Solution_> LocalSearchMoveScope<Solution_> buildMoveScope(LocalSearchStepScope<Solution_> stepScope,
             TestdataEntity... entities) {
         return buildMoveScope(stepScope, 0, entities);
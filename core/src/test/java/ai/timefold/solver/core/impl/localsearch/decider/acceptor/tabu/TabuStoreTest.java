@@ -0,0 +1,133 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor.tabu;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class TabuStoreTest {
+
+    @Test
+    void putAndExpire() {
+        var store = new TabuStore(false, 2);
+        store.put("a", 0);
+        store.put("b", 1);
+        assertThat(store.get("a")).isZero();
+        assertThat(store.get("b")).isOne();
+        assertThat(store.get("c")).isEqualTo(TabuStore.ABSENT);
+
+        store.expire(2, 2);
+        assertThat(store.get("a")).isEqualTo(TabuStore.ABSENT);
+        assertThat(store.get("b")).isOne();
+        assertThat(store.size()).isOne();
+    }
+
+    @Test
+    void putAgainMovesToEndOfLine() {
+        var store = new TabuStore(false, 2);
+        store.put("a", 0);
+        store.put("b", 1);
+        store.put("a", 2);
+        store.expire(3, 2); // The stale entry of "a" at step 0 is skipped.
+        assertThat(store.get("a")).isEqualTo(2);
+        assertThat(store.get("b")).isEqualTo(TabuStore.ABSENT);
+        store.expire(4, 2);
+        assertThat(store.get("a")).isEqualTo(TabuStore.ABSENT);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void putTwiceInSameStep() {
+        var store = new TabuStore(false, 1);
+        store.put("a", 0);
+        store.put("a", 0);
+        store.expire(1, 1);
+        assertThat(store.get("a")).isEqualTo(TabuStore.ABSENT);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void nullTabu() {
+        var store = new TabuStore(false, 1);
+        assertThat(store.get(null)).isEqualTo(TabuStore.ABSENT);
+        store.put(null, 0);
+        assertThat(store.get(null)).isZero();
+        var tabuList = new ArrayList<>();
+        store.forEachTabu(tabuList::add);
+        assertThat(tabuList).containsExactly((Object) null);
+        store.expire(1, 1);
+        assertThat(store.get(null)).isEqualTo(TabuStore.ABSENT);
+    }
+
+    @Test
+    void identity() {
+        var store = new TabuStore(true, 1);
+        var a = new String("a");
+        store.put(a, 0);
+        assertThat(store.get(a)).isZero();
+        assertThat(store.get(new String("a"))).isEqualTo(TabuStore.ABSENT);
+
+        var equalsStore = new TabuStore(false, 1);
+        equalsStore.put(a, 0);
+        assertThat(equalsStore.get(new String("a"))).isZero();
+    }
+
+    @Test
+    void hashCodeStabilityViolation() {
+        var tabu = new MutableHashCode(1);
+        var store = new TabuStore(false, 1);
+        store.put(tabu, 0);
+        tabu.hashCode = 2;
+        assertThatIllegalStateException()
+                .isThrownBy(() -> store.expire(1, 1))
+                .withMessageContaining("HashCode stability violation");
+    }
+
+    @Test
+    void matchesMapUnderGrowthAndCollisions() {
+        var random = new Random(37);
+        var store = new TabuStore(false, 1);
+        var expectedMap = new HashMap<Integer, Integer>();
+        var totalTabuSize = 50;
+        for (var stepIndex = 0; stepIndex < 2_000; stepIndex++) {
+            var finalStepIndex = stepIndex;
+            store.expire(stepIndex, totalTabuSize);
+            expectedMap.values().removeIf(tabuStepIndex -> finalStepIndex - tabuStepIndex >= totalTabuSize);
+            for (var i = 0; i < 3; i++) {
+                // Multiples of 64 collide in the table.
+                var tabu = random.nextInt(100) * 64;
+                store.put(tabu, stepIndex);
+                expectedMap.put(tabu, stepIndex);
+            }
+            assertThat(store.size()).isEqualTo(expectedMap.size());
+            for (var tabu = 0; tabu < 100 * 64; tabu += 64) {
+                assertThat(store.get(tabu)).isEqualTo(expectedMap.getOrDefault(tabu, TabuStore.ABSENT));
+            }
+        }
+    }
+
+    private static final class MutableHashCode {
+
+        private int hashCode;
+
+        private MutableHashCode(int hashCode) {
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
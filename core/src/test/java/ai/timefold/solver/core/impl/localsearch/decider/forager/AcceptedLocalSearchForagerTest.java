@@ -2,13 +2,17 @@ package ai.timefold.solver.core.impl.localsearch.decider.forager;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.EnumSet;
+import java.util.List;
 
 import ai.timefold.solver.core.api.score.SimpleScore;
 import ai.timefold.solver.core.config.localsearch.decider.forager.LocalSearchPickEarlyType;
 import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.heuristic.move.SelectorBasedDummyMove;
 import ai.timefold.solver.core.impl.localsearch.decider.forager.finalist.HighestScoreFinalistPodium;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
@@ -17,7 +21,12 @@ import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
 import ai.timefold.solver.core.impl.score.definition.SimpleScoreDefinition;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
 import ai.timefold.solver.core.testdomain.TestdataSolution;
+import ai.timefold.solver.core.testdomain.list.TestdataListEntity;
+import ai.timefold.solver.core.testdomain.list.TestdataListSolution;
+import ai.timefold.solver.core.testdomain.list.TestdataListValue;
+import ai.timefold.solver.core.preview.api.move.Move;
 import ai.timefold.solver.core.testutil.TestRandom;
 
 import org.junit.jupiter.api.Test;
@@ -210,18 +219,210 @@ class AcceptedLocalSearchForagerTest {
         forager.phaseEnded(phaseScope);
     }
 
+    @Test
+    void retainsOnlyFinalists() {
+        LocalSearchForager<TestdataSolution> forager = new AcceptedLocalSearchForager<>(new HighestScoreFinalistPodium<>(),
+                LocalSearchPickEarlyType.NEVER, Integer.MAX_VALUE, true);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = createPhaseScope();
+        forager.phaseStarted(phaseScope);
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        forager.stepStarted(stepScope);
+        LocalSearchMoveScope<TestdataSolution> a = createMoveScope(stepScope, SimpleScore.of(-20), false);
+        LocalSearchMoveScope<TestdataSolution> b = createMoveScope(stepScope, SimpleScore.of(-10), true);
+        LocalSearchMoveScope<TestdataSolution> c = createMoveScope(stepScope, SimpleScore.of(-1), false);
+        LocalSearchMoveScope<TestdataSolution> d = createMoveScope(stepScope, SimpleScore.of(-30), true);
+        forager.addMove(a);
+        assertThat(forager.retains(a)).isTrue(); // The best unaccepted move, until a move is accepted.
+        forager.addMove(b);
+        assertThat(forager.retains(b)).isTrue();
+        forager.addMove(c);
+        assertThat(forager.retains(c)).isFalse(); // Better, but not accepted.
+        forager.addMove(d);
+        assertThat(forager.retains(d)).isFalse(); // Accepted, but worse.
+
+        // A move scope which is not retained can be reused for the next move.
+        c.reset(4, new SelectorBasedDummyMove());
+        c.setInitializedScore(SimpleScore.of(-10));
+        c.setAccepted(true);
+        forager.addMove(c);
+        assertThat(forager.retains(c)).isTrue();
+        assertThat(forager.pickMove(stepScope)).isIn(b, c);
+        forager.phaseEnded(phaseScope);
+    }
+
+    @Test
+    void ignoresRejectedMovesOnceAMoveIsAccepted() {
+        LocalSearchForager<TestdataSolution> forager = new AcceptedLocalSearchForager<>(new HighestScoreFinalistPodium<>(),
+                LocalSearchPickEarlyType.NEVER, Integer.MAX_VALUE, true);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = createPhaseScope();
+        forager.phaseStarted(phaseScope);
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        forager.stepStarted(stepScope);
+        assertThat(forager.ignoresRejectedMoves()).isFalse();
+        forager.addMove(createMoveScope(stepScope, SimpleScore.of(-20), false));
+        assertThat(forager.ignoresRejectedMoves()).isFalse(); // The rejected move may still be picked.
+        forager.addMove(createMoveScope(stepScope, SimpleScore.of(-30), true));
+        assertThat(forager.ignoresRejectedMoves()).isTrue();
+        forager.stepEnded(stepScope);
+
+        LocalSearchStepScope<TestdataSolution> nextStepScope = new LocalSearchStepScope<>(phaseScope);
+        forager.stepStarted(nextStepScope);
+        assertThat(forager.ignoresRejectedMoves()).isFalse();
+        forager.phaseEnded(phaseScope);
+    }
+
+    @Test
+    void skipsMovesAroundEntitiesWhichRanOutOfPatience() {
+        LocalSearchForager<TestdataSolution> forager = new AcceptedLocalSearchForager<>(new HighestScoreFinalistPodium<>(),
+                LocalSearchPickEarlyType.NEVER, Integer.MAX_VALUE, true, 2);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = createPhaseScope();
+        forager.phaseStarted(phaseScope);
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        forager.stepStarted(stepScope);
+        var entityA = new TestdataEntity("A");
+        var entityB = new TestdataEntity("B");
+        var moveA = createMove(entityA);
+        var moveAB = createMove(entityA, entityB);
+        var moveB = createMove(entityB);
+
+        forager.addMove(createMoveScope(stepScope, moveA, SimpleScore.of(-200), true));
+        assertThat(forager.skipsMove(moveA)).isFalse();
+        forager.addMove(createMoveScope(stepScope, moveA, SimpleScore.of(-100), true)); // Not improving either.
+        assertThat(forager.skipsMove(moveA)).isTrue();
+        assertThat(forager.skipsMove(moveAB)).isFalse(); // Entity B is still looked at.
+        forager.addMove(createMoveScope(stepScope, moveB, SimpleScore.of(-50), true)); // Improving.
+        assertThat(forager.skipsMove(moveB)).isFalse();
+        assertThat(forager.skipsMove(moveA)).isTrue();
+
+        stepScope.setStep(moveAB);
+        forager.stepEnded(stepScope); // The step changed entity A.
+        LocalSearchStepScope<TestdataSolution> nextStepScope = new LocalSearchStepScope<>(phaseScope);
+        forager.stepStarted(nextStepScope);
+        assertThat(forager.skipsMove(moveA)).isFalse();
+        forager.phaseEnded(phaseScope);
+    }
+
+    @Test
+    void neverSkipsMovesWithoutPlanningEntities() {
+        LocalSearchForager<TestdataSolution> forager = new AcceptedLocalSearchForager<>(new HighestScoreFinalistPodium<>(),
+                LocalSearchPickEarlyType.NEVER, Integer.MAX_VALUE, true, 1);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = createPhaseScope();
+        forager.phaseStarted(phaseScope);
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        forager.stepStarted(stepScope);
+        var unsupportedMove = mock(SelectorBasedDummyMove.class);
+        when(unsupportedMove.getPlanningEntities()).thenThrow(UnsupportedOperationException.class);
+        forager.addMove(createMoveScope(stepScope, unsupportedMove, SimpleScore.of(-200), true));
+        assertThat(forager.skipsMove(unsupportedMove)).isFalse();
+        var emptyMove = new SelectorBasedDummyMove();
+        forager.addMove(createMoveScope(stepScope, emptyMove, SimpleScore.of(-200), true));
+        assertThat(forager.skipsMove(emptyMove)).isFalse();
+        forager.phaseEnded(phaseScope);
+    }
+
+    @Test
+    void neverSkipsMoreMovesInARowThanThereAreEntities() {
+        LocalSearchForager<TestdataSolution> forager = new AcceptedLocalSearchForager<>(new HighestScoreFinalistPodium<>(),
+                LocalSearchPickEarlyType.NEVER, 10, true, 1);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = createPhaseScope();
+        forager.phaseStarted(phaseScope);
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        forager.stepStarted(stepScope);
+        var moveA = createMove(new TestdataEntity("A"));
+        var moveB = createMove(new TestdataEntity("B"));
+        forager.addMove(createMoveScope(stepScope, moveA, SimpleScore.of(-200), true));
+        forager.addMove(createMoveScope(stepScope, moveB, SimpleScore.of(-200), true));
+        assertThat(forager.skipsMove(moveA)).isTrue();
+        assertThat(forager.skipsMove(moveB)).isTrue();
+        // A never ending move selector would otherwise keep selecting skipped moves forever.
+        assertThat(forager.skipsMove(moveA)).isFalse();
+        assertThat(forager.skipsMove(moveB)).isFalse();
+        forager.phaseEnded(phaseScope);
+    }
+
+    @Test
+    void asksEachMoveForItsPlanningEntitiesOnce() {
+        LocalSearchForager<TestdataSolution> forager = new AcceptedLocalSearchForager<>(new HighestScoreFinalistPodium<>(),
+                LocalSearchPickEarlyType.NEVER, Integer.MAX_VALUE, true, 1);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = createPhaseScope();
+        forager.phaseStarted(phaseScope);
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        forager.stepStarted(stepScope);
+        var move = createMove(new TestdataEntity("A"));
+        assertThat(forager.skipsMove(move)).isFalse();
+        forager.addMove(createMoveScope(stepScope, move, SimpleScore.of(-200), true));
+        verify(move, times(1)).getPlanningEntities();
+        forager.phaseEnded(phaseScope);
+    }
+
+    @Test
+    void skipsListMovesPerPlanningValue() {
+        LocalSearchForager<TestdataListSolution> forager =
+                new AcceptedLocalSearchForager<>(new HighestScoreFinalistPodium<>(),
+                        LocalSearchPickEarlyType.NEVER, Integer.MAX_VALUE, true, 2);
+        var phaseScope = createPhaseScope(TestdataListSolution.buildSolutionDescriptor());
+        forager.phaseStarted(phaseScope);
+        var stepScope = new LocalSearchStepScope<>(phaseScope);
+        forager.stepStarted(stepScope);
+        var v1 = new TestdataListValue("1");
+        var v2 = new TestdataListValue("2");
+        var v3 = new TestdataListValue("3");
+        var v4 = new TestdataListValue("4");
+        var entityA = new TestdataListEntity("A", v1, v2);
+        var entityB = new TestdataListEntity("B", v3, v4);
+        var moveV1 = createListMove(entityA, v1);
+        var moveV2 = createListMove(entityA, v2);
+        var moveV3 = createListMove(entityB, v3);
+
+        forager.addMove(createMoveScope(stepScope, moveV1, SimpleScore.of(-200), true));
+        forager.addMove(createMoveScope(stepScope, moveV1, SimpleScore.of(-100), true));
+        forager.addMove(createMoveScope(stepScope, moveV3, SimpleScore.of(-200), true));
+        forager.addMove(createMoveScope(stepScope, moveV3, SimpleScore.of(-200), true));
+        assertThat(forager.skipsMove(moveV1)).isTrue();
+        // The failed moves of value 1 do not stop the moves of other values within the same list.
+        assertThat(forager.skipsMove(moveV2)).isFalse();
+        assertThat(forager.skipsMove(moveV3)).isTrue();
+
+        stepScope.setStep(createListMove(entityA, v2));
+        forager.stepEnded(stepScope); // The step changed list A, so value 1 might have new neighbors.
+        var nextStepScope = new LocalSearchStepScope<>(phaseScope);
+        forager.stepStarted(nextStepScope);
+        assertThat(forager.skipsMove(moveV1)).isFalse();
+        assertThat(forager.skipsMove(moveV3)).isTrue();
+        forager.phaseEnded(phaseScope);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Move<TestdataListSolution> createListMove(TestdataListEntity entity, TestdataListValue... values) {
+        var move = (Move<TestdataListSolution>) mock(Move.class);
+        when(move.getPlanningEntities()).thenReturn(List.<Object> of(entity));
+        when(move.getPlanningValues()).thenReturn(List.<Object> of((Object[]) values));
+        return move;
+    }
+
+    private static SelectorBasedDummyMove createMove(Object... entities) {
+        var move = mock(SelectorBasedDummyMove.class);
+        when(move.getPlanningEntities()).thenReturn(List.of(entities));
+        return move;
+    }
+
     private static LocalSearchPhaseScope<TestdataSolution> createPhaseScope() {
-        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
-        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope, 0);
-        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
-        when(scoreDirector.getSolutionDescriptor()).thenReturn(TestdataSolution.buildSolutionDescriptor());
+        return createPhaseScope(TestdataSolution.buildSolutionDescriptor());
+    }
+
+    private static <Solution_> LocalSearchPhaseScope<Solution_>
+            createPhaseScope(SolutionDescriptor<Solution_> solutionDescriptor) {
+        SolverScope<Solution_> solverScope = new SolverScope<>();
+        LocalSearchPhaseScope<Solution_> phaseScope = new LocalSearchPhaseScope<>(solverScope, 0);
+        InnerScoreDirector<Solution_, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getSolutionDescriptor()).thenReturn(solutionDescriptor);
         when(scoreDirector.getScoreDefinition()).thenReturn(new SimpleScoreDefinition());
         solverScope.setScoreDirector(scoreDirector);
         var workingRandom = new TestRandom(1, 1);
         solverScope.setWorkingRandom(workingRandom);
         solverScope.setInitializedBestScore(SimpleScore.of(-10));
         solverScope.setSolverMetricSet(EnumSet.of(SolverMetric.MOVE_EVALUATION_COUNT));
-        LocalSearchStepScope<TestdataSolution> lastLocalSearchStepScope = new LocalSearchStepScope<>(phaseScope);
+        LocalSearchStepScope<Solution_> lastLocalSearchStepScope = new LocalSearchStepScope<>(phaseScope);
         lastLocalSearchStepScope.setInitializedScore(SimpleScore.of(-100));
         phaseScope.setLastCompletedStepScope(lastLocalSearchStepScope);
         return phaseScope;
@@ -229,8 +430,12 @@ class AcceptedLocalSearchForagerTest {
 
     private static LocalSearchMoveScope<TestdataSolution> createMoveScope(LocalSearchStepScope<TestdataSolution> stepScope,
             SimpleScore score, boolean accepted) {
-        LocalSearchMoveScope<TestdataSolution> moveScope =
-                new LocalSearchMoveScope<>(stepScope, 0, new SelectorBasedDummyMove());
+        return createMoveScope(stepScope, new SelectorBasedDummyMove(), score, accepted);
+    }
+
+    private static <Solution_> LocalSearchMoveScope<Solution_> createMoveScope(LocalSearchStepScope<Solution_> stepScope,
+            Move<Solution_> move, SimpleScore score, boolean accepted) {
+        LocalSearchMoveScope<Solution_> moveScope = new LocalSearchMoveScope<>(stepScope, 0, move);
         moveScope.setInitializedScore(score);
         moveScope.setAccepted(accepted);
         return moveScope;
@@ -10,6 +10,7 @@ import ai.timefold.solver.core.api.score.SimpleScore;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
 import ai.timefold.solver.core.impl.score.director.easy.EasyScoreDirectorFactory;
+import ai.timefold.solver.core.testdomain.TestdataValue;
 import ai.timefold.solver.core.testdomain.constraintweightoverrides.TestdataConstraintWeightOverridesSolution;
 import ai.timefold.solver.core.testdomain.list.pinned.TestdataPinnedListSolution;
 import ai.timefold.solver.core.testdomain.list.pinned.index.TestdataPinnedWithIndexListSolution;
@@ -137,6 +138,55 @@ public abstract class AbstractScoreDirectorSemanticsTest {
         }
     }
 
+    @Test
+    void batchedProblemFactChanges() {
+        var scoreDirectorFactory =
+                buildScoreDirectorFactoryWithConstraintConfiguration(constraintConfigurationSolutionDescriptor);
+
+        var solution = TestdataConstraintWeightOverridesSolution.generateSolution(1, 3);
+        try (var scoreDirector = scoreDirectorFactory.createScoreDirectorBuilder()
+                .withConstraintMatchPolicy(
+                        scoreDirectorFactory instanceof EasyScoreDirectorFactory ? ConstraintMatchPolicy.DISABLED
+                                : ConstraintMatchPolicy.ENABLED)
+                .build()) {
+            scoreDirector.setWorkingSolution(solution);
+            assertThat(scoreDirector.calculateScore().raw()).isEqualTo(SimpleScore.of(3));
+
+            // Add problem facts in a single batch.
+            var addedValueList = List.of(new TestdataValue("Added value 1"), new TestdataValue("Added value 2"));
+            scoreDirector.beforeProblemFactsAdded(addedValueList);
+            solution.getValueList().addAll(addedValueList);
+            scoreDirector.afterProblemFactsAdded(addedValueList);
+            assertThat(scoreDirector.calculateScore().raw()).isEqualTo(SimpleScore.of(3));
+
+            // Change a property of every entity in a single batch.
+            var entityList = List.copyOf(solution.getEntityList());
+            scoreDirector.beforeProblemPropertiesChanged(entityList);
+            entityList.forEach(entity -> entity.setCode(entity.getCode() + " changed"));
+            scoreDirector.afterProblemPropertiesChanged(entityList);
+            assertThat(scoreDirector.calculateScore().raw()).isEqualTo(SimpleScore.of(3));
+
+            // Remove the added problem facts in a single batch.
+            scoreDirector.beforeProblemFactsRemoved(addedValueList);
+            solution.getValueList().removeAll(addedValueList);
+            scoreDirector.afterProblemFactsRemoved(addedValueList);
+            assertThat(scoreDirector.calculateScore().raw()).isEqualTo(SimpleScore.of(3));
+
+            // Empty batches change nothing.
+            scoreDirector.beforeProblemFactsAdded(List.of());
+            scoreDirector.afterProblemFactsAdded(List.of());
+            assertThat(scoreDirector.calculateScore().raw()).isEqualTo(SimpleScore.of(3));
+
+            // Constraint configuration changes within a batch are still picked up.
+            var weightOverrides = solution.getConstraintWeightOverrides();
+            var changedList = List.of(solution.getEntityList().get(0), weightOverrides);
+            scoreDirector.beforeProblemPropertiesChanged(changedList);
+            solution.setConstraintWeightOverrides(ConstraintWeightOverrides.of(Map.of("First weight", SimpleScore.of(2))));
+            scoreDirector.afterProblemPropertiesChanged(changedList);
+            assertThat(scoreDirector.calculateScore().raw()).isEqualTo(SimpleScore.of(6));
+        }
+    }
+
     @Test
     void listVariableEntityPinningSupported() {
         var scoreDirectorFactory = buildScoreDirectorFactoryWithListVariableEntityPin(pinnedListSolutionDescriptor);
@@ -0,0 +1,90 @@
+package ai.timefold.solver.core.impl.score.director.stream;
+
+import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ai.timefold.solver.core.api.score.HardSoftScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintCollectors;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.score.TestdataHardSoftScoreSolution;
+
+import org.junit.jupiter.api.Test;
+
+class BavetConstraintStreamScoreDirectorTest {
+
+    private static BavetConstraintStreamScoreDirector<TestdataHardSoftScoreSolution, HardSoftScore>
+            buildScoreDirector(ConstraintProvider constraintProvider) {
+        var scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<TestdataHardSoftScoreSolution, HardSoftScore>(
+                        TestdataHardSoftScoreSolution.buildSolutionDescriptor(), constraintProvider,
+                        EnvironmentMode.PHASE_ASSERT);
+        return (BavetConstraintStreamScoreDirector<TestdataHardSoftScoreSolution, HardSoftScore>) scoreDirectorFactory
+                .buildScoreDirector();
+    }
+
+    private static Constraint hardConstraint(ConstraintFactory factory) {
+        return factory.forEachUniquePair(TestdataEntity.class, equal(TestdataEntity::getValue))
+                .penalize(HardSoftScore.ONE_HARD)
+                .asConstraint("sameValue");
+    }
+
+    @Test
+    void calculateScoreUnlessWorseThan() {
+        var solution = TestdataHardSoftScoreSolution.generateSolution(3, 3);
+        var variableDescriptor = TestdataHardSoftScoreSolution.buildSolutionDescriptor()
+                .findEntityDescriptorOrFail(TestdataEntity.class)
+                .getGenuineVariableDescriptor("value");
+        try (var scoreDirector = buildScoreDirector(factory -> new Constraint[] {
+                hardConstraint(factory),
+                factory.forEach(TestdataEntity.class)
+                        .groupBy(TestdataEntity::getValue, ConstraintCollectors.count())
+                        .penalize(HardSoftScore.ONE_SOFT, (value, count) -> count * count)
+                        .asConstraint("valueUsage")
+        })) {
+            scoreDirector.setWorkingSolution(solution);
+            var initialScore = scoreDirector.calculateScore();
+            assertThat(initialScore).isEqualTo(InnerScore.fullyAssigned(HardSoftScore.of(0, -3)));
+            assertThat(scoreDirector.getSession().canCalculateFeasibleScore()).isTrue();
+
+            var entity = solution.getEntityList().get(0);
+            var originalValue = entity.getValue();
+            var conflictingValue = solution.getValueList().get(1);
+            scoreDirector.beforeVariableChanged(variableDescriptor, entity);
+            entity.setValue(conflictingValue);
+            scoreDirector.afterVariableChanged(variableDescriptor, entity);
+            // The hard level alone proves the score worse; the soft constraint is left unsettled.
+            assertThat(scoreDirector.calculateScoreUnlessWorseThan(initialScore)).isNull();
+            assertThat(solution.getScore()).isEqualTo(HardSoftScore.of(0, -3));
+
+            // The unsettled soft constraint catches up together with the undo.
+            scoreDirector.beforeVariableChanged(variableDescriptor, entity);
+            entity.setValue(originalValue);
+            scoreDirector.afterVariableChanged(variableDescriptor, entity);
+            assertThat(scoreDirector.calculateScore()).isEqualTo(initialScore);
+
+            // A lower threshold needs the entire score.
+            scoreDirector.beforeVariableChanged(variableDescriptor, entity);
+            entity.setValue(conflictingValue);
+            scoreDirector.afterVariableChanged(variableDescriptor, entity);
+            assertThat(scoreDirector.calculateScoreUnlessWorseThan(
+                    InnerScore.fullyAssigned(HardSoftScore.of(-1, -1000))))
+                    .isEqualTo(InnerScore.fullyAssigned(HardSoftScore.of(-1, -5)));
+        }
+    }
+
+    @Test
+    void calculateEntireScoreWithoutSoftConstraints() {
+        try (var scoreDirector = buildScoreDirector(factory -> new Constraint[] { hardConstraint(factory) })) {
+            scoreDirector.setWorkingSolution(TestdataHardSoftScoreSolution.generateSolution(3, 3));
+            scoreDirector.calculateScore();
+            // Settling the hard constraints first would settle everything anyway.
+            assertThat(scoreDirector.getSession().canCalculateFeasibleScore()).isFalse();
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+package ai.timefold.solver.core.impl.score.stream.collector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class OrderStatisticTreeTest {
+
+    @Test
+    void empty() {
+        var tree = new OrderStatisticTree<Integer>(Comparator.naturalOrder());
+        assertThat(tree.isEmpty()).isTrue();
+        assertThat(tree.size()).isZero();
+        assertThat(tree.largest(3)).isEmpty();
+        assertThatThrownBy(() -> tree.select(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void duplicatesAreCounted() {
+        var tree = new OrderStatisticTree<Integer>(Comparator.naturalOrder());
+        tree.add(2);
+        tree.add(1);
+        tree.add(2);
+        assertThat(tree.size()).isEqualTo(3);
+        assertThat(tree.select(0)).isEqualTo(1);
+        assertThat(tree.select(1)).isEqualTo(2);
+        assertThat(tree.select(2)).isEqualTo(2);
+        assertThat(tree.largest(2)).containsExactly(2, 2);
+
+        tree.remove(2);
+        assertThat(tree.size()).isEqualTo(2);
+        assertThat(tree.largest(5)).containsExactly(2, 1);
+        tree.remove(2);
+        tree.remove(1);
+        assertThat(tree.isEmpty()).isTrue();
+    }
+
+    @Test
+    void removeMissing() {
+        var tree = new OrderStatisticTree<Integer>(Comparator.naturalOrder());
+        tree.add(1);
+        assertThatThrownBy(() -> tree.remove(2))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("2");
+    }
+
+    @Test
+    void percentileRank() {
+        for (var size = 1; size <= 200; size++) {
+            for (var percentile = 0; percentile <= 100; percentile++) {
+                var rank = new OrderStatisticQuery.Percentile<Integer>(percentile).rank(size);
+                // The smallest rank which covers at least the percentile of the values.
+                assertThat(rank * 100L)
+                        .as("percentile (%d) of size (%d)", percentile, size)
+                        .isGreaterThanOrEqualTo((long) percentile * size)
+                        .isLessThan((long) percentile * size + 100L);
+            }
+        }
+        assertThat(new OrderStatisticQuery.Percentile<Integer>(7).rank(100)).isEqualTo(7);
+        assertThat(new OrderStatisticQuery.Percentile<Integer>(14).rank(50)).isEqualTo(7);
+        assertThat(new OrderStatisticQuery.Percentile<Integer>(28).rank(25)).isEqualTo(7);
+        assertThat(new OrderStatisticQuery.Percentile<Integer>(12.5).rank(8)).isEqualTo(1);
+        assertThat(new OrderStatisticQuery.Percentile<Integer>(12.6).rank(8)).isEqualTo(2);
+    }
+
+    @Test
+    void matchesSortedList() {
+        var random = new Random(37);
+        var tree = new OrderStatisticTree<Integer>(Comparator.naturalOrder());
+        var expectedList = new ArrayList<Integer>();
+        for (var i = 0; i < 5_000; i++) {
+            if (expectedList.isEmpty() || random.nextInt(3) != 0) {
+                var value = random.nextInt(100);
+                tree.add(value);
+                expectedList.add(value);
+            } else {
+                var value = expectedList.remove(random.nextInt(expectedList.size()));
+                tree.remove(value);
+            }
+            Collections.sort(expectedList);
+            assertThat(tree.size()).isEqualTo(expectedList.size());
+            if (i % 100 == 0) {
+                for (var index = 0; index < expectedList.size(); index++) {
+                    assertThat(tree.select(index)).isEqualTo(expectedList.get(index));
+                }
+                assertThat(tree.largest(10))
+                        .containsExactlyElementsOf(expectedList.reversed().subList(0, Math.min(10, expectedList.size())));
+            }
+        }
+    }
+
+}
@@ -16,6 +16,7 @@ import static java.util.Collections.emptySortedSet;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -377,6 +378,144 @@ final class InnerUniConstraintCollectorsTest extends AbstractConstraintCollector
         assertResult(collector, container, null);
     }
 
+    @Test
+    void percentile() {
+        var collector = ConstraintCollectors.percentile((Integer a) -> a, 75);
+        var container = collector.supplier().get();
+
+        // Default state.
+        assertResult(collector, container, null);
+        // Add first value.
+        var firstRetractor = accumulate(collector, container, 4);
+        assertResult(collector, container, 4);
+        // Add second value, the rank of the 75th percentile is still 2.
+        var secondRetractor = accumulate(collector, container, 2);
+        assertResult(collector, container, 4);
+        // Add third and fourth value, the rank is now 3.
+        var thirdRetractor = accumulate(collector, container, 1);
+        var fourthRetractor = accumulate(collector, container, 3);
+        assertResult(collector, container, 3);
+        // Retract the maximum.
+        firstRetractor.run();
+        assertResult(collector, container, 3);
+        // Retract the remaining values.
+        fourthRetractor.run();
+        assertResult(collector, container, 2);
+        secondRetractor.run();
+        assertResult(collector, container, 1);
+        thirdRetractor.run();
+        assertResult(collector, container, null);
+    }
+
+    @Test
+    void percentileAtExactRank() {
+        // The 7th percentile of 1..100 is 7; a floating-point rank of 7.000000000000001 would make it 8.
+        var collector = ConstraintCollectors.percentile((Integer a) -> a, 7);
+        var container = collector.supplier().get();
+        for (var i = 1; i <= 100; i++) {
+            accumulate(collector, container, i);
+        }
+        assertResult(collector, container, 7);
+
+        var collector14 = ConstraintCollectors.percentile((Integer a) -> a, 14);
+        var container14 = collector14.supplier().get();
+        for (var i = 1; i <= 50; i++) {
+            accumulate(collector14, container14, i);
+        }
+        assertResult(collector14, container14, 7);
+
+        var collector28 = ConstraintCollectors.percentile((Integer a) -> a, 28);
+        var container28 = collector28.supplier().get();
+        for (var i = 1; i <= 25; i++) {
+            accumulate(collector28, container28, i);
+        }
+        assertResult(collector28, container28, 7);
+    }
+
+    @Test
+    void median() {
+        var collector = ConstraintCollectors.median((Integer a) -> a);
+        var container = collector.supplier().get();
+
+        assertResult(collector, container, null);
+        var firstRetractor = accumulate(collector, container, 5);
+        accumulate(collector, container, 1);
+        accumulate(collector, container, 3);
+        assertResult(collector, container, 3);
+        // With an even number of values, the lower median is returned.
+        accumulate(collector, container, 3);
+        assertResult(collector, container, 3);
+        firstRetractor.run();
+        assertResult(collector, container, 3);
+    }
+
+    @Test
+    void kthSmallest() {
+        var collector = ConstraintCollectors.kthSmallest((Integer a) -> a, 2);
+        var container = collector.supplier().get();
+
+        // Fewer than k values.
+        assertResult(collector, container, null);
+        var firstRetractor = accumulate(collector, container, 7);
+        assertResult(collector, container, null);
+        // Duplicates are counted.
+        var secondRetractor = accumulate(collector, container, 7);
+        assertResult(collector, container, 7);
+        accumulate(collector, container, 1);
+        assertResult(collector, container, 7);
+        firstRetractor.run();
+        assertResult(collector, container, 7);
+        secondRetractor.run();
+        assertResult(collector, container, null);
+    }
+
+    @Test
+    void topK() {
+        var collector = ConstraintCollectors.topK((Integer a) -> a, 3);
+        var container = collector.supplier().get();
+
+        assertResult(collector, container, emptyList());
+        var firstRetractor = accumulate(collector, container, 2);
+        assertResult(collector, container, List.of(2));
+        accumulate(collector, container, 5);
+        accumulate(collector, container, 5);
+        accumulate(collector, container, 1);
+        assertResult(collector, container, List.of(5, 5, 2));
+        firstRetractor.run();
+        assertResult(collector, container, List.of(5, 5, 1));
+    }
+
+    @Test
+    void orderStatisticUpdate() {
+        var collector = ConstraintCollectors.median((Integer a) -> a);
+        var container = collector.supplier().get();
+        var slot1 = insert(collector, container, 5);
+        insert(collector, container, 3);
+        var slot3 = insert(collector, container, 1);
+        assertResult(collector, container, 3);
+        slot3.replaceWith(9);
+        assertResult(collector, container, 5);
+        slot3.replaceWith(9); // Objects.equals short-circuit
+        assertResult(collector, container, 5);
+        slot1.replaceWith(2);
+        assertResult(collector, container, 3);
+        slot1.remove();
+        assertResult(collector, container, 3);
+    }
+
+    @Test
+    void orderStatisticArgumentsAreValidated() {
+        assertThatThrownBy(() -> ConstraintCollectors.percentile((Integer a) -> a, 101))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("101");
+        assertThatThrownBy(() -> ConstraintCollectors.kthSmallest((Integer a) -> a, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("0");
+        assertThatThrownBy(() -> ConstraintCollectors.topK((Integer a) -> a, -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("-1");
+    }
+
     @Override
     @Test
     public void average() {
@@ -0,0 +1,242 @@
+package ai.timefold.solver.core.impl.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.api.solver.SolverManager;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.testdomain.TestdataEasyScoreCalculator;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Tags;
+
+class IslandSolverTest {
+
+    private static SolverConfig buildSolverConfig(int islandCount) {
+        return new SolverConfig()
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class)
+                .withIslandCount(islandCount)
+                .withIslandMigrationInterval(Duration.ofMillis(10))
+                .withTerminationConfig(new TerminationConfig()
+                        .withUnimprovedMillisecondsSpentLimit(100L));
+    }
+
+    @Test
+    void solve() {
+        var solver = SolverFactory.<TestdataSolution> create(buildSolverConfig(3)).buildSolver();
+        assertThat(solver).isInstanceOf(IslandSolver.class);
+        assertThat(((IslandSolver<TestdataSolution>) solver).getIslandList()).hasSize(3);
+
+        var scoreList = new ArrayList<SimpleScore>();
+        solver.addEventListener(event -> scoreList.add((SimpleScore) event.getNewBestScore()));
+        var solution = solver.solve(TestdataSolution.generateUninitializedSolution(5, 7));
+        assertThat(solution).isNotNull();
+        assertThat(solution.getEntityList())
+                .allMatch(entity -> entity.getValue() != null);
+        assertThat(scoreList)
+                .isNotEmpty()
+                .isSorted()
+                .doesNotHaveDuplicates()
+                .last()
+                .isEqualTo(solution.getScore());
+        assertThat(solver.isSolving()).isFalse();
+    }
+
+    @Test
+    void deliverEventsInSolverThread() {
+        var solver = SolverFactory.<TestdataSolution> create(buildSolverConfig(3)).buildSolver();
+        var eventThreadList = new ArrayList<Thread>();
+        solver.addEventListener(event -> eventThreadList.add(Thread.currentThread()));
+
+        solver.solve(TestdataSolution.generateUninitializedSolution(5, 7));
+
+        assertThat(eventThreadList)
+                .isNotEmpty()
+                .containsOnly(Thread.currentThread());
+    }
+
+    @Test
+    void tagSolverMetricsPerIsland() {
+        var solver = (IslandSolver<TestdataSolution>) SolverFactory.<TestdataSolution> create(buildSolverConfig(3))
+                .buildSolver();
+        assertThat(solver.getIslandList())
+                .map(island -> island.getSolverScope().getMonitoringTags())
+                .containsExactly(Tags.of("island.index", "0"), Tags.of("island.index", "1"), Tags.of("island.index", "2"));
+    }
+
+    @Test
+    void migrate() {
+        var solverConfig = buildSolverConfig(2)
+                .withTerminationConfig(new TerminationConfig()
+                        .withStepCountLimit(100));
+        var solver = (IslandSolver<TestdataSolution>) SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        var solvingIsland = solver.getIslandList().get(0);
+        var waitingIsland = solver.getIslandList().get(1);
+
+        // The waiting island does nothing until a migration is pending,
+        // and the solving island does not end the search before that migration is done.
+        var solvingIslandScoreList = new ArrayList<SimpleScore>();
+        solvingIsland.addEventListener(event -> solvingIslandScoreList.add((SimpleScore) event.getNewBestScore()));
+        var migrationDone = new CountDownLatch(1);
+        solvingIsland.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<>() {
+            @Override
+            public void solvingEnded(SolverScope<TestdataSolution> solverScope) {
+                try {
+                    migrationDone.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+        var waited = new AtomicBoolean(false);
+        waitingIsland.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<>() {
+            @Override
+            public void phaseStarted(AbstractPhaseScope<TestdataSolution> phaseScope) {
+                if (waited.compareAndSet(false, true)) {
+                    await().atMost(10, TimeUnit.SECONDS)
+                            .until(() -> !waitingIsland.isEveryProblemChangeProcessed());
+                }
+            }
+        });
+        var adoptedScore = new AtomicReference<SimpleScore>();
+        waitingIsland.addEventListener(event -> {
+            if (adoptedScore.compareAndSet(null, (SimpleScore) event.getNewBestScore())) {
+                migrationDone.countDown();
+            }
+        });
+
+        var solution = solver.solve(TestdataSolution.generateUninitializedSolution(5, 7));
+
+        assertThat(migrationDone.getCount()).isZero();
+        // The waiting island never initialized a solution of its own.
+        assertThat(adoptedScore.get()).isIn(solvingIslandScoreList);
+        assertThat((SimpleScore) waitingIsland.getSolverScope().getBestScore().raw())
+                .isGreaterThanOrEqualTo(adoptedScore.get());
+        assertThat(solution.getScore()).isEqualTo(solvingIslandScoreList.getLast());
+    }
+
+    @Test
+    void migrationOfWorseMigrantIsSkipped() {
+        var solverConfig = buildSolverConfig(1)
+                .withTerminationConfig(new TerminationConfig()
+                        .withStepCountLimit(20));
+        var solver = (DefaultSolver<TestdataSolution>) SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        // Every entity has the same value, so the migrant is worse than any best solution of the island.
+        var migrant = TestdataSolution.generateSolution(5, 7);
+        migrant.getEntityList().forEach(entity -> entity.setValue(migrant.getValueList().get(0)));
+        var migrantScore = new TestdataEasyScoreCalculator().calculateScore(migrant);
+        var migrated = new AtomicBoolean(false);
+        solver.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<>() {
+            @Override
+            public void stepEnded(AbstractStepScope<TestdataSolution> stepScope) {
+                // The island has found a better best solution since the migration was sent.
+                if (stepScope instanceof LocalSearchStepScope<TestdataSolution> && migrated.compareAndSet(false, true)) {
+                    solver.addProblemChange(new MigrationProblemChange<>(migrant, InnerScore.fullyAssigned(migrantScore)));
+                }
+            }
+        });
+        var scoreList = new ArrayList<SimpleScore>();
+        solver.addEventListener(event -> scoreList.add((SimpleScore) event.getNewBestScore()));
+
+        var solution = solver.solve(TestdataSolution.generateUninitializedSolution(5, 7));
+
+        assertThat(solver.getSolverScope().getStartingSolverCount()).isEqualTo(2);
+        assertThat(scoreList)
+                .isNotEmpty()
+                .isSorted()
+                .doesNotContain(migrantScore);
+        assertThat(solution.getScore()).isEqualTo(scoreList.getLast());
+    }
+
+    @Test
+    void terminateEarlyBeforeIslandsStart() {
+        var islandConfig = buildSolverConfig(1)
+                .withTerminationConfig(new TerminationConfig()
+                        .withSpentLimit(Duration.ofMinutes(1)));
+        var solverFactory = SolverFactory.<TestdataSolution> create(islandConfig);
+        var islandStart = new CountDownLatch(1);
+        var solver = new IslandSolver<>(
+                List.of((DefaultSolver<TestdataSolution>) solverFactory.buildSolver(),
+                        (DefaultSolver<TestdataSolution>) solverFactory.buildSolver()),
+                Duration.ofMinutes(1),
+                runnable -> new Thread(() -> {
+                    try {
+                        islandStart.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    runnable.run();
+                }));
+
+        var solveFuture = CompletableFuture.supplyAsync(() -> solver.solve(
+                TestdataSolution.generateUninitializedSolution(5, 7)));
+        await().atMost(10, TimeUnit.SECONDS).until(solver::isSolving);
+        assertThat(solver.terminateEarly()).isTrue();
+        // The islands start solving only after the termination, so they ignore it and need it to be retried.
+        islandStart.countDown();
+        // Much shorter than the migration interval.
+        assertThat(solveFuture).succeedsWithin(Duration.ofSeconds(10));
+        assertThat(solver.isSolving()).isFalse();
+    }
+
+    @Test
+    void singleIslandBuildsDefaultSolver() {
+        var solver = SolverFactory.create(buildSolverConfig(1)).buildSolver();
+        assertThat(solver).isInstanceOf(DefaultSolver.class);
+    }
+
+    @Test
+    void nonPositiveIslandCountFails() {
+        var solverFactory = SolverFactory.create(buildSolverConfig(0));
+        assertThatIllegalArgumentException()
+                .isThrownBy(solverFactory::buildSolver)
+                .withMessageContaining("islandCount (0)");
+    }
+
+    @Test
+    void problemChangeFails() {
+        var solver = SolverFactory.<TestdataSolution> create(buildSolverConfig(2)).buildSolver();
+        assertThatThrownBy(() -> solver.addProblemChange((workingSolution, problemChangeDirector) -> {
+        }))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("islandCount (2)");
+        assertThatThrownBy(() -> solver.addProblemChanges(List.of()))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void solverManagerFails() {
+        var solverConfig = buildSolverConfig(2);
+        assertThatThrownBy(() -> SolverManager.create(solverConfig))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("islandCount (2)");
+    }
+
+}
@@ -30,7 +30,9 @@ import ai.timefold.solver.core.api.solver.phase.PhaseCommandContext;
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicType;
 import ai.timefold.solver.core.config.exhaustivesearch.ExhaustiveSearchPhaseConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
 import ai.timefold.solver.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchType;
 import ai.timefold.solver.core.config.phase.custom.CustomPhaseConfig;
@@ -43,8 +45,11 @@ import ai.timefold.solver.core.impl.heuristic.selector.move.generic.SelectorBase
 import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
 import ai.timefold.solver.core.impl.score.director.ScoreDirector;
+import ai.timefold.solver.core.impl.solver.monitoring.statistic.ConstraintNodeCostStatistic;
+import ai.timefold.solver.core.impl.solver.monitoring.statistic.MoveCountPerSelectorStatistic;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 import ai.timefold.solver.core.preview.api.move.builtin.Moves;
+import ai.timefold.solver.core.testdomain.TestdataConstraintProvider;
 import ai.timefold.solver.core.testdomain.TestdataEntity;
 import ai.timefold.solver.core.testdomain.TestdataSolution;
 import ai.timefold.solver.core.testdomain.TestdataValue;
@@ -882,4 +887,99 @@ class SolverMetricsIT extends AbstractMeterTest {
         assertThat(moveCountPer2Opt.get()).isPositive();
     }
 
+    @Test
+    void solveWithConstraintNodeCostMetric() {
+        var meterRegistry = new TestMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withScoreDirectorFactory(
+                        new ScoreDirectorFactoryConfig().withConstraintProviderClass(TestdataConstraintProvider.class))
+                .withPhases(new ConstructionHeuristicPhaseConfig())
+                .withMonitoringConfig(new MonitoringConfig().withSolverMetricList(List.of(SolverMetric.CONSTRAINT_NODE_COST)));
+
+        var problem = new TestdataSolution("s1");
+        var v1 = new TestdataValue("v1");
+        var v2 = new TestdataValue("v2");
+        problem.setValueList(Arrays.asList(v1, v2));
+        problem.setEntityList(Arrays.asList(
+                new TestdataEntity("e1", null),
+                new TestdataEntity("e2", v2)));
+
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+        Solver<TestdataSolution> solver = solverFactory.buildSolver();
+        var nodeCount = new AtomicLong();
+        var locationCount = new AtomicLong();
+        ((DefaultSolver<TestdataSolution>) solver).addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<>() {
+            @Override
+            public void solvingEnded(SolverScope<TestdataSolution> solverScope) {
+                assertThat(solverScope.getConstraintProfiler()).isNotNull();
+                nodeCount.set(meterRegistry.find(ConstraintNodeCostStatistic.getCountMeterId())
+                        .gauges().stream()
+                        .mapToLong(gauge -> (long) gauge.value())
+                        .sum());
+                locationCount.set(meterRegistry.find(ConstraintNodeCostStatistic.getLocationCountMeterId())
+                        .tagKeys(ConstraintNodeCostStatistic.LOCATION_TAG)
+                        .gauges().size());
+            }
+        });
+        solver.solve(problem);
+        assertThat(nodeCount.get()).isPositive();
+        assertThat(locationCount.get()).isPositive();
+    }
+
+    @Test
+    void solveWithConstraintNodeCostMetricAndEasyScoreCalculator() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig())
+                .withMonitoringConfig(new MonitoringConfig().withSolverMetricList(List.of(SolverMetric.CONSTRAINT_NODE_COST)));
+
+        var problem = new TestdataSolution("s1");
+        problem.setValueList(List.of(new TestdataValue("v1")));
+        problem.setEntityList(List.of(new TestdataEntity("e1", null)));
+
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+        var solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        assertThat(solver.getSolverScope().getConstraintProfiler()).isNull();
+        assertThat(solver.solve(problem)).isNotNull();
+    }
+
+    @Test
+    void solveWithMoveCountPerSelectorMetric() {
+        var meterRegistry = new TestMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig(),
+                        new LocalSearchPhaseConfig()
+                                .withMoveSelectorConfig(new UnionMoveSelectorConfig()
+                                        .withMoveSelectors(new ChangeMoveSelectorConfig(), new SwapMoveSelectorConfig())
+                                        .withAdaptiveSelection(true))
+                                .withTerminationConfig(new TerminationConfig().withStepCountLimit(10)))
+                .withMonitoringConfig(
+                        new MonitoringConfig().withSolverMetricList(List.of(SolverMetric.MOVE_COUNT_PER_SELECTOR)));
+
+        var problem = TestdataSolution.generateUninitializedSolution(3, 5);
+
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+        Solver<TestdataSolution> solver = solverFactory.buildSolver();
+        var selectorCount = new AtomicInteger();
+        var moveCount = new AtomicLong();
+        ((DefaultSolver<TestdataSolution>) solver).addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<>() {
+            @Override
+            public void solvingEnded(SolverScope<TestdataSolution> solverScope) {
+                var gauges = meterRegistry.find(SolverMetric.MOVE_COUNT_PER_SELECTOR.getMeterId())
+                        .tagKeys(MoveCountPerSelectorStatistic.SELECTOR_TAG)
+                        .gauges();
+                selectorCount.set(gauges.size());
+                moveCount.set(gauges.stream()
+                        .mapToLong(gauge -> (long) gauge.value())
+                        .sum());
+            }
+        });
+        solver.solve(problem);
+        assertThat(selectorCount.get()).isEqualTo(2);
+        assertThat(moveCount.get()).isPositive();
+    }
+
 }
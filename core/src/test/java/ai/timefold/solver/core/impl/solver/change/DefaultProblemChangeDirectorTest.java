@@ -6,6 +6,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+
 import ai.timefold.solver.core.api.solver.change.ProblemChange;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.testdomain.TestdataEntity;
@@ -82,6 +84,44 @@ class DefaultProblemChangeDirectorTest {
         verify(scoreDirectorMock, times(1)).afterProblemFactRemoved(removedFact);
     }
 
+    @Test
+    void batchedProblemChange_notifiesScoreDirectorOncePerBatch() {
+        var valueGroupOne = new TestdataLavishValueGroup("valueGroupOne");
+        var addedFactList = List.of(new TestdataLavishValue("newly added fact 1", valueGroupOne),
+                new TestdataLavishValue("newly added fact 2", valueGroupOne));
+        var removedFact1 = new TestdataLavishValue("fact to remove 1", valueGroupOne);
+        var removedFact2 = new TestdataLavishValue("fact to remove 2", valueGroupOne);
+        var removedFactList = List.of(removedFact1, removedFact2);
+
+        InnerScoreDirector<TestdataSolution, ?> scoreDirectorMock = mock(InnerScoreDirector.class);
+        addedFactList.forEach(addedFact -> when(scoreDirectorMock.lookUpWorkingObject(addedFact)).thenReturn(addedFact));
+        when(scoreDirectorMock.lookUpWorkingObject(removedFact1)).thenReturn(removedFact1);
+        when(scoreDirectorMock.lookUpWorkingObject(removedFact2)).thenReturn(removedFact2);
+        var defaultProblemChangeDirector = new DefaultProblemChangeDirector<>(scoreDirectorMock);
+
+        ProblemChange<TestdataLavishSolution> problemChange = ((workingSolution, problemChangeDirector) -> {
+            problemChangeDirector.addProblemFacts(addedFactList, workingSolution.getValueList()::add);
+            problemChangeDirector.changeProblemProperties(addedFactList, workingFact -> workingFact.setValueGroup(null));
+            problemChangeDirector.removeProblemFacts(removedFactList, workingSolution.getValueList()::remove);
+        });
+
+        var testdataSolution = TestdataLavishSolution.generateSolution();
+        testdataSolution.getValueList().addAll(removedFactList);
+        problemChange.doChange(testdataSolution, defaultProblemChangeDirector);
+
+        verify(scoreDirectorMock, times(1)).beforeProblemFactsAdded(addedFactList);
+        verify(scoreDirectorMock, times(1)).afterProblemFactsAdded(addedFactList);
+        verify(scoreDirectorMock, times(0)).afterProblemFactAdded(any());
+
+        verify(scoreDirectorMock, times(1)).beforeProblemPropertiesChanged(addedFactList);
+        verify(scoreDirectorMock, times(1)).afterProblemPropertiesChanged(addedFactList);
+        verify(scoreDirectorMock, times(0)).afterProblemPropertyChanged(any());
+
+        verify(scoreDirectorMock, times(1)).beforeProblemFactsRemoved(removedFactList);
+        verify(scoreDirectorMock, times(1)).afterProblemFactsRemoved(removedFactList);
+        verify(scoreDirectorMock, times(0)).afterProblemFactRemoved(any());
+    }
+
     @Test
     void verify_noResetSolutionIfNoEntitiesAddedOrRemoved() {
         var entityGroupOne = new TestdataLavishEntityGroup("entityGroupOne");
@@ -0,0 +1,117 @@
+package ai.timefold.solver.core.impl.solver.recaller;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.solver.SolutionManager;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirector;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
+import ai.timefold.solver.core.preview.api.move.Move;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+import ai.timefold.solver.core.testdomain.TestdataValue;
+import ai.timefold.solver.core.testdomain.list.TestdataListEntity;
+import ai.timefold.solver.core.testdomain.list.TestdataListSolution;
+import ai.timefold.solver.core.testdomain.list.TestdataListValue;
+
+import org.junit.jupiter.api.Test;
+
+class BestSolutionDeltaTest {
+
+    private static <Solution_> InnerScoreDirector<Solution_, SimpleScore> buildScoreDirector(
+            SolutionDescriptor<Solution_> solutionDescriptor, Class<?> entityClass, Solution_ solution) {
+        var scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<Solution_, SimpleScore>(solutionDescriptor,
+                constraintFactory -> new Constraint[] { constraintFactory.forEach(entityClass)
+                        .penalize(SimpleScore.ONE).asConstraint("Dummy constraint") },
+                EnvironmentMode.FULL_ASSERT);
+        var scoreDirector = new BavetConstraintStreamScoreDirector.Builder<>(scoreDirectorFactory).build();
+        scoreDirector.setWorkingSolution(solution);
+        scoreDirector.calculateScore();
+        return scoreDirector;
+    }
+
+    @Test
+    void materializeBasicVariable() {
+        var solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        var variableMetaModel = solutionDescriptor.getMetaModel().genuineEntity(TestdataEntity.class)
+                .basicVariable("value", TestdataValue.class);
+        var value1 = new TestdataValue("v1");
+        var value2 = new TestdataValue("v2");
+        var entityA = new TestdataEntity("A", value1);
+        var entityB = new TestdataEntity("B", value2);
+        var solution = new TestdataSolution("s");
+        solution.setValueList(List.of(value1, value2));
+        solution.setEntityList(List.of(entityA, entityB));
+        var scoreDirector = buildScoreDirector(solutionDescriptor, TestdataEntity.class, solution);
+
+        var delta = new BestSolutionDelta<TestdataSolution>(InnerScore.fullyAssigned(SimpleScore.of(-7)));
+        delta.addStepUndoMove(scoreDirector.executeMoveAndCreateUndoMove(
+                view -> view.changeVariable(variableMetaModel, entityA, value2)));
+        delta.addStepUndoMove(scoreDirector.executeMoveAndCreateUndoMove(
+                view -> view.changeVariable(variableMetaModel, entityB, value1)));
+        delta.addStepUndoMove(scoreDirector.executeMoveAndCreateUndoMove(
+                view -> view.changeVariable(variableMetaModel, entityA, null)));
+        solution.setScore(SimpleScore.of(-9));
+
+        var bestSolution = delta.materialize(scoreDirector);
+        assertSoftly(softly -> {
+            softly.assertThat(bestSolution).isNotSameAs(solution);
+            softly.assertThat(bestSolution.getEntityList())
+                    .extracting(TestdataEntity::getValue)
+                    .extracting(TestdataValue::getCode)
+                    .containsExactly("v1", "v2");
+            softly.assertThat(bestSolution.getScore()).isEqualTo(SimpleScore.of(-7));
+            softly.assertThat(entityA.getValue()).isNull();
+            softly.assertThat(entityB.getValue()).isSameAs(value1);
+            softly.assertThat(solution.getScore()).isEqualTo(SimpleScore.of(-9));
+        });
+    }
+
+    @Test
+    void materializeListVariable() {
+        var solutionDescriptor = TestdataListSolution.buildSolutionDescriptor();
+        var variableMetaModel = solutionDescriptor.getMetaModel().genuineEntity(TestdataListEntity.class)
+                .listVariable("valueList", TestdataListValue.class);
+        var value1 = new TestdataListValue("v1");
+        var value2 = new TestdataListValue("v2");
+        var value3 = new TestdataListValue("v3");
+        var entityA = new TestdataListEntity("A", value1, value2);
+        var entityB = new TestdataListEntity("B", value3);
+        var solution = new TestdataListSolution();
+        solution.setValueList(List.of(value1, value2, value3));
+        solution.setEntityList(List.of(entityA, entityB));
+        SolutionManager.updateShadowVariables(solution);
+        var scoreDirector = buildScoreDirector(solutionDescriptor, TestdataListEntity.class, solution);
+
+        var delta = new BestSolutionDelta<TestdataListSolution>(InnerScore.fullyAssigned(SimpleScore.of(-2)));
+        Move<TestdataListSolution> firstStep =
+                view -> view.moveValueBetweenLists(variableMetaModel, entityA, 0, entityB, 1);
+        Move<TestdataListSolution> secondStep = view -> view.shiftValue(variableMetaModel, entityB, 0, 1);
+        delta.addStepUndoMove(scoreDirector.executeMoveAndCreateUndoMove(firstStep));
+        delta.addStepUndoMove(scoreDirector.executeMoveAndCreateUndoMove(secondStep));
+
+        var bestSolution = delta.materialize(scoreDirector);
+        assertSoftly(softly -> {
+            softly.assertThat(bestSolution.getEntityList().get(0).getValueList())
+                    .extracting(TestdataListValue::getCode)
+                    .containsExactly("v1", "v2");
+            softly.assertThat(bestSolution.getEntityList().get(1).getValueList())
+                    .extracting(TestdataListValue::getCode)
+                    .containsExactly("v3");
+            softly.assertThat(bestSolution.getScore()).isEqualTo(SimpleScore.of(-2));
+            softly.assertThat(entityA.getValueList()).containsExactly(value2);
+            softly.assertThat(entityB.getValueList()).containsExactly(value1, value3);
+            softly.assertThat(value1.getEntity()).isSameAs(entityB);
+            softly.assertThat(value1.getIndex()).isZero();
+            softly.assertThat(value3.getIndex()).isOne();
+        });
+    }
+
+}
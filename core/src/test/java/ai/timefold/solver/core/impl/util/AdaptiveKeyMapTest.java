@@ -0,0 +1,93 @@
+package ai.timefold.solver.core.impl.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.time.DayOfWeek;
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveKeyMapTest {
+
+    @Test
+    void enumKeys() {
+        var keyMap = new AdaptiveKeyMap<String>();
+        keyMap.put(DayOfWeek.MONDAY, "a");
+        keyMap.put(DayOfWeek.FRIDAY, "b");
+        assertSoftly(softly -> {
+            softly.assertThat(keyMap.isSpecialized()).isTrue();
+            softly.assertThat(keyMap.size()).isEqualTo(2);
+            softly.assertThat(keyMap.get(DayOfWeek.MONDAY)).isEqualTo("a");
+            softly.assertThat(keyMap.get(DayOfWeek.TUESDAY)).isNull();
+            softly.assertThat(keyMap.get(0)).isNull();
+            softly.assertThat(keyMap.remove(DayOfWeek.MONDAY)).isEqualTo("a");
+            softly.assertThat(keyMap.remove(DayOfWeek.MONDAY)).isNull();
+            softly.assertThat(keyMap.size()).isOne();
+        });
+    }
+
+    @Test
+    void integerAndLongKeysDoNotMix() {
+        var keyMap = new AdaptiveKeyMap<String>();
+        keyMap.put(1, "int");
+        assertThat(keyMap.isSpecialized()).isTrue();
+        assertThat(keyMap.get(1L)).isNull();
+
+        keyMap.put(1L, "long");
+        assertSoftly(softly -> {
+            softly.assertThat(keyMap.isSpecialized()).isFalse();
+            softly.assertThat(keyMap.size()).isEqualTo(2);
+            softly.assertThat(keyMap.get(1)).isEqualTo("int");
+            softly.assertThat(keyMap.get(1L)).isEqualTo("long");
+        });
+    }
+
+    @Test
+    void migratesOnUnexpectedKey() {
+        var keyMap = new AdaptiveKeyMap<String>();
+        keyMap.put(DayOfWeek.MONDAY, "a");
+        keyMap.put(null, "null");
+        assertSoftly(softly -> {
+            softly.assertThat(keyMap.isSpecialized()).isFalse();
+            softly.assertThat(keyMap.get(DayOfWeek.MONDAY)).isEqualTo("a");
+            softly.assertThat(keyMap.get(null)).isEqualTo("null");
+            softly.assertThat(keyMap.size()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void genericKeys() {
+        var keyMap = new AdaptiveKeyMap<String>();
+        keyMap.put("x", "a");
+        assertThat(keyMap.isSpecialized()).isFalse();
+        assertThat(keyMap.get("x")).isEqualTo("a");
+        assertThat(keyMap.remove("x")).isEqualTo("a");
+        assertThat(keyMap.size()).isZero();
+    }
+
+    @Test
+    void randomizedAgainstHashMap() {
+        var random = new Random(0);
+        var keyMap = new AdaptiveKeyMap<String>();
+        var expectedMap = new HashMap<Integer, String>();
+        for (var i = 0; i < 100_000; i++) {
+            // Negative keys and keys colliding after mixing are both covered by the range.
+            var key = random.nextInt(2_000) - 500;
+            if (random.nextBoolean()) {
+                var value = "v" + i;
+                keyMap.put(key, value);
+                expectedMap.put(key, value);
+            } else {
+                assertThat(keyMap.remove(key)).isEqualTo(expectedMap.remove(key));
+            }
+            assertThat(keyMap.size()).isEqualTo(expectedMap.size());
+        }
+        assertThat(keyMap.isSpecialized()).isTrue();
+        for (var key = -500; key < 1_500; key++) {
+            assertThat(keyMap.get(key)).isEqualTo(expectedMap.get(key));
+        }
+    }
+
+}
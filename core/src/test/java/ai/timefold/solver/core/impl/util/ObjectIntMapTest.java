@@ -0,0 +1,86 @@
+package ai.timefold.solver.core.impl.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class ObjectIntMapTest {
+
+    @Test
+    void putGetRemove() {
+        var map = new ObjectIntMap(true, 2);
+        var a = new Object();
+        var b = new Object();
+        assertThat(map.get(a)).isEqualTo(ObjectIntMap.ABSENT);
+        map.put(a, 1);
+        map.put(b, 2);
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(a)).isEqualTo(1);
+        assertThat(map.get(b)).isEqualTo(2);
+        assertThat(map.put(a, 3)).isEqualTo(1);
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(a)).isEqualTo(3);
+        assertThat(map.remove(a)).isEqualTo(3);
+        assertThat(map.remove(a)).isEqualTo(ObjectIntMap.ABSENT);
+        assertThat(map.get(a)).isEqualTo(ObjectIntMap.ABSENT);
+        assertThat(map.size()).isEqualTo(1);
+        map.clear();
+        assertThat(map.size()).isZero();
+        assertThat(map.get(b)).isEqualTo(ObjectIntMap.ABSENT);
+    }
+
+    @Test
+    void comparesByIdentity() {
+        var map = new ObjectIntMap(true, 2);
+        var a = "a";
+        var equalA = new String("a");
+        map.put(a, 1);
+        assertThat(map.get(equalA)).isEqualTo(ObjectIntMap.ABSENT);
+    }
+
+    @Test
+    void comparesByEquals() {
+        var map = new ObjectIntMap(false, 2);
+        var a = "a";
+        var equalA = new String("a");
+        map.put(a, 1);
+        assertThat(map.get(equalA)).isEqualTo(1);
+        assertThat(map.put(equalA, 2)).isEqualTo(1);
+        assertThat(map.size()).isOne();
+        var keyList = new ArrayList<>();
+        map.forEachKey(keyList::add);
+        assertThat(keyList).containsExactly(a);
+    }
+
+    @Test
+    void matchesIdentityHashMapOnRandomChanges() {
+        var random = new Random(37);
+        var map = new ObjectIntMap(true, 4);
+        var expectedMap = new IdentityHashMap<Object, Integer>();
+        var keyList = new ArrayList<>();
+        for (var i = 0; i < 200; i++) {
+            keyList.add(new Object());
+        }
+        for (var i = 0; i < 10_000; i++) {
+            var key = keyList.get(random.nextInt(keyList.size()));
+            if (random.nextInt(3) == 0) {
+                var expected = expectedMap.remove(key);
+                assertThat(map.remove(key)).isEqualTo(expected == null ? ObjectIntMap.ABSENT : expected);
+            } else {
+                var value = random.nextInt(1000);
+                expectedMap.put(key, value);
+                map.put(key, value);
+            }
+            assertThat(map.size()).isEqualTo(expectedMap.size());
+        }
+        for (var key : keyList) {
+            var expected = expectedMap.get(key);
+            assertThat(map.get(key)).isEqualTo(expected == null ? ObjectIntMap.ABSENT : expected);
+        }
+    }
+
+}
@@ -9,7 +9,9 @@ import ai.timefold.solver.benchmark.impl.statistic.ProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticType;
 import ai.timefold.solver.benchmark.impl.statistic.bestscore.BestScoreProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.bestsolutionmutation.BestSolutionMutationProblemStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.constraintnodecost.ConstraintNodeCostProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.memoryuse.MemoryUseProblemStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.movecountperselector.MoveCountPerSelectorProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.movecountperstep.MoveCountPerStepProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.movecountpertype.MoveCountPerTypeProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.moveevaluationspeed.MoveEvaluationSpeedProblemStatisticTime;
@@ -27,7 +29,9 @@ public enum ProblemStatisticType implements StatisticType {
     BEST_SOLUTION_MUTATION,
     MOVE_COUNT_PER_STEP,
     MOVE_COUNT_PER_TYPE,
-    MEMORY_USE;
+    MEMORY_USE,
+    CONSTRAINT_NODE_COST,
+    MOVE_COUNT_PER_SELECTOR;
 
     public @NonNull ProblemStatistic buildProblemStatistic(@NonNull ProblemBenchmarkResult problemBenchmarkResult) {
         switch (this) {
@@ -47,6 +51,10 @@ public enum ProblemStatisticType implements StatisticType {
                 return new MoveCountPerTypeProblemStatistic(problemBenchmarkResult);
             case MEMORY_USE:
                 return new MemoryUseProblemStatistic(problemBenchmarkResult);
+            case CONSTRAINT_NODE_COST:
+                return new ConstraintNodeCostProblemStatistic(problemBenchmarkResult);
+            case MOVE_COUNT_PER_SELECTOR:
+                return new MoveCountPerSelectorProblemStatistic(problemBenchmarkResult);
             default:
                 throw new IllegalStateException("The problemStatisticType (" + this + ") is not implemented.");
         }
@@ -43,6 +43,14 @@ public class SolverBenchmarkFactory {
                     .formatted(config, SolverConfig.class.getSimpleName(), solverConfig, MonitoringConfig.class.getSimpleName(),
                             monitoringConfig));
         }
+        var islandCount = solverConfig.getIslandCount();
+        if (islandCount != null && islandCount > 1) {
+            throw new IllegalArgumentException("""
+                    The solverBenchmarkConfig (%s) has a %s (%s) with an islandCount (%d).
+                    The benchmarker does not support solving with multiple islands.
+                    Maybe remove the islandCount and raise the parallelBenchmarkCount instead."""
+                    .formatted(config, SolverConfig.class.getSimpleName(), solverConfig, islandCount));
+        }
         var solverMetricList = getSolverMetrics(config.getProblemBenchmarksConfig());
         solverBenchmarkResult.setSolverConfig(
                 solverConfig.copyConfig().withMonitoringConfig(new MonitoringConfig().withSolverMetricList(solverMetricList)));
@@ -31,7 +31,9 @@ import ai.timefold.solver.benchmark.impl.statistic.ProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.PureSubSingleStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.bestscore.BestScoreProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.bestsolutionmutation.BestSolutionMutationProblemStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.constraintnodecost.ConstraintNodeCostProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.memoryuse.MemoryUseProblemStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.movecountperselector.MoveCountPerSelectorProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.movecountperstep.MoveCountPerStepProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.movecountpertype.MoveCountPerTypeProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.moveevaluationspeed.MoveEvaluationSpeedProblemStatisticTime;
@@ -74,6 +76,8 @@ public class ProblemBenchmarkResult<Solution_> {
             @XmlElement(name = "moveCountPerStepProblemStatistic", type = MoveCountPerStepProblemStatistic.class),
             @XmlElement(name = "moveCountPerTypeProblemStatistic", type = MoveCountPerTypeProblemStatistic.class),
             @XmlElement(name = "memoryUseProblemStatistic", type = MemoryUseProblemStatistic.class),
+            @XmlElement(name = "constraintNodeCostProblemStatistic", type = ConstraintNodeCostProblemStatistic.class),
+            @XmlElement(name = "moveCountPerSelectorProblemStatistic", type = MoveCountPerSelectorProblemStatistic.class),
     })
     private List<ProblemStatistic> problemStatisticList = null;
 
@@ -12,6 +12,7 @@ import java.util.function.Function;
 import java.util.function.ObjLongConsumer;
 import java.util.stream.Collectors;
 
+import ai.timefold.solver.core.api.function.TriConsumer;
 import ai.timefold.solver.core.api.score.stream.ConstraintRef;
 import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
 import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListener;
@@ -20,6 +21,8 @@ import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
 import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
 import ai.timefold.solver.core.impl.score.director.InnerScore;
 import ai.timefold.solver.core.impl.solver.monitoring.SolverMetricUtil;
+import ai.timefold.solver.core.impl.solver.monitoring.statistic.ConstraintNodeCostStatistic;
+import ai.timefold.solver.core.impl.solver.monitoring.statistic.MoveCountPerSelectorStatistic;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 
 import io.micrometer.core.instrument.Meter;
@@ -136,6 +139,35 @@ public class StatisticRegistry<Solution_> extends SimpleMeterRegistry
         });
     }
 
+    /**
+     * @param costConsumer receives the location, the time spent in nanoseconds and the invocation count
+     */
+    public void extractConstraintNodeCost(SolverScope<Solution_> solverScope,
+            TriConsumer<String, Long, Long> costConsumer) {
+        var tags = solverScope.getMonitoringTags();
+        for (var timeGauge : this.find(ConstraintNodeCostStatistic.getLocationTimeMeterId()).tags(tags).gauges()) {
+            var location = timeGauge.getId().getTag(ConstraintNodeCostStatistic.LOCATION_TAG);
+            if (location == null) {
+                continue;
+            }
+            var countGauge = this.find(ConstraintNodeCostStatistic.getLocationCountMeterId())
+                    .tags(tags)
+                    .tag(ConstraintNodeCostStatistic.LOCATION_TAG, location)
+                    .gauge();
+            costConsumer.accept(location, (long) timeGauge.value(), countGauge == null ? 0L : (long) countGauge.value());
+        }
+    }
+
+    public void extractMoveCountPerSelector(SolverScope<Solution_> solverScope, ObjLongConsumer<String> countConsumer) {
+        var tags = solverScope.getMonitoringTags();
+        for (var gauge : this.find(SolverMetric.MOVE_COUNT_PER_SELECTOR.getMeterId()).tags(tags).gauges()) {
+            var selector = gauge.getId().getTag(MoveCountPerSelectorStatistic.SELECTOR_TAG);
+            if (selector != null) {
+                countConsumer.accept(selector, (long) gauge.value());
+            }
+        }
+    }
+
     @Override
     protected TimeUnit getBaseTimeUnit() {
         return TimeUnit.MILLISECONDS;
@@ -0,0 +1,47 @@
+package ai.timefold.solver.benchmark.impl.statistic.constraintnodecost;
+
+import static java.util.Collections.singletonList;
+
+import java.util.List;
+
+import ai.timefold.solver.benchmark.config.statistic.ProblemStatisticType;
+import ai.timefold.solver.benchmark.impl.report.BarChart;
+import ai.timefold.solver.benchmark.impl.report.BenchmarkReport;
+import ai.timefold.solver.benchmark.impl.result.ProblemBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.ProblemStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.SubSingleStatistic;
+
+public class ConstraintNodeCostProblemStatistic extends ProblemStatistic<BarChart<Long>> {
+    private ConstraintNodeCostProblemStatistic() {
+        // Required by JAXB
+    }
+
+    @SuppressWarnings("rawtypes")
+    public ConstraintNodeCostProblemStatistic(ProblemBenchmarkResult problemBenchmarkResult) {
+        super(problemBenchmarkResult, ProblemStatisticType.CONSTRAINT_NODE_COST);
+    }
+
+    @SuppressWarnings({ "rawtypes" })
+    @Override
+    public SubSingleStatistic createSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        return new ConstraintNodeCostSubSingleStatistic(subSingleBenchmarkResult);
+    }
+
+    @Override
+    protected List<BarChart<Long>> generateCharts(BenchmarkReport benchmarkReport) {
+        var builder = new BarChart.Builder<Long>();
+        for (var singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+            if (singleBenchmarkResult.hasAllSuccess()) {
+                var solverLabel = singleBenchmarkResult.getSolverBenchmarkResult().getNameWithFavoriteSuffix();
+                var subSingleStatistic = singleBenchmarkResult.getSubSingleStatistic(problemStatisticType);
+                List<ConstraintNodeCostStatisticPoint> points = subSingleStatistic.getPointList();
+                for (var point : points) {
+                    builder.add(solverLabel, point.getLocation(), point.getTimeNanos() / 1_000_000L);
+                }
+            }
+        }
+        return singletonList(builder.build("constraintNodeCostProblemStatisticChart",
+                problemBenchmarkResult.getName() + " constraint node cost statistic", "Location", "Time spent", true));
+    }
+}
@@ -0,0 +1,34 @@
+package ai.timefold.solver.benchmark.impl.statistic.constraintnodecost;
+
+import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
+
+public class ConstraintNodeCostStatisticPoint extends StatisticPoint {
+
+    private final String location;
+    private final long timeNanos;
+    private final long count;
+
+    public ConstraintNodeCostStatisticPoint(String location, long timeNanos, long count) {
+        this.location = location;
+        this.timeNanos = timeNanos;
+        this.count = count;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public long getTimeNanos() {
+        return timeNanos;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLineWithStrings(0L, location, String.valueOf(timeNanos), String.valueOf(count));
+    }
+
+}
@@ -0,0 +1,52 @@
+package ai.timefold.solver.benchmark.impl.statistic.constraintnodecost;
+
+import java.util.List;
+
+import ai.timefold.solver.benchmark.config.statistic.ProblemStatisticType;
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.ProblemBasedSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticRegistry;
+import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+
+import io.micrometer.core.instrument.Tags;
+
+public class ConstraintNodeCostSubSingleStatistic<Solution_>
+        extends ProblemBasedSubSingleStatistic<Solution_, ConstraintNodeCostStatisticPoint> {
+
+    ConstraintNodeCostSubSingleStatistic() {
+        // For JAXB.
+    }
+
+    public ConstraintNodeCostSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        super(subSingleBenchmarkResult, ProblemStatisticType.CONSTRAINT_NODE_COST);
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(StatisticRegistry<Solution_> registry, Tags runTag) {
+        registry.addListener(solverScope -> registry.extractConstraintNodeCost(solverScope,
+                (location, timeNanos, count) -> pointList
+                        .add(new ConstraintNodeCostStatisticPoint(location, timeNanos, count))));
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return StatisticPoint.buildCsvLine("_", "location", "timeNanos", "count");
+    }
+
+    @Override
+    protected ConstraintNodeCostStatisticPoint createPointFromCsvLine(ScoreDefinition<?> scoreDefinition,
+            List<String> csvLine) {
+        return new ConstraintNodeCostStatisticPoint(csvLine.get(1), Long.parseLong(csvLine.get(2)),
+                Long.parseLong(csvLine.get(3)));
+    }
+
+}
@@ -0,0 +1,47 @@
+package ai.timefold.solver.benchmark.impl.statistic.movecountperselector;
+
+import static java.util.Collections.singletonList;
+
+import java.util.List;
+
+import ai.timefold.solver.benchmark.config.statistic.ProblemStatisticType;
+import ai.timefold.solver.benchmark.impl.report.BarChart;
+import ai.timefold.solver.benchmark.impl.report.BenchmarkReport;
+import ai.timefold.solver.benchmark.impl.result.ProblemBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.ProblemStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.SubSingleStatistic;
+
+public class MoveCountPerSelectorProblemStatistic extends ProblemStatistic<BarChart<Long>> {
+    private MoveCountPerSelectorProblemStatistic() {
+        // Required by JAXB
+    }
+
+    @SuppressWarnings("rawtypes")
+    public MoveCountPerSelectorProblemStatistic(ProblemBenchmarkResult problemBenchmarkResult) {
+        super(problemBenchmarkResult, ProblemStatisticType.MOVE_COUNT_PER_SELECTOR);
+    }
+
+    @SuppressWarnings({ "rawtypes" })
+    @Override
+    public SubSingleStatistic createSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        return new MoveCountPerSelectorSubSingleStatistic(subSingleBenchmarkResult);
+    }
+
+    @Override
+    protected List<BarChart<Long>> generateCharts(BenchmarkReport benchmarkReport) {
+        var builder = new BarChart.Builder<Long>();
+        for (var singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+            if (singleBenchmarkResult.hasAllSuccess()) {
+                var solverLabel = singleBenchmarkResult.getSolverBenchmarkResult().getNameWithFavoriteSuffix();
+                var subSingleStatistic = singleBenchmarkResult.getSubSingleStatistic(problemStatisticType);
+                List<MoveCountPerSelectorStatisticPoint> points = subSingleStatistic.getPointList();
+                for (var point : points) {
+                    builder.add(solverLabel, point.getSelector(), point.getCount());
+                }
+            }
+        }
+        return singletonList(builder.build("moveCountPerSelectorProblemStatisticChart",
+                problemBenchmarkResult.getName() + " move count per selector statistic", "Selector", "Count", false));
+    }
+}
@@ -0,0 +1,28 @@
+package ai.timefold.solver.benchmark.impl.statistic.movecountperselector;
+
+import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
+
+public class MoveCountPerSelectorStatisticPoint extends StatisticPoint {
+
+    private final String selector;
+    private final long count;
+
+    public MoveCountPerSelectorStatisticPoint(String selector, long count) {
+        this.selector = selector;
+        this.count = count;
+    }
+
+    public String getSelector() {
+        return selector;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLineWithStrings(0L, selector, String.valueOf(count));
+    }
+
+}
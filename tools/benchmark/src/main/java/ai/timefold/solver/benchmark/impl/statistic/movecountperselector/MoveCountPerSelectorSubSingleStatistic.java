@@ -0,0 +1,50 @@
+package ai.timefold.solver.benchmark.impl.statistic.movecountperselector;
+
+import java.util.List;
+
+import ai.timefold.solver.benchmark.config.statistic.ProblemStatisticType;
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.ProblemBasedSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticRegistry;
+import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+
+import io.micrometer.core.instrument.Tags;
+
+public class MoveCountPerSelectorSubSingleStatistic<Solution_>
+        extends ProblemBasedSubSingleStatistic<Solution_, MoveCountPerSelectorStatisticPoint> {
+
+    MoveCountPerSelectorSubSingleStatistic() {
+        // For JAXB.
+    }
+
+    public MoveCountPerSelectorSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        super(subSingleBenchmarkResult, ProblemStatisticType.MOVE_COUNT_PER_SELECTOR);
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(StatisticRegistry<Solution_> registry, Tags runTag) {
+        registry.addListener(solverScope -> registry.extractMoveCountPerSelector(solverScope,
+                (selector, count) -> pointList.add(new MoveCountPerSelectorStatisticPoint(selector, count))));
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return StatisticPoint.buildCsvLine("_", "selector", "count");
+    }
+
+    @Override
+    protected MoveCountPerSelectorStatisticPoint createPointFromCsvLine(ScoreDefinition<?> scoreDefinition,
+            List<String> csvLine) {
+        return new MoveCountPerSelectorStatisticPoint(csvLine.get(1), Long.parseLong(csvLine.get(2)));
+    }
+
+}
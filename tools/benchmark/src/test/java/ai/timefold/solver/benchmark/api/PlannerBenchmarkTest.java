@@ -11,11 +11,15 @@ import java.util.Arrays;
 import java.util.List;
 
 import ai.timefold.solver.benchmark.config.PlannerBenchmarkConfig;
+import ai.timefold.solver.benchmark.config.ProblemBenchmarksConfig;
 import ai.timefold.solver.benchmark.config.SolverBenchmarkConfig;
+import ai.timefold.solver.benchmark.config.statistic.ProblemStatisticType;
 import ai.timefold.solver.benchmark.impl.DefaultPlannerBenchmark;
+import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
 import ai.timefold.solver.core.config.solver.SolverConfig;
 import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
 import ai.timefold.solver.core.testdomain.TestdataConstraintProvider;
+import ai.timefold.solver.core.testdomain.TestdataEasyScoreCalculator;
 import ai.timefold.solver.core.testdomain.TestdataEntity;
 import ai.timefold.solver.core.testdomain.TestdataSolution;
 import ai.timefold.solver.core.testdomain.TestdataValue;
@@ -78,4 +82,53 @@ class PlannerBenchmarkTest {
         }
     }
 
+    /**
+     * Compares the memory footprint of the constraint stream tuples against a score calculation which keeps none.
+     */
+    @Test
+    void compareTupleMemoryUse(@TempDir Path benchmarkTestDir) {
+        var benchmarkConfig = new PlannerBenchmarkConfig();
+        benchmarkConfig.setBenchmarkDirectory(benchmarkTestDir.toFile());
+        benchmarkConfig.setWarmUpMillisecondsSpentLimit(1L); // Minimize warmup.
+        var inheritedSolverConfig = new SolverBenchmarkConfig();
+        inheritedSolverConfig.setSolverConfig(new SolverConfig()
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                // Only run for a short amount of time.
+                .withTerminationConfig(new TerminationConfig().withUnimprovedMillisecondsSpentLimit(100L)));
+        inheritedSolverConfig.setProblemBenchmarksConfig(new ProblemBenchmarksConfig()
+                .withProblemStatisticTypes(ProblemStatisticType.MEMORY_USE));
+        benchmarkConfig.setInheritedSolverBenchmarkConfig(inheritedSolverConfig);
+        benchmarkConfig.setSolverBenchmarkConfigList(List.of(
+                new SolverBenchmarkConfig()
+                        .withSolverConfig(new SolverConfig()
+                                .withScoreDirectorFactory(new ScoreDirectorFactoryConfig()
+                                        .withConstraintProviderClass(TestdataConstraintProvider.class))),
+                new SolverBenchmarkConfig()
+                        .withSolverConfig(new SolverConfig()
+                                .withScoreDirectorFactory(new ScoreDirectorFactoryConfig()
+                                        .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class)))));
+        var benchmarkFactory = PlannerBenchmarkFactory.create(benchmarkConfig);
+
+        var solution = TestdataSolution.generateSolution(50, 500);
+        var plannerBenchmark = (DefaultPlannerBenchmark) benchmarkFactory.buildPlannerBenchmark(solution);
+        plannerBenchmark.benchmark();
+        var folder = plannerBenchmark.getBenchmarkReport().getHtmlOverviewFile()
+                .toPath()
+                .getParent();
+        for (var configName : List.of("Config_0", "Config_1")) {
+            var csv = folder.resolve(Path.of("Problem_0", configName, "sub0", "MEMORY_USE.csv"));
+            assertThat(csv).exists();
+            try (var lines = Files.lines(csv)) {
+                assertThat(lines.toList())
+                        .first()
+                        .isEqualTo("""
+                                "timeMillisSpent","usedMemory","maxMemory"
+                                """.trim());
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+    }
+
 }
@@ -94,6 +94,18 @@ class SolverBenchmarkFactoryTest {
         assertThatIllegalArgumentException().isThrownBy(() -> solverBenchmarkFactory.buildSolverBenchmark(null, null, null));
     }
 
+    @Test
+    void invalidIslandCount() {
+        SolverConfig solverConfig = new SolverConfig().withIslandCount(2);
+        SolverBenchmarkConfig config = new SolverBenchmarkConfig();
+        config.setSolverConfig(solverConfig);
+        config.setName("name");
+        config.setSubSingleCount(1);
+        SolverBenchmarkFactory solverBenchmarkFactory = new SolverBenchmarkFactory(config);
+        assertThatIllegalArgumentException().isThrownBy(() -> solverBenchmarkFactory.buildSolverBenchmark(null, null, null))
+                .withMessageContaining("islandCount (2)");
+    }
+
     @Test
     void defaultStatisticsAreUsedIfNotPresent() {
         SolverBenchmarkConfig config = new SolverBenchmarkConfig();
@@ -0,0 +1,73 @@
+package ai.timefold.solver.benchmark.impl.statistic.constraintnodecost;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.function.Function;
+
+import ai.timefold.solver.benchmark.config.statistic.ProblemStatisticType;
+import ai.timefold.solver.benchmark.impl.report.BenchmarkReport;
+import ai.timefold.solver.benchmark.impl.result.ProblemBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.result.SingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.result.SolverBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.AbstractSubSingleStatisticTest;
+import ai.timefold.solver.benchmark.impl.statistic.SubSingleStatistic;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+final class ConstraintNodeCostSubSingleStatisticTest
+        extends
+        AbstractSubSingleStatisticTest<ConstraintNodeCostStatisticPoint, ConstraintNodeCostSubSingleStatistic<TestdataSolution>> {
+
+    @Override
+    protected Function<SubSingleBenchmarkResult, ConstraintNodeCostSubSingleStatistic<TestdataSolution>>
+            getSubSingleStatisticConstructor() {
+        return ConstraintNodeCostSubSingleStatistic::new;
+    }
+
+    @Override
+    protected List<ConstraintNodeCostStatisticPoint> getInputPoints() {
+        return List.of(new ConstraintNodeCostStatisticPoint("Constraints#first:10", 1_000L, Long.MIN_VALUE),
+                new ConstraintNodeCostStatisticPoint("Constraints#second:20", Long.MAX_VALUE, 5L));
+    }
+
+    @Override
+    protected void runTest(SoftAssertions assertions, List<ConstraintNodeCostStatisticPoint> outputPoints) {
+        assertions.assertThat(outputPoints)
+                .hasSize(2)
+                .anyMatch(p -> p.getLocation().equals("Constraints#first:10") && p.getCount() == Long.MIN_VALUE)
+                .anyMatch(p -> p.getTimeNanos() == Long.MAX_VALUE && p.getCount() == 5L);
+    }
+
+    @Test
+    void generateCharts() {
+        var problemBenchmarkResult = mock(ProblemBenchmarkResult.class);
+        var benchmarkReport = mock(BenchmarkReport.class);
+        var singleBenchmarkResult = mock(SingleBenchmarkResult.class);
+        var solverBenchmarkResult = mock(SolverBenchmarkResult.class);
+        var singleStatistic = mock(SubSingleStatistic.class);
+        doReturn("Problem_0").when(problemBenchmarkResult).getName();
+        doReturn(List.of(singleBenchmarkResult)).when(problemBenchmarkResult).getSingleBenchmarkResultList();
+        doReturn(solverBenchmarkResult).when(singleBenchmarkResult).getSolverBenchmarkResult();
+        doReturn("label").when(solverBenchmarkResult).getNameWithFavoriteSuffix();
+        doReturn(true).when(singleBenchmarkResult).hasAllSuccess();
+        doReturn(singleStatistic).when(singleBenchmarkResult).getSubSingleStatistic(any(ProblemStatisticType.class));
+        doReturn(List.of(new ConstraintNodeCostStatisticPoint("Constraints#first:10", 2_000_000L, 3L),
+                new ConstraintNodeCostStatisticPoint("Constraints#second:20", 5_000_000L, 7L)))
+                .when(singleStatistic).getPointList();
+        var statistic = new ConstraintNodeCostProblemStatistic(problemBenchmarkResult);
+        statistic.createChartList(benchmarkReport);
+        assertThat(statistic.getChartList()).hasSize(1);
+        var barChart = statistic.getChartList().get(0);
+        assertThat(barChart.title()).isEqualTo("Problem_0 constraint node cost statistic");
+        assertThat(barChart.xLabel()).isEqualTo("Location");
+        assertThat(barChart.yLabel()).isEqualTo("Time spent");
+        assertThat(barChart.categories()).containsExactlyInAnyOrder("Constraints#first:10", "Constraints#second:20");
+    }
+}
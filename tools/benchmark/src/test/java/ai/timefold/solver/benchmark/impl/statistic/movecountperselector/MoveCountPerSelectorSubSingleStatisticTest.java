@@ -0,0 +1,73 @@
+package ai.timefold.solver.benchmark.impl.statistic.movecountperselector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.function.Function;
+
+import ai.timefold.solver.benchmark.config.statistic.ProblemStatisticType;
+import ai.timefold.solver.benchmark.impl.report.BenchmarkReport;
+import ai.timefold.solver.benchmark.impl.result.ProblemBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.result.SingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.result.SolverBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.AbstractSubSingleStatisticTest;
+import ai.timefold.solver.benchmark.impl.statistic.SubSingleStatistic;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+final class MoveCountPerSelectorSubSingleStatisticTest
+        extends
+        AbstractSubSingleStatisticTest<MoveCountPerSelectorStatisticPoint, MoveCountPerSelectorSubSingleStatistic<TestdataSolution>> {
+
+    @Override
+    protected Function<SubSingleBenchmarkResult, MoveCountPerSelectorSubSingleStatistic<TestdataSolution>>
+            getSubSingleStatisticConstructor() {
+        return MoveCountPerSelectorSubSingleStatistic::new;
+    }
+
+    @Override
+    protected List<MoveCountPerSelectorStatisticPoint> getInputPoints() {
+        return List.of(new MoveCountPerSelectorStatisticPoint("ChangeMoveSelector(a, b)", Long.MIN_VALUE),
+                new MoveCountPerSelectorStatisticPoint("SwapMoveSelector(c)", Long.MAX_VALUE));
+    }
+
+    @Override
+    protected void runTest(SoftAssertions assertions, List<MoveCountPerSelectorStatisticPoint> outputPoints) {
+        assertions.assertThat(outputPoints)
+                .hasSize(2)
+                .anyMatch(p -> p.getSelector().equals("ChangeMoveSelector(a, b)") && p.getCount() == Long.MIN_VALUE)
+                .anyMatch(p -> p.getSelector().equals("SwapMoveSelector(c)") && p.getCount() == Long.MAX_VALUE);
+    }
+
+    @Test
+    void generateCharts() {
+        var problemBenchmarkResult = mock(ProblemBenchmarkResult.class);
+        var benchmarkReport = mock(BenchmarkReport.class);
+        var singleBenchmarkResult = mock(SingleBenchmarkResult.class);
+        var solverBenchmarkResult = mock(SolverBenchmarkResult.class);
+        var singleStatistic = mock(SubSingleStatistic.class);
+        doReturn("Problem_0").when(problemBenchmarkResult).getName();
+        doReturn(List.of(singleBenchmarkResult)).when(problemBenchmarkResult).getSingleBenchmarkResultList();
+        doReturn(solverBenchmarkResult).when(singleBenchmarkResult).getSolverBenchmarkResult();
+        doReturn("label").when(solverBenchmarkResult).getNameWithFavoriteSuffix();
+        doReturn(true).when(singleBenchmarkResult).hasAllSuccess();
+        doReturn(singleStatistic).when(singleBenchmarkResult).getSubSingleStatistic(any(ProblemStatisticType.class));
+        doReturn(List.of(new MoveCountPerSelectorStatisticPoint("ChangeMoveSelector(a, b)", 300L),
+                new MoveCountPerSelectorStatisticPoint("SwapMoveSelector(c)", 700L)))
+                .when(singleStatistic).getPointList();
+        var statistic = new MoveCountPerSelectorProblemStatistic(problemBenchmarkResult);
+        statistic.createChartList(benchmarkReport);
+        assertThat(statistic.getChartList()).hasSize(1);
+        var barChart = statistic.getChartList().get(0);
+        assertThat(barChart.title()).isEqualTo("Problem_0 move count per selector statistic");
+        assertThat(barChart.xLabel()).isEqualTo("Selector");
+        assertThat(barChart.yLabel()).isEqualTo("Count");
+        assertThat(barChart.categories()).containsExactlyInAnyOrder("ChangeMoveSelector(a, b)", "SwapMoveSelector(c)");
+    }
+}